@@ -24,10 +24,14 @@ import com.gs.collections.api.bag.sorted.MutableSortedBag;
 import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.function.Function0;
 import com.gs.collections.api.block.function.Function2;
+import com.gs.collections.api.block.function.primitive.BooleanFunction;
+import com.gs.collections.api.block.function.primitive.ByteFunction;
+import com.gs.collections.api.block.function.primitive.CharFunction;
 import com.gs.collections.api.block.function.primitive.DoubleFunction;
 import com.gs.collections.api.block.function.primitive.FloatFunction;
 import com.gs.collections.api.block.function.primitive.IntFunction;
 import com.gs.collections.api.block.function.primitive.LongFunction;
+import com.gs.collections.api.block.function.primitive.ShortFunction;
 import com.gs.collections.api.block.predicate.Predicate;
 import com.gs.collections.api.block.predicate.Predicate2;
 import com.gs.collections.api.block.procedure.Procedure;
@@ -85,45 +89,45 @@ public interface ParallelIterable<T>
      */
     <V> ParallelIterable<V> flatCollect(Function<? super T, ? extends Iterable<V>> function);
 
-//    /**
-//     * Returns a parallel BooleanIterable which will transform the underlying iterable data to boolean values based on the booleanFunction.
-//     */
-//    ParallelBooleanIterable collectBoolean(BooleanFunction<? super T> booleanFunction);
-//
-//    /**
-//     * Returns a parallel ByteIterable which will transform the underlying iterable data to byte values based on the byteFunction.
-//     */
-//    ParallelByteIterable collectByte(ByteFunction<? super T> byteFunction);
-//
-//    /**
-//     * Returns a parallel CharIterable which will transform the underlying iterable data to char values based on the charFunction.
-//     */
-//    ParallelCharIterable collectChar(CharFunction<? super T> charFunction);
-//
-//    /**
-//     * Returns a parallel DoubleIterable which will transform the underlying iterable data to double values based on the doubleFunction.
-//     */
-//    ParallelDoubleIterable collectDouble(DoubleFunction<? super T> doubleFunction);
-//
-//    /**
-//     * Returns a parallel FloatIterable which will transform the underlying iterable data to float values based on the floatFunction.
-//     */
-//    ParallelFloatIterable collectFloat(FloatFunction<? super T> floatFunction);
-//
-//    /**
-//     * Returns a parallel IntIterable which will transform the underlying iterable data to int values based on the intFunction.
-//     */
-//    ParallelIntIterable collectInt(IntFunction<? super T> intFunction);
-//
-//    /**
-//     * Returns a parallel LongIterable which will transform the underlying iterable data to long values based on the longFunction.
-//     */
-//    ParallelLongIterable collectLong(LongFunction<? super T> longFunction);
-//
-//    /**
-//     * Returns a parallel ShortIterable which will transform the underlying iterable data to short values based on the shortFunction.
-//     */
-//    ParallelShortIterable collectShort(ShortFunction<? super T> shortFunction);
+    /**
+     * Returns a parallel BooleanIterable which will transform the underlying iterable data to boolean values based on the booleanFunction.
+     */
+    ParallelBooleanIterable collectBoolean(BooleanFunction<? super T> booleanFunction);
+
+    /**
+     * Returns a parallel ByteIterable which will transform the underlying iterable data to byte values based on the byteFunction.
+     */
+    ParallelByteIterable collectByte(ByteFunction<? super T> byteFunction);
+
+    /**
+     * Returns a parallel CharIterable which will transform the underlying iterable data to char values based on the charFunction.
+     */
+    ParallelCharIterable collectChar(CharFunction<? super T> charFunction);
+
+    /**
+     * Returns a parallel DoubleIterable which will transform the underlying iterable data to double values based on the doubleFunction.
+     */
+    ParallelDoubleIterable collectDouble(DoubleFunction<? super T> doubleFunction);
+
+    /**
+     * Returns a parallel FloatIterable which will transform the underlying iterable data to float values based on the floatFunction.
+     */
+    ParallelFloatIterable collectFloat(FloatFunction<? super T> floatFunction);
+
+    /**
+     * Returns a parallel IntIterable which will transform the underlying iterable data to int values based on the intFunction.
+     */
+    ParallelIntIterable collectInt(IntFunction<? super T> intFunction);
+
+    /**
+     * Returns a parallel LongIterable which will transform the underlying iterable data to long values based on the longFunction.
+     */
+    ParallelLongIterable collectLong(LongFunction<? super T> longFunction);
+
+    /**
+     * Returns a parallel ShortIterable which will transform the underlying iterable data to short values based on the shortFunction.
+     */
+    ParallelShortIterable collectShort(ShortFunction<? super T> shortFunction);
 
     void forEach(Procedure<? super T> procedure);
 
@@ -161,6 +165,34 @@ public interface ParallelIterable<T>
 
     <V extends Comparable<? super V>> MutableList<T> toSortedListBy(Function<? super T, ? extends V> function);
 
+    /**
+     * Returns the k largest elements according to the specified comparator, largest first. Each batch keeps its own
+     * top k in a bounded heap, and the per-batch results are then merged, so no batch ever sorts or copies all of its
+     * elements.
+     *
+     * @see RichIterable#topK(int, Comparator)
+     * @since 7.1
+     */
+    MutableList<T> topK(int k, Comparator<? super T> comparator);
+
+    /**
+     * @see RichIterable#bottomK(int, Comparator)
+     * @since 7.1
+     */
+    MutableList<T> bottomK(int k, Comparator<? super T> comparator);
+
+    /**
+     * @see RichIterable#topKBy(int, Function)
+     * @since 7.1
+     */
+    <V extends Comparable<? super V>> MutableList<T> topKBy(int k, Function<? super T, ? extends V> function);
+
+    /**
+     * @see RichIterable#bottomKBy(int, Function)
+     * @since 7.1
+     */
+    <V extends Comparable<? super V>> MutableList<T> bottomKBy(int k, Function<? super T, ? extends V> function);
+
     MutableSet<T> toSet();
 
     MutableSortedSet<T> toSortedSet();
@@ -1366,6 +1366,45 @@ public interface
      */
     <V extends Comparable<? super V>> MutableList<T> toSortedListBy(Function<? super T, ? extends V> function);
 
+    /**
+     * Returns the k largest elements according to the specified comparator, largest first. The elements are kept in a
+     * bounded heap while iterating, which takes O(n log k) time and O(k) space instead of sorting every element as
+     * {@code toSortedList(comparator).take(k)} would. Elements which compare as equal are returned in no particular
+     * order. If there are fewer than k elements, all of them are returned. If the comparator is null, the natural
+     * ordering of the elements is used, as in {@link #toSortedList(Comparator)}.
+     *
+     * @throws IllegalArgumentException if k is negative
+     * @since 7.1
+     */
+    MutableList<T> topK(int k, Comparator<? super T> comparator);
+
+    /**
+     * Returns the k smallest elements according to the specified comparator, smallest first.
+     *
+     * @throws IllegalArgumentException if k is negative
+     * @see #topK(int, Comparator)
+     * @since 7.1
+     */
+    MutableList<T> bottomK(int k, Comparator<? super T> comparator);
+
+    /**
+     * Returns the k elements with the largest values of the attribute returned by {@code function}, largest first.
+     *
+     * @throws IllegalArgumentException if k is negative
+     * @see #topK(int, Comparator)
+     * @since 7.1
+     */
+    <V extends Comparable<? super V>> MutableList<T> topKBy(int k, Function<? super T, ? extends V> function);
+
+    /**
+     * Returns the k elements with the smallest values of the attribute returned by {@code function}, smallest first.
+     *
+     * @throws IllegalArgumentException if k is negative
+     * @see #topK(int, Comparator)
+     * @since 7.1
+     */
+    <V extends Comparable<? super V>> MutableList<T> bottomKBy(int k, Function<? super T, ? extends V> function);
+
     /**
      * Converts the collection to a MutableSet implementation.
      *
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.api.deque;
+
+import java.util.NoSuchElementException;
+
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.function.Function2;
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.api.block.predicate.Predicate2;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.collection.ImmutableCollection;
+import com.gs.collections.api.partition.deque.PartitionImmutableDeque;
+
+/**
+ * ImmutableDeque is the non-modifiable equivalent of {@link MutableDeque}. All iteration methods process the elements
+ * from the head to the tail, and {@link #newWith(Object)} adds the element at the tail.
+ *
+ * @since 7.1
+ */
+public interface ImmutableDeque<T> extends ImmutableCollection<T>
+{
+    /**
+     * Returns the first element, or null if the deque is empty.
+     */
+    T peekFirst();
+
+    /**
+     * Returns the last element, or null if the deque is empty.
+     */
+    T peekLast();
+
+    /**
+     * Returns a new deque with element added at the head.
+     */
+    ImmutableDeque<T> newWithFirst(T element);
+
+    /**
+     * Returns a new deque without the first element.
+     *
+     * @throws NoSuchElementException if the deque is empty
+     */
+    ImmutableDeque<T> withoutFirst();
+
+    /**
+     * Returns a new deque without the last element.
+     *
+     * @throws NoSuchElementException if the deque is empty
+     */
+    ImmutableDeque<T> withoutLast();
+
+    /**
+     * Evaluates the procedure for each element from the tail of the deque to the head.
+     */
+    void reverseForEach(Procedure<? super T> procedure);
+
+    /**
+     * Returns a new deque with element added at the tail.
+     */
+    ImmutableDeque<T> newWith(T element);
+
+    ImmutableDeque<T> newWithout(T element);
+
+    ImmutableDeque<T> newWithAll(Iterable<? extends T> elements);
+
+    ImmutableDeque<T> newWithoutAll(Iterable<? extends T> elements);
+
+    ImmutableDeque<T> tap(Procedure<? super T> procedure);
+
+    ImmutableDeque<T> select(Predicate<? super T> predicate);
+
+    <P> ImmutableDeque<T> selectWith(Predicate2<? super T, ? super P> predicate, P parameter);
+
+    ImmutableDeque<T> reject(Predicate<? super T> predicate);
+
+    <P> ImmutableDeque<T> rejectWith(Predicate2<? super T, ? super P> predicate, P parameter);
+
+    PartitionImmutableDeque<T> partition(Predicate<? super T> predicate);
+
+    <P> PartitionImmutableDeque<T> partitionWith(Predicate2<? super T, ? super P> predicate, P parameter);
+
+    <S> ImmutableDeque<S> selectInstancesOf(Class<S> clazz);
+
+    <V> ImmutableDeque<V> collect(Function<? super T, ? extends V> function);
+
+    <P, V> ImmutableDeque<V> collectWith(Function2<? super T, ? super P, ? extends V> function, P parameter);
+
+    <V> ImmutableDeque<V> collectIf(Predicate<? super T> predicate, Function<? super T, ? extends V> function);
+
+    <V> ImmutableDeque<V> flatCollect(Function<? super T, ? extends Iterable<V>> function);
+}
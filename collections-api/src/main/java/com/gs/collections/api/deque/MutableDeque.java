@@ -0,0 +1,134 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.api.deque;
+
+import java.util.NoSuchElementException;
+
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.function.Function2;
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.api.block.predicate.Predicate2;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.partition.deque.PartitionMutableDeque;
+
+/**
+ * MutableDeque is a double-ended {@link MutableQueue}. Elements can be added, removed and examined at either end, so a
+ * MutableDeque can be used as a queue or as a stack. The methods have the same names and the same behavior as in
+ * {@link java.util.Deque}, except that {@link #getFirst()} and {@link #getLast()} follow the RichIterable contract and
+ * return null rather than throw when the deque is empty.
+ *
+ * @since 7.1
+ */
+public interface MutableDeque<T> extends MutableQueue<T>
+{
+    void addFirst(T element);
+
+    void addLast(T element);
+
+    boolean offerFirst(T element);
+
+    boolean offerLast(T element);
+
+    /**
+     * Removes and returns the first element.
+     *
+     * @throws NoSuchElementException if the deque is empty
+     */
+    T removeFirst();
+
+    /**
+     * Removes and returns the last element.
+     *
+     * @throws NoSuchElementException if the deque is empty
+     */
+    T removeLast();
+
+    /**
+     * Removes and returns the first element, or returns null if the deque is empty.
+     */
+    T pollFirst();
+
+    /**
+     * Removes and returns the last element, or returns null if the deque is empty.
+     */
+    T pollLast();
+
+    /**
+     * Returns the first element, or null if the deque is empty.
+     */
+    T peekFirst();
+
+    /**
+     * Returns the last element, or null if the deque is empty.
+     */
+    T peekLast();
+
+    /**
+     * Same as {@link #addFirst(Object)}.
+     */
+    void push(T element);
+
+    /**
+     * Same as {@link #removeFirst()}.
+     */
+    T pop();
+
+    /**
+     * Evaluates the procedure for each element from the tail of the deque to the head.
+     */
+    void reverseForEach(Procedure<? super T> procedure);
+
+    MutableDeque<T> with(T element);
+
+    MutableDeque<T> without(T element);
+
+    MutableDeque<T> withAll(Iterable<? extends T> elements);
+
+    MutableDeque<T> withoutAll(Iterable<? extends T> elements);
+
+    MutableDeque<T> newEmpty();
+
+    MutableDeque<T> tap(Procedure<? super T> procedure);
+
+    MutableDeque<T> select(Predicate<? super T> predicate);
+
+    <P> MutableDeque<T> selectWith(Predicate2<? super T, ? super P> predicate, P parameter);
+
+    MutableDeque<T> reject(Predicate<? super T> predicate);
+
+    <P> MutableDeque<T> rejectWith(Predicate2<? super T, ? super P> predicate, P parameter);
+
+    PartitionMutableDeque<T> partition(Predicate<? super T> predicate);
+
+    <P> PartitionMutableDeque<T> partitionWith(Predicate2<? super T, ? super P> predicate, P parameter);
+
+    <S> MutableDeque<S> selectInstancesOf(Class<S> clazz);
+
+    <V> MutableDeque<V> collect(Function<? super T, ? extends V> function);
+
+    <P, V> MutableDeque<V> collectWith(Function2<? super T, ? super P, ? extends V> function, P parameter);
+
+    <V> MutableDeque<V> collectIf(Predicate<? super T> predicate, Function<? super T, ? extends V> function);
+
+    <V> MutableDeque<V> flatCollect(Function<? super T, ? extends Iterable<V>> function);
+
+    MutableDeque<T> asUnmodifiable();
+
+    MutableDeque<T> asSynchronized();
+
+    ImmutableDeque<T> toImmutable();
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.api.deque;
+
+import java.util.Queue;
+
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.function.Function2;
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.api.block.predicate.Predicate2;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.collection.MutableCollection;
+
+/**
+ * MutableQueue is a first-in-first-out {@link MutableCollection} which is also a {@link Queue}. Elements are added at
+ * the tail and removed from the head, and all iteration methods process the elements from the head to the tail.
+ * <p>
+ * {@link #toString()}, {@link #equals(Object)} and {@link #hashCode()} follow the same rules as they do for a
+ * {@link java.util.List}, processing the elements in the same order as {@code forEach()}.
+ *
+ * @since 7.1
+ */
+public interface MutableQueue<T> extends MutableCollection<T>, Queue<T>
+{
+    /**
+     * Adds element at the tail of the queue and returns this.
+     */
+    MutableQueue<T> with(T element);
+
+    MutableQueue<T> without(T element);
+
+    MutableQueue<T> withAll(Iterable<? extends T> elements);
+
+    MutableQueue<T> withoutAll(Iterable<? extends T> elements);
+
+    MutableQueue<T> newEmpty();
+
+    MutableQueue<T> tap(Procedure<? super T> procedure);
+
+    MutableQueue<T> select(Predicate<? super T> predicate);
+
+    <P> MutableQueue<T> selectWith(Predicate2<? super T, ? super P> predicate, P parameter);
+
+    MutableQueue<T> reject(Predicate<? super T> predicate);
+
+    <P> MutableQueue<T> rejectWith(Predicate2<? super T, ? super P> predicate, P parameter);
+
+    <S> MutableQueue<S> selectInstancesOf(Class<S> clazz);
+
+    <V> MutableQueue<V> collect(Function<? super T, ? extends V> function);
+
+    <P, V> MutableQueue<V> collectWith(Function2<? super T, ? super P, ? extends V> function, P parameter);
+
+    <V> MutableQueue<V> collectIf(Predicate<? super T> predicate, Function<? super T, ? extends V> function);
+
+    <V> MutableQueue<V> flatCollect(Function<? super T, ? extends Iterable<V>> function);
+
+    MutableQueue<T> asUnmodifiable();
+
+    MutableQueue<T> asSynchronized();
+}
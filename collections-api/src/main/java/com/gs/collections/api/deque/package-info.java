@@ -0,0 +1,35 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * This package contains interfaces for queue and deque API.
+ * <p>
+ *      A queue is a first-in-first-out data structure, and a deque is a queue which can also be added to and removed from at its head.
+ * <p>
+ *      This package contains 3 interfaces:
+ * <ul>
+ *   <li>
+ *       {@link com.gs.collections.api.deque.MutableQueue} - a mutable queue API.
+ *   </li>
+ *   <li>
+ *       {@link com.gs.collections.api.deque.MutableDeque} - a mutable double-ended queue API.
+ *   </li>
+ *   <li>
+ *       {@link com.gs.collections.api.deque.ImmutableDeque} - the non-modifiable equivalent interface to {@link com.gs.collections.api.deque.MutableDeque}.
+ *   </li>
+ * </ul>
+ */
+package com.gs.collections.api.deque;
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.api.heap;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.api.block.predicate.Predicate2;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.collection.MutableCollection;
+
+/**
+ * MutableHeap is a priority queue: a {@link MutableCollection} and {@link Queue} whose head is always the smallest
+ * element according to its {@link #comparator()}, or to the natural order of the elements if the comparator is null.
+ * {@link #peek()}, {@link #poll()}, {@link #element()} and {@link #remove()} all work on that smallest element.
+ * <p>
+ * Like {@link java.util.PriorityQueue}, the iteration methods such as {@code forEach()} and {@code iterator()} process
+ * the elements in no particular order. Use {@link #drainTo(Collection)} to process them in priority order.
+ * <p>
+ * Two heaps are equal if they contain the same elements the same number of times, like two bags, whatever their
+ * comparators.
+ *
+ * @since 7.1
+ */
+public interface MutableHeap<T> extends MutableCollection<T>, Queue<T>
+{
+    /**
+     * Returns the comparator which orders this heap, or null if it uses the natural order of its elements.
+     */
+    Comparator<? super T> comparator();
+
+    /**
+     * Removes all of the elements of this heap and adds them to target in priority order, smallest first. Draining into
+     * an empty list produces a sorted list in O(n log n) time.
+     *
+     * @return the number of elements added to target
+     */
+    int drainTo(Collection<? super T> target);
+
+    /**
+     * Removes and returns the smallest element.
+     *
+     * @throws NoSuchElementException if the heap is empty
+     */
+    T remove();
+
+    MutableHeap<T> with(T element);
+
+    MutableHeap<T> without(T element);
+
+    MutableHeap<T> withAll(Iterable<? extends T> elements);
+
+    MutableHeap<T> withoutAll(Iterable<? extends T> elements);
+
+    /**
+     * Returns a new empty heap with the same comparator as this heap.
+     */
+    MutableHeap<T> newEmpty();
+
+    MutableHeap<T> tap(Procedure<? super T> procedure);
+
+    MutableHeap<T> select(Predicate<? super T> predicate);
+
+    <P> MutableHeap<T> selectWith(Predicate2<? super T, ? super P> predicate, P parameter);
+
+    MutableHeap<T> reject(Predicate<? super T> predicate);
+
+    <P> MutableHeap<T> rejectWith(Predicate2<? super T, ? super P> predicate, P parameter);
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * This package contains interfaces for heap API.
+ * <p>
+ *      A heap is a priority queue which always gives access to its smallest element in O(1) time, and adds and removes elements in O(log n) time.
+ * <p>
+ *      This package contains 1 interface:
+ * <ul>
+ *   <li>
+ *       {@link com.gs.collections.api.heap.MutableHeap} - a mutable priority queue API.
+ *   </li>
+ * </ul>
+ */
+package com.gs.collections.api.heap;
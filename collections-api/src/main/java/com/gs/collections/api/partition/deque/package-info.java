@@ -0,0 +1,30 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * This package contains interfaces for the result of splitting a deque into two deques based on a Predicate.
+ * <p>
+ * This package contains 2 interfaces:
+ * <ul>
+ *     <li>
+ *         {@link com.gs.collections.api.partition.deque.PartitionMutableDeque} - a modifiable partition of a deque.
+ *     </li>
+ *     <li>
+ *         {@link com.gs.collections.api.partition.deque.PartitionImmutableDeque} - the non-modifiable equivalent interface to {@link com.gs.collections.api.partition.deque.PartitionMutableDeque}.
+ *     </li>
+ * </ul>
+ */
+package com.gs.collections.api.partition.deque;
@@ -92,6 +92,7 @@ import com.gs.collections.impl.block.procedure.SumOfDoubleProcedure;
 import com.gs.collections.impl.block.procedure.SumOfFloatProcedure;
 import com.gs.collections.impl.block.procedure.SumOfIntProcedure;
 import com.gs.collections.impl.block.procedure.SumOfLongProcedure;
+import com.gs.collections.impl.block.procedure.TopKProcedure;
 import com.gs.collections.impl.block.procedure.ZipWithIndexProcedure;
 import com.gs.collections.impl.block.procedure.primitive.CollectBooleanProcedure;
 import com.gs.collections.impl.block.procedure.primitive.CollectByteProcedure;
@@ -201,6 +202,30 @@ public abstract class AbstractRichIterable<T> implements RichIterable<T>
         return this.toSortedList(Comparators.byFunction(function));
     }
 
+    public MutableList<T> topK(int k, Comparator<? super T> comparator)
+    {
+        TopKProcedure<T> procedure = new TopKProcedure<T>(k, comparator);
+        this.forEach(procedure);
+        return procedure.getResult();
+    }
+
+    public MutableList<T> bottomK(int k, Comparator<? super T> comparator)
+    {
+        TopKProcedure<T> procedure = TopKProcedure.bottomK(k, comparator);
+        this.forEach(procedure);
+        return procedure.getResult();
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> topKBy(int k, Function<? super T, ? extends V> function)
+    {
+        return this.topK(k, Comparators.byFunction(function));
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> bottomKBy(int k, Function<? super T, ? extends V> function)
+    {
+        return this.bottomK(k, Comparators.byFunction(function));
+    }
+
     public MutableSortedSet<T> toSortedSet()
     {
         MutableSortedSet<T> treeSet = SortedSets.mutable.empty();
@@ -641,6 +641,38 @@ public class SynchronizedRichIterable<T>
         }
     }
 
+    public MutableList<T> topK(int k, Comparator<? super T> comparator)
+    {
+        synchronized (this.lock)
+        {
+            return this.iterable.topK(k, comparator);
+        }
+    }
+
+    public MutableList<T> bottomK(int k, Comparator<? super T> comparator)
+    {
+        synchronized (this.lock)
+        {
+            return this.iterable.bottomK(k, comparator);
+        }
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> topKBy(int k, Function<? super T, ? extends V> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.iterable.topKBy(k, function);
+        }
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> bottomKBy(int k, Function<? super T, ? extends V> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.iterable.bottomKBy(k, function);
+        }
+    }
+
     public MutableSet<T> toSet()
     {
         synchronized (this.lock)
@@ -532,6 +532,26 @@ public class UnmodifiableRichIterable<T>
         return this.iterable.toSortedListBy(function);
     }
 
+    public MutableList<T> topK(int k, Comparator<? super T> comparator)
+    {
+        return this.iterable.topK(k, comparator);
+    }
+
+    public MutableList<T> bottomK(int k, Comparator<? super T> comparator)
+    {
+        return this.iterable.bottomK(k, comparator);
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> topKBy(int k, Function<? super T, ? extends V> function)
+    {
+        return this.iterable.topKBy(k, function);
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> bottomKBy(int k, Function<? super T, ? extends V> function)
+    {
+        return this.iterable.bottomKBy(k, function);
+    }
+
     public MutableSortedSet<T> toSortedSet()
     {
         return this.iterable.toSortedSet();
@@ -0,0 +1,391 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.bag.immutable;
+
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import com.gs.collections.api.bag.Bag;
+import com.gs.collections.api.bag.ImmutableBag;
+import com.gs.collections.api.bag.MutableBag;
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.api.block.predicate.primitive.IntPredicate;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.multimap.bag.ImmutableBagMultimap;
+import com.gs.collections.api.ordered.OrderedIterable;
+import com.gs.collections.api.set.ImmutableSet;
+import com.gs.collections.api.tuple.Pair;
+import com.gs.collections.impl.bag.mutable.HashBag;
+import com.gs.collections.impl.map.immutable.ImmutableHashTrieMap;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.multimap.bag.HashBagMultimap;
+import com.gs.collections.impl.set.mutable.UnifiedSet;
+import net.jcip.annotations.Immutable;
+
+/**
+ * ImmutableHashTrieBag is an ImmutableBag which keeps the number of occurrences of each item in an
+ * {@link ImmutableHashTrieMap}. newWith and newWithout copy only the O(log32 n) trie nodes on the path to the item, and
+ * equals between two ImmutableHashTrieBags skips any part of the trie they share.
+ *
+ * @since 7.1
+ */
+@Immutable
+public final class ImmutableHashTrieBag<T>
+        extends AbstractImmutableBag<T>
+        implements Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final ImmutableHashTrieBag<?> EMPTY =
+            new ImmutableHashTrieBag<Object>(ImmutableHashTrieMap.<Object, Integer>empty(), 0);
+
+    private final ImmutableHashTrieMap<T, Integer> items;
+    private final int size;
+
+    private ImmutableHashTrieBag(ImmutableHashTrieMap<T, Integer> items, int size)
+    {
+        this.items = items;
+        this.size = size;
+    }
+
+    public static <T> ImmutableHashTrieBag<T> empty()
+    {
+        return (ImmutableHashTrieBag<T>) EMPTY;
+    }
+
+    public static <T> ImmutableHashTrieBag<T> newBag(Iterable<? extends T> source)
+    {
+        if (source instanceof ImmutableHashTrieBag)
+        {
+            return (ImmutableHashTrieBag<T>) source;
+        }
+        return ImmutableHashTrieBag.<T>empty().newWithAll(source);
+    }
+
+    public static <T> ImmutableHashTrieBag<T> newBagWith(T... elements)
+    {
+        return ImmutableHashTrieBag.newBag(HashBag.newBagWith(elements));
+    }
+
+    public void forEachWithOccurrences(final ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        this.items.forEachKeyValue(new Procedure2<T, Integer>()
+        {
+            public void value(T item, Integer count)
+            {
+                objectIntProcedure.value(item, count);
+            }
+        });
+    }
+
+    public int sizeDistinct()
+    {
+        return this.items.size();
+    }
+
+    public int size()
+    {
+        return this.size;
+    }
+
+    public int occurrencesOf(Object item)
+    {
+        Integer count = this.items.get(item);
+        return count == null ? 0 : count;
+    }
+
+    @Override
+    public boolean contains(Object object)
+    {
+        return this.items.containsKey(object);
+    }
+
+    public ImmutableHashTrieBag<T> newWith(T element)
+    {
+        return new ImmutableHashTrieBag<T>(
+                this.items.newWithKeyValue(element, this.occurrencesOf(element) + 1),
+                this.size + 1);
+    }
+
+    public ImmutableHashTrieBag<T> newWithout(T element)
+    {
+        int occurrences = this.occurrencesOf(element);
+        if (occurrences == 0)
+        {
+            return this;
+        }
+        if (this.size == 1)
+        {
+            return ImmutableHashTrieBag.empty();
+        }
+        ImmutableHashTrieMap<T, Integer> newItems = occurrences == 1
+                ? this.items.newWithoutKey(element)
+                : this.items.newWithKeyValue(element, occurrences - 1);
+        return new ImmutableHashTrieBag<T>(newItems, this.size - 1);
+    }
+
+    public ImmutableHashTrieBag<T> newWithAll(Iterable<? extends T> elements)
+    {
+        final ImmutableHashTrieMap<T, Integer>[] newItems = new ImmutableHashTrieMap[]{this.items};
+        final int[] newSize = {this.size};
+        HashBag.newBag(elements).forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T each, int occurrences)
+            {
+                Integer count = newItems[0].get(each);
+                newItems[0] = newItems[0].newWithKeyValue(each, count == null ? occurrences : count + occurrences);
+                newSize[0] += occurrences;
+            }
+        });
+        return newSize[0] == this.size ? this : new ImmutableHashTrieBag<T>(newItems[0], newSize[0]);
+    }
+
+    @Override
+    public ImmutableHashTrieBag<T> newWithoutAll(Iterable<? extends T> elements)
+    {
+        ImmutableHashTrieMap<T, Integer> newItems = this.items;
+        int newSize = this.size;
+        for (T each : UnifiedSet.newSet(elements))
+        {
+            Integer count = newItems.get(each);
+            if (count != null)
+            {
+                newItems = newItems.newWithoutKey(each);
+                newSize -= count;
+            }
+        }
+        if (newSize == 0)
+        {
+            return ImmutableHashTrieBag.empty();
+        }
+        return newSize == this.size ? this : new ImmutableHashTrieBag<T>(newItems, newSize);
+    }
+
+    public MutableMap<T, Integer> toMapOfItemToCount()
+    {
+        return UnifiedMap.newMap(this.items);
+    }
+
+    public ImmutableBag<T> selectByOccurrences(final IntPredicate predicate)
+    {
+        final MutableBag<T> result = HashBag.newBag();
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T each, int occurrences)
+            {
+                if (predicate.accept(occurrences))
+                {
+                    result.addOccurrences(each, occurrences);
+                }
+            }
+        });
+        return result.toImmutable();
+    }
+
+    public <S> ImmutableBag<S> selectInstancesOf(final Class<S> clazz)
+    {
+        final MutableBag<S> result = HashBag.newBag();
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T each, int occurrences)
+            {
+                if (clazz.isInstance(each))
+                {
+                    result.addOccurrences((S) each, occurrences);
+                }
+            }
+        });
+        return result.toImmutable();
+    }
+
+    public <V> ImmutableBagMultimap<V, T> groupBy(Function<? super T, ? extends V> function)
+    {
+        return this.groupBy(function, HashBagMultimap.<V, T>newMultimap()).toImmutable();
+    }
+
+    public <V> ImmutableBagMultimap<V, T> groupByEach(Function<? super T, ? extends Iterable<V>> function)
+    {
+        return this.groupByEach(function, HashBagMultimap.<V, T>newMultimap()).toImmutable();
+    }
+
+    public T getFirst()
+    {
+        return this.isEmpty() ? null : this.iterator().next();
+    }
+
+    public T getLast()
+    {
+        T last = null;
+        for (T each : this.items.keySet())
+        {
+            last = each;
+        }
+        return last;
+    }
+
+    public ImmutableBag<T> select(Predicate<? super T> predicate)
+    {
+        return this.select(predicate, HashBag.<T>newBag()).toImmutable();
+    }
+
+    public ImmutableBag<T> reject(Predicate<? super T> predicate)
+    {
+        return this.reject(predicate, HashBag.<T>newBag()).toImmutable();
+    }
+
+    public <V> ImmutableBag<V> collect(Function<? super T, ? extends V> function)
+    {
+        return this.collect(function, HashBag.<V>newBag()).toImmutable();
+    }
+
+    public <V> ImmutableBag<V> collectIf(
+            Predicate<? super T> predicate,
+            Function<? super T, ? extends V> function)
+    {
+        return this.collectIf(predicate, function, HashBag.<V>newBag()).toImmutable();
+    }
+
+    public <V> ImmutableBag<V> flatCollect(Function<? super T, ? extends Iterable<V>> function)
+    {
+        return this.flatCollect(function, HashBag.<V>newBag()).toImmutable();
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (this == other)
+        {
+            return true;
+        }
+        if (other instanceof ImmutableHashTrieBag)
+        {
+            ImmutableHashTrieBag<?> that = (ImmutableHashTrieBag<?>) other;
+            return this.size == that.size && this.items.equals(that.items);
+        }
+        if (!(other instanceof Bag))
+        {
+            return false;
+        }
+        final Bag<?> bag = (Bag<?>) other;
+        if (this.size != bag.size() || this.sizeDistinct() != bag.sizeDistinct())
+        {
+            return false;
+        }
+        return this.items.keyValuesView().allSatisfy(new Predicate<Pair<T, Integer>>()
+        {
+            public boolean accept(Pair<T, Integer> each)
+            {
+                return each.getTwo() == bag.occurrencesOf(each.getOne());
+            }
+        });
+    }
+
+    @Override
+    public int hashCode()
+    {
+        final int[] hashCode = new int[1];
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T each, int occurrences)
+            {
+                hashCode[0] += (each == null ? 0 : each.hashCode()) ^ occurrences;
+            }
+        });
+        return hashCode[0];
+    }
+
+    public void each(final Procedure<? super T> procedure)
+    {
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T each, int occurrences)
+            {
+                for (int i = 0; i < occurrences; i++)
+                {
+                    procedure.value(each);
+                }
+            }
+        });
+    }
+
+    public Iterator<T> iterator()
+    {
+        return new HashTrieBagIterator();
+    }
+
+    /**
+     * @deprecated in 6.0. Use {@link OrderedIterable#zip(Iterable)} instead.
+     */
+    @Deprecated
+    public <S> ImmutableBag<Pair<T, S>> zip(Iterable<S> that)
+    {
+        return this.zip(that, HashBag.<Pair<T, S>>newBag()).toImmutable();
+    }
+
+    /**
+     * @deprecated in 6.0. Use {@link OrderedIterable#zipWithIndex()} instead.
+     */
+    @Deprecated
+    public ImmutableSet<Pair<T, Integer>> zipWithIndex()
+    {
+        return this.zipWithIndex(UnifiedSet.<Pair<T, Integer>>newSet()).toImmutable();
+    }
+
+    protected Object writeReplace()
+    {
+        return new ImmutableBagSerializationProxy<T>(this);
+    }
+
+    private final class HashTrieBagIterator
+            implements Iterator<T>
+    {
+        private final Iterator<Pair<T, Integer>> entries = ImmutableHashTrieBag.this.items.keyValuesView().iterator();
+        private T current;
+        private int remainingOccurrences;
+
+        public boolean hasNext()
+        {
+            return this.remainingOccurrences > 0 || this.entries.hasNext();
+        }
+
+        public T next()
+        {
+            if (this.remainingOccurrences == 0)
+            {
+                if (!this.entries.hasNext())
+                {
+                    throw new NoSuchElementException();
+                }
+                Pair<T, Integer> entry = this.entries.next();
+                this.current = entry.getOne();
+                this.remainingOccurrences = entry.getTwo();
+            }
+            this.remainingOccurrences--;
+            return this.current;
+        }
+
+        public void remove()
+        {
+            throw new UnsupportedOperationException("Cannot remove from an ImmutableHashTrieBag");
+        }
+    }
+}
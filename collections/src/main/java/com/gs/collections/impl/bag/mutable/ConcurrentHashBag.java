@@ -0,0 +1,690 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.gs.collections.impl.bag.mutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import com.gs.collections.api.RichIterable;
+import com.gs.collections.api.bag.Bag;
+import com.gs.collections.api.bag.MutableBag;
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.api.block.predicate.Predicate2;
+import com.gs.collections.api.block.predicate.primitive.IntPredicate;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.impl.Counter;
+import com.gs.collections.impl.map.mutable.ConcurrentHashMap;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.multimap.bag.HashBagMultimap;
+import com.gs.collections.impl.utility.ArrayIterate;
+import com.gs.collections.impl.utility.Iterate;
+
+/**
+ * A ConcurrentHashBag is a thread-safe MutableBag which keeps a lock-free counter per distinct item. Items are stored
+ * as keys of a {@link ConcurrentHashMap} whose values are AtomicIntegers, so concurrent calls to add, addOccurrences
+ * and removeOccurrences for different items never contend, and calls for the same item only contend on a single
+ * compare-and-set. A counter that drops to zero is removed from the map, and a writer that finds a zero counter
+ * installs a fresh one, so occurrences are never lost between the two steps.
+ * <p>
+ * Unlike {@link MultiReaderHashBag}, no lock is taken. As a result, occurrencesOf, size and iteration are weakly
+ * consistent: they reflect some state of the bag at or after the start of the call, and may or may not reflect
+ * concurrent updates. The size is kept in striped counters to avoid a single contended field.
+ *
+ * @since 7.1
+ */
+public final class ConcurrentHashBag<T>
+        extends AbstractMutableBag<T>
+        implements Externalizable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final Object NULL_KEY = new Object()
+    {
+        @Override
+        public String toString()
+        {
+            return "ConcurrentHashBag.NULL_KEY";
+        }
+    };
+
+    private static final int SIZE_BUCKETS = 8;
+
+    private ConcurrentHashMap<Object, AtomicInteger> items;
+    private AtomicIntegerArray partitionedSize;
+
+    public ConcurrentHashBag()
+    {
+        this.items = ConcurrentHashMap.newMap();
+        this.partitionedSize = new AtomicIntegerArray(SIZE_BUCKETS * 16); // 64 bytes for each slot to avoid false sharing
+    }
+
+    public ConcurrentHashBag(int size)
+    {
+        this.items = ConcurrentHashMap.newMap(size);
+        this.partitionedSize = new AtomicIntegerArray(SIZE_BUCKETS * 16);
+    }
+
+    public static <E> ConcurrentHashBag<E> newBag()
+    {
+        return new ConcurrentHashBag<E>();
+    }
+
+    public static <E> ConcurrentHashBag<E> newBag(int size)
+    {
+        return new ConcurrentHashBag<E>(size);
+    }
+
+    public static <E> ConcurrentHashBag<E> newBag(Bag<? extends E> source)
+    {
+        ConcurrentHashBag<E> result = ConcurrentHashBag.newBag(source.sizeDistinct());
+        result.addAllBag(source);
+        return result;
+    }
+
+    public static <E> ConcurrentHashBag<E> newBag(Iterable<? extends E> source)
+    {
+        if (source instanceof Bag)
+        {
+            return ConcurrentHashBag.newBag((Bag<E>) source);
+        }
+        return ConcurrentHashBag.newBagWith((E[]) Iterate.toArray(source));
+    }
+
+    public static <E> ConcurrentHashBag<E> newBagWith(E... elements)
+    {
+        ConcurrentHashBag<E> result = ConcurrentHashBag.newBag();
+        ArrayIterate.addAllTo(elements, result);
+        return result;
+    }
+
+    private static Object toSentinelIfNull(Object item)
+    {
+        return item == null ? NULL_KEY : item;
+    }
+
+    private static <T> T nonSentinel(Object key)
+    {
+        return key == NULL_KEY ? null : (T) key;
+    }
+
+    private void addToSize(int value)
+    {
+        int h = (int) Thread.currentThread().getId();
+        h ^= (h >>> 18) ^ (h >>> 12);
+        h = ((h ^ (h >>> 10)) & (SIZE_BUCKETS - 1)) << 4;
+        while (true)
+        {
+            int localSize = this.partitionedSize.get(h);
+            if (this.partitionedSize.compareAndSet(h, localSize, localSize + value))
+            {
+                return;
+            }
+        }
+    }
+
+    public int size()
+    {
+        int localSize = 0;
+        for (int i = 0; i < SIZE_BUCKETS; i++)
+        {
+            localSize += this.partitionedSize.get(i << 4);
+        }
+        return localSize;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.items.isEmpty();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> source)
+    {
+        if (source instanceof Bag)
+        {
+            return this.addAllBag((Bag<T>) source);
+        }
+        return super.addAll(source);
+    }
+
+    private boolean addAllBag(Bag<? extends T> source)
+    {
+        source.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T each, int occurrences)
+            {
+                ConcurrentHashBag.this.addOccurrences(each, occurrences);
+            }
+        });
+        return source.notEmpty();
+    }
+
+    public boolean add(T item)
+    {
+        this.addOccurrences(item, 1);
+        return true;
+    }
+
+    public void addOccurrences(T item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot add a negative number of occurrences");
+        }
+        if (occurrences == 0)
+        {
+            return;
+        }
+        Object key = ConcurrentHashBag.toSentinelIfNull(item);
+        while (true)
+        {
+            AtomicInteger counter = this.items.get(key);
+            if (counter == null)
+            {
+                counter = this.items.putIfAbsent(key, new AtomicInteger(occurrences));
+                if (counter == null)
+                {
+                    this.addToSize(occurrences);
+                    return;
+                }
+            }
+            int oldValue = counter.get();
+            while (oldValue != 0)
+            {
+                if (counter.compareAndSet(oldValue, oldValue + occurrences))
+                {
+                    this.addToSize(occurrences);
+                    return;
+                }
+                oldValue = counter.get();
+            }
+            // The counter reached zero and is being removed, so replace it with a new one
+            AtomicInteger newCounter = new AtomicInteger(occurrences);
+            if (this.items.putIfAbsent(key, newCounter) == null || this.items.replace(key, counter, newCounter))
+            {
+                this.addToSize(occurrences);
+                return;
+            }
+        }
+    }
+
+    public boolean remove(Object item)
+    {
+        return this.removeOccurrences(item, 1);
+    }
+
+    public boolean removeOccurrences(Object item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot remove a negative number of occurrences");
+        }
+        if (occurrences == 0)
+        {
+            return false;
+        }
+        Object key = ConcurrentHashBag.toSentinelIfNull(item);
+        while (true)
+        {
+            AtomicInteger counter = this.items.get(key);
+            if (counter == null)
+            {
+                return false;
+            }
+            int oldValue = counter.get();
+            while (oldValue != 0)
+            {
+                int newValue = Math.max(0, oldValue - occurrences);
+                if (counter.compareAndSet(oldValue, newValue))
+                {
+                    if (newValue == 0)
+                    {
+                        this.items.remove(key, counter);
+                    }
+                    this.addToSize(newValue - oldValue);
+                    return true;
+                }
+                oldValue = counter.get();
+            }
+            // The counter reached zero and is being removed, but a concurrent add may already have replaced it
+            this.items.remove(key, counter);
+        }
+    }
+
+    public boolean setOccurrences(T item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot set a negative number of occurrences");
+        }
+        Object key = ConcurrentHashBag.toSentinelIfNull(item);
+        while (true)
+        {
+            AtomicInteger counter = this.items.get(key);
+            if (counter == null)
+            {
+                if (occurrences == 0)
+                {
+                    return false;
+                }
+                if (this.items.putIfAbsent(key, new AtomicInteger(occurrences)) == null)
+                {
+                    this.addToSize(occurrences);
+                    return true;
+                }
+                continue;
+            }
+            int oldValue = counter.get();
+            while (oldValue != 0)
+            {
+                if (oldValue == occurrences)
+                {
+                    return false;
+                }
+                if (counter.compareAndSet(oldValue, occurrences))
+                {
+                    if (occurrences == 0)
+                    {
+                        this.items.remove(key, counter);
+                    }
+                    this.addToSize(occurrences - oldValue);
+                    return true;
+                }
+                oldValue = counter.get();
+            }
+            if (occurrences == 0)
+            {
+                this.items.remove(key, counter);
+                continue;
+            }
+            AtomicInteger newCounter = new AtomicInteger(occurrences);
+            if (this.items.putIfAbsent(key, newCounter) == null || this.items.replace(key, counter, newCounter))
+            {
+                this.addToSize(occurrences);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Atomically drops the counter to zero and removes it, returning the number of occurrences removed.
+     */
+    private int removeAllOccurrences(Object key, AtomicInteger counter)
+    {
+        int oldValue = counter.getAndSet(0);
+        this.items.remove(key, counter);
+        if (oldValue > 0)
+        {
+            this.addToSize(-oldValue);
+        }
+        return oldValue;
+    }
+
+    public void clear()
+    {
+        for (Map.Entry<Object, AtomicInteger> entry : this.items.entrySet())
+        {
+            this.removeAllOccurrences(entry.getKey(), entry.getValue());
+        }
+    }
+
+    public boolean removeIf(Predicate<? super T> predicate)
+    {
+        boolean changed = false;
+        for (Map.Entry<Object, AtomicInteger> entry : this.items.entrySet())
+        {
+            if (predicate.accept(ConcurrentHashBag.<T>nonSentinel(entry.getKey())))
+            {
+                changed |= this.removeAllOccurrences(entry.getKey(), entry.getValue()) > 0;
+            }
+        }
+        return changed;
+    }
+
+    public <P> boolean removeIfWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        boolean changed = false;
+        for (Map.Entry<Object, AtomicInteger> entry : this.items.entrySet())
+        {
+            if (predicate.accept(ConcurrentHashBag.<T>nonSentinel(entry.getKey()), parameter))
+            {
+                changed |= this.removeAllOccurrences(entry.getKey(), entry.getValue()) > 0;
+            }
+        }
+        return changed;
+    }
+
+    public boolean removeAllIterable(Iterable<?> iterable)
+    {
+        Iterable<?> distinctItems = iterable instanceof Bag ? ((Bag<?>) iterable).toSet() : iterable;
+        boolean changed = false;
+        for (Object each : distinctItems)
+        {
+            Object key = ConcurrentHashBag.toSentinelIfNull(each);
+            AtomicInteger counter = this.items.get(key);
+            if (counter != null)
+            {
+                changed |= this.removeAllOccurrences(key, counter) > 0;
+            }
+        }
+        return changed;
+    }
+
+    @Override
+    public boolean contains(Object item)
+    {
+        return this.occurrencesOf(item) > 0;
+    }
+
+    public int occurrencesOf(Object item)
+    {
+        AtomicInteger counter = this.items.get(ConcurrentHashBag.toSentinelIfNull(item));
+        return counter == null ? 0 : counter.get();
+    }
+
+    public int sizeDistinct()
+    {
+        return this.items.size();
+    }
+
+    public void forEachWithOccurrences(final ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        this.items.forEachKeyValue(new Procedure2<Object, AtomicInteger>()
+        {
+            public void value(Object key, AtomicInteger counter)
+            {
+                int occurrences = counter.get();
+                if (occurrences > 0)
+                {
+                    objectIntProcedure.value(ConcurrentHashBag.<T>nonSentinel(key), occurrences);
+                }
+            }
+        });
+    }
+
+    @Override
+    protected RichIterable<T> getKeysView()
+    {
+        return this.items.keysView().collect(new Function<Object, T>()
+        {
+            public T valueOf(Object key)
+            {
+                return ConcurrentHashBag.nonSentinel(key);
+            }
+        });
+    }
+
+    public MutableBag<T> selectByOccurrences(final IntPredicate predicate)
+    {
+        final ConcurrentHashBag<T> result = ConcurrentHashBag.newBag();
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T item, int occurrences)
+            {
+                if (predicate.accept(occurrences))
+                {
+                    result.addOccurrences(item, occurrences);
+                }
+            }
+        });
+        return result;
+    }
+
+    public MutableMap<T, Integer> toMapOfItemToCount()
+    {
+        final MutableMap<T, Integer> map = UnifiedMap.newMap(this.items.size());
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T item, int count)
+            {
+                map.put(item, count);
+            }
+        });
+        return map;
+    }
+
+    public void each(final Procedure<? super T> procedure)
+    {
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T item, int count)
+            {
+                for (int i = 0; i < count; i++)
+                {
+                    procedure.value(item);
+                }
+            }
+        });
+    }
+
+    @Override
+    public void forEachWithIndex(final ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        final Counter index = new Counter();
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T item, int count)
+            {
+                for (int i = 0; i < count; i++)
+                {
+                    objectIntProcedure.value(item, index.getCount());
+                    index.increment();
+                }
+            }
+        });
+    }
+
+    @Override
+    public <P> void forEachWith(final Procedure2<? super T, ? super P> procedure, final P parameter)
+    {
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T item, int count)
+            {
+                for (int i = 0; i < count; i++)
+                {
+                    procedure.value(item, parameter);
+                }
+            }
+        });
+    }
+
+    public Iterator<T> iterator()
+    {
+        return new InternalIterator();
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (this == other)
+        {
+            return true;
+        }
+        if (!(other instanceof Bag))
+        {
+            return false;
+        }
+        Bag<?> bag = (Bag<?>) other;
+        if (this.sizeDistinct() != bag.sizeDistinct())
+        {
+            return false;
+        }
+        for (Map.Entry<Object, AtomicInteger> entry : this.items.entrySet())
+        {
+            if (bag.occurrencesOf(ConcurrentHashBag.nonSentinel(entry.getKey())) != entry.getValue().get())
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        final Counter counter = new Counter();
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T item, int count)
+            {
+                counter.add((item == null ? 0 : item.hashCode()) ^ count);
+            }
+        });
+        return counter.getCount();
+    }
+
+    public MutableBag<T> newEmpty()
+    {
+        return ConcurrentHashBag.newBag();
+    }
+
+    public ConcurrentHashBag<T> with(T element)
+    {
+        this.add(element);
+        return this;
+    }
+
+    public ConcurrentHashBag<T> with(T element1, T element2)
+    {
+        this.add(element1);
+        this.add(element2);
+        return this;
+    }
+
+    public ConcurrentHashBag<T> with(T element1, T element2, T element3)
+    {
+        this.add(element1);
+        this.add(element2);
+        this.add(element3);
+        return this;
+    }
+
+    public ConcurrentHashBag<T> with(T... elements)
+    {
+        this.addAll(Arrays.asList(elements));
+        return this;
+    }
+
+    public ConcurrentHashBag<T> without(T element)
+    {
+        this.remove(element);
+        return this;
+    }
+
+    public ConcurrentHashBag<T> withAll(Iterable<? extends T> iterable)
+    {
+        this.addAllIterable(iterable);
+        return this;
+    }
+
+    public ConcurrentHashBag<T> withoutAll(Iterable<? extends T> iterable)
+    {
+        this.removeAllIterable(iterable);
+        return this;
+    }
+
+    public <V> HashBagMultimap<V, T> groupBy(Function<? super T, ? extends V> function)
+    {
+        return this.groupBy(function, HashBagMultimap.<V, T>newMultimap());
+    }
+
+    public <V> HashBagMultimap<V, T> groupByEach(Function<? super T, ? extends Iterable<V>> function)
+    {
+        return this.groupByEach(function, HashBagMultimap.<V, T>newMultimap());
+    }
+
+    public void writeExternal(final ObjectOutput out) throws IOException
+    {
+        MutableMap<T, Integer> snapshot = this.toMapOfItemToCount();
+        out.writeInt(snapshot.size());
+        for (Map.Entry<T, Integer> entry : snapshot.entrySet())
+        {
+            out.writeObject(entry.getKey());
+            out.writeInt(entry.getValue());
+        }
+    }
+
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        int size = in.readInt();
+        this.items = ConcurrentHashMap.newMap(size);
+        this.partitionedSize = new AtomicIntegerArray(SIZE_BUCKETS * 16);
+        for (int i = 0; i < size; i++)
+        {
+            this.addOccurrences((T) in.readObject(), in.readInt());
+        }
+    }
+
+    private class InternalIterator implements Iterator<T>
+    {
+        private final Iterator<Map.Entry<Object, AtomicInteger>> iterator = ConcurrentHashBag.this.items.entrySet().iterator();
+
+        private T nextItem;
+        private int remainingOccurrences;
+        private T currentItem;
+        private boolean canRemove;
+
+        public boolean hasNext()
+        {
+            while (this.remainingOccurrences == 0 && this.iterator.hasNext())
+            {
+                Map.Entry<Object, AtomicInteger> entry = this.iterator.next();
+                this.nextItem = ConcurrentHashBag.nonSentinel(entry.getKey());
+                this.remainingOccurrences = entry.getValue().get();
+            }
+            return this.remainingOccurrences > 0;
+        }
+
+        public T next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            this.remainingOccurrences--;
+            this.currentItem = this.nextItem;
+            this.canRemove = true;
+            return this.currentItem;
+        }
+
+        public void remove()
+        {
+            if (!this.canRemove)
+            {
+                throw new IllegalStateException();
+            }
+            ConcurrentHashBag.this.remove(this.currentItem);
+            this.canRemove = false;
+        }
+    }
+}
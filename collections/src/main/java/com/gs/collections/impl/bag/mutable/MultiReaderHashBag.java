@@ -37,6 +37,7 @@ import com.gs.collections.api.bag.primitive.MutableIntBag;
 import com.gs.collections.api.bag.primitive.MutableLongBag;
 import com.gs.collections.api.bag.primitive.MutableShortBag;
 import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.function.Function0;
 import com.gs.collections.api.block.function.Function2;
 import com.gs.collections.api.block.function.primitive.BooleanFunction;
 import com.gs.collections.api.block.function.primitive.ByteFunction;
@@ -68,6 +69,7 @@ import com.gs.collections.api.set.MutableSet;
 import com.gs.collections.api.tuple.Pair;
 import com.gs.collections.api.tuple.primitive.ObjectIntPair;
 import com.gs.collections.impl.collection.mutable.AbstractMultiReaderMutableCollection;
+import com.gs.collections.impl.collection.mutable.OptimisticReadWriteLock;
 import com.gs.collections.impl.factory.Bags;
 import com.gs.collections.impl.factory.Iterables;
 import com.gs.collections.impl.utility.LazyIterate;
@@ -132,6 +134,27 @@ public final class MultiReaderHashBag<T>
         return new MultiReaderHashBag<T>(HashBag.newBagWith(elements));
     }
 
+    /**
+     * Creates a MultiReaderHashBag guarded by an {@link OptimisticReadWriteLock}, so that size, isEmpty and
+     * sizeDistinct validate a stamp instead of taking the read lock, and only fall back to the read lock when a write
+     * raced them. The optimistic lock is not serialized; a deserialized bag uses a ReentrantReadWriteLock.
+     *
+     * @since 7.1
+     */
+    public static <T> MultiReaderHashBag<T> newOptimisticBag()
+    {
+        return new MultiReaderHashBag<T>(HashBag.<T>newBag(), new OptimisticReadWriteLock());
+    }
+
+    /**
+     * @see #newOptimisticBag()
+     * @since 7.1
+     */
+    public static <T> MultiReaderHashBag<T> newOptimisticBag(Iterable<T> iterable)
+    {
+        return new MultiReaderHashBag<T>(HashBag.newBag(iterable), new OptimisticReadWriteLock());
+    }
+
     @Override
     protected MutableBag<T> getDelegate()
     {
@@ -277,6 +300,16 @@ public final class MultiReaderHashBag<T>
 
     public int sizeDistinct()
     {
+        if (this.hasOptimisticLock())
+        {
+            return this.optimisticRead(new Function0<Integer>()
+            {
+                public Integer value()
+                {
+                    return MultiReaderHashBag.this.delegate.sizeDistinct();
+                }
+            });
+        }
         this.acquireReadLock();
         try
         {
@@ -208,6 +208,26 @@ public abstract class AbstractBiMap<K, V> implements BiMap<K, V>
         return this.getDelegate().toSortedListBy(function);
     }
 
+    public MutableList<V> topK(int k, Comparator<? super V> comparator)
+    {
+        return this.getDelegate().topK(k, comparator);
+    }
+
+    public MutableList<V> bottomK(int k, Comparator<? super V> comparator)
+    {
+        return this.getDelegate().bottomK(k, comparator);
+    }
+
+    public <VV extends Comparable<? super VV>> MutableList<V> topKBy(int k, Function<? super V, ? extends VV> function)
+    {
+        return this.getDelegate().topKBy(k, function);
+    }
+
+    public <VV extends Comparable<? super VV>> MutableList<V> bottomKBy(int k, Function<? super V, ? extends VV> function)
+    {
+        return this.getDelegate().bottomKBy(k, function);
+    }
+
     public MutableSet<V> toSet()
     {
         return this.getDelegate().toSet();
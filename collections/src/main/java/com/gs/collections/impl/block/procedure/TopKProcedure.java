@@ -0,0 +1,157 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.block.procedure;
+
+import java.util.Collections;
+import java.util.Comparator;
+
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.block.factory.Comparators;
+import com.gs.collections.impl.list.mutable.FastList;
+
+/**
+ * Implementation of {@link Procedure} that holds on to the k largest elements seen so far, determined by the
+ * {@link Comparator}. The elements are kept in a bounded binary min-heap, so each new element is compared with the
+ * smallest one kept and most elements of a large iterable are discarded after a single comparison. Finding the top k
+ * of n elements takes O(n log k) time and O(k) space, instead of sorting all n elements. A null comparator means the
+ * natural ordering of the elements, as it does for sorting.
+ *
+ * @since 7.1
+ */
+public class TopKProcedure<T> implements Procedure<T>
+{
+    private static final long serialVersionUID = 1L;
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final int k;
+    private final Comparator<? super T> comparator;
+    private T[] heap;
+    private int size;
+
+    public TopKProcedure(int k, Comparator<? super T> comparator)
+    {
+        if (k < 0)
+        {
+            throw new IllegalArgumentException("K must be greater than or equal to zero, but was: " + k);
+        }
+        this.k = k;
+        this.comparator = TopKProcedure.naturalOrderIfNull(comparator);
+        this.heap = (T[]) new Object[Math.min(k, DEFAULT_CAPACITY)];
+    }
+
+    /**
+     * Returns a procedure which keeps the k smallest elements determined by the comparator instead.
+     */
+    public static <T> TopKProcedure<T> bottomK(int k, Comparator<? super T> comparator)
+    {
+        return new TopKProcedure<T>(k, Collections.reverseOrder(TopKProcedure.naturalOrderIfNull(comparator)));
+    }
+
+    private static <T> Comparator<? super T> naturalOrderIfNull(Comparator<? super T> comparator)
+    {
+        if (comparator == null)
+        {
+            return Comparators.<T>naturalOrder();
+        }
+        return comparator;
+    }
+
+    public void value(T each)
+    {
+        if (this.size < this.k)
+        {
+            if (this.size == this.heap.length)
+            {
+                T[] newHeap = (T[]) new Object[(int) Math.min((long) this.k, (long) this.size << 1)];
+                System.arraycopy(this.heap, 0, newHeap, 0, this.size);
+                this.heap = newHeap;
+            }
+            this.siftUp(this.size++, each);
+        }
+        else if (this.k > 0 && this.comparator.compare(each, this.heap[0]) > 0)
+        {
+            this.siftDown(each);
+        }
+    }
+
+    /**
+     * Adds the elements kept by another procedure with the same k and comparator, for example one which processed
+     * another batch of a parallel iterable.
+     */
+    public void addAll(TopKProcedure<T> other)
+    {
+        for (int i = 0; i < other.size; i++)
+        {
+            this.value(other.heap[i]);
+        }
+    }
+
+    /**
+     * Returns the elements kept so far, largest first.
+     */
+    public MutableList<T> getResult()
+    {
+        FastList<T> result = FastList.newList(this.size);
+        for (int i = 0; i < this.size; i++)
+        {
+            result.add(this.heap[i]);
+        }
+        return result.sortThis(Collections.reverseOrder(this.comparator));
+    }
+
+    private void siftUp(int index, T element)
+    {
+        int current = index;
+        while (current > 0)
+        {
+            int parent = (current - 1) >>> 1;
+            T parentElement = this.heap[parent];
+            if (this.comparator.compare(element, parentElement) >= 0)
+            {
+                break;
+            }
+            this.heap[current] = parentElement;
+            current = parent;
+        }
+        this.heap[current] = element;
+    }
+
+    private void siftDown(T element)
+    {
+        int current = 0;
+        int half = this.size >>> 1;
+        while (current < half)
+        {
+            int child = (current << 1) + 1;
+            T childElement = this.heap[child];
+            int right = child + 1;
+            if (right < this.size && this.comparator.compare(this.heap[right], childElement) < 0)
+            {
+                child = right;
+                childElement = this.heap[right];
+            }
+            if (this.comparator.compare(element, childElement) <= 0)
+            {
+                break;
+            }
+            this.heap[current] = childElement;
+            current = child;
+        }
+        this.heap[current] = element;
+    }
+}
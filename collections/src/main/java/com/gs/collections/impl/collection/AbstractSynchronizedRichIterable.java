@@ -540,6 +540,38 @@ public abstract class AbstractSynchronizedRichIterable<T> implements RichIterabl
         }
     }
 
+    public MutableList<T> topK(int k, Comparator<? super T> comparator)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.topK(k, comparator);
+        }
+    }
+
+    public MutableList<T> bottomK(int k, Comparator<? super T> comparator)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.bottomK(k, comparator);
+        }
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> topKBy(int k, Function<? super T, ? extends V> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.topKBy(k, function);
+        }
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> bottomKBy(int k, Function<? super T, ? extends V> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.bottomKBy(k, function);
+        }
+    }
+
     public MutableSet<T> toSet()
     {
         synchronized (this.lock)
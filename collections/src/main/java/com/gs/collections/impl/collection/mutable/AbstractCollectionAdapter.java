@@ -72,6 +72,7 @@ import com.gs.collections.impl.block.factory.Predicates2;
 import com.gs.collections.impl.block.factory.PrimitiveFunctions;
 import com.gs.collections.impl.block.procedure.MutatingAggregationProcedure;
 import com.gs.collections.impl.block.procedure.NonMutatingAggregationProcedure;
+import com.gs.collections.impl.block.procedure.TopKProcedure;
 import com.gs.collections.impl.factory.Lists;
 import com.gs.collections.impl.map.mutable.UnifiedMap;
 import com.gs.collections.impl.map.mutable.primitive.ObjectDoubleHashMap;
@@ -607,6 +608,30 @@ public abstract class AbstractCollectionAdapter<T>
         return this.toSortedList(Comparators.byFunction(function));
     }
 
+    public MutableList<T> topK(int k, Comparator<? super T> comparator)
+    {
+        TopKProcedure<T> procedure = new TopKProcedure<T>(k, comparator);
+        this.forEach(procedure);
+        return procedure.getResult();
+    }
+
+    public MutableList<T> bottomK(int k, Comparator<? super T> comparator)
+    {
+        TopKProcedure<T> procedure = TopKProcedure.bottomK(k, comparator);
+        this.forEach(procedure);
+        return procedure.getResult();
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> topKBy(int k, Function<? super T, ? extends V> function)
+    {
+        return this.topK(k, Comparators.byFunction(function));
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> bottomKBy(int k, Function<? super T, ? extends V> function)
+    {
+        return this.bottomK(k, Comparators.byFunction(function));
+    }
+
     public MutableSortedSet<T> toSortedSet()
     {
         return TreeSortedSet.newSet(null, this);
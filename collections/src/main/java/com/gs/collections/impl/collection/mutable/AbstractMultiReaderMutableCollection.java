@@ -74,7 +74,9 @@ import com.gs.collections.impl.map.mutable.primitive.ObjectLongHashMap;
 
 /**
  * AbstractMultiReaderMutableCollection is a common abstraction that provides thread-safe collection behaviors.
- * Subclasses of this class must provide implementations of getDelegate() and getLock().
+ * Subclasses of this class must provide implementations of getDelegate() and getLock(). If getLock() returns an
+ * {@link OptimisticReadWriteLock}, size, isEmpty and notEmpty first try an optimistic read and only take the read lock
+ * when a write raced them. Reads that call user code, such as contains, always take the read lock.
  */
 public abstract class AbstractMultiReaderMutableCollection<T> implements MutableCollection<T>
 {
@@ -102,6 +104,53 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
         this.getLock().readLock().unlock();
     }
 
+    /**
+     * Returns true if getLock() is an {@link OptimisticReadWriteLock}. Callers check this before calling
+     * {@link #optimisticRead(Function0)}, so that the default lock keeps the plain read lock path and allocates
+     * nothing.
+     */
+    protected boolean hasOptimisticLock()
+    {
+        return this.getLock() instanceof OptimisticReadWriteLock;
+    }
+
+    /**
+     * Evaluates the function without locking if no write raced it, and otherwise evaluates it again under the read
+     * lock. The lock must be an {@link OptimisticReadWriteLock}. The function may see a half-written delegate, so it
+     * must only read a field or a single array slot: it must not call user code such as equals or hashCode, and must
+     * not loop over the delegate's contents. A RuntimeException thrown by such a torn read is discarded; an Error is
+     * not.
+     */
+    protected <V> V optimisticRead(Function0<V> function)
+    {
+        OptimisticReadWriteLock lock = (OptimisticReadWriteLock) this.getLock();
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0L)
+        {
+            try
+            {
+                V result = function.value();
+                if (lock.validate(stamp))
+                {
+                    return result;
+                }
+            }
+            catch (RuntimeException ignored)
+            {
+                // A concurrent write was observed half way through, so retry under the read lock
+            }
+        }
+        this.acquireReadLock();
+        try
+        {
+            return function.value();
+        }
+        finally
+        {
+            this.unlockReadLock();
+        }
+    }
+
     protected void withReadLockRun(Runnable block)
     {
         this.acquireReadLock();
@@ -428,6 +477,58 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
         }
     }
 
+    public MutableList<T> topK(int k, Comparator<? super T> comparator)
+    {
+        this.acquireReadLock();
+        try
+        {
+            return this.getDelegate().topK(k, comparator);
+        }
+        finally
+        {
+            this.unlockReadLock();
+        }
+    }
+
+    public MutableList<T> bottomK(int k, Comparator<? super T> comparator)
+    {
+        this.acquireReadLock();
+        try
+        {
+            return this.getDelegate().bottomK(k, comparator);
+        }
+        finally
+        {
+            this.unlockReadLock();
+        }
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> topKBy(int k, Function<? super T, ? extends V> function)
+    {
+        this.acquireReadLock();
+        try
+        {
+            return this.getDelegate().topKBy(k, function);
+        }
+        finally
+        {
+            this.unlockReadLock();
+        }
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> bottomKBy(int k, Function<? super T, ? extends V> function)
+    {
+        this.acquireReadLock();
+        try
+        {
+            return this.getDelegate().bottomKBy(k, function);
+        }
+        finally
+        {
+            this.unlockReadLock();
+        }
+    }
+
     public MutableSortedSet<T> toSortedSet()
     {
         this.acquireReadLock();
@@ -661,6 +762,16 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
 
     public boolean notEmpty()
     {
+        if (this.hasOptimisticLock())
+        {
+            return this.optimisticRead(new Function0<Boolean>()
+            {
+                public Boolean value()
+                {
+                    return AbstractMultiReaderMutableCollection.this.getDelegate().notEmpty();
+                }
+            });
+        }
         this.acquireReadLock();
         try
         {
@@ -1154,6 +1265,16 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
 
     public boolean isEmpty()
     {
+        if (this.hasOptimisticLock())
+        {
+            return this.optimisticRead(new Function0<Boolean>()
+            {
+                public Boolean value()
+                {
+                    return AbstractMultiReaderMutableCollection.this.getDelegate().isEmpty();
+                }
+            });
+        }
         this.acquireReadLock();
         try
         {
@@ -1267,6 +1388,16 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
 
     public int size()
     {
+        if (this.hasOptimisticLock())
+        {
+            return this.optimisticRead(new Function0<Integer>()
+            {
+                public Integer value()
+                {
+                    return AbstractMultiReaderMutableCollection.this.getDelegate().size();
+                }
+            });
+        }
         this.acquireReadLock();
         try
         {
@@ -1638,6 +1769,26 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
             return this.delegate.toSortedListBy(function);
         }
 
+        public MutableList<T> topK(int k, Comparator<? super T> comparator)
+        {
+            return this.delegate.topK(k, comparator);
+        }
+
+        public MutableList<T> bottomK(int k, Comparator<? super T> comparator)
+        {
+            return this.delegate.bottomK(k, comparator);
+        }
+
+        public <V extends Comparable<? super V>> MutableList<T> topKBy(int k, Function<? super T, ? extends V> function)
+        {
+            return this.delegate.topKBy(k, function);
+        }
+
+        public <V extends Comparable<? super V>> MutableList<T> bottomKBy(int k, Function<? super T, ? extends V> function)
+        {
+            return this.delegate.bottomKBy(k, function);
+        }
+
         public MutableSortedSet<T> toSortedSet()
         {
             return this.delegate.toSortedSet();
@@ -646,6 +646,26 @@ public class AbstractUnmodifiableMutableCollection<T> implements MutableCollecti
         return this.getMutableCollection().toSortedList(Comparators.byFunction(function));
     }
 
+    public MutableList<T> topK(int k, Comparator<? super T> comparator)
+    {
+        return this.getMutableCollection().topK(k, comparator);
+    }
+
+    public MutableList<T> bottomK(int k, Comparator<? super T> comparator)
+    {
+        return this.getMutableCollection().bottomK(k, comparator);
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> topKBy(int k, Function<? super T, ? extends V> function)
+    {
+        return this.getMutableCollection().topKBy(k, function);
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> bottomKBy(int k, Function<? super T, ? extends V> function)
+    {
+        return this.getMutableCollection().bottomKBy(k, function);
+    }
+
     public MutableSortedSet<T> toSortedSet()
     {
         return this.getMutableCollection().toSortedSet();
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.gs.collections.impl.collection.mutable;
+
+import java.lang.reflect.Field;
+import java.security.AccessController;
+import java.security.PrivilegedExceptionAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import sun.misc.Unsafe;
+
+/**
+ * A ReadWriteLock which, in addition to the read and write locks of a ReentrantReadWriteLock, supports optimistic
+ * reads in the style of StampedLock. A version stamp is incremented when the write lock is first acquired and again
+ * when it is finally released, so it is odd exactly while a writer holds the lock. A reader takes a stamp with
+ * {@link #tryOptimisticRead()}, performs its reads without locking, and then calls {@link #validate(long)}. If no
+ * write lock was acquired in between, the reads are consistent; otherwise the reader retries under the read lock.
+ * <p>
+ * An optimistic reader never writes to shared memory, so uncontended reads do not bounce the lock's cache line
+ * between cores the way the reader count of a ReentrantReadWriteLock does. Reads performed optimistically may observe
+ * a structure in the middle of a write, so they must be free of side effects and must tolerate exceptions caused by
+ * inconsistent state, discarding both the result and the exception when validation fails.
+ * <p>
+ * Like StampedLock, validation relies on the load and store fences of {@code sun.misc.Unsafe}, which are only
+ * available from Java 8. On older JVMs {@link #tryOptimisticRead()} always returns zero, so every read takes the read
+ * lock.
+ * <p>
+ * The write lock does not support conditions.
+ *
+ * @since 7.1
+ */
+@SuppressWarnings("UseOfSunClasses")
+public final class OptimisticReadWriteLock implements ReadWriteLock
+{
+    private static final long ORIGIN = 2L;
+
+    private static final Unsafe UNSAFE = OptimisticReadWriteLock.getUnsafeWithFences();
+
+    private final ReentrantReadWriteLock delegate = new ReentrantReadWriteLock();
+    private final Lock writeLock = new StampingWriteLock();
+
+    private volatile long stamp = ORIGIN;
+
+    public Lock readLock()
+    {
+        return this.delegate.readLock();
+    }
+
+    public Lock writeLock()
+    {
+        return this.writeLock;
+    }
+
+    /**
+     * Returns a stamp which can later be validated, or zero if the write lock is currently held.
+     */
+    public long tryOptimisticRead()
+    {
+        if (UNSAFE == null)
+        {
+            return 0L;
+        }
+        long currentStamp = this.stamp;
+        return (currentStamp & 1L) == 0L ? currentStamp : 0L;
+    }
+
+    /**
+     * Returns true if the write lock has not been acquired since the stamp was issued by {@link #tryOptimisticRead()}.
+     * Always returns false for a zero stamp.
+     */
+    public boolean validate(long stamp)
+    {
+        if (stamp == 0L)
+        {
+            return false;
+        }
+        // Keeps the reads made since tryOptimisticRead() from being reordered after the stamp is read again
+        UNSAFE.loadFence();
+        return this.stamp == stamp;
+    }
+
+    private void incrementStampOnLock()
+    {
+        if (this.delegate.getWriteHoldCount() == 1)
+        {
+            // Only the thread holding the write lock updates the stamp, so the non-atomic increment is safe
+            this.stamp++;
+            if (UNSAFE != null)
+            {
+                // Keeps the writes made under the lock from becoming visible before the odd stamp
+                UNSAFE.storeFence();
+            }
+        }
+    }
+
+    private void incrementStampOnUnlock()
+    {
+        if (this.delegate.getWriteHoldCount() == 1)
+        {
+            this.stamp++;
+        }
+    }
+
+    /**
+     * Returns the Unsafe instance if it supports loadFence and storeFence, and null otherwise.
+     */
+    private static Unsafe getUnsafeWithFences()
+    {
+        try
+        {
+            Unsafe.class.getMethod("loadFence");
+            Unsafe.class.getMethod("storeFence");
+            return AccessController.doPrivileged(new PrivilegedExceptionAction<Unsafe>()
+            {
+                public Unsafe run() throws Exception
+                {
+                    Field f = Unsafe.class.getDeclaredField("theUnsafe");
+                    f.setAccessible(true);
+                    return (Unsafe) f.get(null);
+                }
+            });
+        }
+        catch (Exception ignored)
+        {
+            return null;
+        }
+    }
+
+    private final class StampingWriteLock implements Lock
+    {
+        private final Lock lock = OptimisticReadWriteLock.this.delegate.writeLock();
+
+        public void lock()
+        {
+            this.lock.lock();
+            OptimisticReadWriteLock.this.incrementStampOnLock();
+        }
+
+        public void lockInterruptibly() throws InterruptedException
+        {
+            this.lock.lockInterruptibly();
+            OptimisticReadWriteLock.this.incrementStampOnLock();
+        }
+
+        public boolean tryLock()
+        {
+            if (this.lock.tryLock())
+            {
+                OptimisticReadWriteLock.this.incrementStampOnLock();
+                return true;
+            }
+            return false;
+        }
+
+        public boolean tryLock(long time, TimeUnit unit) throws InterruptedException
+        {
+            if (this.lock.tryLock(time, unit))
+            {
+                OptimisticReadWriteLock.this.incrementStampOnLock();
+                return true;
+            }
+            return false;
+        }
+
+        public void unlock()
+        {
+            OptimisticReadWriteLock.this.incrementStampOnUnlock();
+            this.lock.unlock();
+        }
+
+        public Condition newCondition()
+        {
+            throw new UnsupportedOperationException("Cannot call newCondition() on " + this.getClass().getSimpleName());
+        }
+    }
+}
@@ -0,0 +1,471 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.deque.immutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import com.gs.collections.api.RichIterable;
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.function.Function2;
+import com.gs.collections.api.block.function.primitive.BooleanFunction;
+import com.gs.collections.api.block.function.primitive.ByteFunction;
+import com.gs.collections.api.block.function.primitive.CharFunction;
+import com.gs.collections.api.block.function.primitive.DoubleFunction;
+import com.gs.collections.api.block.function.primitive.FloatFunction;
+import com.gs.collections.api.block.function.primitive.IntFunction;
+import com.gs.collections.api.block.function.primitive.LongFunction;
+import com.gs.collections.api.block.function.primitive.ShortFunction;
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.api.block.predicate.Predicate2;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.collection.primitive.ImmutableBooleanCollection;
+import com.gs.collections.api.collection.primitive.ImmutableByteCollection;
+import com.gs.collections.api.collection.primitive.ImmutableCharCollection;
+import com.gs.collections.api.collection.primitive.ImmutableDoubleCollection;
+import com.gs.collections.api.collection.primitive.ImmutableFloatCollection;
+import com.gs.collections.api.collection.primitive.ImmutableIntCollection;
+import com.gs.collections.api.collection.primitive.ImmutableLongCollection;
+import com.gs.collections.api.collection.primitive.ImmutableShortCollection;
+import com.gs.collections.api.deque.ImmutableDeque;
+import com.gs.collections.api.deque.MutableQueue;
+import com.gs.collections.api.list.ImmutableList;
+import com.gs.collections.api.multimap.list.ImmutableListMultimap;
+import com.gs.collections.api.partition.deque.PartitionImmutableDeque;
+import com.gs.collections.api.tuple.Pair;
+import com.gs.collections.impl.block.factory.Comparators;
+import com.gs.collections.impl.block.factory.Predicates;
+import com.gs.collections.impl.collection.immutable.AbstractImmutableCollection;
+import com.gs.collections.impl.deque.mutable.ArrayDeque;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.list.mutable.primitive.BooleanArrayList;
+import com.gs.collections.impl.list.mutable.primitive.ByteArrayList;
+import com.gs.collections.impl.list.mutable.primitive.CharArrayList;
+import com.gs.collections.impl.list.mutable.primitive.DoubleArrayList;
+import com.gs.collections.impl.list.mutable.primitive.FloatArrayList;
+import com.gs.collections.impl.list.mutable.primitive.IntArrayList;
+import com.gs.collections.impl.list.mutable.primitive.LongArrayList;
+import com.gs.collections.impl.list.mutable.primitive.ShortArrayList;
+import com.gs.collections.impl.multimap.list.FastListMultimap;
+import com.gs.collections.impl.partition.deque.PartitionArrayDeque;
+import com.gs.collections.impl.utility.ArrayIterate;
+import net.jcip.annotations.Immutable;
+
+/**
+ * ImmutableArrayDeque is an ImmutableDeque backed by an array which holds exactly its elements from head to tail.
+ * newWith, newWithFirst, withoutFirst and withoutLast copy the array, so they are O(n).
+ *
+ * @since 7.1
+ */
+@Immutable
+public final class ImmutableArrayDeque<T>
+        extends AbstractImmutableCollection<T>
+        implements ImmutableDeque<T>, Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final ImmutableArrayDeque<?> EMPTY = new ImmutableArrayDeque<Object>(new Object[0]);
+
+    private final T[] items;
+
+    private ImmutableArrayDeque(T[] items)
+    {
+        this.items = items;
+    }
+
+    public static <T> ImmutableArrayDeque<T> empty()
+    {
+        return (ImmutableArrayDeque<T>) EMPTY;
+    }
+
+    public static <T> ImmutableArrayDeque<T> newDeque(Iterable<? extends T> items)
+    {
+        if (items instanceof ImmutableArrayDeque)
+        {
+            return (ImmutableArrayDeque<T>) items;
+        }
+        return ImmutableArrayDeque.newDequeWith((T[]) FastList.newList(items).toArray());
+    }
+
+    public static <T> ImmutableArrayDeque<T> newDequeWith(T... items)
+    {
+        if (items.length == 0)
+        {
+            return ImmutableArrayDeque.empty();
+        }
+        return new ImmutableArrayDeque<T>(items.clone());
+    }
+
+    @Override
+    protected ArrayDeque<T> newMutable(int size)
+    {
+        return new ArrayDeque<T>(size);
+    }
+
+    public T peekFirst()
+    {
+        return this.items.length == 0 ? null : this.items[0];
+    }
+
+    public T peekLast()
+    {
+        return this.items.length == 0 ? null : this.items[this.items.length - 1];
+    }
+
+    public T getFirst()
+    {
+        return this.peekFirst();
+    }
+
+    public T getLast()
+    {
+        return this.peekLast();
+    }
+
+    public ImmutableArrayDeque<T> newWithFirst(T element)
+    {
+        T[] newItems = (T[]) new Object[this.items.length + 1];
+        newItems[0] = element;
+        System.arraycopy(this.items, 0, newItems, 1, this.items.length);
+        return new ImmutableArrayDeque<T>(newItems);
+    }
+
+    public ImmutableArrayDeque<T> newWith(T element)
+    {
+        T[] newItems = (T[]) new Object[this.items.length + 1];
+        System.arraycopy(this.items, 0, newItems, 0, this.items.length);
+        newItems[this.items.length] = element;
+        return new ImmutableArrayDeque<T>(newItems);
+    }
+
+    public ImmutableArrayDeque<T> withoutFirst()
+    {
+        return this.copyWithout(0);
+    }
+
+    public ImmutableArrayDeque<T> withoutLast()
+    {
+        return this.copyWithout(this.items.length - 1);
+    }
+
+    private ImmutableArrayDeque<T> copyWithout(int index)
+    {
+        if (this.items.length == 0)
+        {
+            throw new NoSuchElementException("Deque is empty");
+        }
+        if (this.items.length == 1)
+        {
+            return ImmutableArrayDeque.empty();
+        }
+        T[] newItems = (T[]) new Object[this.items.length - 1];
+        System.arraycopy(this.items, 0, newItems, 0, index);
+        System.arraycopy(this.items, index + 1, newItems, index, this.items.length - index - 1);
+        return new ImmutableArrayDeque<T>(newItems);
+    }
+
+    public ImmutableArrayDeque<T> newWithout(T element)
+    {
+        int index = ArrayIterate.indexOf(this.items, element);
+        return index == -1 ? this : this.copyWithout(index);
+    }
+
+    public ImmutableArrayDeque<T> newWithAll(Iterable<? extends T> elements)
+    {
+        return new ImmutableArrayDeque<T>((T[]) FastList.newListWith(this.items).withAll(elements).toArray());
+    }
+
+    public ImmutableArrayDeque<T> newWithoutAll(Iterable<? extends T> elements)
+    {
+        FastList<T> result = FastList.newListWith(this.items);
+        this.removeAllFrom(elements, result);
+        return result.size() == this.items.length ? this : ImmutableArrayDeque.newDequeWith((T[]) result.toArray());
+    }
+
+    public int size()
+    {
+        return this.items.length;
+    }
+
+    public Iterator<T> iterator()
+    {
+        return FastList.newListWith(this.items).asUnmodifiable().iterator();
+    }
+
+    public void each(Procedure<? super T> procedure)
+    {
+        for (T each : this.items)
+        {
+            procedure.value(each);
+        }
+    }
+
+    public void reverseForEach(Procedure<? super T> procedure)
+    {
+        for (int i = this.items.length - 1; i >= 0; i--)
+        {
+            procedure.value(this.items[i]);
+        }
+    }
+
+    @Override
+    public T detect(Predicate<? super T> predicate)
+    {
+        return ArrayIterate.detect(this.items, predicate);
+    }
+
+    @Override
+    public boolean anySatisfy(Predicate<? super T> predicate)
+    {
+        return ArrayIterate.anySatisfy(this.items, predicate);
+    }
+
+    @Override
+    public boolean allSatisfy(Predicate<? super T> predicate)
+    {
+        return ArrayIterate.allSatisfy(this.items, predicate);
+    }
+
+    @Override
+    public boolean noneSatisfy(Predicate<? super T> predicate)
+    {
+        return ArrayIterate.noneSatisfy(this.items, predicate);
+    }
+
+    @Override
+    public Object[] toArray()
+    {
+        return this.items.clone();
+    }
+
+    public ImmutableArrayDeque<T> tap(Procedure<? super T> procedure)
+    {
+        this.forEach(procedure);
+        return this;
+    }
+
+    public ImmutableArrayDeque<T> select(Predicate<? super T> predicate)
+    {
+        return ImmutableArrayDeque.newDeque(this.select(predicate, FastList.<T>newList()));
+    }
+
+    public <P> ImmutableArrayDeque<T> selectWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        return this.select(Predicates.bind(predicate, parameter));
+    }
+
+    public ImmutableArrayDeque<T> reject(Predicate<? super T> predicate)
+    {
+        return ImmutableArrayDeque.newDeque(this.reject(predicate, FastList.<T>newList()));
+    }
+
+    public <P> ImmutableArrayDeque<T> rejectWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        return this.reject(Predicates.bind(predicate, parameter));
+    }
+
+    public PartitionImmutableDeque<T> partition(Predicate<? super T> predicate)
+    {
+        PartitionArrayDeque<T> result = new PartitionArrayDeque<T>();
+        for (T each : this.items)
+        {
+            (predicate.accept(each) ? result.getSelected() : result.getRejected()).add(each);
+        }
+        return result.toImmutable();
+    }
+
+    public <P> PartitionImmutableDeque<T> partitionWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        return this.partition(Predicates.bind(predicate, parameter));
+    }
+
+    public <S> ImmutableArrayDeque<S> selectInstancesOf(Class<S> clazz)
+    {
+        return ImmutableArrayDeque.newDeque(ArrayIterate.selectInstancesOf(this.items, clazz));
+    }
+
+    public <V> ImmutableArrayDeque<V> collect(Function<? super T, ? extends V> function)
+    {
+        return ImmutableArrayDeque.newDeque(this.collect(function, FastList.<V>newList(this.items.length)));
+    }
+
+    public ImmutableBooleanCollection collectBoolean(BooleanFunction<? super T> booleanFunction)
+    {
+        return this.collectBoolean(booleanFunction, new BooleanArrayList(this.items.length)).toImmutable();
+    }
+
+    public ImmutableByteCollection collectByte(ByteFunction<? super T> byteFunction)
+    {
+        return this.collectByte(byteFunction, new ByteArrayList(this.items.length)).toImmutable();
+    }
+
+    public ImmutableCharCollection collectChar(CharFunction<? super T> charFunction)
+    {
+        return this.collectChar(charFunction, new CharArrayList(this.items.length)).toImmutable();
+    }
+
+    public ImmutableDoubleCollection collectDouble(DoubleFunction<? super T> doubleFunction)
+    {
+        return this.collectDouble(doubleFunction, new DoubleArrayList(this.items.length)).toImmutable();
+    }
+
+    public ImmutableFloatCollection collectFloat(FloatFunction<? super T> floatFunction)
+    {
+        return this.collectFloat(floatFunction, new FloatArrayList(this.items.length)).toImmutable();
+    }
+
+    public ImmutableIntCollection collectInt(IntFunction<? super T> intFunction)
+    {
+        return this.collectInt(intFunction, new IntArrayList(this.items.length)).toImmutable();
+    }
+
+    public ImmutableLongCollection collectLong(LongFunction<? super T> longFunction)
+    {
+        return this.collectLong(longFunction, new LongArrayList(this.items.length)).toImmutable();
+    }
+
+    public ImmutableShortCollection collectShort(ShortFunction<? super T> shortFunction)
+    {
+        return this.collectShort(shortFunction, new ShortArrayList(this.items.length)).toImmutable();
+    }
+
+    public <P, V> ImmutableArrayDeque<V> collectWith(Function2<? super T, ? super P, ? extends V> function, P parameter)
+    {
+        return ImmutableArrayDeque.newDeque(this.collectWith(function, parameter, FastList.<V>newList(this.items.length)));
+    }
+
+    public <V> ImmutableArrayDeque<V> collectIf(Predicate<? super T> predicate, Function<? super T, ? extends V> function)
+    {
+        return ImmutableArrayDeque.newDeque(this.collectIf(predicate, function, FastList.<V>newList()));
+    }
+
+    public <V> ImmutableArrayDeque<V> flatCollect(Function<? super T, ? extends Iterable<V>> function)
+    {
+        return ImmutableArrayDeque.newDeque(this.flatCollect(function, FastList.<V>newList()));
+    }
+
+    public <V> ImmutableListMultimap<V, T> groupBy(Function<? super T, ? extends V> function)
+    {
+        return this.groupBy(function, FastListMultimap.<V, T>newMultimap()).toImmutable();
+    }
+
+    public <V> ImmutableListMultimap<V, T> groupByEach(Function<? super T, ? extends Iterable<V>> function)
+    {
+        return this.groupByEach(function, FastListMultimap.<V, T>newMultimap()).toImmutable();
+    }
+
+    public <S> ImmutableList<Pair<T, S>> zip(Iterable<S> that)
+    {
+        return this.zip(that, FastList.<Pair<T, S>>newList(this.items.length)).toImmutable();
+    }
+
+    public ImmutableList<Pair<T, Integer>> zipWithIndex()
+    {
+        return this.zipWithIndex(FastList.<Pair<T, Integer>>newList(this.items.length)).toImmutable();
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (this == other)
+        {
+            return true;
+        }
+        if (!(other instanceof MutableQueue) && !(other instanceof ImmutableDeque))
+        {
+            return false;
+        }
+        RichIterable<?> that = (RichIterable<?>) other;
+        if (this.items.length != that.size())
+        {
+            return false;
+        }
+        Iterator<?> iterator = that.iterator();
+        for (T each : this.items)
+        {
+            if (!Comparators.nullSafeEquals(each, iterator.next()))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 1;
+        for (T each : this.items)
+        {
+            hashCode = 31 * hashCode + (each == null ? 0 : each.hashCode());
+        }
+        return hashCode;
+    }
+
+    private Object writeReplace()
+    {
+        return new ImmutableDequeSerializationProxy<T>(this);
+    }
+
+    private static class ImmutableDequeSerializationProxy<T> implements Externalizable
+    {
+        private static final long serialVersionUID = 1L;
+
+        private ImmutableArrayDeque<T> deque;
+
+        @SuppressWarnings("UnusedDeclaration")
+        public ImmutableDequeSerializationProxy()
+        {
+            // Empty constructor for Externalizable class
+        }
+
+        private ImmutableDequeSerializationProxy(ImmutableArrayDeque<T> deque)
+        {
+            this.deque = deque;
+        }
+
+        public void writeExternal(ObjectOutput out) throws IOException
+        {
+            out.writeInt(this.deque.items.length);
+            for (T each : this.deque.items)
+            {
+                out.writeObject(each);
+            }
+        }
+
+        public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+        {
+            int size = in.readInt();
+            T[] items = (T[]) new Object[size];
+            for (int i = 0; i < size; i++)
+            {
+                items[i] = (T) in.readObject();
+            }
+            this.deque = size == 0 ? ImmutableArrayDeque.<T>empty() : new ImmutableArrayDeque<T>(items);
+        }
+
+        protected Object readResolve()
+        {
+            return this.deque;
+        }
+    }
+}
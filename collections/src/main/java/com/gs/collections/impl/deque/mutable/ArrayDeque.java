@@ -0,0 +1,770 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.deque.mutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import com.gs.collections.api.RichIterable;
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.function.Function2;
+import com.gs.collections.api.block.function.primitive.BooleanFunction;
+import com.gs.collections.api.block.function.primitive.ByteFunction;
+import com.gs.collections.api.block.function.primitive.CharFunction;
+import com.gs.collections.api.block.function.primitive.DoubleFunction;
+import com.gs.collections.api.block.function.primitive.FloatFunction;
+import com.gs.collections.api.block.function.primitive.IntFunction;
+import com.gs.collections.api.block.function.primitive.LongFunction;
+import com.gs.collections.api.block.function.primitive.ShortFunction;
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.api.block.predicate.Predicate2;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import com.gs.collections.api.collection.primitive.MutableBooleanCollection;
+import com.gs.collections.api.collection.primitive.MutableByteCollection;
+import com.gs.collections.api.collection.primitive.MutableCharCollection;
+import com.gs.collections.api.collection.primitive.MutableDoubleCollection;
+import com.gs.collections.api.collection.primitive.MutableFloatCollection;
+import com.gs.collections.api.collection.primitive.MutableIntCollection;
+import com.gs.collections.api.collection.primitive.MutableLongCollection;
+import com.gs.collections.api.collection.primitive.MutableShortCollection;
+import com.gs.collections.api.deque.ImmutableDeque;
+import com.gs.collections.api.deque.MutableDeque;
+import com.gs.collections.api.deque.MutableQueue;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.api.multimap.list.MutableListMultimap;
+import com.gs.collections.api.partition.deque.PartitionMutableDeque;
+import com.gs.collections.api.tuple.Pair;
+import com.gs.collections.impl.block.factory.Comparators;
+import com.gs.collections.impl.block.factory.Predicates;
+import com.gs.collections.impl.block.procedure.SelectInstancesOfProcedure;
+import com.gs.collections.impl.collection.mutable.AbstractMutableCollection;
+import com.gs.collections.impl.deque.immutable.ImmutableArrayDeque;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.list.mutable.primitive.BooleanArrayList;
+import com.gs.collections.impl.list.mutable.primitive.ByteArrayList;
+import com.gs.collections.impl.list.mutable.primitive.CharArrayList;
+import com.gs.collections.impl.list.mutable.primitive.DoubleArrayList;
+import com.gs.collections.impl.list.mutable.primitive.FloatArrayList;
+import com.gs.collections.impl.list.mutable.primitive.IntArrayList;
+import com.gs.collections.impl.list.mutable.primitive.LongArrayList;
+import com.gs.collections.impl.list.mutable.primitive.ShortArrayList;
+import com.gs.collections.impl.multimap.list.FastListMultimap;
+import com.gs.collections.impl.partition.deque.PartitionArrayDeque;
+import net.jcip.annotations.NotThreadSafe;
+
+/**
+ * ArrayDeque is a MutableDeque which keeps its elements in a circular array, like {@link java.util.ArrayDeque}, so
+ * adding and removing at either end is O(1). Unlike java.util.ArrayDeque it allows null elements, and forEach,
+ * detect, anySatisfy and the other internal iteration methods walk the array directly without allocating an iterator.
+ *
+ * @since 7.1
+ */
+@NotThreadSafe
+public class ArrayDeque<T>
+        extends AbstractMutableCollection<T>
+        implements MutableDeque<T>, Externalizable
+{
+    private static final long serialVersionUID = 1L;
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private T[] items;
+    private int head;
+    private int size;
+
+    public ArrayDeque()
+    {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ArrayDeque(int initialCapacity)
+    {
+        if (initialCapacity < 0)
+        {
+            throw new IllegalArgumentException("initial capacity cannot be less than 0");
+        }
+        this.items = (T[]) new Object[initialCapacity];
+    }
+
+    public static <T> ArrayDeque<T> newDeque()
+    {
+        return new ArrayDeque<T>();
+    }
+
+    public static <T> ArrayDeque<T> newDeque(Iterable<? extends T> items)
+    {
+        ArrayDeque<T> deque = new ArrayDeque<T>();
+        deque.addAllIterable(items);
+        return deque;
+    }
+
+    public static <T> ArrayDeque<T> newDequeWith(T... items)
+    {
+        ArrayDeque<T> deque = new ArrayDeque<T>(items.length);
+        System.arraycopy(items, 0, deque.items, 0, items.length);
+        deque.size = items.length;
+        return deque;
+    }
+
+    private int physicalIndex(int index)
+    {
+        int physicalIndex = this.head + index;
+        return physicalIndex >= this.items.length ? physicalIndex - this.items.length : physicalIndex;
+    }
+
+    private void ensureCapacityForOneMore()
+    {
+        if (this.size == this.items.length)
+        {
+            T[] newItems = (T[]) new Object[this.size == 0 ? DEFAULT_CAPACITY : this.size << 1];
+            this.copyTo(newItems);
+            this.items = newItems;
+            this.head = 0;
+        }
+    }
+
+    private void copyTo(Object[] target)
+    {
+        int firstPart = Math.min(this.size, this.items.length - this.head);
+        System.arraycopy(this.items, this.head, target, 0, firstPart);
+        System.arraycopy(this.items, 0, target, firstPart, this.size - firstPart);
+    }
+
+    public void addFirst(T element)
+    {
+        this.ensureCapacityForOneMore();
+        this.head = this.head == 0 ? this.items.length - 1 : this.head - 1;
+        this.items[this.head] = element;
+        this.size++;
+    }
+
+    public void addLast(T element)
+    {
+        this.ensureCapacityForOneMore();
+        this.items[this.physicalIndex(this.size)] = element;
+        this.size++;
+    }
+
+    public boolean offerFirst(T element)
+    {
+        this.addFirst(element);
+        return true;
+    }
+
+    public boolean offerLast(T element)
+    {
+        this.addLast(element);
+        return true;
+    }
+
+    public void push(T element)
+    {
+        this.addFirst(element);
+    }
+
+    @Override
+    public boolean add(T element)
+    {
+        this.addLast(element);
+        return true;
+    }
+
+    public boolean offer(T element)
+    {
+        this.addLast(element);
+        return true;
+    }
+
+    private void checkNotEmpty()
+    {
+        if (this.size == 0)
+        {
+            throw new NoSuchElementException("Deque is empty");
+        }
+    }
+
+    public T removeFirst()
+    {
+        this.checkNotEmpty();
+        return this.pollFirst();
+    }
+
+    public T removeLast()
+    {
+        this.checkNotEmpty();
+        return this.pollLast();
+    }
+
+    public T pop()
+    {
+        return this.removeFirst();
+    }
+
+    public T remove()
+    {
+        return this.removeFirst();
+    }
+
+    public T pollFirst()
+    {
+        if (this.size == 0)
+        {
+            return null;
+        }
+        T result = this.items[this.head];
+        this.items[this.head] = null;
+        this.head = this.physicalIndex(1);
+        this.size--;
+        return result;
+    }
+
+    public T pollLast()
+    {
+        if (this.size == 0)
+        {
+            return null;
+        }
+        int last = this.physicalIndex(this.size - 1);
+        T result = this.items[last];
+        this.items[last] = null;
+        this.size--;
+        return result;
+    }
+
+    public T poll()
+    {
+        return this.pollFirst();
+    }
+
+    public T element()
+    {
+        this.checkNotEmpty();
+        return this.items[this.head];
+    }
+
+    public T peekFirst()
+    {
+        return this.size == 0 ? null : this.items[this.head];
+    }
+
+    public T peekLast()
+    {
+        return this.size == 0 ? null : this.items[this.physicalIndex(this.size - 1)];
+    }
+
+    public T peek()
+    {
+        return this.peekFirst();
+    }
+
+    public T getFirst()
+    {
+        return this.peekFirst();
+    }
+
+    public T getLast()
+    {
+        return this.peekLast();
+    }
+
+    /**
+     * Removes the element at index, moving whichever side of the deque is shorter.
+     */
+    private void removeAtIndex(int index)
+    {
+        if (index < this.size >> 1)
+        {
+            for (int i = index; i > 0; i--)
+            {
+                this.items[this.physicalIndex(i)] = this.items[this.physicalIndex(i - 1)];
+            }
+            this.pollFirst();
+        }
+        else
+        {
+            for (int i = index; i < this.size - 1; i++)
+            {
+                this.items[this.physicalIndex(i)] = this.items[this.physicalIndex(i + 1)];
+            }
+            this.pollLast();
+        }
+    }
+
+    @Override
+    public boolean remove(Object object)
+    {
+        for (int i = 0; i < this.size; i++)
+        {
+            if (Comparators.nullSafeEquals(object, this.items[this.physicalIndex(i)]))
+            {
+                this.removeAtIndex(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> predicate)
+    {
+        int newSize = 0;
+        for (int i = 0; i < this.size; i++)
+        {
+            T each = this.items[this.physicalIndex(i)];
+            if (!predicate.accept(each))
+            {
+                this.items[this.physicalIndex(newSize)] = each;
+                newSize++;
+            }
+        }
+        boolean removed = newSize != this.size;
+        for (int i = newSize; i < this.size; i++)
+        {
+            this.items[this.physicalIndex(i)] = null;
+        }
+        this.size = newSize;
+        return removed;
+    }
+
+    @Override
+    public <P> boolean removeIfWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        return this.removeIf(Predicates.bind(predicate, parameter));
+    }
+
+    @Override
+    public boolean removeAllIterable(Iterable<?> iterable)
+    {
+        return this.removeIf(Predicates.in(iterable));
+    }
+
+    @Override
+    public boolean retainAllIterable(Iterable<?> iterable)
+    {
+        return this.removeIf(Predicates.notIn(iterable));
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> source)
+    {
+        return this.removeAllIterable(source);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> source)
+    {
+        return this.retainAllIterable(source);
+    }
+
+    public void clear()
+    {
+        Arrays.fill(this.items, null);
+        this.head = 0;
+        this.size = 0;
+    }
+
+    public int size()
+    {
+        return this.size;
+    }
+
+    public Iterator<T> iterator()
+    {
+        return new ArrayDequeIterator();
+    }
+
+    public void each(Procedure<? super T> procedure)
+    {
+        int end = this.head + this.size;
+        if (end <= this.items.length)
+        {
+            for (int i = this.head; i < end; i++)
+            {
+                procedure.value(this.items[i]);
+            }
+        }
+        else
+        {
+            for (int i = this.head; i < this.items.length; i++)
+            {
+                procedure.value(this.items[i]);
+            }
+            int wrappedEnd = end - this.items.length;
+            for (int i = 0; i < wrappedEnd; i++)
+            {
+                procedure.value(this.items[i]);
+            }
+        }
+    }
+
+    public void reverseForEach(Procedure<? super T> procedure)
+    {
+        for (int i = this.size - 1; i >= 0; i--)
+        {
+            procedure.value(this.items[this.physicalIndex(i)]);
+        }
+    }
+
+    @Override
+    public void forEachWithIndex(ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        for (int i = 0; i < this.size; i++)
+        {
+            objectIntProcedure.value(this.items[this.physicalIndex(i)], i);
+        }
+    }
+
+    @Override
+    public boolean contains(Object object)
+    {
+        for (int i = 0; i < this.size; i++)
+        {
+            if (Comparators.nullSafeEquals(object, this.items[this.physicalIndex(i)]))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public T detect(Predicate<? super T> predicate)
+    {
+        for (int i = 0; i < this.size; i++)
+        {
+            T each = this.items[this.physicalIndex(i)];
+            if (predicate.accept(each))
+            {
+                return each;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean anySatisfy(Predicate<? super T> predicate)
+    {
+        for (int i = 0; i < this.size; i++)
+        {
+            if (predicate.accept(this.items[this.physicalIndex(i)]))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean allSatisfy(Predicate<? super T> predicate)
+    {
+        for (int i = 0; i < this.size; i++)
+        {
+            if (!predicate.accept(this.items[this.physicalIndex(i)]))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean noneSatisfy(Predicate<? super T> predicate)
+    {
+        return !this.anySatisfy(predicate);
+    }
+
+    @Override
+    public Object[] toArray()
+    {
+        Object[] result = new Object[this.size];
+        this.copyTo(result);
+        return result;
+    }
+
+    public ArrayDeque<T> with(T element)
+    {
+        this.addLast(element);
+        return this;
+    }
+
+    public ArrayDeque<T> without(T element)
+    {
+        this.remove(element);
+        return this;
+    }
+
+    public ArrayDeque<T> withAll(Iterable<? extends T> elements)
+    {
+        this.addAllIterable(elements);
+        return this;
+    }
+
+    public ArrayDeque<T> withoutAll(Iterable<? extends T> elements)
+    {
+        this.removeAllIterable(elements);
+        return this;
+    }
+
+    public ArrayDeque<T> newEmpty()
+    {
+        return new ArrayDeque<T>();
+    }
+
+    public ArrayDeque<T> tap(Procedure<? super T> procedure)
+    {
+        this.forEach(procedure);
+        return this;
+    }
+
+    public ArrayDeque<T> select(Predicate<? super T> predicate)
+    {
+        return this.select(predicate, new ArrayDeque<T>());
+    }
+
+    public <P> ArrayDeque<T> selectWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        return this.select(Predicates.bind(predicate, parameter), new ArrayDeque<T>());
+    }
+
+    public ArrayDeque<T> reject(Predicate<? super T> predicate)
+    {
+        return this.reject(predicate, new ArrayDeque<T>());
+    }
+
+    public <P> ArrayDeque<T> rejectWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        return this.reject(Predicates.bind(predicate, parameter));
+    }
+
+    public PartitionMutableDeque<T> partition(Predicate<? super T> predicate)
+    {
+        PartitionArrayDeque<T> result = new PartitionArrayDeque<T>();
+        for (int i = 0; i < this.size; i++)
+        {
+            T each = this.items[this.physicalIndex(i)];
+            MutableDeque<T> bucket = predicate.accept(each) ? result.getSelected() : result.getRejected();
+            bucket.addLast(each);
+        }
+        return result;
+    }
+
+    public <P> PartitionMutableDeque<T> partitionWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        return this.partition(Predicates.bind(predicate, parameter));
+    }
+
+    public <S> ArrayDeque<S> selectInstancesOf(Class<S> clazz)
+    {
+        ArrayDeque<S> result = new ArrayDeque<S>();
+        this.forEach(new SelectInstancesOfProcedure<S>(clazz, result));
+        return result;
+    }
+
+    public <V> ArrayDeque<V> collect(Function<? super T, ? extends V> function)
+    {
+        return this.collect(function, new ArrayDeque<V>(this.size));
+    }
+
+    public MutableBooleanCollection collectBoolean(BooleanFunction<? super T> booleanFunction)
+    {
+        return this.collectBoolean(booleanFunction, new BooleanArrayList(this.size));
+    }
+
+    public MutableByteCollection collectByte(ByteFunction<? super T> byteFunction)
+    {
+        return this.collectByte(byteFunction, new ByteArrayList(this.size));
+    }
+
+    public MutableCharCollection collectChar(CharFunction<? super T> charFunction)
+    {
+        return this.collectChar(charFunction, new CharArrayList(this.size));
+    }
+
+    public MutableDoubleCollection collectDouble(DoubleFunction<? super T> doubleFunction)
+    {
+        return this.collectDouble(doubleFunction, new DoubleArrayList(this.size));
+    }
+
+    public MutableFloatCollection collectFloat(FloatFunction<? super T> floatFunction)
+    {
+        return this.collectFloat(floatFunction, new FloatArrayList(this.size));
+    }
+
+    public MutableIntCollection collectInt(IntFunction<? super T> intFunction)
+    {
+        return this.collectInt(intFunction, new IntArrayList(this.size));
+    }
+
+    public MutableLongCollection collectLong(LongFunction<? super T> longFunction)
+    {
+        return this.collectLong(longFunction, new LongArrayList(this.size));
+    }
+
+    public MutableShortCollection collectShort(ShortFunction<? super T> shortFunction)
+    {
+        return this.collectShort(shortFunction, new ShortArrayList(this.size));
+    }
+
+    public <P, V> ArrayDeque<V> collectWith(Function2<? super T, ? super P, ? extends V> function, P parameter)
+    {
+        return this.collectWith(function, parameter, new ArrayDeque<V>(this.size));
+    }
+
+    public <V> ArrayDeque<V> collectIf(Predicate<? super T> predicate, Function<? super T, ? extends V> function)
+    {
+        return this.collectIf(predicate, function, new ArrayDeque<V>());
+    }
+
+    public <V> ArrayDeque<V> flatCollect(Function<? super T, ? extends Iterable<V>> function)
+    {
+        return this.flatCollect(function, new ArrayDeque<V>());
+    }
+
+    public <V> MutableListMultimap<V, T> groupBy(Function<? super T, ? extends V> function)
+    {
+        return this.groupBy(function, FastListMultimap.<V, T>newMultimap());
+    }
+
+    public <V> MutableListMultimap<V, T> groupByEach(Function<? super T, ? extends Iterable<V>> function)
+    {
+        return this.groupByEach(function, FastListMultimap.<V, T>newMultimap());
+    }
+
+    public <S> MutableList<Pair<T, S>> zip(Iterable<S> that)
+    {
+        return this.zip(that, FastList.<Pair<T, S>>newList(this.size));
+    }
+
+    public MutableList<Pair<T, Integer>> zipWithIndex()
+    {
+        return this.zipWithIndex(FastList.<Pair<T, Integer>>newList(this.size));
+    }
+
+    public MutableDeque<T> asUnmodifiable()
+    {
+        return UnmodifiableDeque.of(this);
+    }
+
+    public MutableDeque<T> asSynchronized()
+    {
+        return SynchronizedDeque.of(this);
+    }
+
+    public ImmutableDeque<T> toImmutable()
+    {
+        return ImmutableArrayDeque.newDeque(this);
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (this == other)
+        {
+            return true;
+        }
+        if (!(other instanceof MutableQueue) && !(other instanceof ImmutableDeque))
+        {
+            return false;
+        }
+        RichIterable<?> that = (RichIterable<?>) other;
+        if (this.size != that.size())
+        {
+            return false;
+        }
+        Iterator<?> iterator = that.iterator();
+        for (int i = 0; i < this.size; i++)
+        {
+            if (!Comparators.nullSafeEquals(this.items[this.physicalIndex(i)], iterator.next()))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 1;
+        for (int i = 0; i < this.size; i++)
+        {
+            T each = this.items[this.physicalIndex(i)];
+            hashCode = 31 * hashCode + (each == null ? 0 : each.hashCode());
+        }
+        return hashCode;
+    }
+
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        out.writeInt(this.size);
+        for (int i = 0; i < this.size; i++)
+        {
+            out.writeObject(this.items[this.physicalIndex(i)]);
+        }
+    }
+
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        int size = in.readInt();
+        this.items = (T[]) new Object[Math.max(size, DEFAULT_CAPACITY)];
+        for (int i = 0; i < size; i++)
+        {
+            this.items[i] = (T) in.readObject();
+        }
+        this.head = 0;
+        this.size = size;
+    }
+
+    private final class ArrayDequeIterator implements Iterator<T>
+    {
+        private int index;
+        private int lastReturned = -1;
+
+        public boolean hasNext()
+        {
+            return this.index < ArrayDeque.this.size;
+        }
+
+        public T next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            this.lastReturned = this.index;
+            this.index++;
+            return ArrayDeque.this.items[ArrayDeque.this.physicalIndex(this.lastReturned)];
+        }
+
+        public void remove()
+        {
+            if (this.lastReturned == -1)
+            {
+                throw new IllegalStateException();
+            }
+            ArrayDeque.this.removeAtIndex(this.lastReturned);
+            this.index = this.lastReturned;
+            this.lastReturned = -1;
+        }
+    }
+}
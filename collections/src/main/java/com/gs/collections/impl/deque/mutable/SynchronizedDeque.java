@@ -0,0 +1,495 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.deque.mutable;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Collections;
+
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.function.Function2;
+import com.gs.collections.api.block.function.primitive.BooleanFunction;
+import com.gs.collections.api.block.function.primitive.ByteFunction;
+import com.gs.collections.api.block.function.primitive.CharFunction;
+import com.gs.collections.api.block.function.primitive.DoubleFunction;
+import com.gs.collections.api.block.function.primitive.FloatFunction;
+import com.gs.collections.api.block.function.primitive.IntFunction;
+import com.gs.collections.api.block.function.primitive.LongFunction;
+import com.gs.collections.api.block.function.primitive.ShortFunction;
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.api.block.predicate.Predicate2;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.collection.MutableCollection;
+import com.gs.collections.api.collection.primitive.MutableBooleanCollection;
+import com.gs.collections.api.collection.primitive.MutableByteCollection;
+import com.gs.collections.api.collection.primitive.MutableCharCollection;
+import com.gs.collections.api.collection.primitive.MutableDoubleCollection;
+import com.gs.collections.api.collection.primitive.MutableFloatCollection;
+import com.gs.collections.api.collection.primitive.MutableIntCollection;
+import com.gs.collections.api.collection.primitive.MutableLongCollection;
+import com.gs.collections.api.collection.primitive.MutableShortCollection;
+import com.gs.collections.api.deque.ImmutableDeque;
+import com.gs.collections.api.deque.MutableDeque;
+import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.multimap.MutableMultimap;
+import com.gs.collections.api.partition.deque.PartitionMutableDeque;
+import com.gs.collections.api.tuple.Pair;
+import com.gs.collections.impl.collection.mutable.AbstractSynchronizedMutableCollection;
+import com.gs.collections.impl.collection.mutable.SynchronizedCollectionSerializationProxy;
+import net.jcip.annotations.GuardedBy;
+
+/**
+ * A synchronized view of a {@link MutableDeque}. It is imperative that the user manually synchronize on the collection when iterating over it using the
+ * standard JDK iterator or JDK 5 for loop, as per {@link Collections#synchronizedCollection(Collection)}.
+ *
+ * @see MutableDeque#asSynchronized()
+ * @since 7.1
+ */
+public class SynchronizedDeque<T>
+        extends AbstractSynchronizedMutableCollection<T>
+        implements MutableDeque<T>, Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    SynchronizedDeque(MutableDeque<T> deque)
+    {
+        super(deque);
+    }
+
+    public SynchronizedDeque(MutableDeque<T> deque, Object newLock)
+    {
+        super(deque, newLock);
+    }
+
+    /**
+     * This method will take a MutableDeque and wrap it directly in a SynchronizedDeque.
+     */
+    public static <E, D extends MutableDeque<E>> SynchronizedDeque<E> of(D deque)
+    {
+        return new SynchronizedDeque<E>(deque);
+    }
+
+    @Override
+    @GuardedBy("getLock()")
+    protected MutableDeque<T> getDelegate()
+    {
+        return (MutableDeque<T>) super.getDelegate();
+    }
+
+    public MutableDeque<T> with(T element)
+    {
+        this.add(element);
+        return this;
+    }
+
+    public MutableDeque<T> without(T element)
+    {
+        this.remove(element);
+        return this;
+    }
+
+    public MutableDeque<T> withAll(Iterable<? extends T> elements)
+    {
+        this.addAllIterable(elements);
+        return this;
+    }
+
+    public MutableDeque<T> withoutAll(Iterable<? extends T> elements)
+    {
+        this.removeAllIterable(elements);
+        return this;
+    }
+
+    protected Object writeReplace()
+    {
+        return new SynchronizedCollectionSerializationProxy<T>(this.getDelegate());
+    }
+
+    public void addFirst(T element)
+    {
+        synchronized (this.getLock())
+        {
+            this.getDelegate().addFirst(element);
+        }
+    }
+
+    public void addLast(T element)
+    {
+        synchronized (this.getLock())
+        {
+            this.getDelegate().addLast(element);
+        }
+    }
+
+    public boolean offerFirst(T element)
+    {
+        synchronized (this.getLock())
+        {
+            return this.getDelegate().offerFirst(element);
+        }
+    }
+
+    public boolean offerLast(T element)
+    {
+        synchronized (this.getLock())
+        {
+            return this.getDelegate().offerLast(element);
+        }
+    }
+
+    public boolean offer(T element)
+    {
+        synchronized (this.getLock())
+        {
+            return this.getDelegate().offer(element);
+        }
+    }
+
+    public void push(T element)
+    {
+        synchronized (this.getLock())
+        {
+            this.getDelegate().push(element);
+        }
+    }
+
+    public T removeFirst()
+    {
+        synchronized (this.getLock())
+        {
+            return this.getDelegate().removeFirst();
+        }
+    }
+
+    public T removeLast()
+    {
+        synchronized (this.getLock())
+        {
+            return this.getDelegate().removeLast();
+        }
+    }
+
+    public T remove()
+    {
+        synchronized (this.getLock())
+        {
+            return this.getDelegate().remove();
+        }
+    }
+
+    public T pop()
+    {
+        synchronized (this.getLock())
+        {
+            return this.getDelegate().pop();
+        }
+    }
+
+    public T pollFirst()
+    {
+        synchronized (this.getLock())
+        {
+            return this.getDelegate().pollFirst();
+        }
+    }
+
+    public T pollLast()
+    {
+        synchronized (this.getLock())
+        {
+            return this.getDelegate().pollLast();
+        }
+    }
+
+    public T poll()
+    {
+        synchronized (this.getLock())
+        {
+            return this.getDelegate().poll();
+        }
+    }
+
+    public T peekFirst()
+    {
+        synchronized (this.getLock())
+        {
+            return this.getDelegate().peekFirst();
+        }
+    }
+
+    public T peekLast()
+    {
+        synchronized (this.getLock())
+        {
+            return this.getDelegate().peekLast();
+        }
+    }
+
+    public T peek()
+    {
+        synchronized (this.getLock())
+        {
+            return this.getDelegate().peek();
+        }
+    }
+
+    public T element()
+    {
+        synchronized (this.getLock())
+        {
+            return this.getDelegate().element();
+        }
+    }
+
+    public void reverseForEach(Procedure<? super T> procedure)
+    {
+        synchronized (this.getLock())
+        {
+            this.getDelegate().reverseForEach(procedure);
+        }
+    }
+
+    public MutableDeque<T> newEmpty()
+    {
+        synchronized (this.getLock())
+        {
+            return this.getDelegate().newEmpty().asSynchronized();
+        }
+    }
+
+    public MutableDeque<T> tap(Procedure<? super T> procedure)
+    {
+        synchronized (this.getLock())
+        {
+            this.forEach(procedure);
+            return this;
+        }
+    }
+
+    public MutableDeque<T> select(Predicate<? super T> predicate)
+    {
+        synchronized (this.getLock())
+        {
+            return this.getDelegate().select(predicate);
+        }
+    }
+
+    public <P> MutableDeque<T> selectWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        synchronized (this.getLock())
+        {
+            return this.getDelegate().selectWith(predicate, parameter);
+        }
+    }
+
+    public MutableDeque<T> reject(Predicate<? super T> predicate)
+    {
+        synchronized (this.getLock())
+        {
+            return this.getDelegate().reject(predicate);
+        }
+    }
+
+    public <P> MutableDeque<T> rejectWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        synchronized (this.getLock())
+        {
+            return this.getDelegate().rejectWith(predicate, parameter);
+        }
+    }
+
+    public PartitionMutableDeque<T> partition(Predicate<? super T> predicate)
+    {
+        synchronized (this.getLock())
+        {
+            return this.getDelegate().partition(predicate);
+        }
+    }
+
+    public <P> PartitionMutableDeque<T> partitionWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        synchronized (this.getLock())
+        {
+            return this.getDelegate().partitionWith(predicate, parameter);
+        }
+    }
+
+    public <S> MutableDeque<S> selectInstancesOf(Class<S> clazz)
+    {
+        synchronized (this.getLock())
+        {
+            return this.getDelegate().selectInstancesOf(clazz);
+        }
+    }
+
+    public <V> MutableDeque<V> collect(Function<? super T, ? extends V> function)
+    {
+        synchronized (this.getLock())
+        {
+            return this.getDelegate().collect(function);
+        }
+    }
+
+    public MutableBooleanCollection collectBoolean(BooleanFunction<? super T> booleanFunction)
+    {
+        synchronized (this.getLock())
+        {
+            return this.getDelegate().collectBoolean(booleanFunction);
+        }
+    }
+
+    public MutableByteCollection collectByte(ByteFunction<? super T> byteFunction)
+    {
+        synchronized (this.getLock())
+        {
+            return this.getDelegate().collectByte(byteFunction);
+        }
+    }
+
+    public MutableCharCollection collectChar(CharFunction<? super T> charFunction)
+    {
+        synchronized (this.getLock())
+        {
+            return this.getDelegate().collectChar(charFunction);
+        }
+    }
+
+    public MutableDoubleCollection collectDouble(DoubleFunction<? super T> doubleFunction)
+    {
+        synchronized (this.getLock())
+        {
+            return this.getDelegate().collectDouble(doubleFunction);
+        }
+    }
+
+    public MutableFloatCollection collectFloat(FloatFunction<? super T> floatFunction)
+    {
+        synchronized (this.getLock())
+        {
+            return this.getDelegate().collectFloat(floatFunction);
+        }
+    }
+
+    public MutableIntCollection collectInt(IntFunction<? super T> intFunction)
+    {
+        synchronized (this.getLock())
+        {
+            return this.getDelegate().collectInt(intFunction);
+        }
+    }
+
+    public MutableLongCollection collectLong(LongFunction<? super T> longFunction)
+    {
+        synchronized (this.getLock())
+        {
+            return this.getDelegate().collectLong(longFunction);
+        }
+    }
+
+    public MutableShortCollection collectShort(ShortFunction<? super T> shortFunction)
+    {
+        synchronized (this.getLock())
+        {
+            return this.getDelegate().collectShort(shortFunction);
+        }
+    }
+
+    public <P, V> MutableDeque<V> collectWith(Function2<? super T, ? super P, ? extends V> function, P parameter)
+    {
+        synchronized (this.getLock())
+        {
+            return this.getDelegate().collectWith(function, parameter);
+        }
+    }
+
+    public <V> MutableDeque<V> collectIf(Predicate<? super T> predicate, Function<? super T, ? extends V> function)
+    {
+        synchronized (this.getLock())
+        {
+            return this.getDelegate().collectIf(predicate, function);
+        }
+    }
+
+    public <V> MutableDeque<V> flatCollect(Function<? super T, ? extends Iterable<V>> function)
+    {
+        synchronized (this.getLock())
+        {
+            return this.getDelegate().flatCollect(function);
+        }
+    }
+
+    public <V> MutableMultimap<V, T> groupBy(Function<? super T, ? extends V> function)
+    {
+        synchronized (this.getLock())
+        {
+            return this.getDelegate().groupBy(function);
+        }
+    }
+
+    public <V> MutableMultimap<V, T> groupByEach(Function<? super T, ? extends Iterable<V>> function)
+    {
+        synchronized (this.getLock())
+        {
+            return this.getDelegate().groupByEach(function);
+        }
+    }
+
+    public <V> MutableMap<V, T> groupByUniqueKey(Function<? super T, ? extends V> function)
+    {
+        synchronized (this.getLock())
+        {
+            return this.getDelegate().groupByUniqueKey(function);
+        }
+    }
+
+    public <S> MutableCollection<Pair<T, S>> zip(Iterable<S> that)
+    {
+        synchronized (this.getLock())
+        {
+            return this.getDelegate().zip(that);
+        }
+    }
+
+    public MutableCollection<Pair<T, Integer>> zipWithIndex()
+    {
+        synchronized (this.getLock())
+        {
+            return this.getDelegate().zipWithIndex();
+        }
+    }
+
+    public MutableDeque<T> asUnmodifiable()
+    {
+        synchronized (this.getLock())
+        {
+            return UnmodifiableDeque.of(this);
+        }
+    }
+
+    public MutableDeque<T> asSynchronized()
+    {
+        return this;
+    }
+
+    public ImmutableDeque<T> toImmutable()
+    {
+        synchronized (this.getLock())
+        {
+            return this.getDelegate().toImmutable();
+        }
+    }
+}
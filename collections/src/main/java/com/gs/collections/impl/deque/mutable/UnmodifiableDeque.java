@@ -0,0 +1,293 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.deque.mutable;
+
+import java.io.Serializable;
+
+import com.gs.collections.api.block.function.Function2;
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.predicate.Predicate2;
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.deque.ImmutableDeque;
+import com.gs.collections.api.deque.MutableDeque;
+import com.gs.collections.api.partition.deque.PartitionMutableDeque;
+import com.gs.collections.impl.collection.mutable.AbstractUnmodifiableMutableCollection;
+import com.gs.collections.impl.collection.mutable.UnmodifiableCollectionSerializationProxy;
+
+/**
+ * An unmodifiable view of a deque.
+ *
+ * @see MutableDeque#asUnmodifiable()
+ * @since 7.1
+ */
+public class UnmodifiableDeque<T>
+        extends AbstractUnmodifiableMutableCollection<T>
+        implements MutableDeque<T>, Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    UnmodifiableDeque(MutableDeque<? extends T> mutableDeque)
+    {
+        super(mutableDeque);
+    }
+
+    /**
+     * This method will take a MutableDeque and wrap it directly in a UnmodifiableDeque.
+     */
+    public static <E, D extends MutableDeque<E>> UnmodifiableDeque<E> of(D deque)
+    {
+        if (deque == null)
+        {
+            throw new IllegalArgumentException("cannot create an UnmodifiableDeque for null");
+        }
+        return new UnmodifiableDeque<E>(deque);
+    }
+
+    protected MutableDeque<T> getMutableDeque()
+    {
+        return (MutableDeque<T>) this.getMutableCollection();
+    }
+
+    @Override
+    public MutableDeque<T> asUnmodifiable()
+    {
+        return this;
+    }
+
+    @Override
+    public MutableDeque<T> asSynchronized()
+    {
+        return SynchronizedDeque.of(this);
+    }
+
+    @Override
+    public ImmutableDeque<T> toImmutable()
+    {
+        return this.getMutableDeque().toImmutable();
+    }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        return this.getMutableDeque().equals(obj);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return this.getMutableDeque().hashCode();
+    }
+
+    public void addFirst(T element)
+    {
+        throw new UnsupportedOperationException("Cannot call addFirst() on " + this.getClass().getSimpleName());
+    }
+
+    public void addLast(T element)
+    {
+        throw new UnsupportedOperationException("Cannot call addLast() on " + this.getClass().getSimpleName());
+    }
+
+    public boolean offerFirst(T element)
+    {
+        throw new UnsupportedOperationException("Cannot call offerFirst() on " + this.getClass().getSimpleName());
+    }
+
+    public boolean offerLast(T element)
+    {
+        throw new UnsupportedOperationException("Cannot call offerLast() on " + this.getClass().getSimpleName());
+    }
+
+    public boolean offer(T element)
+    {
+        throw new UnsupportedOperationException("Cannot call offer() on " + this.getClass().getSimpleName());
+    }
+
+    public void push(T element)
+    {
+        throw new UnsupportedOperationException("Cannot call push() on " + this.getClass().getSimpleName());
+    }
+
+    public T removeFirst()
+    {
+        throw new UnsupportedOperationException("Cannot call removeFirst() on " + this.getClass().getSimpleName());
+    }
+
+    public T removeLast()
+    {
+        throw new UnsupportedOperationException("Cannot call removeLast() on " + this.getClass().getSimpleName());
+    }
+
+    public T remove()
+    {
+        throw new UnsupportedOperationException("Cannot call remove() on " + this.getClass().getSimpleName());
+    }
+
+    public T pop()
+    {
+        throw new UnsupportedOperationException("Cannot call pop() on " + this.getClass().getSimpleName());
+    }
+
+    public T pollFirst()
+    {
+        throw new UnsupportedOperationException("Cannot call pollFirst() on " + this.getClass().getSimpleName());
+    }
+
+    public T pollLast()
+    {
+        throw new UnsupportedOperationException("Cannot call pollLast() on " + this.getClass().getSimpleName());
+    }
+
+    public T poll()
+    {
+        throw new UnsupportedOperationException("Cannot call poll() on " + this.getClass().getSimpleName());
+    }
+
+    public T peekFirst()
+    {
+        return this.getMutableDeque().peekFirst();
+    }
+
+    public T peekLast()
+    {
+        return this.getMutableDeque().peekLast();
+    }
+
+    public T peek()
+    {
+        return this.getMutableDeque().peek();
+    }
+
+    public T element()
+    {
+        return this.getMutableDeque().element();
+    }
+
+    public void reverseForEach(Procedure<? super T> procedure)
+    {
+        this.getMutableDeque().reverseForEach(procedure);
+    }
+
+    @Override
+    public MutableDeque<T> newEmpty()
+    {
+        return this.getMutableDeque().newEmpty();
+    }
+
+    @Override
+    public MutableDeque<T> tap(Procedure<? super T> procedure)
+    {
+        this.forEach(procedure);
+        return this;
+    }
+
+    @Override
+    public MutableDeque<T> select(Predicate<? super T> predicate)
+    {
+        return this.getMutableDeque().select(predicate);
+    }
+
+    @Override
+    public <P> MutableDeque<T> selectWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        return this.getMutableDeque().selectWith(predicate, parameter);
+    }
+
+    @Override
+    public MutableDeque<T> reject(Predicate<? super T> predicate)
+    {
+        return this.getMutableDeque().reject(predicate);
+    }
+
+    @Override
+    public <P> MutableDeque<T> rejectWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        return this.getMutableDeque().rejectWith(predicate, parameter);
+    }
+
+    @Override
+    public PartitionMutableDeque<T> partition(Predicate<? super T> predicate)
+    {
+        return this.getMutableDeque().partition(predicate);
+    }
+
+    @Override
+    public <P> PartitionMutableDeque<T> partitionWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        return this.getMutableDeque().partitionWith(predicate, parameter);
+    }
+
+    @Override
+    public <S> MutableDeque<S> selectInstancesOf(Class<S> clazz)
+    {
+        return this.getMutableDeque().selectInstancesOf(clazz);
+    }
+
+    @Override
+    public <V> MutableDeque<V> collect(Function<? super T, ? extends V> function)
+    {
+        return this.getMutableDeque().collect(function);
+    }
+
+    @Override
+    public <P, V> MutableDeque<V> collectWith(Function2<? super T, ? super P, ? extends V> function, P parameter)
+    {
+        return this.getMutableDeque().collectWith(function, parameter);
+    }
+
+    @Override
+    public <V> MutableDeque<V> collectIf(Predicate<? super T> predicate, Function<? super T, ? extends V> function)
+    {
+        return this.getMutableDeque().collectIf(predicate, function);
+    }
+
+    @Override
+    public <V> MutableDeque<V> flatCollect(Function<? super T, ? extends Iterable<V>> function)
+    {
+        return this.getMutableDeque().flatCollect(function);
+    }
+
+    @Override
+    public MutableDeque<T> with(T element)
+    {
+        throw new UnsupportedOperationException("Cannot call with() on " + this.getClass().getSimpleName());
+    }
+
+    @Override
+    public MutableDeque<T> without(T element)
+    {
+        throw new UnsupportedOperationException("Cannot call without() on " + this.getClass().getSimpleName());
+    }
+
+    @Override
+    public MutableDeque<T> withAll(Iterable<? extends T> elements)
+    {
+        throw new UnsupportedOperationException("Cannot call withAll() on " + this.getClass().getSimpleName());
+    }
+
+    @Override
+    public MutableDeque<T> withoutAll(Iterable<? extends T> elements)
+    {
+        throw new UnsupportedOperationException("Cannot call withoutAll() on " + this.getClass().getSimpleName());
+    }
+
+    protected Object writeReplace()
+    {
+        return new UnmodifiableCollectionSerializationProxy<T>(this.getMutableDeque());
+    }
+}
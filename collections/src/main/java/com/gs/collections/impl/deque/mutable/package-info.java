@@ -0,0 +1,35 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * This package contains implementations of the {@link com.gs.collections.api.deque.MutableDeque} interface.
+ * <p>
+ *     Mutable Deque is backed by a circular array and iterates from head to tail (FIFO order). Adding and removing at either end is O(1).
+ * <p>
+ *     This package contains 3 deque implementations:
+ * <ul>
+ *     <li>
+ *          {@link com.gs.collections.impl.deque.mutable.ArrayDeque} - a MutableDeque backed by a circular array.
+ *     </li>
+ *     <li>
+ *          {@link com.gs.collections.impl.deque.mutable.SynchronizedDeque} - a synchronized view of a deque.
+ *     </li>
+ *     <li>
+ *          {@link com.gs.collections.impl.deque.mutable.UnmodifiableDeque} - an unmodifiable view of a deque.
+ *     </li>
+ * </ul>
+ */
+package com.gs.collections.impl.deque.mutable;
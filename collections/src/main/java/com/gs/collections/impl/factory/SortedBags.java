@@ -19,6 +19,7 @@ package com.gs.collections.impl.factory;
 import com.gs.collections.api.factory.bag.sorted.ImmutableSortedBagFactory;
 import com.gs.collections.api.factory.bag.sorted.MutableSortedBagFactory;
 import com.gs.collections.impl.bag.sorted.immutable.ImmutableSortedBagFactoryImpl;
+import com.gs.collections.impl.bag.sorted.mutable.BTreeBagFactoryImpl;
 import com.gs.collections.impl.bag.sorted.mutable.MutableSortedBagFactoryImpl;
 
 @SuppressWarnings("ConstantNamingConvention")
@@ -26,6 +27,12 @@ public final class SortedBags
 {
     public static final MutableSortedBagFactory mutable = new MutableSortedBagFactoryImpl();
     public static final ImmutableSortedBagFactory immutable = new ImmutableSortedBagFactoryImpl();
+    /**
+     * Creates MutableSortedBags whose counts are kept in a B+ tree rather than a red-black tree.
+     *
+     * @since 7.1
+     */
+    public static final MutableSortedBagFactory btree = new BTreeBagFactoryImpl();
 
     private SortedBags()
     {
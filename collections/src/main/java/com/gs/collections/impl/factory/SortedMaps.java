@@ -19,6 +19,7 @@ package com.gs.collections.impl.factory;
 import com.gs.collections.api.factory.map.sorted.ImmutableSortedMapFactory;
 import com.gs.collections.api.factory.map.sorted.MutableSortedMapFactory;
 import com.gs.collections.impl.map.sorted.immutable.ImmutableSortedMapFactoryImpl;
+import com.gs.collections.impl.map.sorted.mutable.BTreeSortedMapFactoryImpl;
 import com.gs.collections.impl.map.sorted.mutable.MutableSortedMapFactoryImpl;
 
 @SuppressWarnings("ConstantNamingConvention")
@@ -26,6 +27,12 @@ public final class SortedMaps
 {
     public static final ImmutableSortedMapFactory immutable = new ImmutableSortedMapFactoryImpl();
     public static final MutableSortedMapFactory mutable = new MutableSortedMapFactoryImpl();
+    /**
+     * Creates MutableSortedMaps backed by a B+ tree rather than a red-black tree.
+     *
+     * @since 7.1
+     */
+    public static final MutableSortedMapFactory btree = new BTreeSortedMapFactoryImpl();
 
     private SortedMaps()
     {
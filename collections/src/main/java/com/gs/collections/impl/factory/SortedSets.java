@@ -19,6 +19,7 @@ package com.gs.collections.impl.factory;
 import com.gs.collections.api.factory.set.sorted.ImmutableSortedSetFactory;
 import com.gs.collections.api.factory.set.sorted.MutableSortedSetFactory;
 import com.gs.collections.impl.set.sorted.immutable.ImmutableSortedSetFactoryImpl;
+import com.gs.collections.impl.set.sorted.mutable.BTreeSortedSetFactoryImpl;
 import com.gs.collections.impl.set.sorted.mutable.MutableSortedSetFactoryImpl;
 
 @SuppressWarnings("ConstantNamingConvention")
@@ -26,6 +27,12 @@ public final class SortedSets
 {
     public static final ImmutableSortedSetFactory immutable = new ImmutableSortedSetFactoryImpl();
     public static final MutableSortedSetFactory mutable = new MutableSortedSetFactoryImpl();
+    /**
+     * Creates MutableSortedSets backed by a B+ tree rather than a red-black tree.
+     *
+     * @since 7.1
+     */
+    public static final MutableSortedSetFactory btree = new BTreeSortedSetFactoryImpl();
 
     private SortedSets()
     {
@@ -0,0 +1,881 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.heap.mutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.function.Function2;
+import com.gs.collections.api.block.function.primitive.BooleanFunction;
+import com.gs.collections.api.block.function.primitive.ByteFunction;
+import com.gs.collections.api.block.function.primitive.CharFunction;
+import com.gs.collections.api.block.function.primitive.DoubleFunction;
+import com.gs.collections.api.block.function.primitive.FloatFunction;
+import com.gs.collections.api.block.function.primitive.IntFunction;
+import com.gs.collections.api.block.function.primitive.LongFunction;
+import com.gs.collections.api.block.function.primitive.ShortFunction;
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.api.block.predicate.Predicate2;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.collection.ImmutableCollection;
+import com.gs.collections.api.collection.MutableCollection;
+import com.gs.collections.api.collection.primitive.MutableBooleanCollection;
+import com.gs.collections.api.collection.primitive.MutableByteCollection;
+import com.gs.collections.api.collection.primitive.MutableCharCollection;
+import com.gs.collections.api.collection.primitive.MutableDoubleCollection;
+import com.gs.collections.api.collection.primitive.MutableFloatCollection;
+import com.gs.collections.api.collection.primitive.MutableIntCollection;
+import com.gs.collections.api.collection.primitive.MutableLongCollection;
+import com.gs.collections.api.collection.primitive.MutableShortCollection;
+import com.gs.collections.api.heap.MutableHeap;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.api.multimap.list.MutableListMultimap;
+import com.gs.collections.api.partition.list.PartitionMutableList;
+import com.gs.collections.api.tuple.Pair;
+import com.gs.collections.impl.bag.mutable.HashBag;
+import com.gs.collections.impl.block.factory.Predicates;
+import com.gs.collections.impl.block.procedure.SelectInstancesOfProcedure;
+import com.gs.collections.impl.collection.mutable.AbstractMutableCollection;
+import com.gs.collections.impl.collection.mutable.SynchronizedMutableCollection;
+import com.gs.collections.impl.collection.mutable.UnmodifiableMutableCollection;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.list.mutable.primitive.BooleanArrayList;
+import com.gs.collections.impl.list.mutable.primitive.ByteArrayList;
+import com.gs.collections.impl.list.mutable.primitive.CharArrayList;
+import com.gs.collections.impl.list.mutable.primitive.DoubleArrayList;
+import com.gs.collections.impl.list.mutable.primitive.FloatArrayList;
+import com.gs.collections.impl.list.mutable.primitive.IntArrayList;
+import com.gs.collections.impl.list.mutable.primitive.LongArrayList;
+import com.gs.collections.impl.list.mutable.primitive.ShortArrayList;
+import com.gs.collections.impl.multimap.list.FastListMultimap;
+import com.gs.collections.impl.partition.list.PartitionFastList;
+import net.jcip.annotations.NotThreadSafe;
+
+/**
+ * BinaryHeap is a MutableHeap which keeps its elements in an array as an implicit binary min-heap, like
+ * {@link java.util.PriorityQueue}. {@link #peek()} is O(1), {@link #add(Object)} and {@link #poll()} are O(log n), and
+ * {@link #heapify(Comparator, Iterable)} builds a heap from existing elements in O(n). Null elements are not permitted.
+ * <p>
+ * forEach, detect, anySatisfy and the other internal iteration methods walk the array directly, in array order,
+ * without allocating an iterator.
+ *
+ * @since 7.1
+ */
+@NotThreadSafe
+public class BinaryHeap<T>
+        extends AbstractMutableCollection<T>
+        implements MutableHeap<T>, Externalizable
+{
+    private static final long serialVersionUID = 1L;
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private Comparator<? super T> comparator;
+    private T[] items;
+    private int size;
+
+    public BinaryHeap()
+    {
+        this(null, DEFAULT_CAPACITY);
+    }
+
+    public BinaryHeap(int initialCapacity)
+    {
+        this(null, initialCapacity);
+    }
+
+    public BinaryHeap(Comparator<? super T> comparator)
+    {
+        this(comparator, DEFAULT_CAPACITY);
+    }
+
+    public BinaryHeap(Comparator<? super T> comparator, int initialCapacity)
+    {
+        if (initialCapacity < 0)
+        {
+            throw new IllegalArgumentException("initial capacity cannot be less than 0");
+        }
+        this.comparator = comparator;
+        this.items = (T[]) new Object[initialCapacity];
+    }
+
+    public static <T> BinaryHeap<T> newHeap()
+    {
+        return new BinaryHeap<T>();
+    }
+
+    public static <T> BinaryHeap<T> newHeap(Comparator<? super T> comparator)
+    {
+        return new BinaryHeap<T>(comparator);
+    }
+
+    public static <T> BinaryHeap<T> newHeapWith(T... items)
+    {
+        return BinaryHeap.heapify(null, FastList.newListWith(items));
+    }
+
+    /**
+     * Returns a heap of the elements of source in their natural order.
+     *
+     * @see #heapify(Comparator, Iterable)
+     */
+    public static <T> BinaryHeap<T> heapify(Iterable<? extends T> source)
+    {
+        return BinaryHeap.heapify(null, source);
+    }
+
+    /**
+     * Returns a heap of the elements of source ordered by comparator. The heap is built bottom-up in O(n) time rather
+     * than by adding the elements one at a time in O(n log n) time, and when source is a Collection such as a
+     * {@link FastList} its elements are copied with a single {@code toArray()}.
+     */
+    public static <T> BinaryHeap<T> heapify(Comparator<? super T> comparator, Iterable<? extends T> source)
+    {
+        BinaryHeap<T> heap = new BinaryHeap<T>(comparator, 0);
+        heap.appendAll(source);
+        heap.heapify();
+        return heap;
+    }
+
+    public Comparator<? super T> comparator()
+    {
+        return this.comparator;
+    }
+
+    private int compare(T one, T two)
+    {
+        return this.comparator == null ? ((Comparable<? super T>) one).compareTo(two) : this.comparator.compare(one, two);
+    }
+
+    private static void checkNotNull(Object element)
+    {
+        if (element == null)
+        {
+            throw new NullPointerException("BinaryHeap does not permit null elements");
+        }
+    }
+
+    private void ensureCapacity(int minCapacity)
+    {
+        if (minCapacity > this.items.length)
+        {
+            T[] newItems = (T[]) new Object[Math.max(minCapacity, Math.max(DEFAULT_CAPACITY, this.items.length << 1))];
+            System.arraycopy(this.items, 0, newItems, 0, this.size);
+            this.items = newItems;
+        }
+    }
+
+    /**
+     * Adds the elements of source after the existing elements without restoring the heap order.
+     */
+    private void appendAll(Iterable<? extends T> source)
+    {
+        if (source instanceof Collection)
+        {
+            Object[] array = ((Collection<?>) source).toArray();
+            for (Object each : array)
+            {
+                BinaryHeap.checkNotNull(each);
+            }
+            this.ensureCapacity(this.size + array.length);
+            System.arraycopy(array, 0, this.items, this.size, array.length);
+            this.size += array.length;
+        }
+        else
+        {
+            for (T each : source)
+            {
+                BinaryHeap.checkNotNull(each);
+                this.ensureCapacity(this.size + 1);
+                this.items[this.size++] = each;
+            }
+        }
+    }
+
+    /**
+     * Restores the heap order of the whole array bottom-up, which is O(n).
+     */
+    private void heapify()
+    {
+        for (int i = (this.size >>> 1) - 1; i >= 0; i--)
+        {
+            this.siftDown(i, this.items[i]);
+        }
+    }
+
+    private void siftUp(int index, T element)
+    {
+        int current = index;
+        while (current > 0)
+        {
+            int parent = (current - 1) >>> 1;
+            T parentElement = this.items[parent];
+            if (this.compare(element, parentElement) >= 0)
+            {
+                break;
+            }
+            this.items[current] = parentElement;
+            current = parent;
+        }
+        this.items[current] = element;
+    }
+
+    private void siftDown(int index, T element)
+    {
+        int current = index;
+        int half = this.size >>> 1;
+        while (current < half)
+        {
+            int child = (current << 1) + 1;
+            T childElement = this.items[child];
+            int right = child + 1;
+            if (right < this.size && this.compare(this.items[right], childElement) < 0)
+            {
+                child = right;
+                childElement = this.items[right];
+            }
+            if (this.compare(element, childElement) <= 0)
+            {
+                break;
+            }
+            this.items[current] = childElement;
+            current = child;
+        }
+        this.items[current] = element;
+    }
+
+    @Override
+    public boolean add(T element)
+    {
+        BinaryHeap.checkNotNull(element);
+        this.ensureCapacity(this.size + 1);
+        this.size++;
+        this.siftUp(this.size - 1, element);
+        return true;
+    }
+
+    public boolean offer(T element)
+    {
+        return this.add(element);
+    }
+
+    /**
+     * Adds all of the elements of iterable. When that at least doubles the size of the heap they are appended and the
+     * heap is rebuilt in O(n) time, otherwise each one is sifted up in O(log n) time.
+     */
+    @Override
+    public boolean addAllIterable(Iterable<? extends T> iterable)
+    {
+        int oldSize = this.size;
+        this.appendAll(iterable);
+        if (this.size - oldSize >= oldSize)
+        {
+            this.heapify();
+        }
+        else
+        {
+            for (int i = oldSize; i < this.size; i++)
+            {
+                this.siftUp(i, this.items[i]);
+            }
+        }
+        return this.size != oldSize;
+    }
+
+    public T peek()
+    {
+        return this.size == 0 ? null : this.items[0];
+    }
+
+    public T element()
+    {
+        if (this.size == 0)
+        {
+            throw new NoSuchElementException("Heap is empty");
+        }
+        return this.items[0];
+    }
+
+    public T poll()
+    {
+        if (this.size == 0)
+        {
+            return null;
+        }
+        T result = this.items[0];
+        this.size--;
+        T last = this.items[this.size];
+        this.items[this.size] = null;
+        if (this.size > 0)
+        {
+            this.siftDown(0, last);
+        }
+        return result;
+    }
+
+    public T remove()
+    {
+        if (this.size == 0)
+        {
+            throw new NoSuchElementException("Heap is empty");
+        }
+        return this.poll();
+    }
+
+    public int drainTo(Collection<? super T> target)
+    {
+        int count = this.size;
+        if (target instanceof FastList)
+        {
+            ((FastList<? super T>) target).ensureCapacity(target.size() + count);
+        }
+        while (this.size > 0)
+        {
+            target.add(this.poll());
+        }
+        return count;
+    }
+
+    /**
+     * Removes the element at index and returns the element which took its place if that element moved before index,
+     * which only the iterator needs to know about.
+     */
+    private T removeAtIndex(int index)
+    {
+        this.size--;
+        T last = this.items[this.size];
+        this.items[this.size] = null;
+        if (index == this.size)
+        {
+            return null;
+        }
+        this.siftDown(index, last);
+        if (this.items[index] == last)
+        {
+            this.siftUp(index, last);
+            if (this.items[index] != last)
+            {
+                return last;
+            }
+        }
+        return null;
+    }
+
+    private int indexOf(Object object)
+    {
+        if (object != null)
+        {
+            for (int i = 0; i < this.size; i++)
+            {
+                if (object.equals(this.items[i]))
+                {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean remove(Object object)
+    {
+        int index = this.indexOf(object);
+        if (index == -1)
+        {
+            return false;
+        }
+        this.removeAtIndex(index);
+        return true;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> predicate)
+    {
+        int newSize = 0;
+        for (int i = 0; i < this.size; i++)
+        {
+            T each = this.items[i];
+            if (!predicate.accept(each))
+            {
+                this.items[newSize++] = each;
+            }
+        }
+        if (newSize == this.size)
+        {
+            return false;
+        }
+        Arrays.fill(this.items, newSize, this.size, null);
+        this.size = newSize;
+        this.heapify();
+        return true;
+    }
+
+    @Override
+    public <P> boolean removeIfWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        return this.removeIf(Predicates.bind(predicate, parameter));
+    }
+
+    @Override
+    public boolean removeAllIterable(Iterable<?> iterable)
+    {
+        return this.removeIf(Predicates.in(iterable));
+    }
+
+    @Override
+    public boolean retainAllIterable(Iterable<?> iterable)
+    {
+        return this.removeIf(Predicates.notIn(iterable));
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> source)
+    {
+        return this.removeAllIterable(source);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> source)
+    {
+        return this.retainAllIterable(source);
+    }
+
+    public void clear()
+    {
+        Arrays.fill(this.items, 0, this.size, null);
+        this.size = 0;
+    }
+
+    public int size()
+    {
+        return this.size;
+    }
+
+    public Iterator<T> iterator()
+    {
+        return new BinaryHeapIterator();
+    }
+
+    public void each(Procedure<? super T> procedure)
+    {
+        for (int i = 0; i < this.size; i++)
+        {
+            procedure.value(this.items[i]);
+        }
+    }
+
+    @Override
+    public boolean contains(Object object)
+    {
+        return this.indexOf(object) != -1;
+    }
+
+    @Override
+    public T detect(Predicate<? super T> predicate)
+    {
+        for (int i = 0; i < this.size; i++)
+        {
+            T each = this.items[i];
+            if (predicate.accept(each))
+            {
+                return each;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean anySatisfy(Predicate<? super T> predicate)
+    {
+        for (int i = 0; i < this.size; i++)
+        {
+            if (predicate.accept(this.items[i]))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean allSatisfy(Predicate<? super T> predicate)
+    {
+        for (int i = 0; i < this.size; i++)
+        {
+            if (!predicate.accept(this.items[i]))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean noneSatisfy(Predicate<? super T> predicate)
+    {
+        return !this.anySatisfy(predicate);
+    }
+
+    /**
+     * Returns the smallest element, which is also the first element in iteration order, or null if the heap is empty.
+     */
+    @Override
+    public T getFirst()
+    {
+        return this.peek();
+    }
+
+    public T getLast()
+    {
+        return this.size == 0 ? null : this.items[this.size - 1];
+    }
+
+    @Override
+    public Object[] toArray()
+    {
+        Object[] result = new Object[this.size];
+        System.arraycopy(this.items, 0, result, 0, this.size);
+        return result;
+    }
+
+    public BinaryHeap<T> with(T element)
+    {
+        this.add(element);
+        return this;
+    }
+
+    public BinaryHeap<T> without(T element)
+    {
+        this.remove(element);
+        return this;
+    }
+
+    public BinaryHeap<T> withAll(Iterable<? extends T> elements)
+    {
+        this.addAllIterable(elements);
+        return this;
+    }
+
+    public BinaryHeap<T> withoutAll(Iterable<? extends T> elements)
+    {
+        this.removeAllIterable(elements);
+        return this;
+    }
+
+    public BinaryHeap<T> newEmpty()
+    {
+        return new BinaryHeap<T>(this.comparator);
+    }
+
+    public BinaryHeap<T> tap(Procedure<? super T> procedure)
+    {
+        this.forEach(procedure);
+        return this;
+    }
+
+    private BinaryHeap<T> select(Predicate<? super T> predicate, boolean expected)
+    {
+        BinaryHeap<T> result = new BinaryHeap<T>(this.comparator, this.size);
+        for (int i = 0; i < this.size; i++)
+        {
+            T each = this.items[i];
+            if (predicate.accept(each) == expected)
+            {
+                result.items[result.size++] = each;
+            }
+        }
+        result.heapify();
+        return result;
+    }
+
+    public BinaryHeap<T> select(Predicate<? super T> predicate)
+    {
+        return this.select(predicate, true);
+    }
+
+    public <P> BinaryHeap<T> selectWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        return this.select(Predicates.bind(predicate, parameter), true);
+    }
+
+    public BinaryHeap<T> reject(Predicate<? super T> predicate)
+    {
+        return this.select(predicate, false);
+    }
+
+    public <P> BinaryHeap<T> rejectWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        return this.select(Predicates.bind(predicate, parameter), false);
+    }
+
+    public PartitionMutableList<T> partition(Predicate<? super T> predicate)
+    {
+        PartitionFastList<T> result = new PartitionFastList<T>();
+        for (int i = 0; i < this.size; i++)
+        {
+            T each = this.items[i];
+            (predicate.accept(each) ? result.getSelected() : result.getRejected()).add(each);
+        }
+        return result;
+    }
+
+    public <P> PartitionMutableList<T> partitionWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        return this.partition(Predicates.bind(predicate, parameter));
+    }
+
+    public <S> MutableList<S> selectInstancesOf(Class<S> clazz)
+    {
+        FastList<S> result = FastList.newList();
+        this.forEach(new SelectInstancesOfProcedure<S>(clazz, result));
+        return result;
+    }
+
+    public <V> MutableList<V> collect(Function<? super T, ? extends V> function)
+    {
+        return this.collect(function, FastList.<V>newList(this.size));
+    }
+
+    public MutableBooleanCollection collectBoolean(BooleanFunction<? super T> booleanFunction)
+    {
+        return this.collectBoolean(booleanFunction, new BooleanArrayList(this.size));
+    }
+
+    public MutableByteCollection collectByte(ByteFunction<? super T> byteFunction)
+    {
+        return this.collectByte(byteFunction, new ByteArrayList(this.size));
+    }
+
+    public MutableCharCollection collectChar(CharFunction<? super T> charFunction)
+    {
+        return this.collectChar(charFunction, new CharArrayList(this.size));
+    }
+
+    public MutableDoubleCollection collectDouble(DoubleFunction<? super T> doubleFunction)
+    {
+        return this.collectDouble(doubleFunction, new DoubleArrayList(this.size));
+    }
+
+    public MutableFloatCollection collectFloat(FloatFunction<? super T> floatFunction)
+    {
+        return this.collectFloat(floatFunction, new FloatArrayList(this.size));
+    }
+
+    public MutableIntCollection collectInt(IntFunction<? super T> intFunction)
+    {
+        return this.collectInt(intFunction, new IntArrayList(this.size));
+    }
+
+    public MutableLongCollection collectLong(LongFunction<? super T> longFunction)
+    {
+        return this.collectLong(longFunction, new LongArrayList(this.size));
+    }
+
+    public MutableShortCollection collectShort(ShortFunction<? super T> shortFunction)
+    {
+        return this.collectShort(shortFunction, new ShortArrayList(this.size));
+    }
+
+    public <P, V> MutableList<V> collectWith(Function2<? super T, ? super P, ? extends V> function, P parameter)
+    {
+        return this.collectWith(function, parameter, FastList.<V>newList(this.size));
+    }
+
+    public <V> MutableList<V> collectIf(Predicate<? super T> predicate, Function<? super T, ? extends V> function)
+    {
+        return this.collectIf(predicate, function, FastList.<V>newList());
+    }
+
+    public <V> MutableList<V> flatCollect(Function<? super T, ? extends Iterable<V>> function)
+    {
+        return this.flatCollect(function, FastList.<V>newList());
+    }
+
+    public <V> MutableListMultimap<V, T> groupBy(Function<? super T, ? extends V> function)
+    {
+        return this.groupBy(function, FastListMultimap.<V, T>newMultimap());
+    }
+
+    public <V> MutableListMultimap<V, T> groupByEach(Function<? super T, ? extends Iterable<V>> function)
+    {
+        return this.groupByEach(function, FastListMultimap.<V, T>newMultimap());
+    }
+
+    public <S> MutableList<Pair<T, S>> zip(Iterable<S> that)
+    {
+        return this.zip(that, FastList.<Pair<T, S>>newList(this.size));
+    }
+
+    public MutableList<Pair<T, Integer>> zipWithIndex()
+    {
+        return this.zipWithIndex(FastList.<Pair<T, Integer>>newList(this.size));
+    }
+
+    public MutableCollection<T> asUnmodifiable()
+    {
+        return UnmodifiableMutableCollection.of(this);
+    }
+
+    public MutableCollection<T> asSynchronized()
+    {
+        return SynchronizedMutableCollection.of(this);
+    }
+
+    /**
+     * Returns an immutable list of the elements in priority order, smallest first.
+     */
+    public ImmutableCollection<T> toImmutable()
+    {
+        BinaryHeap<T> copy = new BinaryHeap<T>(this.comparator, 0);
+        copy.items = this.items.clone();
+        copy.size = this.size;
+        FastList<T> sorted = FastList.newList(this.size);
+        copy.drainTo(sorted);
+        return sorted.toImmutable();
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (this == other)
+        {
+            return true;
+        }
+        if (!(other instanceof MutableHeap))
+        {
+            return false;
+        }
+        MutableHeap<?> that = (MutableHeap<?>) other;
+        return this.size == that.size() && HashBag.newBag(this).equals(HashBag.newBag(that));
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 0;
+        for (int i = 0; i < this.size; i++)
+        {
+            hashCode += this.items[i].hashCode();
+        }
+        return hashCode;
+    }
+
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        out.writeObject(this.comparator);
+        out.writeInt(this.size);
+        for (int i = 0; i < this.size; i++)
+        {
+            out.writeObject(this.items[i]);
+        }
+    }
+
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        this.comparator = (Comparator<? super T>) in.readObject();
+        int size = in.readInt();
+        this.items = (T[]) new Object[Math.max(size, DEFAULT_CAPACITY)];
+        for (int i = 0; i < size; i++)
+        {
+            this.items[i] = (T) in.readObject();
+        }
+        this.size = size;
+    }
+
+    /**
+     * Iterates in array order. When remove() moves the last element to before the cursor, that element is kept in
+     * forgetMeNot and returned after the array has been exhausted, as in {@link java.util.PriorityQueue}.
+     */
+    private final class BinaryHeapIterator implements Iterator<T>
+    {
+        private int cursor;
+        private int lastReturned = -1;
+        private MutableList<T> forgetMeNot;
+        private T lastReturnedElement;
+
+        public boolean hasNext()
+        {
+            return this.cursor < BinaryHeap.this.size || this.forgetMeNot != null && this.forgetMeNot.notEmpty();
+        }
+
+        public T next()
+        {
+            if (this.cursor < BinaryHeap.this.size)
+            {
+                this.lastReturned = this.cursor;
+                this.lastReturnedElement = null;
+                this.cursor++;
+                return BinaryHeap.this.items[this.lastReturned];
+            }
+            if (this.forgetMeNot != null && this.forgetMeNot.notEmpty())
+            {
+                this.lastReturned = -1;
+                this.lastReturnedElement = this.forgetMeNot.remove(this.forgetMeNot.size() - 1);
+                return this.lastReturnedElement;
+            }
+            throw new NoSuchElementException();
+        }
+
+        public void remove()
+        {
+            if (this.lastReturned != -1)
+            {
+                T moved = BinaryHeap.this.removeAtIndex(this.lastReturned);
+                this.cursor = this.lastReturned;
+                this.lastReturned = -1;
+                if (moved != null)
+                {
+                    if (this.forgetMeNot == null)
+                    {
+                        this.forgetMeNot = FastList.newList();
+                    }
+                    this.forgetMeNot.add(moved);
+                }
+            }
+            else if (this.lastReturnedElement != null)
+            {
+                BinaryHeap.this.removeIdentical(this.lastReturnedElement);
+                this.lastReturnedElement = null;
+            }
+            else
+            {
+                throw new IllegalStateException();
+            }
+        }
+    }
+
+    private void removeIdentical(T element)
+    {
+        for (int i = 0; i < this.size; i++)
+        {
+            if (this.items[i] == element)
+            {
+                this.removeAtIndex(i);
+                return;
+            }
+        }
+        throw new ConcurrentModificationException();
+    }
+}
@@ -0,0 +1,22 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * This package contains implementations of the {@link com.gs.collections.api.heap.MutableHeap} interface.
+ * <p>
+ *     {@link com.gs.collections.impl.heap.mutable.BinaryHeap} keeps its elements in an array as an implicit binary heap, ordered by a {@link java.util.Comparator} or by the natural order of the elements.
+ */
+package com.gs.collections.impl.heap.mutable;
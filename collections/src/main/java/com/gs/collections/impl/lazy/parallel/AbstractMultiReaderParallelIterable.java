@@ -19,16 +19,28 @@ package com.gs.collections.impl.lazy.parallel;
 import java.util.Comparator;
 import java.util.concurrent.locks.ReadWriteLock;
 
+import com.gs.collections.api.ParallelBooleanIterable;
+import com.gs.collections.api.ParallelByteIterable;
+import com.gs.collections.api.ParallelCharIterable;
+import com.gs.collections.api.ParallelDoubleIterable;
+import com.gs.collections.api.ParallelFloatIterable;
+import com.gs.collections.api.ParallelIntIterable;
 import com.gs.collections.api.ParallelIterable;
+import com.gs.collections.api.ParallelLongIterable;
+import com.gs.collections.api.ParallelShortIterable;
 import com.gs.collections.api.bag.MutableBag;
 import com.gs.collections.api.bag.sorted.MutableSortedBag;
 import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.function.Function0;
 import com.gs.collections.api.block.function.Function2;
+import com.gs.collections.api.block.function.primitive.BooleanFunction;
+import com.gs.collections.api.block.function.primitive.ByteFunction;
+import com.gs.collections.api.block.function.primitive.CharFunction;
 import com.gs.collections.api.block.function.primitive.DoubleFunction;
 import com.gs.collections.api.block.function.primitive.FloatFunction;
 import com.gs.collections.api.block.function.primitive.IntFunction;
 import com.gs.collections.api.block.function.primitive.LongFunction;
+import com.gs.collections.api.block.function.primitive.ShortFunction;
 import com.gs.collections.api.block.predicate.Predicate;
 import com.gs.collections.api.block.predicate.Predicate2;
 import com.gs.collections.api.block.procedure.Procedure;
@@ -42,6 +54,14 @@ import com.gs.collections.api.set.MutableSet;
 import com.gs.collections.api.set.ParallelUnsortedSetIterable;
 import com.gs.collections.api.set.sorted.MutableSortedSet;
 import com.gs.collections.impl.lazy.parallel.list.MultiReaderParallelListIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.MultiReaderParallelBooleanIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.MultiReaderParallelByteIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.MultiReaderParallelCharIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.MultiReaderParallelDoubleIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.MultiReaderParallelFloatIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.MultiReaderParallelIntIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.MultiReaderParallelLongIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.MultiReaderParallelShortIterable;
 import com.gs.collections.impl.lazy.parallel.set.MultiReaderParallelUnsortedSetIterable;
 
 public abstract class AbstractMultiReaderParallelIterable<T, PI extends ParallelIterable<T>> implements ParallelIterable<T>
@@ -70,6 +90,46 @@ public abstract class AbstractMultiReaderParallelIterable<T, PI extends Parallel
         return new MultiReaderParallelIterable<A>(wrapped, this.lock);
     }
 
+    public ParallelBooleanIterable collectBoolean(BooleanFunction<? super T> booleanFunction)
+    {
+        return new MultiReaderParallelBooleanIterable(this.delegate.collectBoolean(booleanFunction), this.lock);
+    }
+
+    public ParallelByteIterable collectByte(ByteFunction<? super T> byteFunction)
+    {
+        return new MultiReaderParallelByteIterable(this.delegate.collectByte(byteFunction), this.lock);
+    }
+
+    public ParallelCharIterable collectChar(CharFunction<? super T> charFunction)
+    {
+        return new MultiReaderParallelCharIterable(this.delegate.collectChar(charFunction), this.lock);
+    }
+
+    public ParallelDoubleIterable collectDouble(DoubleFunction<? super T> doubleFunction)
+    {
+        return new MultiReaderParallelDoubleIterable(this.delegate.collectDouble(doubleFunction), this.lock);
+    }
+
+    public ParallelFloatIterable collectFloat(FloatFunction<? super T> floatFunction)
+    {
+        return new MultiReaderParallelFloatIterable(this.delegate.collectFloat(floatFunction), this.lock);
+    }
+
+    public ParallelIntIterable collectInt(IntFunction<? super T> intFunction)
+    {
+        return new MultiReaderParallelIntIterable(this.delegate.collectInt(intFunction), this.lock);
+    }
+
+    public ParallelLongIterable collectLong(LongFunction<? super T> longFunction)
+    {
+        return new MultiReaderParallelLongIterable(this.delegate.collectLong(longFunction), this.lock);
+    }
+
+    public ParallelShortIterable collectShort(ShortFunction<? super T> shortFunction)
+    {
+        return new MultiReaderParallelShortIterable(this.delegate.collectShort(shortFunction), this.lock);
+    }
+
     public void forEach(Procedure<? super T> procedure)
     {
         this.lock.readLock().lock();
@@ -304,6 +364,58 @@ public abstract class AbstractMultiReaderParallelIterable<T, PI extends Parallel
         }
     }
 
+    public MutableList<T> topK(int k, Comparator<? super T> comparator)
+    {
+        this.lock.readLock().lock();
+        try
+        {
+            return this.delegate.topK(k, comparator);
+        }
+        finally
+        {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    public MutableList<T> bottomK(int k, Comparator<? super T> comparator)
+    {
+        this.lock.readLock().lock();
+        try
+        {
+            return this.delegate.bottomK(k, comparator);
+        }
+        finally
+        {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> topKBy(int k, Function<? super T, ? extends V> function)
+    {
+        this.lock.readLock().lock();
+        try
+        {
+            return this.delegate.topKBy(k, function);
+        }
+        finally
+        {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> bottomKBy(int k, Function<? super T, ? extends V> function)
+    {
+        this.lock.readLock().lock();
+        try
+        {
+            return this.delegate.bottomKBy(k, function);
+        }
+        finally
+        {
+            this.lock.readLock().unlock();
+        }
+    }
+
     public MutableSet<T> toSet()
     {
         this.lock.readLock().lock();
@@ -29,17 +29,29 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 
 import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.ParallelBooleanIterable;
+import com.gs.collections.api.ParallelByteIterable;
+import com.gs.collections.api.ParallelCharIterable;
+import com.gs.collections.api.ParallelDoubleIterable;
+import com.gs.collections.api.ParallelFloatIterable;
+import com.gs.collections.api.ParallelIntIterable;
 import com.gs.collections.api.ParallelIterable;
+import com.gs.collections.api.ParallelLongIterable;
+import com.gs.collections.api.ParallelShortIterable;
 import com.gs.collections.api.annotation.Beta;
 import com.gs.collections.api.bag.MutableBag;
 import com.gs.collections.api.bag.sorted.MutableSortedBag;
 import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.function.Function0;
 import com.gs.collections.api.block.function.Function2;
+import com.gs.collections.api.block.function.primitive.BooleanFunction;
+import com.gs.collections.api.block.function.primitive.ByteFunction;
+import com.gs.collections.api.block.function.primitive.CharFunction;
 import com.gs.collections.api.block.function.primitive.DoubleFunction;
 import com.gs.collections.api.block.function.primitive.FloatFunction;
 import com.gs.collections.api.block.function.primitive.IntFunction;
 import com.gs.collections.api.block.function.primitive.LongFunction;
+import com.gs.collections.api.block.function.primitive.ShortFunction;
 import com.gs.collections.api.block.predicate.Predicate;
 import com.gs.collections.api.block.predicate.Predicate2;
 import com.gs.collections.api.block.procedure.Procedure;
@@ -62,7 +74,16 @@ import com.gs.collections.impl.block.procedure.DoubleSumResultHolder;
 import com.gs.collections.impl.block.procedure.MapCollectProcedure;
 import com.gs.collections.impl.block.procedure.MutatingAggregationProcedure;
 import com.gs.collections.impl.block.procedure.NonMutatingAggregationProcedure;
+import com.gs.collections.impl.block.procedure.TopKProcedure;
 import com.gs.collections.impl.block.procedure.checked.CheckedProcedure2;
+import com.gs.collections.impl.lazy.parallel.primitive.ParallelCollectBooleanIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.ParallelCollectByteIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.ParallelCollectCharIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.ParallelCollectDoubleIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.ParallelCollectFloatIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.ParallelCollectIntIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.ParallelCollectLongIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.ParallelCollectShortIterable;
 import com.gs.collections.impl.list.mutable.CompositeFastList;
 import com.gs.collections.impl.list.mutable.FastList;
 import com.gs.collections.impl.map.mutable.ConcurrentHashMap;
@@ -78,6 +99,19 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
 {
     protected static <T> void forEach(final AbstractParallelIterable<T, ? extends RootBatch<T>> parallelIterable, final Procedure<? super T> procedure)
     {
+        if (parallelIterable.getExecutorService() instanceof BatchExecutorService)
+        {
+            BatchExecutorService batchExecutorService = (BatchExecutorService) parallelIterable.getExecutorService();
+            batchExecutorService.collectBatches(parallelIterable.split().toList(), new Function<RootBatch<T>, Object>()
+            {
+                public Object valueOf(RootBatch<T> chunk)
+                {
+                    chunk.forEach(procedure);
+                    return null;
+                }
+            });
+            return;
+        }
         LazyIterable<Future<?>> futures = parallelIterable.split().collect(new Function<RootBatch<T>, Future<?>>()
         {
             public Future<?> valueOf(final RootBatch<T> chunk)
@@ -113,6 +147,17 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
 
     protected static <T> boolean anySatisfy(AbstractParallelIterable<T, ? extends RootBatch<T>> parallelIterable, final Predicate<? super T> predicate)
     {
+        if (parallelIterable.getExecutorService() instanceof BatchExecutorService)
+        {
+            BatchExecutorService batchExecutorService = (BatchExecutorService) parallelIterable.getExecutorService();
+            return batchExecutorService.detectBatch(parallelIterable.split().toList(), new Function<RootBatch<T>, Boolean>()
+            {
+                public Boolean valueOf(RootBatch<T> batch)
+                {
+                    return batch.anySatisfy(predicate) ? Boolean.TRUE : null;
+                }
+            }) != null;
+        }
         final CompletionService<Boolean> completionService = new ExecutorCompletionService<Boolean>(parallelIterable.getExecutorService());
         MutableSet<Future<Boolean>> futures = parallelIterable.split().collect(new Function<RootBatch<T>, Future<Boolean>>()
         {
@@ -158,6 +203,17 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
 
     protected static <T> boolean allSatisfy(AbstractParallelIterable<T, ? extends RootBatch<T>> parallelIterable, final Predicate<? super T> predicate)
     {
+        if (parallelIterable.getExecutorService() instanceof BatchExecutorService)
+        {
+            BatchExecutorService batchExecutorService = (BatchExecutorService) parallelIterable.getExecutorService();
+            return batchExecutorService.detectBatch(parallelIterable.split().toList(), new Function<RootBatch<T>, Boolean>()
+            {
+                public Boolean valueOf(RootBatch<T> batch)
+                {
+                    return batch.allSatisfy(predicate) ? null : Boolean.FALSE;
+                }
+            }) == null;
+        }
         final CompletionService<Boolean> completionService = new ExecutorCompletionService<Boolean>(parallelIterable.getExecutorService());
         MutableSet<Future<Boolean>> futures = parallelIterable.split().collect(new Function<RootBatch<T>, Future<Boolean>>()
         {
@@ -203,6 +259,17 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
 
     protected static <T> T detect(final AbstractParallelIterable<T, ? extends RootBatch<T>> parallelIterable, final Predicate<? super T> predicate)
     {
+        if (parallelIterable.getExecutorService() instanceof BatchExecutorService)
+        {
+            BatchExecutorService batchExecutorService = (BatchExecutorService) parallelIterable.getExecutorService();
+            return batchExecutorService.detectBatch(parallelIterable.split().toList(), new Function<RootBatch<T>, T>()
+            {
+                public T valueOf(RootBatch<T> batch)
+                {
+                    return batch.detect(predicate);
+                }
+            });
+        }
         LazyIterable<? extends RootBatch<T>> chunks = parallelIterable.split();
         LazyIterable<Future<T>> futures = chunks.collect(new Function<RootBatch<T>, Future<T>>()
         {
@@ -256,7 +323,16 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
 
     protected <S, V> void collectCombine(Function<Batch<T>, V> function, Procedure2<S, V> combineProcedure, S state)
     {
-        if (this.isOrdered())
+        if (this.getExecutorService() instanceof BatchExecutorService)
+        {
+            BatchExecutorService batchExecutorService = (BatchExecutorService) this.getExecutorService();
+            MutableList<V> results = batchExecutorService.collectBatches(this.split().toList(), function);
+            for (int i = 0; i < results.size(); i++)
+            {
+                combineProcedure.value(state, results.get(i));
+            }
+        }
+        else if (this.isOrdered())
         {
             this.collectCombineOrdered(function, combineProcedure, state);
         }
@@ -351,11 +427,42 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
 
     private T collectReduce(Function<Batch<T>, T> map, Function2<T, T, T> function2)
     {
+        if (this.getExecutorService() instanceof BatchExecutorService)
+        {
+            return this.collectReduceBatches(map, function2);
+        }
         return this.isOrdered()
                 ? this.collectReduceOrdered(map, function2)
                 : this.collectReduceUnordered(map, function2);
     }
 
+    private T collectReduceBatches(Function<Batch<T>, T> map, Function2<T, T, T> function2)
+    {
+        BatchExecutorService batchExecutorService = (BatchExecutorService) this.getExecutorService();
+        MutableList<T> results = batchExecutorService.collectBatches(this.split().toList(), map);
+        T result = null;
+        for (int i = 0; i < results.size(); i++)
+        {
+            T next = results.get(i);
+            if (next != null)
+            {
+                if (result == null)
+                {
+                    result = next;
+                }
+                else
+                {
+                    result = function2.value(result, next);
+                }
+            }
+        }
+        if (result == null)
+        {
+            throw new NoSuchElementException();
+        }
+        return result;
+    }
+
     private T collectReduceOrdered(final Function<Batch<T>, T> map, Function2<T, T, T> function2)
     {
         LazyIterable<? extends Batch<T>> chunks = this.split();
@@ -480,6 +587,46 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
         }
     }
 
+    public ParallelBooleanIterable collectBoolean(BooleanFunction<? super T> booleanFunction)
+    {
+        return new ParallelCollectBooleanIterable<T>(this, booleanFunction, this.isOrdered());
+    }
+
+    public ParallelByteIterable collectByte(ByteFunction<? super T> byteFunction)
+    {
+        return new ParallelCollectByteIterable<T>(this, byteFunction, this.isOrdered());
+    }
+
+    public ParallelCharIterable collectChar(CharFunction<? super T> charFunction)
+    {
+        return new ParallelCollectCharIterable<T>(this, charFunction, this.isOrdered());
+    }
+
+    public ParallelDoubleIterable collectDouble(DoubleFunction<? super T> doubleFunction)
+    {
+        return new ParallelCollectDoubleIterable<T>(this, doubleFunction, this.isOrdered());
+    }
+
+    public ParallelFloatIterable collectFloat(FloatFunction<? super T> floatFunction)
+    {
+        return new ParallelCollectFloatIterable<T>(this, floatFunction, this.isOrdered());
+    }
+
+    public ParallelIntIterable collectInt(IntFunction<? super T> intFunction)
+    {
+        return new ParallelCollectIntIterable<T>(this, intFunction, this.isOrdered());
+    }
+
+    public ParallelLongIterable collectLong(LongFunction<? super T> longFunction)
+    {
+        return new ParallelCollectLongIterable<T>(this, longFunction, this.isOrdered());
+    }
+
+    public ParallelShortIterable collectShort(ShortFunction<? super T> shortFunction)
+    {
+        return new ParallelCollectShortIterable<T>(this, shortFunction, this.isOrdered());
+    }
+
     @Override
     public String toString()
     {
@@ -645,6 +792,44 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
         return this.toSortedList(Comparators.byFunction(function));
     }
 
+    public MutableList<T> topK(final int k, final Comparator<? super T> comparator)
+    {
+        TopKProcedure<T> state = new TopKProcedure<T>(k, comparator);
+        Function<Batch<T>, TopKProcedure<T>> map = new Function<Batch<T>, TopKProcedure<T>>()
+        {
+            public TopKProcedure<T> valueOf(Batch<T> batch)
+            {
+                TopKProcedure<T> procedure = new TopKProcedure<T>(k, comparator);
+                batch.forEach(procedure);
+                return procedure;
+            }
+        };
+        Procedure2<TopKProcedure<T>, TopKProcedure<T>> combineProcedure = new Procedure2<TopKProcedure<T>, TopKProcedure<T>>()
+        {
+            public void value(TopKProcedure<T> result, TopKProcedure<T> batchResult)
+            {
+                result.addAll(batchResult);
+            }
+        };
+        this.collectCombine(map, combineProcedure, state);
+        return state.getResult();
+    }
+
+    public MutableList<T> bottomK(int k, Comparator<? super T> comparator)
+    {
+        return this.topK(k, Collections.reverseOrder(comparator));
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> topKBy(int k, Function<? super T, ? extends V> function)
+    {
+        return this.topK(k, Comparators.byFunction(function));
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> bottomKBy(int k, Function<? super T, ? extends V> function)
+    {
+        return this.bottomK(k, Comparators.byFunction(function));
+    }
+
     public MutableSet<T> toSet()
     {
         ConcurrentHashMapUnsafe<T, Boolean> map = ConcurrentHashMapUnsafe.newMap();
@@ -18,16 +18,28 @@ package com.gs.collections.impl.lazy.parallel;
 
 import java.util.Comparator;
 
+import com.gs.collections.api.ParallelBooleanIterable;
+import com.gs.collections.api.ParallelByteIterable;
+import com.gs.collections.api.ParallelCharIterable;
+import com.gs.collections.api.ParallelDoubleIterable;
+import com.gs.collections.api.ParallelFloatIterable;
+import com.gs.collections.api.ParallelIntIterable;
 import com.gs.collections.api.ParallelIterable;
+import com.gs.collections.api.ParallelLongIterable;
+import com.gs.collections.api.ParallelShortIterable;
 import com.gs.collections.api.bag.MutableBag;
 import com.gs.collections.api.bag.sorted.MutableSortedBag;
 import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.function.Function0;
 import com.gs.collections.api.block.function.Function2;
+import com.gs.collections.api.block.function.primitive.BooleanFunction;
+import com.gs.collections.api.block.function.primitive.ByteFunction;
+import com.gs.collections.api.block.function.primitive.CharFunction;
 import com.gs.collections.api.block.function.primitive.DoubleFunction;
 import com.gs.collections.api.block.function.primitive.FloatFunction;
 import com.gs.collections.api.block.function.primitive.IntFunction;
 import com.gs.collections.api.block.function.primitive.LongFunction;
+import com.gs.collections.api.block.function.primitive.ShortFunction;
 import com.gs.collections.api.block.predicate.Predicate;
 import com.gs.collections.api.block.predicate.Predicate2;
 import com.gs.collections.api.block.procedure.Procedure;
@@ -42,6 +54,14 @@ import com.gs.collections.api.set.ParallelUnsortedSetIterable;
 import com.gs.collections.api.set.sorted.MutableSortedSet;
 import com.gs.collections.api.set.sorted.ParallelSortedSetIterable;
 import com.gs.collections.impl.lazy.parallel.list.SynchronizedParallelListIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.SynchronizedParallelBooleanIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.SynchronizedParallelByteIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.SynchronizedParallelCharIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.SynchronizedParallelDoubleIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.SynchronizedParallelFloatIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.SynchronizedParallelIntIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.SynchronizedParallelLongIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.SynchronizedParallelShortIterable;
 import com.gs.collections.impl.lazy.parallel.set.SynchronizedParallelUnsortedSetIterable;
 import com.gs.collections.impl.lazy.parallel.set.sorted.SynchronizedParallelSortedSetIterable;
 
@@ -76,6 +96,46 @@ public abstract class AbstractSynchronizedParallelIterable<T, PI extends Paralle
         return new SynchronizedParallelIterable<A>(wrapped, this.lock);
     }
 
+    public ParallelBooleanIterable collectBoolean(BooleanFunction<? super T> booleanFunction)
+    {
+        return new SynchronizedParallelBooleanIterable(this.delegate.collectBoolean(booleanFunction), this.lock);
+    }
+
+    public ParallelByteIterable collectByte(ByteFunction<? super T> byteFunction)
+    {
+        return new SynchronizedParallelByteIterable(this.delegate.collectByte(byteFunction), this.lock);
+    }
+
+    public ParallelCharIterable collectChar(CharFunction<? super T> charFunction)
+    {
+        return new SynchronizedParallelCharIterable(this.delegate.collectChar(charFunction), this.lock);
+    }
+
+    public ParallelDoubleIterable collectDouble(DoubleFunction<? super T> doubleFunction)
+    {
+        return new SynchronizedParallelDoubleIterable(this.delegate.collectDouble(doubleFunction), this.lock);
+    }
+
+    public ParallelFloatIterable collectFloat(FloatFunction<? super T> floatFunction)
+    {
+        return new SynchronizedParallelFloatIterable(this.delegate.collectFloat(floatFunction), this.lock);
+    }
+
+    public ParallelIntIterable collectInt(IntFunction<? super T> intFunction)
+    {
+        return new SynchronizedParallelIntIterable(this.delegate.collectInt(intFunction), this.lock);
+    }
+
+    public ParallelLongIterable collectLong(LongFunction<? super T> longFunction)
+    {
+        return new SynchronizedParallelLongIterable(this.delegate.collectLong(longFunction), this.lock);
+    }
+
+    public ParallelShortIterable collectShort(ShortFunction<? super T> shortFunction)
+    {
+        return new SynchronizedParallelShortIterable(this.delegate.collectShort(shortFunction), this.lock);
+    }
+
     public void forEach(Procedure<? super T> procedure)
     {
         synchronized (this.lock)
@@ -220,6 +280,38 @@ public abstract class AbstractSynchronizedParallelIterable<T, PI extends Paralle
         }
     }
 
+    public MutableList<T> topK(int k, Comparator<? super T> comparator)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.topK(k, comparator);
+        }
+    }
+
+    public MutableList<T> bottomK(int k, Comparator<? super T> comparator)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.bottomK(k, comparator);
+        }
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> topKBy(int k, Function<? super T, ? extends V> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.topKBy(k, function);
+        }
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> bottomKBy(int k, Function<? super T, ? extends V> function)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.bottomKBy(k, function);
+        }
+    }
+
     public MutableSet<T> toSet()
     {
         synchronized (this.lock)
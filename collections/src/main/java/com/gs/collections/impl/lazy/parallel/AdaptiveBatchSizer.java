@@ -0,0 +1,138 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy.parallel;
+
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.list.primitive.ImmutableIntList;
+import com.gs.collections.impl.factory.primitive.IntLists;
+
+/**
+ * Chooses batch sizes for a parallel iterable from the observed cost of processing its elements, instead of relying
+ * on a fixed batch size picked by the caller. Each operation on the parallel iterable first hands out a few small
+ * sample batches, then sizes the remaining batches so that each one takes roughly the target duration, refining the
+ * estimate as more batches complete.
+ * <p>
+ * The batch sizes chosen for the most recently completed split are available from {@link #getLastBatchSizes()}.
+ *
+ * @since 7.1
+ */
+@Beta
+public final class AdaptiveBatchSizer
+{
+    public static final long DEFAULT_TARGET_BATCH_MICROSECONDS = 1000L;
+    public static final int DEFAULT_SAMPLE_BATCH_SIZE = 128;
+    public static final int DEFAULT_SAMPLE_BATCH_COUNT = 4;
+
+    private final long targetBatchNanos;
+    private final int sampleBatchSize;
+    private final int sampleBatchCount;
+    private final int maxBatchSize;
+
+    private volatile ImmutableIntList lastBatchSizes = IntLists.immutable.empty();
+
+    public AdaptiveBatchSizer()
+    {
+        this(DEFAULT_TARGET_BATCH_MICROSECONDS, TimeUnit.MICROSECONDS);
+    }
+
+    public AdaptiveBatchSizer(long targetBatchDuration, TimeUnit unit)
+    {
+        this(targetBatchDuration, unit, DEFAULT_SAMPLE_BATCH_SIZE, DEFAULT_SAMPLE_BATCH_COUNT, Integer.MAX_VALUE);
+    }
+
+    public AdaptiveBatchSizer(long targetBatchDuration, TimeUnit unit, int sampleBatchSize, int sampleBatchCount, int maxBatchSize)
+    {
+        if (targetBatchDuration < 1L)
+        {
+            throw new IllegalArgumentException("Target batch duration must be positive but was " + targetBatchDuration);
+        }
+        if (sampleBatchSize < 1)
+        {
+            throw new IllegalArgumentException("Sample batch size must be positive but was " + sampleBatchSize);
+        }
+        if (sampleBatchCount < 1)
+        {
+            throw new IllegalArgumentException("Sample batch count must be positive but was " + sampleBatchCount);
+        }
+        if (maxBatchSize < sampleBatchSize)
+        {
+            throw new IllegalArgumentException("Max batch size " + maxBatchSize + " is smaller than sample batch size " + sampleBatchSize);
+        }
+        this.targetBatchNanos = unit.toNanos(targetBatchDuration);
+        this.sampleBatchSize = sampleBatchSize;
+        this.sampleBatchCount = sampleBatchCount;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public long getTargetBatchNanos()
+    {
+        return this.targetBatchNanos;
+    }
+
+    public int getSampleBatchSize()
+    {
+        return this.sampleBatchSize;
+    }
+
+    public int getSampleBatchCount()
+    {
+        return this.sampleBatchCount;
+    }
+
+    public int getMaxBatchSize()
+    {
+        return this.maxBatchSize;
+    }
+
+    /**
+     * Returns the sizes of the batches handed out by the most recent split that ran to completion, in order.
+     */
+    public ImmutableIntList getLastBatchSizes()
+    {
+        return this.lastBatchSizes;
+    }
+
+    /**
+     * Starts sizing the batches of a new split. Each call to split() on a parallel iterable should use its own
+     * AdaptiveBatchSplit, since the cost per element depends on the operation being run.
+     */
+    public AdaptiveBatchSplit newSplit()
+    {
+        return new AdaptiveBatchSplit(this);
+    }
+
+    int batchSizeFor(long sampledElements, long sampledNanos)
+    {
+        if (sampledElements == 0L)
+        {
+            return this.sampleBatchSize;
+        }
+        if (sampledNanos == 0L)
+        {
+            return this.maxBatchSize;
+        }
+        double batchSize = (double) this.targetBatchNanos * sampledElements / sampledNanos;
+        return (int) Math.max(1.0, Math.min(batchSize, this.maxBatchSize));
+    }
+
+    void splitCompleted(ImmutableIntList batchSizes)
+    {
+        this.lastBatchSizes = batchSizes;
+    }
+}
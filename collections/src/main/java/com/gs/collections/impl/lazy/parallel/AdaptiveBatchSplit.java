@@ -0,0 +1,119 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy.parallel;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.list.primitive.MutableIntList;
+import com.gs.collections.impl.list.mutable.primitive.IntArrayList;
+
+/**
+ * The batch sizes for one split of a parallel iterable using an {@link AdaptiveBatchSizer}. The splitting thread
+ * calls {@link #nextBatchSize(int)} for each batch it creates, and the batches report how long they took through
+ * {@link #batchStarted()} and {@link #batchCompleted(int, long)} from whichever thread runs them.
+ * <p>
+ * After the sample batches have been handed out, the first call to nextBatchSize waits for one of them to complete,
+ * but never longer than the target batch duration. A sample batch that has not finished by then is already at least
+ * as expensive as the target, so the sample batch size is used until better estimates arrive. If no sample batch has
+ * even started, for example because the batches are all collected before any run, nextBatchSize does not wait at all.
+ *
+ * @since 7.1
+ */
+@Beta
+public final class AdaptiveBatchSplit
+{
+    private final AdaptiveBatchSizer sizer;
+    private final MutableIntList batchSizes = new IntArrayList();
+    private final AtomicInteger startedBatches = new AtomicInteger();
+    private final CountDownLatch firstCompletedBatch = new CountDownLatch(1);
+    private boolean waitedForSample;
+    private long sampledElements;
+    private long sampledNanos;
+
+    AdaptiveBatchSplit(AdaptiveBatchSizer sizer)
+    {
+        this.sizer = sizer;
+    }
+
+    /**
+     * Returns the size of the next batch, which is never more than the number of remaining elements.
+     */
+    public int nextBatchSize(int remaining)
+    {
+        if (remaining < 1)
+        {
+            throw new IllegalArgumentException("No elements remaining");
+        }
+        int batchSize = this.batchSizes.size() < this.sizer.getSampleBatchCount()
+                ? this.sizer.getSampleBatchSize()
+                : this.estimateBatchSize();
+        batchSize = Math.min(batchSize, remaining);
+        this.batchSizes.add(batchSize);
+        if (batchSize == remaining)
+        {
+            this.sizer.splitCompleted(this.batchSizes.toImmutable());
+        }
+        return batchSize;
+    }
+
+    private int estimateBatchSize()
+    {
+        if (!this.waitedForSample && this.startedBatches.get() > 0)
+        {
+            this.waitedForSample = true;
+            try
+            {
+                this.firstCompletedBatch.await(this.sizer.getTargetBatchNanos(), TimeUnit.NANOSECONDS);
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+            }
+        }
+        synchronized (this)
+        {
+            return this.sizer.batchSizeFor(this.sampledElements, this.sampledNanos);
+        }
+    }
+
+    /**
+     * Called by a batch before it processes its elements. Returns the start time to pass to batchCompleted.
+     */
+    public long batchStarted()
+    {
+        this.startedBatches.incrementAndGet();
+        return System.nanoTime();
+    }
+
+    /**
+     * Called by a batch which processed all of its elements. Batches which stop early, like a detect which found a
+     * match, should not report their time since it says nothing about the cost of their remaining elements.
+     */
+    public void batchCompleted(int elements, long startNanos)
+    {
+        long elapsedNanos = System.nanoTime() - startNanos;
+        synchronized (this)
+        {
+            this.sampledElements += elements;
+            this.sampledNanos += elapsedNanos;
+        }
+        this.firstCompletedBatch.countDown();
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy.parallel;
+
+import java.util.concurrent.ExecutorService;
+
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.list.ListIterable;
+import com.gs.collections.api.list.MutableList;
+
+/**
+ * An ExecutorService which schedules all of the batches of a parallel iterable at once, rather than having one task
+ * submitted per batch. When a parallel iterable is created with a BatchExecutorService, operations like forEach,
+ * anySatisfy, detect and the aggregations hand their batches to it and let it decide how to split the work across
+ * threads, for example by recursive splitting and work-stealing.
+ *
+ * @since 7.1
+ */
+@Beta
+public interface BatchExecutorService extends ExecutorService
+{
+    /**
+     * Applies the function to each batch and returns the results in the same order as the batches.
+     */
+    <B, V> MutableList<V> collectBatches(ListIterable<B> batches, Function<? super B, ? extends V> function);
+
+    /**
+     * Applies the function to the batches and returns the first non-null result in batch order, or null if the
+     * function returns null for every batch. Batches after one with a non-null result may be skipped.
+     */
+    <B, V> V detectBatch(ListIterable<B> batches, Function<? super B, ? extends V> function);
+}
@@ -18,17 +18,29 @@ package com.gs.collections.impl.lazy.parallel;
 
 import java.util.Comparator;
 
+import com.gs.collections.api.ParallelBooleanIterable;
+import com.gs.collections.api.ParallelByteIterable;
+import com.gs.collections.api.ParallelCharIterable;
+import com.gs.collections.api.ParallelDoubleIterable;
+import com.gs.collections.api.ParallelFloatIterable;
+import com.gs.collections.api.ParallelIntIterable;
 import com.gs.collections.api.ParallelIterable;
+import com.gs.collections.api.ParallelLongIterable;
+import com.gs.collections.api.ParallelShortIterable;
 import com.gs.collections.api.RichIterable;
 import com.gs.collections.api.bag.MutableBag;
 import com.gs.collections.api.bag.sorted.MutableSortedBag;
 import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.function.Function0;
 import com.gs.collections.api.block.function.Function2;
+import com.gs.collections.api.block.function.primitive.BooleanFunction;
+import com.gs.collections.api.block.function.primitive.ByteFunction;
+import com.gs.collections.api.block.function.primitive.CharFunction;
 import com.gs.collections.api.block.function.primitive.DoubleFunction;
 import com.gs.collections.api.block.function.primitive.FloatFunction;
 import com.gs.collections.api.block.function.primitive.IntFunction;
 import com.gs.collections.api.block.function.primitive.LongFunction;
+import com.gs.collections.api.block.function.primitive.ShortFunction;
 import com.gs.collections.api.block.predicate.Predicate;
 import com.gs.collections.api.block.predicate.Predicate2;
 import com.gs.collections.api.block.procedure.Procedure;
@@ -39,6 +51,14 @@ import com.gs.collections.api.map.MutableMap;
 import com.gs.collections.api.map.sorted.MutableSortedMap;
 import com.gs.collections.api.set.MutableSet;
 import com.gs.collections.api.set.sorted.MutableSortedSet;
+import com.gs.collections.impl.lazy.parallel.primitive.NonParallelBooleanIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.NonParallelByteIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.NonParallelCharIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.NonParallelDoubleIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.NonParallelFloatIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.NonParallelIntIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.NonParallelLongIterable;
+import com.gs.collections.impl.lazy.parallel.primitive.NonParallelShortIterable;
 
 public abstract class NonParallelIterable<T, RI extends RichIterable<T>> implements ParallelIterable<T>
 {
@@ -49,6 +69,46 @@ public abstract class NonParallelIterable<T, RI extends RichIterable<T>> impleme
         this.delegate = delegate;
     }
 
+    public ParallelBooleanIterable collectBoolean(BooleanFunction<? super T> booleanFunction)
+    {
+        return new NonParallelBooleanIterable(this.delegate.collectBoolean(booleanFunction));
+    }
+
+    public ParallelByteIterable collectByte(ByteFunction<? super T> byteFunction)
+    {
+        return new NonParallelByteIterable(this.delegate.collectByte(byteFunction));
+    }
+
+    public ParallelCharIterable collectChar(CharFunction<? super T> charFunction)
+    {
+        return new NonParallelCharIterable(this.delegate.collectChar(charFunction));
+    }
+
+    public ParallelDoubleIterable collectDouble(DoubleFunction<? super T> doubleFunction)
+    {
+        return new NonParallelDoubleIterable(this.delegate.collectDouble(doubleFunction));
+    }
+
+    public ParallelFloatIterable collectFloat(FloatFunction<? super T> floatFunction)
+    {
+        return new NonParallelFloatIterable(this.delegate.collectFloat(floatFunction));
+    }
+
+    public ParallelIntIterable collectInt(IntFunction<? super T> intFunction)
+    {
+        return new NonParallelIntIterable(this.delegate.collectInt(intFunction));
+    }
+
+    public ParallelLongIterable collectLong(LongFunction<? super T> longFunction)
+    {
+        return new NonParallelLongIterable(this.delegate.collectLong(longFunction));
+    }
+
+    public ParallelShortIterable collectShort(ShortFunction<? super T> shortFunction)
+    {
+        return new NonParallelShortIterable(this.delegate.collectShort(shortFunction));
+    }
+
     public void forEach(Procedure<? super T> procedure)
     {
         this.delegate.forEach(procedure);
@@ -139,6 +199,26 @@ public abstract class NonParallelIterable<T, RI extends RichIterable<T>> impleme
         return this.delegate.toSortedListBy(function);
     }
 
+    public MutableList<T> topK(int k, Comparator<? super T> comparator)
+    {
+        return this.delegate.topK(k, comparator);
+    }
+
+    public MutableList<T> bottomK(int k, Comparator<? super T> comparator)
+    {
+        return this.delegate.bottomK(k, comparator);
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> topKBy(int k, Function<? super T, ? extends V> function)
+    {
+        return this.delegate.topKBy(k, function);
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> bottomKBy(int k, Function<? super T, ? extends V> function)
+    {
+        return this.delegate.bottomKBy(k, function);
+    }
+
     public MutableSet<T> toSet()
     {
         return this.delegate.toSet();
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy.parallel.list;
+
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.list.ListIterable;
+import com.gs.collections.impl.lazy.parallel.AdaptiveBatchSplit;
+
+/**
+ * A ListIterableBatch which reports how long it took to the {@link AdaptiveBatchSplit} that sized it.
+ *
+ * @since 7.1
+ */
+@Beta
+public class AdaptiveListIterableBatch<T> extends ListIterableBatch<T>
+{
+    private final AdaptiveBatchSplit split;
+    private final int size;
+
+    public AdaptiveListIterableBatch(ListIterable<T> list, int chunkStartIndex, int chunkEndIndex, AdaptiveBatchSplit split)
+    {
+        super(list, chunkStartIndex, chunkEndIndex);
+        this.split = split;
+        this.size = chunkEndIndex - chunkStartIndex;
+    }
+
+    @Override
+    public void forEach(Procedure<? super T> procedure)
+    {
+        long startNanos = this.split.batchStarted();
+        super.forEach(procedure);
+        this.split.batchCompleted(this.size, startNanos);
+    }
+
+    @Override
+    public int count(Predicate<? super T> predicate)
+    {
+        long startNanos = this.split.batchStarted();
+        int count = super.count(predicate);
+        this.split.batchCompleted(this.size, startNanos);
+        return count;
+    }
+
+    @Override
+    public boolean anySatisfy(Predicate<? super T> predicate)
+    {
+        long startNanos = this.split.batchStarted();
+        boolean result = super.anySatisfy(predicate);
+        if (!result)
+        {
+            this.split.batchCompleted(this.size, startNanos);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean allSatisfy(Predicate<? super T> predicate)
+    {
+        long startNanos = this.split.batchStarted();
+        boolean result = super.allSatisfy(predicate);
+        if (result)
+        {
+            this.split.batchCompleted(this.size, startNanos);
+        }
+        return result;
+    }
+
+    @Override
+    public T detect(Predicate<? super T> predicate)
+    {
+        long startNanos = this.split.batchStarted();
+        T result = super.detect(predicate);
+        if (result == null)
+        {
+            this.split.batchCompleted(this.size, startNanos);
+        }
+        return result;
+    }
+}
@@ -31,6 +31,8 @@ import com.gs.collections.api.map.MapIterable;
 import com.gs.collections.api.multimap.list.ListMultimap;
 import com.gs.collections.impl.lazy.AbstractLazyIterable;
 import com.gs.collections.impl.lazy.parallel.AbstractParallelIterable;
+import com.gs.collections.impl.lazy.parallel.AdaptiveBatchSizer;
+import com.gs.collections.impl.lazy.parallel.AdaptiveBatchSplit;
 
 @Beta
 public final class ListIterableParallelIterable<T> extends AbstractParallelListIterable<T, RootListBatch<T>>
@@ -38,8 +40,25 @@ public final class ListIterableParallelIterable<T> extends AbstractParallelListI
     private final ListIterable<T> delegate;
     private final ExecutorService executorService;
     private final int batchSize;
+    private final AdaptiveBatchSizer batchSizer;
 
     public ListIterableParallelIterable(ListIterable<T> delegate, ExecutorService executorService, int batchSize)
+    {
+        this(delegate, executorService, batchSize, null);
+    }
+
+    /**
+     * Creates a parallel iterable whose batch sizes are chosen by the batchSizer from the observed cost of each
+     * operation, instead of being fixed.
+     *
+     * @since 7.1
+     */
+    public ListIterableParallelIterable(ListIterable<T> delegate, ExecutorService executorService, AdaptiveBatchSizer batchSizer)
+    {
+        this(delegate, executorService, batchSizer.getSampleBatchSize(), batchSizer);
+    }
+
+    private ListIterableParallelIterable(ListIterable<T> delegate, ExecutorService executorService, int batchSize, AdaptiveBatchSizer batchSizer)
     {
         if (executorService == null)
         {
@@ -56,6 +75,7 @@ public final class ListIterableParallelIterable<T> extends AbstractParallelListI
         this.delegate = delegate;
         this.executorService = executorService;
         this.batchSize = batchSize;
+        this.batchSizer = batchSizer;
     }
 
     @Override
@@ -136,6 +156,17 @@ public final class ListIterableParallelIterable<T> extends AbstractParallelListI
         return this.batchSize;
     }
 
+    /**
+     * Returns the AdaptiveBatchSizer choosing the batch sizes of this parallel iterable, or null if it uses a fixed
+     * batch size.
+     *
+     * @since 7.1
+     */
+    public AdaptiveBatchSizer getBatchSizer()
+    {
+        return this.batchSizer;
+    }
+
     private class ListIterableParallelBatchIterator implements Iterator<RootListBatch<T>>
     {
         protected int chunkIndex;
@@ -160,6 +191,31 @@ public final class ListIterableParallelIterable<T> extends AbstractParallelListI
         }
     }
 
+    private class AdaptiveListIterableParallelBatchIterator implements Iterator<RootListBatch<T>>
+    {
+        private final AdaptiveBatchSplit split = ListIterableParallelIterable.this.batchSizer.newSplit();
+        private int chunkStartIndex;
+
+        public boolean hasNext()
+        {
+            return this.chunkStartIndex < ListIterableParallelIterable.this.delegate.size();
+        }
+
+        public RootListBatch<T> next()
+        {
+            int chunkStartIndex = this.chunkStartIndex;
+            int remaining = ListIterableParallelIterable.this.delegate.size() - chunkStartIndex;
+            int chunkEndIndex = chunkStartIndex + this.split.nextBatchSize(remaining);
+            this.chunkStartIndex = chunkEndIndex;
+            return new AdaptiveListIterableBatch<T>(ListIterableParallelIterable.this.delegate, chunkStartIndex, chunkEndIndex, this.split);
+        }
+
+        public void remove()
+        {
+            throw new UnsupportedOperationException("Cannot call remove() on " + ListIterableParallelIterable.this.delegate.getClass().getSimpleName());
+        }
+    }
+
     private class ListIterableParallelBatchLazyIterable
             extends AbstractLazyIterable<RootListBatch<T>>
     {
@@ -173,6 +229,10 @@ public final class ListIterableParallelIterable<T> extends AbstractParallelListI
 
         public Iterator<RootListBatch<T>> iterator()
         {
+            if (ListIterableParallelIterable.this.batchSizer != null)
+            {
+                return new AdaptiveListIterableParallelBatchIterator();
+            }
             return new ListIterableParallelBatchIterator();
         }
     }
@@ -54,6 +54,14 @@ final class ImmutableArrayList<T>
         implements Serializable, RandomAccess, BatchIterable<T>
 {
     private static final long serialVersionUID = 1L;
+
+    /**
+     * newWith returns an {@link ImmutableTrieList} instead of copying the array once the result would be larger than
+     * this, so that building a list one element at a time does not copy it on every append. The factories never
+     * create tries. The value is the width of a trie node, below which the trie is just its tail array.
+     */
+    static final int TRIE_LIST_THRESHOLD = 32;
+
     private final T[] items;
 
     private ImmutableArrayList(T[] newElements)
@@ -81,6 +89,10 @@ final class ImmutableArrayList<T>
         T[] array = (T[]) new Object[oldSize + 1];
         this.toArray(array);
         array[oldSize] = newItem;
+        if (array.length > TRIE_LIST_THRESHOLD)
+        {
+            return ImmutableTrieList.newListWith(array);
+        }
         return new ImmutableArrayList<T>(array);
     }
 
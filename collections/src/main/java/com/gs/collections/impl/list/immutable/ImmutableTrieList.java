@@ -0,0 +1,469 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.gs.collections.impl.list.immutable;
+
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import com.gs.collections.api.list.ImmutableList;
+import com.gs.collections.impl.factory.Lists;
+import com.gs.collections.impl.parallel.BatchIterable;
+import net.jcip.annotations.Immutable;
+
+/**
+ * An ImmutableTrieList is a persistent vector: the elements are stored in the leaves of a tree with 32 children per
+ * node, and the last, partly filled leaf is kept aside as the tail. newWith copies only the tail, or the path from the
+ * root to the new leaf once every 32 elements, so building a list one element at a time is linear rather than
+ * quadratic. get and newWithItemAt follow the path to a leaf, which is O(log32 n). subList returns a view and
+ * newWithAll appends to a copy of the path, so both share the existing elements instead of copying them.
+ * <p>
+ * The factories in {@link com.gs.collections.impl.factory.Lists} never create this class. It is reached by appending:
+ * ImmutableList.newWith returns an ImmutableTrieList once a list built on an array grows past 32 elements. An
+ * ImmutableTrieList is serialized in the same form as an array-based ImmutableList and is read back as one.
+ *
+ * @since 7.1
+ */
+@Immutable
+public final class ImmutableTrieList<T>
+        extends AbstractImmutableList<T>
+        implements Serializable, RandomAccess, BatchIterable<T>
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+    private static final Object[] EMPTY_NODE = {};
+    private static final ImmutableTrieList<?> EMPTY = new ImmutableTrieList<Object>(0, BITS, EMPTY_NODE, EMPTY_NODE);
+
+    private final int size;
+    private final int shift;
+    private final Object[] root;
+    private final Object[] tail;
+
+    private ImmutableTrieList(int size, int shift, Object[] root, Object[] tail)
+    {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    public static <E> ImmutableTrieList<E> empty()
+    {
+        return (ImmutableTrieList<E>) EMPTY;
+    }
+
+    public static <E> ImmutableTrieList<E> newList(Iterable<? extends E> iterable)
+    {
+        if (iterable instanceof ImmutableTrieList)
+        {
+            return (ImmutableTrieList<E>) iterable;
+        }
+        Builder builder = new Builder(ImmutableTrieList.empty());
+        for (E each : iterable)
+        {
+            builder.add(each);
+        }
+        return builder.build();
+    }
+
+    public static <E> ImmutableTrieList<E> newListWith(E... elements)
+    {
+        Builder builder = new Builder(ImmutableTrieList.empty());
+        for (E each : elements)
+        {
+            builder.add(each);
+        }
+        return builder.build();
+    }
+
+    private int tailOffset()
+    {
+        return tailOffset(this.size);
+    }
+
+    private static int tailOffset(int size)
+    {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    private Object[] leafFor(int index)
+    {
+        if (index >= this.tailOffset())
+        {
+            return this.tail;
+        }
+        Object[] node = this.root;
+        for (int level = this.shift; level > 0; level -= BITS)
+        {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+        return node;
+    }
+
+    public T get(int index)
+    {
+        if (index < 0 || index >= this.size)
+        {
+            throw new IndexOutOfBoundsException("Index: " + index + " Size: " + this.size);
+        }
+        return (T) this.leafFor(index)[index & MASK];
+    }
+
+    public int size()
+    {
+        return this.size;
+    }
+
+    public ImmutableTrieList<T> newWith(T newItem)
+    {
+        int tailLength = this.size - this.tailOffset();
+        if (tailLength < WIDTH)
+        {
+            Object[] newTail = new Object[tailLength + 1];
+            System.arraycopy(this.tail, 0, newTail, 0, tailLength);
+            newTail[tailLength] = newItem;
+            return new ImmutableTrieList<T>(this.size + 1, this.shift, this.root, newTail);
+        }
+        Object[] newRoot;
+        int newShift = this.shift;
+        if ((this.size >>> BITS) > (1 << this.shift))
+        {
+            newRoot = new Object[]{this.root, newPath(this.shift, this.tail)};
+            newShift += BITS;
+        }
+        else
+        {
+            newRoot = pushTail(this.size, this.shift, this.root, this.tail);
+        }
+        return new ImmutableTrieList<T>(this.size + 1, newShift, newRoot, new Object[]{newItem});
+    }
+
+    /**
+     * Returns a copy of this list with the element at index replaced, copying only the path to its leaf.
+     */
+    public ImmutableTrieList<T> newWithItemAt(int index, T item)
+    {
+        if (index < 0 || index >= this.size)
+        {
+            throw new IndexOutOfBoundsException("Index: " + index + " Size: " + this.size);
+        }
+        if (index >= this.tailOffset())
+        {
+            Object[] newTail = this.tail.clone();
+            newTail[index & MASK] = item;
+            return new ImmutableTrieList<T>(this.size, this.shift, this.root, newTail);
+        }
+        return new ImmutableTrieList<T>(this.size, this.shift, assoc(this.shift, this.root, index, item), this.tail);
+    }
+
+    @Override
+    public ImmutableList<T> newWithAll(Iterable<? extends T> elements)
+    {
+        Builder builder = new Builder(this);
+        for (T each : elements)
+        {
+            builder.add(each);
+        }
+        return builder.build();
+    }
+
+    @Override
+    public ImmutableList<T> newWithout(T element)
+    {
+        int index = this.indexOf(element);
+        if (index >= 0 && index == this.size - 1)
+        {
+            return this.withoutLast();
+        }
+        return super.newWithout(element);
+    }
+
+    private ImmutableList<T> withoutLast()
+    {
+        if (this.size <= ImmutableArrayList.TRIE_LIST_THRESHOLD + 1)
+        {
+            return Lists.immutable.with((T[]) this.subList(0, this.size - 1).toArray());
+        }
+        int tailLength = this.size - this.tailOffset();
+        if (tailLength > 1)
+        {
+            Object[] newTail = new Object[tailLength - 1];
+            System.arraycopy(this.tail, 0, newTail, 0, tailLength - 1);
+            return new ImmutableTrieList<T>(this.size - 1, this.shift, this.root, newTail);
+        }
+        Object[] newTail = this.leafFor(this.size - 2);
+        Object[] newRoot = popTail(this.size, this.shift, this.root);
+        int newShift = this.shift;
+        if (newRoot == null)
+        {
+            newRoot = EMPTY_NODE;
+        }
+        if (newShift > BITS && newRoot.length == 1)
+        {
+            newRoot = (Object[]) newRoot[0];
+            newShift -= BITS;
+        }
+        return new ImmutableTrieList<T>(this.size - 1, newShift, newRoot, newTail);
+    }
+
+    /**
+     * Adds the full tail of a list of the given size as a new leaf below parent, copying the path to it.
+     */
+    private static Object[] pushTail(int size, int level, Object[] parent, Object[] tailNode)
+    {
+        int subIndex = ((size - 1) >>> level) & MASK;
+        Object[] result = new Object[Math.max(parent.length, subIndex + 1)];
+        System.arraycopy(parent, 0, result, 0, parent.length);
+        if (level == BITS)
+        {
+            result[subIndex] = tailNode;
+        }
+        else
+        {
+            Object[] child = subIndex < parent.length ? (Object[]) parent[subIndex] : null;
+            result[subIndex] = child == null
+                    ? newPath(level - BITS, tailNode)
+                    : pushTail(size, level - BITS, child, tailNode);
+        }
+        return result;
+    }
+
+    /**
+     * Removes the last leaf of a list of the given size from below node, returning null if node becomes empty.
+     */
+    private static Object[] popTail(int size, int level, Object[] node)
+    {
+        int subIndex = ((size - 2) >>> level) & MASK;
+        if (level > BITS)
+        {
+            Object[] newChild = popTail(size, level - BITS, (Object[]) node[subIndex]);
+            if (newChild == null)
+            {
+                if (subIndex == 0)
+                {
+                    return null;
+                }
+                Object[] result = new Object[subIndex];
+                System.arraycopy(node, 0, result, 0, subIndex);
+                return result;
+            }
+            Object[] result = new Object[subIndex + 1];
+            System.arraycopy(node, 0, result, 0, subIndex);
+            result[subIndex] = newChild;
+            return result;
+        }
+        if (subIndex == 0)
+        {
+            return null;
+        }
+        Object[] result = new Object[subIndex];
+        System.arraycopy(node, 0, result, 0, subIndex);
+        return result;
+    }
+
+    private static Object[] newPath(int level, Object[] node)
+    {
+        if (level == 0)
+        {
+            return node;
+        }
+        return new Object[]{newPath(level - BITS, node)};
+    }
+
+    private static Object[] assoc(int level, Object[] node, int index, Object item)
+    {
+        Object[] result = node.clone();
+        if (level == 0)
+        {
+            result[index & MASK] = item;
+        }
+        else
+        {
+            int subIndex = (index >>> level) & MASK;
+            result[subIndex] = assoc(level - BITS, (Object[]) node[subIndex], index, item);
+        }
+        return result;
+    }
+
+    public void batchForEach(Procedure<? super T> procedure, int sectionIndex, int sectionCount)
+    {
+        int sectionSize = this.size / sectionCount;
+        int start = sectionSize * sectionIndex;
+        int end = sectionIndex == sectionCount - 1 ? this.size : start + sectionSize;
+        int index = start;
+        while (index < end)
+        {
+            Object[] leaf = this.leafFor(index);
+            int leafEnd = Math.min(end, (index | MASK) + 1);
+            for (; index < leafEnd; index++)
+            {
+                procedure.value((T) leaf[index & MASK]);
+            }
+        }
+    }
+
+    public int getBatchCount(int batchSize)
+    {
+        return Math.max(1, this.size / batchSize);
+    }
+
+    public void each(Procedure<? super T> procedure)
+    {
+        int tailOffset = this.tailOffset();
+        for (int leafStart = 0; leafStart < tailOffset; leafStart += WIDTH)
+        {
+            Object[] leaf = this.leafFor(leafStart);
+            for (int i = 0; i < WIDTH; i++)
+            {
+                procedure.value((T) leaf[i]);
+            }
+        }
+        int tailLength = this.size - tailOffset;
+        for (int i = 0; i < tailLength; i++)
+        {
+            procedure.value((T) this.tail[i]);
+        }
+    }
+
+    @Override
+    public void forEachWithIndex(ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        int tailOffset = this.tailOffset();
+        for (int leafStart = 0; leafStart < tailOffset; leafStart += WIDTH)
+        {
+            Object[] leaf = this.leafFor(leafStart);
+            for (int i = 0; i < WIDTH; i++)
+            {
+                objectIntProcedure.value((T) leaf[i], leafStart + i);
+            }
+        }
+        int tailLength = this.size - tailOffset;
+        for (int i = 0; i < tailLength; i++)
+        {
+            objectIntProcedure.value((T) this.tail[i], tailOffset + i);
+        }
+    }
+
+    @Override
+    public Object[] toArray()
+    {
+        Object[] result = new Object[this.size];
+        int tailOffset = this.tailOffset();
+        for (int leafStart = 0; leafStart < tailOffset; leafStart += WIDTH)
+        {
+            System.arraycopy(this.leafFor(leafStart), 0, result, leafStart, WIDTH);
+        }
+        System.arraycopy(this.tail, 0, result, tailOffset, this.size - tailOffset);
+        return result;
+    }
+
+    @Override
+    public Iterator<T> iterator()
+    {
+        return new LeafIterator();
+    }
+
+    private Object writeReplace()
+    {
+        return ImmutableArrayList.newListWith((T[]) this.toArray());
+    }
+
+    private final class LeafIterator implements Iterator<T>
+    {
+        private int index;
+        private Object[] leaf = ImmutableTrieList.this.size == 0 ? EMPTY_NODE : ImmutableTrieList.this.leafFor(0);
+
+        public boolean hasNext()
+        {
+            return this.index < ImmutableTrieList.this.size;
+        }
+
+        public T next()
+        {
+            if (this.index >= ImmutableTrieList.this.size)
+            {
+                throw new NoSuchElementException();
+            }
+            if (this.index > 0 && (this.index & MASK) == 0)
+            {
+                this.leaf = ImmutableTrieList.this.leafFor(this.index);
+            }
+            return (T) this.leaf[this.index++ & MASK];
+        }
+
+        public void remove()
+        {
+            throw new UnsupportedOperationException("Cannot remove from an immutable list");
+        }
+    }
+
+    /**
+     * Appends elements to a list, filling a private tail array in place and pushing it into the tree when it is full,
+     * so that bulk construction does not copy the tail for every element.
+     */
+    private static final class Builder
+    {
+        private int size;
+        private int shift;
+        private Object[] root;
+        private Object[] tail = new Object[WIDTH];
+
+        private Builder(ImmutableTrieList<?> list)
+        {
+            this.size = list.size;
+            this.shift = list.shift;
+            this.root = list.root;
+            System.arraycopy(list.tail, 0, this.tail, 0, list.size - list.tailOffset());
+        }
+
+        private void add(Object item)
+        {
+            int tailLength = this.size - tailOffset(this.size);
+            if (tailLength == WIDTH)
+            {
+                if ((this.size >>> BITS) > (1 << this.shift))
+                {
+                    this.root = new Object[]{this.root, newPath(this.shift, this.tail)};
+                    this.shift += BITS;
+                }
+                else
+                {
+                    this.root = pushTail(this.size, this.shift, this.root, this.tail);
+                }
+                this.tail = new Object[WIDTH];
+                tailLength = 0;
+            }
+            this.tail[tailLength] = item;
+            this.size++;
+        }
+
+        private <E> ImmutableTrieList<E> build()
+        {
+            int tailLength = this.size - tailOffset(this.size);
+            Object[] finalTail = new Object[tailLength];
+            System.arraycopy(this.tail, 0, finalTail, 0, tailLength);
+            return new ImmutableTrieList<E>(this.size, this.shift, this.root, finalTail);
+        }
+    }
+}
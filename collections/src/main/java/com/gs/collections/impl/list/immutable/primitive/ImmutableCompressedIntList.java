@@ -0,0 +1,973 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.list.immutable.primitive;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+
+import com.gs.collections.api.LazyIntIterable;
+import com.gs.collections.api.IntIterable;
+import com.gs.collections.api.ParallelIntIterable;
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.bag.primitive.MutableIntBag;
+import com.gs.collections.api.block.function.primitive.IntToObjectFunction;
+import com.gs.collections.api.block.function.primitive.ObjectIntIntToObjectFunction;
+import com.gs.collections.api.block.function.primitive.ObjectIntToObjectFunction;
+import com.gs.collections.api.block.predicate.primitive.IntPredicate;
+import com.gs.collections.api.block.procedure.primitive.IntIntProcedure;
+import com.gs.collections.api.block.procedure.primitive.IntProcedure;
+import com.gs.collections.api.iterator.IntIterator;
+import com.gs.collections.api.list.ImmutableList;
+import com.gs.collections.api.list.primitive.ImmutableIntList;
+import com.gs.collections.api.list.primitive.IntList;
+import com.gs.collections.api.list.primitive.MutableIntList;
+import com.gs.collections.api.set.primitive.MutableIntSet;
+import com.gs.collections.impl.bag.mutable.primitive.IntHashBag;
+import com.gs.collections.impl.block.procedure.primitive.IntTopKProcedure;
+import com.gs.collections.impl.lazy.parallel.primitive.IntListParallelIterable;
+import com.gs.collections.impl.lazy.primitive.LazyIntIterableAdapter;
+import com.gs.collections.impl.lazy.primitive.ReverseIntIterable;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.list.mutable.primitive.IntArrayList;
+import com.gs.collections.impl.set.mutable.primitive.IntHashSet;
+import net.jcip.annotations.Immutable;
+
+/**
+ * ImmutableCompressedIntList is an ImmutableIntList which stores its elements delta encoded. The list is cut into
+ * blocks of 64 elements. Each block keeps its first element as is, and the differences between each following element
+ * and the one before it, zigzag encoded and bit-packed at the smallest width that fits the largest difference in the
+ * block. Sorted or slowly changing values such as timestamps or ids therefore take a few bits per element instead of 32.
+ * <p>
+ * The first element and the bit offset of every block are kept in a skip index, so get only decodes within one block,
+ * and binarySearch, which like {@link IntArrayList#binarySearch(int)} expects the list to be sorted, searches the
+ * skip index before decoding a single block. Bulk operations such as forEach and sum decode one block at a time.
+ * Operations which produce a new list, such as newWith and select, return compressed lists too.
+ *
+ * @since 7.1
+ */
+@Immutable
+public final class ImmutableCompressedIntList
+        implements ImmutableIntList, Serializable
+{
+    private static final long serialVersionUID = 1L;
+    private static final int BLOCK_SHIFT = 6;
+    private static final int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+
+    private final int size;
+    private final int[] blockFirst;
+    private final long[] blockOffset;
+    private final byte[] blockWidth;
+    private final long[] bits;
+
+    private ImmutableCompressedIntList(int size, int[] blockFirst, long[] blockOffset, byte[] blockWidth, long[] bits)
+    {
+        this.size = size;
+        this.blockFirst = blockFirst;
+        this.blockOffset = blockOffset;
+        this.blockWidth = blockWidth;
+        this.bits = bits;
+    }
+
+    public static ImmutableCompressedIntList newList(IntIterable source)
+    {
+        if (source instanceof ImmutableCompressedIntList)
+        {
+            return (ImmutableCompressedIntList) source;
+        }
+        int[] items = source.toArray();
+        return ImmutableCompressedIntList.encode(items, items.length);
+    }
+
+    public static ImmutableCompressedIntList newListWith(int... elements)
+    {
+        return ImmutableCompressedIntList.encode(elements, elements.length);
+    }
+
+    private static ImmutableCompressedIntList encode(int[] items, int size)
+    {
+        int blockCount = (size + BLOCK_SIZE - 1) >>> BLOCK_SHIFT;
+        int[] blockFirst = new int[blockCount];
+        long[] blockOffset = new long[blockCount];
+        byte[] blockWidth = new byte[blockCount];
+        long bitCount = 0L;
+        for (int block = 0; block < blockCount; block++)
+        {
+            int start = block << BLOCK_SHIFT;
+            int end = Math.min(start + BLOCK_SIZE, size);
+            int allDeltas = 0;
+            for (int i = start + 1; i < end; i++)
+            {
+                allDeltas |= ImmutableCompressedIntList.zigZag(items[i] - items[i - 1]);
+            }
+            int width = Integer.SIZE - Integer.numberOfLeadingZeros(allDeltas);
+            blockFirst[block] = items[start];
+            blockOffset[block] = bitCount;
+            blockWidth[block] = (byte) width;
+            bitCount += (long) width * (end - start - 1);
+        }
+        if (bitCount + 63L >>> 6 > Integer.MAX_VALUE)
+        {
+            throw new IllegalArgumentException("Too many bits to compress " + size + " elements");
+        }
+        long[] bits = new long[(int) (bitCount + 63L >>> 6)];
+        for (int block = 0; block < blockCount; block++)
+        {
+            int start = block << BLOCK_SHIFT;
+            int end = Math.min(start + BLOCK_SIZE, size);
+            int width = blockWidth[block];
+            long offset = blockOffset[block];
+            for (int i = start + 1; i < end && width != 0; i++)
+            {
+                ImmutableCompressedIntList.write(bits, offset, width, ImmutableCompressedIntList.zigZag(items[i] - items[i - 1]));
+                offset += width;
+            }
+        }
+        return new ImmutableCompressedIntList(size, blockFirst, blockOffset, blockWidth, bits);
+    }
+
+    private static int zigZag(int delta)
+    {
+        return delta << 1 ^ delta >> 31;
+    }
+
+    private static int unZigZag(int encoded)
+    {
+        return encoded >>> 1 ^ -(encoded & 1);
+    }
+
+    private static void write(long[] bits, long offset, int width, int value)
+    {
+        int index = (int) (offset >>> 6);
+        int shift = (int) offset & 63;
+        bits[index] |= ((long) value & 0xFFFFFFFFL) << shift;
+        if (shift + width > 64)
+        {
+            bits[index + 1] |= ((long) value & 0xFFFFFFFFL) >>> 64 - shift;
+        }
+    }
+
+    private static int read(long[] bits, long offset, int width)
+    {
+        int index = (int) (offset >>> 6);
+        int shift = (int) offset & 63;
+        long value = bits[index] >>> shift;
+        if (shift + width > 64)
+        {
+            value |= bits[index + 1] << 64 - shift;
+        }
+        return (int) (value & (1L << width) - 1L);
+    }
+
+    private int blockCount()
+    {
+        return this.blockFirst.length;
+    }
+
+    /**
+     * Decodes the block into target starting at targetIndex, and returns the number of elements decoded.
+     */
+    private int decodeBlock(int block, int[] target, int targetIndex)
+    {
+        int start = block << BLOCK_SHIFT;
+        int count = Math.min(BLOCK_SIZE, this.size - start);
+        int width = this.blockWidth[block];
+        int value = this.blockFirst[block];
+        target[targetIndex] = value;
+        if (width == 0)
+        {
+            for (int i = 1; i < count; i++)
+            {
+                target[targetIndex + i] = value;
+            }
+            return count;
+        }
+        long offset = this.blockOffset[block];
+        for (int i = 1; i < count; i++)
+        {
+            value += ImmutableCompressedIntList.unZigZag(ImmutableCompressedIntList.read(this.bits, offset, width));
+            target[targetIndex + i] = value;
+            offset += width;
+        }
+        return count;
+    }
+
+    private int getItem(int index)
+    {
+        int block = index >>> BLOCK_SHIFT;
+        int value = this.blockFirst[block];
+        int width = this.blockWidth[block];
+        if (width != 0)
+        {
+            long offset = this.blockOffset[block];
+            for (int i = block << BLOCK_SHIFT; i < index; i++)
+            {
+                value += ImmutableCompressedIntList.unZigZag(ImmutableCompressedIntList.read(this.bits, offset, width));
+                offset += width;
+            }
+        }
+        return value;
+    }
+
+    public int get(int index)
+    {
+        if (index >= 0 && index < this.size)
+        {
+            return this.getItem(index);
+        }
+        throw new IndexOutOfBoundsException("Index: " + index + " Size: " + this.size);
+    }
+
+    public int getFirst()
+    {
+        return this.get(0);
+    }
+
+    public int getLast()
+    {
+        return this.get(this.size - 1);
+    }
+
+    public int indexOf(int value)
+    {
+        int[] buffer = new int[BLOCK_SIZE];
+        for (int block = 0; block < this.blockCount(); block++)
+        {
+            int count = this.decodeBlock(block, buffer, 0);
+            for (int i = 0; i < count; i++)
+            {
+                if (buffer[i] == value)
+                {
+                    return (block << BLOCK_SHIFT) + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    public int lastIndexOf(int value)
+    {
+        int[] buffer = new int[BLOCK_SIZE];
+        for (int block = this.blockCount() - 1; block >= 0; block--)
+        {
+            int count = this.decodeBlock(block, buffer, 0);
+            for (int i = count - 1; i >= 0; i--)
+            {
+                if (buffer[i] == value)
+                {
+                    return (block << BLOCK_SHIFT) + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    public IntIterator intIterator()
+    {
+        return new InternalIntIterator();
+    }
+
+    public void forEach(IntProcedure procedure)
+    {
+        this.each(procedure);
+    }
+
+    public void each(IntProcedure procedure)
+    {
+        int[] buffer = new int[BLOCK_SIZE];
+        for (int block = 0; block < this.blockCount(); block++)
+        {
+            int count = this.decodeBlock(block, buffer, 0);
+            for (int i = 0; i < count; i++)
+            {
+                procedure.value(buffer[i]);
+            }
+        }
+    }
+
+    public void forEachWithIndex(IntIntProcedure procedure)
+    {
+        int[] buffer = new int[BLOCK_SIZE];
+        for (int block = 0; block < this.blockCount(); block++)
+        {
+            int count = this.decodeBlock(block, buffer, 0);
+            int start = block << BLOCK_SHIFT;
+            for (int i = 0; i < count; i++)
+            {
+                procedure.value(buffer[i], start + i);
+            }
+        }
+    }
+
+    public int count(IntPredicate predicate)
+    {
+        int[] buffer = new int[BLOCK_SIZE];
+        int result = 0;
+        for (int block = 0; block < this.blockCount(); block++)
+        {
+            int count = this.decodeBlock(block, buffer, 0);
+            for (int i = 0; i < count; i++)
+            {
+                if (predicate.accept(buffer[i]))
+                {
+                    result++;
+                }
+            }
+        }
+        return result;
+    }
+
+    public boolean anySatisfy(IntPredicate predicate)
+    {
+        int[] buffer = new int[BLOCK_SIZE];
+        for (int block = 0; block < this.blockCount(); block++)
+        {
+            int count = this.decodeBlock(block, buffer, 0);
+            for (int i = 0; i < count; i++)
+            {
+                if (predicate.accept(buffer[i]))
+                {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    public boolean allSatisfy(IntPredicate predicate)
+    {
+        int[] buffer = new int[BLOCK_SIZE];
+        for (int block = 0; block < this.blockCount(); block++)
+        {
+            int count = this.decodeBlock(block, buffer, 0);
+            for (int i = 0; i < count; i++)
+            {
+                if (!predicate.accept(buffer[i]))
+                {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    public boolean noneSatisfy(IntPredicate predicate)
+    {
+        return !this.anySatisfy(predicate);
+    }
+
+    public ImmutableIntList select(IntPredicate predicate)
+    {
+        IntArrayList result = new IntArrayList();
+        int[] buffer = new int[BLOCK_SIZE];
+        for (int block = 0; block < this.blockCount(); block++)
+        {
+            int count = this.decodeBlock(block, buffer, 0);
+            for (int i = 0; i < count; i++)
+            {
+                if (predicate.accept(buffer[i]))
+                {
+                    result.add(buffer[i]);
+                }
+            }
+        }
+        return ImmutableCompressedIntList.newList(result);
+    }
+
+    public ImmutableIntList reject(IntPredicate predicate)
+    {
+        IntArrayList result = new IntArrayList();
+        int[] buffer = new int[BLOCK_SIZE];
+        for (int block = 0; block < this.blockCount(); block++)
+        {
+            int count = this.decodeBlock(block, buffer, 0);
+            for (int i = 0; i < count; i++)
+            {
+                if (!predicate.accept(buffer[i]))
+                {
+                    result.add(buffer[i]);
+                }
+            }
+        }
+        return ImmutableCompressedIntList.newList(result);
+    }
+
+    public int detectIfNone(IntPredicate predicate, int ifNone)
+    {
+        int[] buffer = new int[BLOCK_SIZE];
+        for (int block = 0; block < this.blockCount(); block++)
+        {
+            int count = this.decodeBlock(block, buffer, 0);
+            for (int i = 0; i < count; i++)
+            {
+                if (predicate.accept(buffer[i]))
+                {
+                    return buffer[i];
+                }
+            }
+        }
+        return ifNone;
+    }
+
+    public <V> ImmutableList<V> collect(IntToObjectFunction<? extends V> function)
+    {
+        FastList<V> target = FastList.newList(this.size);
+        int[] buffer = new int[BLOCK_SIZE];
+        for (int block = 0; block < this.blockCount(); block++)
+        {
+            int count = this.decodeBlock(block, buffer, 0);
+            for (int i = 0; i < count; i++)
+            {
+                target.add(function.valueOf(buffer[i]));
+            }
+        }
+        return target.toImmutable();
+    }
+
+    public long sum()
+    {
+        long result = 0L;
+        int[] buffer = new int[BLOCK_SIZE];
+        for (int block = 0; block < this.blockCount(); block++)
+        {
+            int count = this.decodeBlock(block, buffer, 0);
+            for (int i = 0; i < count; i++)
+            {
+                result += buffer[i];
+            }
+        }
+        return result;
+    }
+
+    public int max()
+    {
+        if (this.isEmpty())
+        {
+            throw new NoSuchElementException();
+        }
+        int[] buffer = new int[BLOCK_SIZE];
+        int max = this.blockFirst[0];
+        for (int block = 0; block < this.blockCount(); block++)
+        {
+            int count = this.decodeBlock(block, buffer, 0);
+            for (int i = 0; i < count; i++)
+            {
+                if (max < buffer[i])
+                {
+                    max = buffer[i];
+                }
+            }
+        }
+        return max;
+    }
+
+    public int maxIfEmpty(int defaultValue)
+    {
+        if (this.isEmpty())
+        {
+            return defaultValue;
+        }
+        return this.max();
+    }
+
+    public int min()
+    {
+        if (this.isEmpty())
+        {
+            throw new NoSuchElementException();
+        }
+        int[] buffer = new int[BLOCK_SIZE];
+        int min = this.blockFirst[0];
+        for (int block = 0; block < this.blockCount(); block++)
+        {
+            int count = this.decodeBlock(block, buffer, 0);
+            for (int i = 0; i < count; i++)
+            {
+                if (buffer[i] < min)
+                {
+                    min = buffer[i];
+                }
+            }
+        }
+        return min;
+    }
+
+    public int minIfEmpty(int defaultValue)
+    {
+        if (this.isEmpty())
+        {
+            return defaultValue;
+        }
+        return this.min();
+    }
+
+    public double average()
+    {
+        if (this.isEmpty())
+        {
+            throw new ArithmeticException();
+        }
+        return (double) this.sum() / (double) this.size();
+    }
+
+    public double median()
+    {
+        if (this.isEmpty())
+        {
+            throw new ArithmeticException();
+        }
+        int[] sortedArray = this.toSortedArray();
+        int middleIndex = sortedArray.length >> 1;
+        if (sortedArray.length > 1 && (sortedArray.length & 1) == 0)
+        {
+            int first = sortedArray[middleIndex];
+            int second = sortedArray[middleIndex - 1];
+            return ((double) first + (double) second) / 2.0;
+        }
+        return (double) sortedArray[middleIndex];
+    }
+
+    public int[] toSortedArray()
+    {
+        int[] array = this.toArray();
+        Arrays.sort(array);
+        return array;
+    }
+
+    public long dotProduct(IntList list)
+    {
+        if (this.size() != list.size())
+        {
+            throw new IllegalArgumentException("Lists used in dotProduct must be the same size");
+        }
+        long sum = 0L;
+        int[] buffer = new int[BLOCK_SIZE];
+        for (int block = 0; block < this.blockCount(); block++)
+        {
+            int count = this.decodeBlock(block, buffer, 0);
+            int start = block << BLOCK_SHIFT;
+            for (int i = 0; i < count; i++)
+            {
+                sum += (long) buffer[i] * list.get(start + i);
+            }
+        }
+        return sum;
+    }
+
+    public LazyIntIterable asReversed()
+    {
+        return ReverseIntIterable.adapt(this);
+    }
+
+    public MutableIntList toSortedList()
+    {
+        return IntArrayList.newListWith(this.toSortedArray());
+    }
+
+    public MutableIntList topK(int k)
+    {
+        IntTopKProcedure procedure = new IntTopKProcedure(k);
+        this.forEach(procedure);
+        return procedure.getResult();
+    }
+
+    public MutableIntList bottomK(int k)
+    {
+        IntTopKProcedure procedure = IntTopKProcedure.bottomK(k);
+        this.forEach(procedure);
+        return procedure.getResult();
+    }
+
+    /**
+     * Searches the first element of each block before decoding the one block which can hold the value. The list must
+     * be sorted, as for {@link IntArrayList#binarySearch(int)}.
+     */
+    public int binarySearch(int value)
+    {
+        int low = 0;
+        int high = this.blockCount() - 1;
+        while (low <= high)
+        {
+            int mid = (low + high) >>> 1;
+            int midVal = this.blockFirst[mid];
+            if (midVal < value)
+            {
+                low = mid + 1;
+            }
+            else if (midVal > value)
+            {
+                high = mid - 1;
+            }
+            else
+            {
+                return mid << BLOCK_SHIFT;
+            }
+        }
+        if (high < 0)
+        {
+            return -1;
+        }
+        int[] buffer = new int[BLOCK_SIZE];
+        int count = this.decodeBlock(high, buffer, 0);
+        int start = high << BLOCK_SHIFT;
+        for (int i = 1; i < count; i++)
+        {
+            if (buffer[i] == value)
+            {
+                return start + i;
+            }
+            if (buffer[i] > value)
+            {
+                return -(start + i + 1);
+            }
+        }
+        return -(start + count + 1);
+    }
+
+    @Beta
+    public ParallelIntIterable asParallel(ExecutorService executorService, int batchSize)
+    {
+        return new IntListParallelIterable(this, executorService, batchSize);
+    }
+
+    public int[] toArray()
+    {
+        int[] newItems = new int[this.size];
+        for (int block = 0; block < this.blockCount(); block++)
+        {
+            this.decodeBlock(block, newItems, block << BLOCK_SHIFT);
+        }
+        return newItems;
+    }
+
+    public boolean contains(int value)
+    {
+        return this.indexOf(value) != -1;
+    }
+
+    public boolean containsAll(int... source)
+    {
+        for (int value : source)
+        {
+            if (!this.contains(value))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean containsAll(IntIterable source)
+    {
+        for (IntIterator iterator = source.intIterator(); iterator.hasNext(); )
+        {
+            if (!this.contains(iterator.next()))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public MutableIntList toList()
+    {
+        return IntArrayList.newListWith(this.toArray());
+    }
+
+    public MutableIntSet toSet()
+    {
+        return IntHashSet.newSet(this);
+    }
+
+    public MutableIntBag toBag()
+    {
+        return IntHashBag.newBag(this);
+    }
+
+    public LazyIntIterable asLazy()
+    {
+        return new LazyIntIterableAdapter(this);
+    }
+
+    public ImmutableIntList toImmutable()
+    {
+        return this;
+    }
+
+    public ImmutableIntList toReversed()
+    {
+        int[] items = this.toArray();
+        for (int i = 0, j = items.length - 1; i < j; i++, j--)
+        {
+            int swap = items[i];
+            items[i] = items[j];
+            items[j] = swap;
+        }
+        return ImmutableCompressedIntList.encode(items, items.length);
+    }
+
+    public ImmutableIntList newWith(int element)
+    {
+        int[] items = Arrays.copyOf(this.toArray(), this.size + 1);
+        items[this.size] = element;
+        return ImmutableCompressedIntList.encode(items, items.length);
+    }
+
+    public ImmutableIntList newWithout(int element)
+    {
+        int index = this.indexOf(element);
+        if (index != -1)
+        {
+            int[] items = this.toArray();
+            System.arraycopy(items, index + 1, items, index, this.size - index - 1);
+            return ImmutableCompressedIntList.encode(items, this.size - 1);
+        }
+        return this;
+    }
+
+    public ImmutableIntList newWithAll(IntIterable elements)
+    {
+        return ImmutableCompressedIntList.newList(this.toList().withAll(elements));
+    }
+
+    public ImmutableIntList newWithoutAll(IntIterable elements)
+    {
+        MutableIntList mutableIntList = this.toList();
+        mutableIntList.removeAll(elements);
+        return ImmutableCompressedIntList.newList(mutableIntList);
+    }
+
+    public int size()
+    {
+        return this.size;
+    }
+
+    public boolean isEmpty()
+    {
+        return this.size == 0;
+    }
+
+    public boolean notEmpty()
+    {
+        return this.size != 0;
+    }
+
+    public <T> T injectInto(T injectedValue, ObjectIntToObjectFunction<? super T, ? extends T> function)
+    {
+        T result = injectedValue;
+        int[] buffer = new int[BLOCK_SIZE];
+        for (int block = 0; block < this.blockCount(); block++)
+        {
+            int count = this.decodeBlock(block, buffer, 0);
+            for (int i = 0; i < count; i++)
+            {
+                result = function.valueOf(result, buffer[i]);
+            }
+        }
+        return result;
+    }
+
+    public <T> T injectIntoWithIndex(T injectedValue, ObjectIntIntToObjectFunction<? super T, ? extends T> function)
+    {
+        T result = injectedValue;
+        int[] buffer = new int[BLOCK_SIZE];
+        for (int block = 0; block < this.blockCount(); block++)
+        {
+            int count = this.decodeBlock(block, buffer, 0);
+            int start = block << BLOCK_SHIFT;
+            for (int i = 0; i < count; i++)
+            {
+                result = function.valueOf(result, buffer[i], start + i);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object otherList)
+    {
+        if (otherList == this)
+        {
+            return true;
+        }
+        if (otherList instanceof ImmutableCompressedIntList)
+        {
+            ImmutableCompressedIntList that = (ImmutableCompressedIntList) otherList;
+            return this.size == that.size
+                    && Arrays.equals(this.blockFirst, that.blockFirst)
+                    && Arrays.equals(this.blockWidth, that.blockWidth)
+                    && Arrays.equals(this.bits, that.bits);
+        }
+        if (!(otherList instanceof IntList))
+        {
+            return false;
+        }
+        IntList list = (IntList) otherList;
+        if (this.size != list.size())
+        {
+            return false;
+        }
+        int[] buffer = new int[BLOCK_SIZE];
+        for (int block = 0; block < this.blockCount(); block++)
+        {
+            int count = this.decodeBlock(block, buffer, 0);
+            int start = block << BLOCK_SHIFT;
+            for (int i = 0; i < count; i++)
+            {
+                if (buffer[i] != list.get(start + i))
+                {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 1;
+        int[] buffer = new int[BLOCK_SIZE];
+        for (int block = 0; block < this.blockCount(); block++)
+        {
+            int count = this.decodeBlock(block, buffer, 0);
+            for (int i = 0; i < count; i++)
+            {
+                hashCode = 31 * hashCode + buffer[i];
+            }
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString()
+    {
+        return this.makeString("[", ", ", "]");
+    }
+
+    public String makeString()
+    {
+        return this.makeString(", ");
+    }
+
+    public String makeString(String separator)
+    {
+        return this.makeString("", separator, "");
+    }
+
+    public String makeString(String start, String separator, String end)
+    {
+        Appendable stringBuilder = new StringBuilder();
+        this.appendString(stringBuilder, start, separator, end);
+        return stringBuilder.toString();
+    }
+
+    public void appendString(Appendable appendable)
+    {
+        this.appendString(appendable, ", ");
+    }
+
+    public void appendString(Appendable appendable, String separator)
+    {
+        this.appendString(appendable, "", separator, "");
+    }
+
+    public void appendString(Appendable appendable, String start, String separator, String end)
+    {
+        try
+        {
+            appendable.append(start);
+            int[] buffer = new int[BLOCK_SIZE];
+            for (int block = 0; block < this.blockCount(); block++)
+            {
+                int count = this.decodeBlock(block, buffer, 0);
+                for (int i = 0; i < count; i++)
+                {
+                    if (block > 0 || i > 0)
+                    {
+                        appendable.append(separator);
+                    }
+                    appendable.append(String.valueOf(buffer[i]));
+                }
+            }
+            appendable.append(end);
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public ImmutableIntList distinct()
+    {
+        IntArrayList target = new IntArrayList();
+        MutableIntSet seenSoFar = new IntHashSet(this.size());
+        int[] buffer = new int[BLOCK_SIZE];
+        for (int block = 0; block < this.blockCount(); block++)
+        {
+            int count = this.decodeBlock(block, buffer, 0);
+            for (int i = 0; i < count; i++)
+            {
+                if (seenSoFar.add(buffer[i]))
+                {
+                    target.add(buffer[i]);
+                }
+            }
+        }
+        return ImmutableCompressedIntList.newList(target);
+    }
+
+    public ImmutableIntList subList(int fromIndex, int toIndex)
+    {
+        if (fromIndex < 0 || toIndex > this.size || fromIndex > toIndex)
+        {
+            throw new IndexOutOfBoundsException("fromIndex: " + fromIndex + " toIndex: " + toIndex + " Size: " + this.size);
+        }
+        int[] items = this.toArray();
+        return ImmutableCompressedIntList.newListWith(Arrays.copyOfRange(items, fromIndex, toIndex));
+    }
+
+    private class InternalIntIterator implements IntIterator
+    {
+        private final int[] buffer = new int[BLOCK_SIZE];
+        private int bufferIndex;
+        private int bufferCount;
+        private int nextBlock;
+
+        public boolean hasNext()
+        {
+            return this.bufferIndex < this.bufferCount || this.nextBlock < ImmutableCompressedIntList.this.blockCount();
+        }
+
+        public int next()
+        {
+            if (this.bufferIndex == this.bufferCount)
+            {
+                if (this.nextBlock == ImmutableCompressedIntList.this.blockCount())
+                {
+                    throw new NoSuchElementException();
+                }
+                this.bufferCount = ImmutableCompressedIntList.this.decodeBlock(this.nextBlock, this.buffer, 0);
+                this.bufferIndex = 0;
+                this.nextBlock++;
+            }
+            return this.buffer[this.bufferIndex++];
+        }
+    }
+}
@@ -0,0 +1,985 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.list.immutable.primitive;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+
+import com.gs.collections.api.LazyLongIterable;
+import com.gs.collections.api.LongIterable;
+import com.gs.collections.api.ParallelLongIterable;
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.bag.primitive.MutableLongBag;
+import com.gs.collections.api.block.function.primitive.LongToObjectFunction;
+import com.gs.collections.api.block.function.primitive.ObjectLongIntToObjectFunction;
+import com.gs.collections.api.block.function.primitive.ObjectLongToObjectFunction;
+import com.gs.collections.api.block.predicate.primitive.LongPredicate;
+import com.gs.collections.api.block.procedure.primitive.LongIntProcedure;
+import com.gs.collections.api.block.procedure.primitive.LongProcedure;
+import com.gs.collections.api.iterator.LongIterator;
+import com.gs.collections.api.list.ImmutableList;
+import com.gs.collections.api.list.primitive.ImmutableLongList;
+import com.gs.collections.api.list.primitive.LongList;
+import com.gs.collections.api.list.primitive.MutableLongList;
+import com.gs.collections.api.set.primitive.MutableLongSet;
+import com.gs.collections.impl.bag.mutable.primitive.LongHashBag;
+import com.gs.collections.impl.block.procedure.primitive.LongTopKProcedure;
+import com.gs.collections.impl.lazy.parallel.primitive.LongListParallelIterable;
+import com.gs.collections.impl.lazy.primitive.LazyLongIterableAdapter;
+import com.gs.collections.impl.lazy.primitive.ReverseLongIterable;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.list.mutable.primitive.LongArrayList;
+import com.gs.collections.impl.set.mutable.primitive.LongHashSet;
+import net.jcip.annotations.Immutable;
+
+/**
+ * ImmutableCompressedLongList is an ImmutableLongList which stores its elements delta encoded. The list is cut into
+ * blocks of 64 elements. Each block keeps its first element as is, and the differences between each following element
+ * and the one before it, zigzag encoded and bit-packed at the smallest width that fits the largest difference in the
+ * block. Sorted or slowly changing values such as timestamps or ids therefore take a few bits per element instead of 64.
+ * <p>
+ * The first element and the bit offset of every block are kept in a skip index, so get only decodes within one block,
+ * and binarySearch, which like {@link LongArrayList#binarySearch(long)} expects the list to be sorted, searches the
+ * skip index before decoding a single block. Bulk operations such as forEach and sum decode one block at a time.
+ * Operations which produce a new list, such as newWith and select, return compressed lists too.
+ *
+ * @since 7.1
+ */
+@Immutable
+public final class ImmutableCompressedLongList
+        implements ImmutableLongList, Serializable
+{
+    private static final long serialVersionUID = 1L;
+    private static final int BLOCK_SHIFT = 6;
+    private static final int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+
+    private final int size;
+    private final long[] blockFirst;
+    private final long[] blockOffset;
+    private final byte[] blockWidth;
+    private final long[] bits;
+
+    private ImmutableCompressedLongList(int size, long[] blockFirst, long[] blockOffset, byte[] blockWidth, long[] bits)
+    {
+        this.size = size;
+        this.blockFirst = blockFirst;
+        this.blockOffset = blockOffset;
+        this.blockWidth = blockWidth;
+        this.bits = bits;
+    }
+
+    public static ImmutableCompressedLongList newList(LongIterable source)
+    {
+        if (source instanceof ImmutableCompressedLongList)
+        {
+            return (ImmutableCompressedLongList) source;
+        }
+        long[] items = source.toArray();
+        return ImmutableCompressedLongList.encode(items, items.length);
+    }
+
+    public static ImmutableCompressedLongList newListWith(long... elements)
+    {
+        return ImmutableCompressedLongList.encode(elements, elements.length);
+    }
+
+    private static ImmutableCompressedLongList encode(long[] items, int size)
+    {
+        int blockCount = (size + BLOCK_SIZE - 1) >>> BLOCK_SHIFT;
+        long[] blockFirst = new long[blockCount];
+        long[] blockOffset = new long[blockCount];
+        byte[] blockWidth = new byte[blockCount];
+        long bitCount = 0L;
+        for (int block = 0; block < blockCount; block++)
+        {
+            int start = block << BLOCK_SHIFT;
+            int end = Math.min(start + BLOCK_SIZE, size);
+            long allDeltas = 0L;
+            for (int i = start + 1; i < end; i++)
+            {
+                allDeltas |= ImmutableCompressedLongList.zigZag(items[i] - items[i - 1]);
+            }
+            int width = Long.SIZE - Long.numberOfLeadingZeros(allDeltas);
+            blockFirst[block] = items[start];
+            blockOffset[block] = bitCount;
+            blockWidth[block] = (byte) width;
+            bitCount += (long) width * (end - start - 1);
+        }
+        if (bitCount + 63L >>> 6 > Integer.MAX_VALUE)
+        {
+            throw new IllegalArgumentException("Too many bits to compress " + size + " elements");
+        }
+        long[] bits = new long[(int) (bitCount + 63L >>> 6)];
+        for (int block = 0; block < blockCount; block++)
+        {
+            int start = block << BLOCK_SHIFT;
+            int end = Math.min(start + BLOCK_SIZE, size);
+            int width = blockWidth[block];
+            long offset = blockOffset[block];
+            for (int i = start + 1; i < end && width != 0; i++)
+            {
+                ImmutableCompressedLongList.write(bits, offset, width, ImmutableCompressedLongList.zigZag(items[i] - items[i - 1]));
+                offset += width;
+            }
+        }
+        return new ImmutableCompressedLongList(size, blockFirst, blockOffset, blockWidth, bits);
+    }
+
+    private static long zigZag(long delta)
+    {
+        return delta << 1 ^ delta >> 63;
+    }
+
+    private static long unZigZag(long encoded)
+    {
+        return encoded >>> 1 ^ -(encoded & 1L);
+    }
+
+    private static void write(long[] bits, long offset, int width, long value)
+    {
+        int index = (int) (offset >>> 6);
+        int shift = (int) offset & 63;
+        bits[index] |= value << shift;
+        if (shift + width > 64)
+        {
+            bits[index + 1] |= value >>> 64 - shift;
+        }
+    }
+
+    private static long read(long[] bits, long offset, int width)
+    {
+        int index = (int) (offset >>> 6);
+        int shift = (int) offset & 63;
+        long value = bits[index] >>> shift;
+        if (shift + width > 64)
+        {
+            value |= bits[index + 1] << 64 - shift;
+        }
+        return width == 64 ? value : value & (1L << width) - 1L;
+    }
+
+    private int blockCount()
+    {
+        return this.blockFirst.length;
+    }
+
+    /**
+     * Decodes the block into target starting at targetIndex, and returns the number of elements decoded.
+     */
+    private int decodeBlock(int block, long[] target, int targetIndex)
+    {
+        int start = block << BLOCK_SHIFT;
+        int count = Math.min(BLOCK_SIZE, this.size - start);
+        int width = this.blockWidth[block];
+        long value = this.blockFirst[block];
+        target[targetIndex] = value;
+        if (width == 0)
+        {
+            for (int i = 1; i < count; i++)
+            {
+                target[targetIndex + i] = value;
+            }
+            return count;
+        }
+        long offset = this.blockOffset[block];
+        for (int i = 1; i < count; i++)
+        {
+            value += ImmutableCompressedLongList.unZigZag(ImmutableCompressedLongList.read(this.bits, offset, width));
+            target[targetIndex + i] = value;
+            offset += width;
+        }
+        return count;
+    }
+
+    private long getItem(int index)
+    {
+        int block = index >>> BLOCK_SHIFT;
+        long value = this.blockFirst[block];
+        int width = this.blockWidth[block];
+        if (width != 0)
+        {
+            long offset = this.blockOffset[block];
+            for (int i = block << BLOCK_SHIFT; i < index; i++)
+            {
+                value += ImmutableCompressedLongList.unZigZag(ImmutableCompressedLongList.read(this.bits, offset, width));
+                offset += width;
+            }
+        }
+        return value;
+    }
+
+    public long get(int index)
+    {
+        if (index >= 0 && index < this.size)
+        {
+            return this.getItem(index);
+        }
+        throw new IndexOutOfBoundsException("Index: " + index + " Size: " + this.size);
+    }
+
+    public long getFirst()
+    {
+        return this.get(0);
+    }
+
+    public long getLast()
+    {
+        return this.get(this.size - 1);
+    }
+
+    public int indexOf(long value)
+    {
+        long[] buffer = new long[BLOCK_SIZE];
+        for (int block = 0; block < this.blockCount(); block++)
+        {
+            int count = this.decodeBlock(block, buffer, 0);
+            for (int i = 0; i < count; i++)
+            {
+                if (buffer[i] == value)
+                {
+                    return (block << BLOCK_SHIFT) + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    public int lastIndexOf(long value)
+    {
+        long[] buffer = new long[BLOCK_SIZE];
+        for (int block = this.blockCount() - 1; block >= 0; block--)
+        {
+            int count = this.decodeBlock(block, buffer, 0);
+            for (int i = count - 1; i >= 0; i--)
+            {
+                if (buffer[i] == value)
+                {
+                    return (block << BLOCK_SHIFT) + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    public LongIterator longIterator()
+    {
+        return new InternalLongIterator();
+    }
+
+    public void forEach(LongProcedure procedure)
+    {
+        this.each(procedure);
+    }
+
+    public void each(LongProcedure procedure)
+    {
+        long[] buffer = new long[BLOCK_SIZE];
+        for (int block = 0; block < this.blockCount(); block++)
+        {
+            int count = this.decodeBlock(block, buffer, 0);
+            for (int i = 0; i < count; i++)
+            {
+                procedure.value(buffer[i]);
+            }
+        }
+    }
+
+    public void forEachWithIndex(LongIntProcedure procedure)
+    {
+        long[] buffer = new long[BLOCK_SIZE];
+        for (int block = 0; block < this.blockCount(); block++)
+        {
+            int count = this.decodeBlock(block, buffer, 0);
+            int start = block << BLOCK_SHIFT;
+            for (int i = 0; i < count; i++)
+            {
+                procedure.value(buffer[i], start + i);
+            }
+        }
+    }
+
+    public int count(LongPredicate predicate)
+    {
+        long[] buffer = new long[BLOCK_SIZE];
+        int result = 0;
+        for (int block = 0; block < this.blockCount(); block++)
+        {
+            int count = this.decodeBlock(block, buffer, 0);
+            for (int i = 0; i < count; i++)
+            {
+                if (predicate.accept(buffer[i]))
+                {
+                    result++;
+                }
+            }
+        }
+        return result;
+    }
+
+    public boolean anySatisfy(LongPredicate predicate)
+    {
+        long[] buffer = new long[BLOCK_SIZE];
+        for (int block = 0; block < this.blockCount(); block++)
+        {
+            int count = this.decodeBlock(block, buffer, 0);
+            for (int i = 0; i < count; i++)
+            {
+                if (predicate.accept(buffer[i]))
+                {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    public boolean allSatisfy(LongPredicate predicate)
+    {
+        long[] buffer = new long[BLOCK_SIZE];
+        for (int block = 0; block < this.blockCount(); block++)
+        {
+            int count = this.decodeBlock(block, buffer, 0);
+            for (int i = 0; i < count; i++)
+            {
+                if (!predicate.accept(buffer[i]))
+                {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    public boolean noneSatisfy(LongPredicate predicate)
+    {
+        return !this.anySatisfy(predicate);
+    }
+
+    public ImmutableLongList select(LongPredicate predicate)
+    {
+        LongArrayList result = new LongArrayList();
+        long[] buffer = new long[BLOCK_SIZE];
+        for (int block = 0; block < this.blockCount(); block++)
+        {
+            int count = this.decodeBlock(block, buffer, 0);
+            for (int i = 0; i < count; i++)
+            {
+                if (predicate.accept(buffer[i]))
+                {
+                    result.add(buffer[i]);
+                }
+            }
+        }
+        return ImmutableCompressedLongList.newList(result);
+    }
+
+    public ImmutableLongList reject(LongPredicate predicate)
+    {
+        LongArrayList result = new LongArrayList();
+        long[] buffer = new long[BLOCK_SIZE];
+        for (int block = 0; block < this.blockCount(); block++)
+        {
+            int count = this.decodeBlock(block, buffer, 0);
+            for (int i = 0; i < count; i++)
+            {
+                if (!predicate.accept(buffer[i]))
+                {
+                    result.add(buffer[i]);
+                }
+            }
+        }
+        return ImmutableCompressedLongList.newList(result);
+    }
+
+    public long detectIfNone(LongPredicate predicate, long ifNone)
+    {
+        long[] buffer = new long[BLOCK_SIZE];
+        for (int block = 0; block < this.blockCount(); block++)
+        {
+            int count = this.decodeBlock(block, buffer, 0);
+            for (int i = 0; i < count; i++)
+            {
+                if (predicate.accept(buffer[i]))
+                {
+                    return buffer[i];
+                }
+            }
+        }
+        return ifNone;
+    }
+
+    public <V> ImmutableList<V> collect(LongToObjectFunction<? extends V> function)
+    {
+        FastList<V> target = FastList.newList(this.size);
+        long[] buffer = new long[BLOCK_SIZE];
+        for (int block = 0; block < this.blockCount(); block++)
+        {
+            int count = this.decodeBlock(block, buffer, 0);
+            for (int i = 0; i < count; i++)
+            {
+                target.add(function.valueOf(buffer[i]));
+            }
+        }
+        return target.toImmutable();
+    }
+
+    /**
+     * Adds up the elements while decoding, without materializing them: the sum of a block is its first element times
+     * the block length plus each difference times the number of elements which follow it.
+     */
+    public long sum()
+    {
+        long result = 0L;
+        for (int block = 0; block < this.blockCount(); block++)
+        {
+            int start = block << BLOCK_SHIFT;
+            int count = Math.min(BLOCK_SIZE, this.size - start);
+            result += this.blockFirst[block] * count;
+            int width = this.blockWidth[block];
+            if (width != 0)
+            {
+                long offset = this.blockOffset[block];
+                for (int remaining = count - 1; remaining > 0; remaining--)
+                {
+                    result += ImmutableCompressedLongList.unZigZag(ImmutableCompressedLongList.read(this.bits, offset, width)) * remaining;
+                    offset += width;
+                }
+            }
+        }
+        return result;
+    }
+
+    public long max()
+    {
+        if (this.isEmpty())
+        {
+            throw new NoSuchElementException();
+        }
+        long[] buffer = new long[BLOCK_SIZE];
+        long max = this.blockFirst[0];
+        for (int block = 0; block < this.blockCount(); block++)
+        {
+            int count = this.decodeBlock(block, buffer, 0);
+            for (int i = 0; i < count; i++)
+            {
+                if (max < buffer[i])
+                {
+                    max = buffer[i];
+                }
+            }
+        }
+        return max;
+    }
+
+    public long maxIfEmpty(long defaultValue)
+    {
+        if (this.isEmpty())
+        {
+            return defaultValue;
+        }
+        return this.max();
+    }
+
+    public long min()
+    {
+        if (this.isEmpty())
+        {
+            throw new NoSuchElementException();
+        }
+        long[] buffer = new long[BLOCK_SIZE];
+        long min = this.blockFirst[0];
+        for (int block = 0; block < this.blockCount(); block++)
+        {
+            int count = this.decodeBlock(block, buffer, 0);
+            for (int i = 0; i < count; i++)
+            {
+                if (buffer[i] < min)
+                {
+                    min = buffer[i];
+                }
+            }
+        }
+        return min;
+    }
+
+    public long minIfEmpty(long defaultValue)
+    {
+        if (this.isEmpty())
+        {
+            return defaultValue;
+        }
+        return this.min();
+    }
+
+    public double average()
+    {
+        if (this.isEmpty())
+        {
+            throw new ArithmeticException();
+        }
+        return (double) this.sum() / (double) this.size();
+    }
+
+    public double median()
+    {
+        if (this.isEmpty())
+        {
+            throw new ArithmeticException();
+        }
+        long[] sortedArray = this.toSortedArray();
+        int middleIndex = sortedArray.length >> 1;
+        if (sortedArray.length > 1 && (sortedArray.length & 1) == 0)
+        {
+            long first = sortedArray[middleIndex];
+            long second = sortedArray[middleIndex - 1];
+            return ((double) first + (double) second) / 2.0;
+        }
+        return (double) sortedArray[middleIndex];
+    }
+
+    public long[] toSortedArray()
+    {
+        long[] array = this.toArray();
+        Arrays.sort(array);
+        return array;
+    }
+
+    public long dotProduct(LongList list)
+    {
+        if (this.size() != list.size())
+        {
+            throw new IllegalArgumentException("Lists used in dotProduct must be the same size");
+        }
+        long sum = 0L;
+        long[] buffer = new long[BLOCK_SIZE];
+        for (int block = 0; block < this.blockCount(); block++)
+        {
+            int count = this.decodeBlock(block, buffer, 0);
+            int start = block << BLOCK_SHIFT;
+            for (int i = 0; i < count; i++)
+            {
+                sum += buffer[i] * list.get(start + i);
+            }
+        }
+        return sum;
+    }
+
+    public LazyLongIterable asReversed()
+    {
+        return ReverseLongIterable.adapt(this);
+    }
+
+    public MutableLongList toSortedList()
+    {
+        return LongArrayList.newListWith(this.toSortedArray());
+    }
+
+    public MutableLongList topK(int k)
+    {
+        LongTopKProcedure procedure = new LongTopKProcedure(k);
+        this.forEach(procedure);
+        return procedure.getResult();
+    }
+
+    public MutableLongList bottomK(int k)
+    {
+        LongTopKProcedure procedure = LongTopKProcedure.bottomK(k);
+        this.forEach(procedure);
+        return procedure.getResult();
+    }
+
+    /**
+     * Searches the first element of each block before decoding the one block which can hold the value. The list must
+     * be sorted, as for {@link LongArrayList#binarySearch(long)}.
+     */
+    public int binarySearch(long value)
+    {
+        int low = 0;
+        int high = this.blockCount() - 1;
+        while (low <= high)
+        {
+            int mid = (low + high) >>> 1;
+            long midVal = this.blockFirst[mid];
+            if (midVal < value)
+            {
+                low = mid + 1;
+            }
+            else if (midVal > value)
+            {
+                high = mid - 1;
+            }
+            else
+            {
+                return mid << BLOCK_SHIFT;
+            }
+        }
+        if (high < 0)
+        {
+            return -1;
+        }
+        long[] buffer = new long[BLOCK_SIZE];
+        int count = this.decodeBlock(high, buffer, 0);
+        int start = high << BLOCK_SHIFT;
+        for (int i = 1; i < count; i++)
+        {
+            if (buffer[i] == value)
+            {
+                return start + i;
+            }
+            if (buffer[i] > value)
+            {
+                return -(start + i + 1);
+            }
+        }
+        return -(start + count + 1);
+    }
+
+    @Beta
+    public ParallelLongIterable asParallel(ExecutorService executorService, int batchSize)
+    {
+        return new LongListParallelIterable(this, executorService, batchSize);
+    }
+
+    public long[] toArray()
+    {
+        long[] newItems = new long[this.size];
+        for (int block = 0; block < this.blockCount(); block++)
+        {
+            this.decodeBlock(block, newItems, block << BLOCK_SHIFT);
+        }
+        return newItems;
+    }
+
+    public boolean contains(long value)
+    {
+        return this.indexOf(value) != -1;
+    }
+
+    public boolean containsAll(long... source)
+    {
+        for (long value : source)
+        {
+            if (!this.contains(value))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean containsAll(LongIterable source)
+    {
+        for (LongIterator iterator = source.longIterator(); iterator.hasNext(); )
+        {
+            if (!this.contains(iterator.next()))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public MutableLongList toList()
+    {
+        return LongArrayList.newListWith(this.toArray());
+    }
+
+    public MutableLongSet toSet()
+    {
+        return LongHashSet.newSet(this);
+    }
+
+    public MutableLongBag toBag()
+    {
+        return LongHashBag.newBag(this);
+    }
+
+    public LazyLongIterable asLazy()
+    {
+        return new LazyLongIterableAdapter(this);
+    }
+
+    public ImmutableLongList toImmutable()
+    {
+        return this;
+    }
+
+    public ImmutableLongList toReversed()
+    {
+        long[] items = this.toArray();
+        for (int i = 0, j = items.length - 1; i < j; i++, j--)
+        {
+            long swap = items[i];
+            items[i] = items[j];
+            items[j] = swap;
+        }
+        return ImmutableCompressedLongList.encode(items, items.length);
+    }
+
+    public ImmutableLongList newWith(long element)
+    {
+        long[] items = Arrays.copyOf(this.toArray(), this.size + 1);
+        items[this.size] = element;
+        return ImmutableCompressedLongList.encode(items, items.length);
+    }
+
+    public ImmutableLongList newWithout(long element)
+    {
+        int index = this.indexOf(element);
+        if (index != -1)
+        {
+            long[] items = this.toArray();
+            System.arraycopy(items, index + 1, items, index, this.size - index - 1);
+            return ImmutableCompressedLongList.encode(items, this.size - 1);
+        }
+        return this;
+    }
+
+    public ImmutableLongList newWithAll(LongIterable elements)
+    {
+        return ImmutableCompressedLongList.newList(this.toList().withAll(elements));
+    }
+
+    public ImmutableLongList newWithoutAll(LongIterable elements)
+    {
+        MutableLongList mutableLongList = this.toList();
+        mutableLongList.removeAll(elements);
+        return ImmutableCompressedLongList.newList(mutableLongList);
+    }
+
+    public int size()
+    {
+        return this.size;
+    }
+
+    public boolean isEmpty()
+    {
+        return this.size == 0;
+    }
+
+    public boolean notEmpty()
+    {
+        return this.size != 0;
+    }
+
+    public <T> T injectInto(T injectedValue, ObjectLongToObjectFunction<? super T, ? extends T> function)
+    {
+        T result = injectedValue;
+        long[] buffer = new long[BLOCK_SIZE];
+        for (int block = 0; block < this.blockCount(); block++)
+        {
+            int count = this.decodeBlock(block, buffer, 0);
+            for (int i = 0; i < count; i++)
+            {
+                result = function.valueOf(result, buffer[i]);
+            }
+        }
+        return result;
+    }
+
+    public <T> T injectIntoWithIndex(T injectedValue, ObjectLongIntToObjectFunction<? super T, ? extends T> function)
+    {
+        T result = injectedValue;
+        long[] buffer = new long[BLOCK_SIZE];
+        for (int block = 0; block < this.blockCount(); block++)
+        {
+            int count = this.decodeBlock(block, buffer, 0);
+            int start = block << BLOCK_SHIFT;
+            for (int i = 0; i < count; i++)
+            {
+                result = function.valueOf(result, buffer[i], start + i);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object otherList)
+    {
+        if (otherList == this)
+        {
+            return true;
+        }
+        if (otherList instanceof ImmutableCompressedLongList)
+        {
+            ImmutableCompressedLongList that = (ImmutableCompressedLongList) otherList;
+            return this.size == that.size
+                    && Arrays.equals(this.blockFirst, that.blockFirst)
+                    && Arrays.equals(this.blockWidth, that.blockWidth)
+                    && Arrays.equals(this.bits, that.bits);
+        }
+        if (!(otherList instanceof LongList))
+        {
+            return false;
+        }
+        LongList list = (LongList) otherList;
+        if (this.size != list.size())
+        {
+            return false;
+        }
+        long[] buffer = new long[BLOCK_SIZE];
+        for (int block = 0; block < this.blockCount(); block++)
+        {
+            int count = this.decodeBlock(block, buffer, 0);
+            int start = block << BLOCK_SHIFT;
+            for (int i = 0; i < count; i++)
+            {
+                if (buffer[i] != list.get(start + i))
+                {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 1;
+        long[] buffer = new long[BLOCK_SIZE];
+        for (int block = 0; block < this.blockCount(); block++)
+        {
+            int count = this.decodeBlock(block, buffer, 0);
+            for (int i = 0; i < count; i++)
+            {
+                long item = buffer[i];
+                hashCode = 31 * hashCode + (int) (item ^ item >>> 32);
+            }
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString()
+    {
+        return this.makeString("[", ", ", "]");
+    }
+
+    public String makeString()
+    {
+        return this.makeString(", ");
+    }
+
+    public String makeString(String separator)
+    {
+        return this.makeString("", separator, "");
+    }
+
+    public String makeString(String start, String separator, String end)
+    {
+        Appendable stringBuilder = new StringBuilder();
+        this.appendString(stringBuilder, start, separator, end);
+        return stringBuilder.toString();
+    }
+
+    public void appendString(Appendable appendable)
+    {
+        this.appendString(appendable, ", ");
+    }
+
+    public void appendString(Appendable appendable, String separator)
+    {
+        this.appendString(appendable, "", separator, "");
+    }
+
+    public void appendString(Appendable appendable, String start, String separator, String end)
+    {
+        try
+        {
+            appendable.append(start);
+            long[] buffer = new long[BLOCK_SIZE];
+            for (int block = 0; block < this.blockCount(); block++)
+            {
+                int count = this.decodeBlock(block, buffer, 0);
+                for (int i = 0; i < count; i++)
+                {
+                    if (block > 0 || i > 0)
+                    {
+                        appendable.append(separator);
+                    }
+                    appendable.append(String.valueOf(buffer[i]));
+                }
+            }
+            appendable.append(end);
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public ImmutableLongList distinct()
+    {
+        LongArrayList target = new LongArrayList();
+        MutableLongSet seenSoFar = new LongHashSet(this.size());
+        long[] buffer = new long[BLOCK_SIZE];
+        for (int block = 0; block < this.blockCount(); block++)
+        {
+            int count = this.decodeBlock(block, buffer, 0);
+            for (int i = 0; i < count; i++)
+            {
+                if (seenSoFar.add(buffer[i]))
+                {
+                    target.add(buffer[i]);
+                }
+            }
+        }
+        return ImmutableCompressedLongList.newList(target);
+    }
+
+    public ImmutableLongList subList(int fromIndex, int toIndex)
+    {
+        if (fromIndex < 0 || toIndex > this.size || fromIndex > toIndex)
+        {
+            throw new IndexOutOfBoundsException("fromIndex: " + fromIndex + " toIndex: " + toIndex + " Size: " + this.size);
+        }
+        long[] items = this.toArray();
+        return ImmutableCompressedLongList.newListWith(Arrays.copyOfRange(items, fromIndex, toIndex));
+    }
+
+    private class InternalLongIterator implements LongIterator
+    {
+        private final long[] buffer = new long[BLOCK_SIZE];
+        private int bufferIndex;
+        private int bufferCount;
+        private int nextBlock;
+
+        public boolean hasNext()
+        {
+            return this.bufferIndex < this.bufferCount || this.nextBlock < ImmutableCompressedLongList.this.blockCount();
+        }
+
+        public long next()
+        {
+            if (this.bufferIndex == this.bufferCount)
+            {
+                if (this.nextBlock == ImmutableCompressedLongList.this.blockCount())
+                {
+                    throw new NoSuchElementException();
+                }
+                this.bufferCount = ImmutableCompressedLongList.this.decodeBlock(this.nextBlock, this.buffer, 0);
+                this.bufferIndex = 0;
+                this.nextBlock++;
+            }
+            return this.buffer[this.bufferIndex++];
+        }
+    }
+}
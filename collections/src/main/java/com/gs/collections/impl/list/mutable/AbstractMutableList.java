@@ -28,6 +28,7 @@ import java.util.Random;
 import java.util.RandomAccess;
 import java.util.concurrent.ExecutorService;
 
+import com.gs.collections.api.annotation.Beta;
 import com.gs.collections.api.block.HashingStrategy;
 import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.function.Function0;
@@ -75,6 +76,7 @@ import com.gs.collections.impl.collection.mutable.AbstractMutableCollection;
 import com.gs.collections.impl.factory.Lists;
 import com.gs.collections.impl.factory.Stacks;
 import com.gs.collections.impl.lazy.ReverseIterable;
+import com.gs.collections.impl.lazy.parallel.AdaptiveBatchSizer;
 import com.gs.collections.impl.lazy.parallel.list.ListIterableParallelIterable;
 import com.gs.collections.impl.multimap.list.FastListMultimap;
 import com.gs.collections.impl.set.mutable.UnifiedSet;
@@ -1113,6 +1115,18 @@ public abstract class AbstractMutableList<T>
         return new ListIterableParallelIterable<T>(this, executorService, batchSize);
     }
 
+    /**
+     * Returns a parallel iterable whose batch sizes are chosen from the observed cost of each operation, as described
+     * in {@link AdaptiveBatchSizer}.
+     *
+     * @since 7.1
+     */
+    @Beta
+    public ParallelListIterable<T> asParallel(ExecutorService executorService, AdaptiveBatchSizer batchSizer)
+    {
+        return new ListIterableParallelIterable<T>(this, executorService, batchSizer);
+    }
+
     public int binarySearch(T key, Comparator<? super T> comparator)
     {
         return Collections.binarySearch(this, key, comparator);
@@ -36,6 +36,7 @@ import com.gs.collections.api.LazyIterable;
 import com.gs.collections.api.RichIterable;
 import com.gs.collections.api.block.HashingStrategy;
 import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.function.Function0;
 import com.gs.collections.api.block.function.Function2;
 import com.gs.collections.api.block.function.primitive.BooleanFunction;
 import com.gs.collections.api.block.function.primitive.ByteFunction;
@@ -76,6 +77,7 @@ import com.gs.collections.api.stack.MutableStack;
 import com.gs.collections.api.tuple.Pair;
 import com.gs.collections.impl.block.factory.HashingStrategies;
 import com.gs.collections.impl.collection.mutable.AbstractMultiReaderMutableCollection;
+import com.gs.collections.impl.collection.mutable.OptimisticReadWriteLock;
 import com.gs.collections.impl.factory.Lists;
 import com.gs.collections.impl.lazy.ReverseIterable;
 import com.gs.collections.impl.lazy.parallel.list.ListIterableParallelIterable;
@@ -145,6 +147,28 @@ public final class MultiReaderFastList<T>
         return new MultiReaderFastList<T>(FastList.newListWith(elements));
     }
 
+    /**
+     * Creates a MultiReaderFastList guarded by an {@link OptimisticReadWriteLock}, so that size, isEmpty and get
+     * validate a stamp instead of taking the read lock, and only fall back to the read lock when a write raced them.
+     * This suits read-mostly lists shared by many threads. The optimistic lock is not serialized; a deserialized list
+     * uses a ReentrantReadWriteLock.
+     *
+     * @since 7.1
+     */
+    public static <T> MultiReaderFastList<T> newOptimisticList()
+    {
+        return new MultiReaderFastList<T>(FastList.<T>newList(), new OptimisticReadWriteLock());
+    }
+
+    /**
+     * @see #newOptimisticList()
+     * @since 7.1
+     */
+    public static <T> MultiReaderFastList<T> newOptimisticList(Iterable<T> iterable)
+    {
+        return new MultiReaderFastList<T>(FastList.newList(iterable), new OptimisticReadWriteLock());
+    }
+
     @Override
     protected MutableList<T> getDelegate()
     {
@@ -747,8 +771,18 @@ public final class MultiReaderFastList<T>
         }
     }
 
-    public T get(int index)
+    public T get(final int index)
     {
+        if (this.hasOptimisticLock())
+        {
+            return this.optimisticRead(new Function0<T>()
+            {
+                public T value()
+                {
+                    return MultiReaderFastList.this.delegate.get(index);
+                }
+            });
+        }
         this.acquireReadLock();
         try
         {
@@ -20,9 +20,12 @@ import java.io.IOException;
 import java.io.Serializable;
 import java.util.Arrays;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
 
 import com.gs.collections.api.IntIterable;
 import com.gs.collections.api.LazyIntIterable;
+import com.gs.collections.api.ParallelIntIterable;
+import com.gs.collections.api.annotation.Beta;
 import com.gs.collections.api.bag.primitive.MutableIntBag;
 import com.gs.collections.api.block.function.primitive.IntToObjectFunction;
 import com.gs.collections.api.block.function.primitive.ObjectIntIntToObjectFunction;
@@ -38,6 +41,8 @@ import com.gs.collections.api.list.primitive.MutableIntList;
 import com.gs.collections.api.set.primitive.MutableIntSet;
 import com.gs.collections.impl.bag.mutable.primitive.IntHashBag;
 import com.gs.collections.impl.block.factory.primitive.IntPredicates;
+import com.gs.collections.impl.block.procedure.primitive.IntTopKProcedure;
+import com.gs.collections.impl.lazy.parallel.primitive.IntListParallelIterable;
 import com.gs.collections.impl.lazy.primitive.CollectIntToObjectIterable;
 import com.gs.collections.impl.lazy.primitive.LazyIntIterableAdapter;
 import com.gs.collections.impl.lazy.primitive.ReverseIntIterable;
@@ -789,6 +794,18 @@ public final class IntInterval
         return diff % this.step == 0 ? index : (index + 2) * -1;
     }
 
+    /**
+     * Returns a parallel iterable which splits this interval into batches by index. Elements are computed from
+     * the index within each batch, so the interval is never materialized.
+     *
+     * @since 7.1
+     */
+    @Beta
+    public ParallelIntIterable asParallel(ExecutorService executorService, int batchSize)
+    {
+        return new IntListParallelIterable(this, executorService, batchSize);
+    }
+
     public int[] toSortedArray()
     {
         int[] array = this.toArray();
@@ -806,6 +823,20 @@ public final class IntInterval
         return IntArrayList.newList(this).sortThis();
     }
 
+    public MutableIntList topK(int k)
+    {
+        IntTopKProcedure procedure = new IntTopKProcedure(k);
+        this.forEach(procedure);
+        return procedure.getResult();
+    }
+
+    public MutableIntList bottomK(int k)
+    {
+        IntTopKProcedure procedure = IntTopKProcedure.bottomK(k);
+        this.forEach(procedure);
+        return procedure.getResult();
+    }
+
     public MutableIntSet toSet()
     {
         return IntHashSet.newSet(this);
@@ -0,0 +1,946 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.gs.collections.impl.map.immutable;
+
+import java.io.Serializable;
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import com.gs.collections.api.RichIterable;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.map.ImmutableMap;
+import com.gs.collections.api.tuple.Pair;
+import com.gs.collections.impl.block.factory.Comparators;
+import com.gs.collections.impl.tuple.Tuples;
+import com.gs.collections.impl.utility.LazyIterate;
+import net.jcip.annotations.Immutable;
+
+/**
+ * ImmutableHashTrieMap is an ImmutableMap stored as a compressed hash-array mapped prefix tree (CHAMP). Each level of
+ * the tree consumes five bits of the hash code of a key, so the tree is at most seven levels deep. newWithKeyValue,
+ * newWithoutKey and the bulk versions of them copy only the nodes on the path to the changed key, which makes them
+ * O(log32 n) and lets every version of the map share the rest of its structure with the version it was built from.
+ * <p>
+ * Building a map one key at a time copies the whole map on every step with {@link ImmutableUnifiedMap}, but only the
+ * path to the new key with this class. A lookup follows that path too, rather than probing a single hash table.
+ *
+ * @since 7.1
+ */
+@Immutable
+public final class ImmutableHashTrieMap<K, V>
+        extends AbstractImmutableMap<K, V> implements Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final int BITS_PER_LEVEL = 5;
+    private static final int LEVEL_MASK = (1 << BITS_PER_LEVEL) - 1;
+    private static final int HASH_CODE_LENGTH = 32;
+    private static final int MAX_DEPTH = 8;
+    private static final Object NOT_FOUND = new Object();
+
+    private static final ImmutableHashTrieMap<?, ?> EMPTY =
+            new ImmutableHashTrieMap<Object, Object>(new BitmapIndexedNode(0, 0, new Object[0]), 0);
+
+    private final Node root;
+    private final int size;
+
+    private ImmutableHashTrieMap(Node root, int size)
+    {
+        this.root = root;
+        this.size = size;
+    }
+
+    public static <K, V> ImmutableHashTrieMap<K, V> empty()
+    {
+        return (ImmutableHashTrieMap<K, V>) EMPTY;
+    }
+
+    public static <K, V> ImmutableHashTrieMap<K, V> newMap(Map<? extends K, ? extends V> map)
+    {
+        if (map instanceof ImmutableHashTrieMap)
+        {
+            return (ImmutableHashTrieMap<K, V>) map;
+        }
+        Node root = EMPTY.root;
+        Change change = new Change();
+        for (Map.Entry<? extends K, ? extends V> entry : map.entrySet())
+        {
+            K key = entry.getKey();
+            root = root.put(key, entry.getValue(), hash(key), 0, change);
+        }
+        return new ImmutableHashTrieMap<K, V>(root, change.sizeDelta);
+    }
+
+    public static <K, V> ImmutableHashTrieMap<K, V> newMapWith(Pair<K, V>... pairs)
+    {
+        return ImmutableHashTrieMap.<K, V>empty().newWithAllKeyValueArguments(pairs);
+    }
+
+    private static int hash(Object key)
+    {
+        if (key == null)
+        {
+            return 0;
+        }
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private static int mask(int hash, int shift)
+    {
+        return (hash >>> shift) & LEVEL_MASK;
+    }
+
+    private static int bitpos(int mask)
+    {
+        return 1 << mask;
+    }
+
+    public int size()
+    {
+        return this.size;
+    }
+
+    public boolean containsKey(Object key)
+    {
+        return this.root.get(key, hash(key), 0) != NOT_FOUND;
+    }
+
+    public boolean containsValue(Object value)
+    {
+        Iterator<V> iterator = this.valuesIterator();
+        while (iterator.hasNext())
+        {
+            if (Comparators.nullSafeEquals(iterator.next(), value))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public V get(Object key)
+    {
+        Object result = this.root.get(key, hash(key), 0);
+        return result == NOT_FOUND ? null : (V) result;
+    }
+
+    @Override
+    public ImmutableHashTrieMap<K, V> newWithKeyValue(K key, V value)
+    {
+        Change change = new Change();
+        Node newRoot = this.root.put(key, value, hash(key), 0, change);
+        return this.withRoot(newRoot, change);
+    }
+
+    @Override
+    public ImmutableHashTrieMap<K, V> newWithAllKeyValues(Iterable<? extends Pair<? extends K, ? extends V>> keyValues)
+    {
+        Change change = new Change();
+        Node newRoot = this.root;
+        for (Pair<? extends K, ? extends V> keyValuePair : keyValues)
+        {
+            K key = keyValuePair.getOne();
+            newRoot = newRoot.put(key, keyValuePair.getTwo(), hash(key), 0, change);
+        }
+        return this.withRoot(newRoot, change);
+    }
+
+    @Override
+    public ImmutableHashTrieMap<K, V> newWithAllKeyValueArguments(Pair<? extends K, ? extends V>... keyValuePairs)
+    {
+        Change change = new Change();
+        Node newRoot = this.root;
+        for (Pair<? extends K, ? extends V> keyValuePair : keyValuePairs)
+        {
+            K key = keyValuePair.getOne();
+            newRoot = newRoot.put(key, keyValuePair.getTwo(), hash(key), 0, change);
+        }
+        return this.withRoot(newRoot, change);
+    }
+
+    @Override
+    public ImmutableHashTrieMap<K, V> newWithoutKey(K key)
+    {
+        Change change = new Change();
+        Node newRoot = this.root.remove(key, hash(key), 0, change);
+        return this.withRoot(newRoot, change);
+    }
+
+    @Override
+    public ImmutableHashTrieMap<K, V> newWithoutAllKeys(Iterable<? extends K> keys)
+    {
+        Change change = new Change();
+        Node newRoot = this.root;
+        for (K key : keys)
+        {
+            newRoot = newRoot.remove(key, hash(key), 0, change);
+        }
+        return this.withRoot(newRoot, change);
+    }
+
+    private ImmutableHashTrieMap<K, V> withRoot(Node newRoot, Change change)
+    {
+        if (newRoot == this.root)
+        {
+            return this;
+        }
+        int newSize = this.size + change.sizeDelta;
+        if (newSize == 0)
+        {
+            return ImmutableHashTrieMap.empty();
+        }
+        return new ImmutableHashTrieMap<K, V>(newRoot, newSize);
+    }
+
+    public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+    {
+        this.root.forEachKeyValue((Procedure2<Object, Object>) procedure);
+    }
+
+    @Override
+    public void forEachKey(final Procedure<? super K> procedure)
+    {
+        this.forEachKeyValue(new Procedure2<K, V>()
+        {
+            public void value(K key, V value)
+            {
+                procedure.value(key);
+            }
+        });
+    }
+
+    @Override
+    public void forEachValue(final Procedure<? super V> procedure)
+    {
+        this.forEachKeyValue(new Procedure2<K, V>()
+        {
+            public void value(K key, V value)
+            {
+                procedure.value(value);
+            }
+        });
+    }
+
+    public Set<K> keySet()
+    {
+        return new KeySet();
+    }
+
+    public Collection<V> values()
+    {
+        return new Values();
+    }
+
+    public RichIterable<K> keysView()
+    {
+        return LazyIterate.adapt(this.keySet());
+    }
+
+    public RichIterable<V> valuesView()
+    {
+        return LazyIterate.adapt(this.values());
+    }
+
+    public RichIterable<Pair<K, V>> keyValuesView()
+    {
+        return LazyIterate.adapt(new Iterable<Pair<K, V>>()
+        {
+            public Iterator<Pair<K, V>> iterator()
+            {
+                return new TrieIterator<Pair<K, V>>(ImmutableHashTrieMap.this.root)
+                {
+                    @Override
+                    protected Pair<K, V> valueAt(Node node, int index)
+                    {
+                        return Tuples.pair((K) node.getKey(index), (V) node.getValue(index));
+                    }
+                };
+            }
+        });
+    }
+
+    @Override
+    public Iterator<V> iterator()
+    {
+        return this.valuesIterator();
+    }
+
+    private Iterator<V> valuesIterator()
+    {
+        return new TrieIterator<V>(this.root)
+        {
+            @Override
+            protected V valueAt(Node node, int index)
+            {
+                return (V) node.getValue(index);
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (this == other)
+        {
+            return true;
+        }
+        if (other instanceof ImmutableHashTrieMap)
+        {
+            ImmutableHashTrieMap<?, ?> trieMap = (ImmutableHashTrieMap<?, ?>) other;
+            return this.size == trieMap.size && this.root.equivalent(trieMap.root);
+        }
+        if (!(other instanceof Map))
+        {
+            return false;
+        }
+        final Map<K, V> that = (Map<K, V>) other;
+        if (that.size() != this.size)
+        {
+            return false;
+        }
+        TrieIterator<Boolean> iterator = new TrieIterator<Boolean>(this.root)
+        {
+            @Override
+            protected Boolean valueAt(Node node, int index)
+            {
+                return ImmutableHashTrieMap.this.keyAndValueEquals((K) node.getKey(index), (V) node.getValue(index), that);
+            }
+        };
+        while (iterator.hasNext())
+        {
+            if (!iterator.next())
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        final int[] hashCode = new int[1];
+        this.forEachKeyValue(new Procedure2<K, V>()
+        {
+            public void value(K key, V value)
+            {
+                hashCode[0] += ImmutableHashTrieMap.this.keyAndValueHashCode(key, value);
+            }
+        });
+        return hashCode[0];
+    }
+
+    @Override
+    public String toString()
+    {
+        final StringBuilder builder = new StringBuilder("{");
+        this.forEachKeyValue(new Procedure2<K, V>()
+        {
+            public void value(K key, V value)
+            {
+                if (builder.length() > 1)
+                {
+                    builder.append(", ");
+                }
+                builder.append(key == ImmutableHashTrieMap.this ? "(this Map)" : String.valueOf(key));
+                builder.append('=');
+                builder.append(value == ImmutableHashTrieMap.this ? "(this Map)" : String.valueOf(value));
+            }
+        });
+        return builder.append('}').toString();
+    }
+
+    private Object writeReplace()
+    {
+        return new ImmutableMapSerializationProxy<K, V>(this);
+    }
+
+    /**
+     * Records how an update changed the number of keys in the map.
+     */
+    private static final class Change
+    {
+        private int sizeDelta;
+    }
+
+    private abstract static class Node
+    {
+        abstract Object get(Object key, int hash, int shift);
+
+        abstract Node put(Object key, Object value, int hash, int shift, Change change);
+
+        abstract Node remove(Object key, int hash, int shift, Change change);
+
+        /**
+         * Compares two nodes at the same level of the tree. Every map has a single canonical tree shape, so equal
+         * maps have equal nodes, and a sub-tree that two maps share is equal without being looked at.
+         */
+        abstract boolean equivalent(Node that);
+
+        abstract int payloadArity();
+
+        abstract Object getKey(int index);
+
+        abstract Object getValue(int index);
+
+        abstract int nodeArity();
+
+        abstract Node getNode(int index);
+
+        abstract void forEachKeyValue(Procedure2<Object, Object> procedure);
+    }
+
+    /**
+     * A node which stores its entries and sub-nodes in a single array, indexed by two bitmaps over the 32 possible
+     * values of a level of the hash code. The entries are stored as key, value pairs from the front of the array and
+     * the sub-nodes from the back.
+     */
+    private static final class BitmapIndexedNode extends Node
+    {
+        private final int dataMap;
+        private final int nodeMap;
+        private final Object[] content;
+
+        private BitmapIndexedNode(int dataMap, int nodeMap, Object[] content)
+        {
+            this.dataMap = dataMap;
+            this.nodeMap = nodeMap;
+            this.content = content;
+        }
+
+        private int dataIndex(int bitpos)
+        {
+            return Integer.bitCount(this.dataMap & (bitpos - 1));
+        }
+
+        private int nodeIndex(int bitpos)
+        {
+            return Integer.bitCount(this.nodeMap & (bitpos - 1));
+        }
+
+        private Node nodeAt(int bitpos)
+        {
+            return (Node) this.content[this.content.length - 1 - this.nodeIndex(bitpos)];
+        }
+
+        @Override
+        Object get(Object key, int hash, int shift)
+        {
+            int bitpos = bitpos(mask(hash, shift));
+            if ((this.dataMap & bitpos) != 0)
+            {
+                int index = this.dataIndex(bitpos) << 1;
+                return Comparators.nullSafeEquals(this.content[index], key) ? this.content[index + 1] : NOT_FOUND;
+            }
+            if ((this.nodeMap & bitpos) != 0)
+            {
+                return this.nodeAt(bitpos).get(key, hash, shift + BITS_PER_LEVEL);
+            }
+            return NOT_FOUND;
+        }
+
+        @Override
+        Node put(Object key, Object value, int hash, int shift, Change change)
+        {
+            int bitpos = bitpos(mask(hash, shift));
+            if ((this.dataMap & bitpos) != 0)
+            {
+                int index = this.dataIndex(bitpos) << 1;
+                Object currentKey = this.content[index];
+                if (Comparators.nullSafeEquals(currentKey, key))
+                {
+                    if (this.content[index + 1] == value)
+                    {
+                        return this;
+                    }
+                    Object[] newContent = this.content.clone();
+                    newContent[index + 1] = value;
+                    return new BitmapIndexedNode(this.dataMap, this.nodeMap, newContent);
+                }
+                Node subNode = mergeTwoKeyValuePairs(
+                        currentKey, this.content[index + 1], hash(currentKey),
+                        key, value, hash,
+                        shift + BITS_PER_LEVEL);
+                change.sizeDelta++;
+                return this.copyAndMigrateFromInlineToNode(bitpos, subNode);
+            }
+            if ((this.nodeMap & bitpos) != 0)
+            {
+                Node subNode = this.nodeAt(bitpos);
+                Node newSubNode = subNode.put(key, value, hash, shift + BITS_PER_LEVEL, change);
+                return newSubNode == subNode ? this : this.copyAndSetNode(bitpos, newSubNode);
+            }
+            change.sizeDelta++;
+            return this.copyAndInsertValue(bitpos, key, value);
+        }
+
+        @Override
+        Node remove(Object key, int hash, int shift, Change change)
+        {
+            int bitpos = bitpos(mask(hash, shift));
+            if ((this.dataMap & bitpos) != 0)
+            {
+                int index = this.dataIndex(bitpos) << 1;
+                if (!Comparators.nullSafeEquals(this.content[index], key))
+                {
+                    return this;
+                }
+                change.sizeDelta--;
+                return this.copyAndRemoveValue(bitpos);
+            }
+            if ((this.nodeMap & bitpos) != 0)
+            {
+                Node subNode = this.nodeAt(bitpos);
+                Node newSubNode = subNode.remove(key, hash, shift + BITS_PER_LEVEL, change);
+                if (newSubNode == subNode)
+                {
+                    return this;
+                }
+                if (newSubNode.payloadArity() == 1 && newSubNode.nodeArity() == 0)
+                {
+                    return this.copyAndMigrateFromNodeToInline(bitpos, newSubNode.getKey(0), newSubNode.getValue(0));
+                }
+                return this.copyAndSetNode(bitpos, newSubNode);
+            }
+            return this;
+        }
+
+        @Override
+        boolean equivalent(Node that)
+        {
+            if (that == this)
+            {
+                return true;
+            }
+            if (!(that instanceof BitmapIndexedNode))
+            {
+                return false;
+            }
+            BitmapIndexedNode other = (BitmapIndexedNode) that;
+            if (this.dataMap != other.dataMap || this.nodeMap != other.nodeMap)
+            {
+                return false;
+            }
+            int payloadLength = Integer.bitCount(this.dataMap) << 1;
+            for (int i = 0; i < payloadLength; i++)
+            {
+                if (!Comparators.nullSafeEquals(this.content[i], other.content[i]))
+                {
+                    return false;
+                }
+            }
+            for (int i = payloadLength; i < this.content.length; i++)
+            {
+                if (!((Node) this.content[i]).equivalent((Node) other.content[i]))
+                {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private Node copyAndSetNode(int bitpos, Node node)
+        {
+            Object[] newContent = this.content.clone();
+            newContent[this.content.length - 1 - this.nodeIndex(bitpos)] = node;
+            return new BitmapIndexedNode(this.dataMap, this.nodeMap, newContent);
+        }
+
+        private Node copyAndInsertValue(int bitpos, Object key, Object value)
+        {
+            int index = this.dataIndex(bitpos) << 1;
+            Object[] newContent = new Object[this.content.length + 2];
+            System.arraycopy(this.content, 0, newContent, 0, index);
+            newContent[index] = key;
+            newContent[index + 1] = value;
+            System.arraycopy(this.content, index, newContent, index + 2, this.content.length - index);
+            return new BitmapIndexedNode(this.dataMap | bitpos, this.nodeMap, newContent);
+        }
+
+        private Node copyAndRemoveValue(int bitpos)
+        {
+            int index = this.dataIndex(bitpos) << 1;
+            Object[] newContent = new Object[this.content.length - 2];
+            System.arraycopy(this.content, 0, newContent, 0, index);
+            System.arraycopy(this.content, index + 2, newContent, index, this.content.length - index - 2);
+            return new BitmapIndexedNode(this.dataMap ^ bitpos, this.nodeMap, newContent);
+        }
+
+        private Node copyAndMigrateFromInlineToNode(int bitpos, Node node)
+        {
+            int oldIndex = this.dataIndex(bitpos) << 1;
+            int newIndex = this.content.length - 2 - this.nodeIndex(bitpos);
+            Object[] newContent = new Object[this.content.length - 1];
+            System.arraycopy(this.content, 0, newContent, 0, oldIndex);
+            System.arraycopy(this.content, oldIndex + 2, newContent, oldIndex, newIndex - oldIndex);
+            newContent[newIndex] = node;
+            System.arraycopy(this.content, newIndex + 2, newContent, newIndex + 1, this.content.length - newIndex - 2);
+            return new BitmapIndexedNode(this.dataMap ^ bitpos, this.nodeMap | bitpos, newContent);
+        }
+
+        private Node copyAndMigrateFromNodeToInline(int bitpos, Object key, Object value)
+        {
+            int oldIndex = this.content.length - 1 - this.nodeIndex(bitpos);
+            int newIndex = this.dataIndex(bitpos) << 1;
+            Object[] newContent = new Object[this.content.length + 1];
+            System.arraycopy(this.content, 0, newContent, 0, newIndex);
+            newContent[newIndex] = key;
+            newContent[newIndex + 1] = value;
+            System.arraycopy(this.content, newIndex, newContent, newIndex + 2, oldIndex - newIndex);
+            System.arraycopy(this.content, oldIndex + 1, newContent, oldIndex + 2, this.content.length - oldIndex - 1);
+            return new BitmapIndexedNode(this.dataMap | bitpos, this.nodeMap ^ bitpos, newContent);
+        }
+
+        @Override
+        int payloadArity()
+        {
+            return Integer.bitCount(this.dataMap);
+        }
+
+        @Override
+        Object getKey(int index)
+        {
+            return this.content[index << 1];
+        }
+
+        @Override
+        Object getValue(int index)
+        {
+            return this.content[(index << 1) + 1];
+        }
+
+        @Override
+        int nodeArity()
+        {
+            return Integer.bitCount(this.nodeMap);
+        }
+
+        @Override
+        Node getNode(int index)
+        {
+            return (Node) this.content[this.content.length - 1 - index];
+        }
+
+        @Override
+        void forEachKeyValue(Procedure2<Object, Object> procedure)
+        {
+            int payloadLength = Integer.bitCount(this.dataMap) << 1;
+            for (int i = 0; i < payloadLength; i += 2)
+            {
+                procedure.value(this.content[i], this.content[i + 1]);
+            }
+            for (int i = payloadLength; i < this.content.length; i++)
+            {
+                ((Node) this.content[i]).forEachKeyValue(procedure);
+            }
+        }
+    }
+
+    /**
+     * A node for keys whose hash codes are equal in all 32 bits, which are kept in arrays and compared one by one.
+     */
+    private static final class HashCollisionNode extends Node
+    {
+        private final int hash;
+        private final Object[] keys;
+        private final Object[] values;
+
+        private HashCollisionNode(int hash, Object[] keys, Object[] values)
+        {
+            this.hash = hash;
+            this.keys = keys;
+            this.values = values;
+        }
+
+        private int indexOf(Object key)
+        {
+            for (int i = 0; i < this.keys.length; i++)
+            {
+                if (Comparators.nullSafeEquals(this.keys[i], key))
+                {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        Object get(Object key, int hash, int shift)
+        {
+            int index = this.indexOf(key);
+            return index == -1 ? NOT_FOUND : this.values[index];
+        }
+
+        @Override
+        Node put(Object key, Object value, int hash, int shift, Change change)
+        {
+            int index = this.indexOf(key);
+            if (index != -1)
+            {
+                if (this.values[index] == value)
+                {
+                    return this;
+                }
+                Object[] newValues = this.values.clone();
+                newValues[index] = value;
+                return new HashCollisionNode(this.hash, this.keys, newValues);
+            }
+            int length = this.keys.length;
+            Object[] newKeys = new Object[length + 1];
+            Object[] newValues = new Object[length + 1];
+            System.arraycopy(this.keys, 0, newKeys, 0, length);
+            System.arraycopy(this.values, 0, newValues, 0, length);
+            newKeys[length] = key;
+            newValues[length] = value;
+            change.sizeDelta++;
+            return new HashCollisionNode(this.hash, newKeys, newValues);
+        }
+
+        @Override
+        Node remove(Object key, int hash, int shift, Change change)
+        {
+            int index = this.indexOf(key);
+            if (index == -1)
+            {
+                return this;
+            }
+            change.sizeDelta--;
+            int length = this.keys.length;
+            if (length == 2)
+            {
+                // the parent inlines the remaining entry, so only the payload of this node matters
+                int remaining = 1 - index;
+                return new BitmapIndexedNode(
+                        bitpos(mask(this.hash, 0)),
+                        0,
+                        new Object[]{this.keys[remaining], this.values[remaining]});
+            }
+            Object[] newKeys = new Object[length - 1];
+            Object[] newValues = new Object[length - 1];
+            System.arraycopy(this.keys, 0, newKeys, 0, index);
+            System.arraycopy(this.keys, index + 1, newKeys, index, length - index - 1);
+            System.arraycopy(this.values, 0, newValues, 0, index);
+            System.arraycopy(this.values, index + 1, newValues, index, length - index - 1);
+            return new HashCollisionNode(this.hash, newKeys, newValues);
+        }
+
+        @Override
+        boolean equivalent(Node that)
+        {
+            if (that == this)
+            {
+                return true;
+            }
+            if (!(that instanceof HashCollisionNode))
+            {
+                return false;
+            }
+            HashCollisionNode other = (HashCollisionNode) that;
+            if (this.keys.length != other.keys.length)
+            {
+                return false;
+            }
+            for (int i = 0; i < this.keys.length; i++)
+            {
+                int index = other.indexOf(this.keys[i]);
+                if (index == -1 || !Comparators.nullSafeEquals(this.values[i], other.values[index]))
+                {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        int payloadArity()
+        {
+            return this.keys.length;
+        }
+
+        @Override
+        Object getKey(int index)
+        {
+            return this.keys[index];
+        }
+
+        @Override
+        Object getValue(int index)
+        {
+            return this.values[index];
+        }
+
+        @Override
+        int nodeArity()
+        {
+            return 0;
+        }
+
+        @Override
+        Node getNode(int index)
+        {
+            throw new IndexOutOfBoundsException("Index: " + index + " Size: 0");
+        }
+
+        @Override
+        void forEachKeyValue(Procedure2<Object, Object> procedure)
+        {
+            for (int i = 0; i < this.keys.length; i++)
+            {
+                procedure.value(this.keys[i], this.values[i]);
+            }
+        }
+    }
+
+    private static Node mergeTwoKeyValuePairs(
+            Object key0, Object value0, int hash0,
+            Object key1, Object value1, int hash1,
+            int shift)
+    {
+        if (shift >= HASH_CODE_LENGTH)
+        {
+            return new HashCollisionNode(hash0, new Object[]{key0, key1}, new Object[]{value0, value1});
+        }
+        int mask0 = mask(hash0, shift);
+        int mask1 = mask(hash1, shift);
+        if (mask0 != mask1)
+        {
+            int dataMap = bitpos(mask0) | bitpos(mask1);
+            if (mask0 < mask1)
+            {
+                return new BitmapIndexedNode(dataMap, 0, new Object[]{key0, value0, key1, value1});
+            }
+            return new BitmapIndexedNode(dataMap, 0, new Object[]{key1, value1, key0, value0});
+        }
+        Node node = mergeTwoKeyValuePairs(key0, value0, hash0, key1, value1, hash1, shift + BITS_PER_LEVEL);
+        return new BitmapIndexedNode(0, bitpos(mask0), new Object[]{node});
+    }
+
+    /**
+     * Iterates over the entries of the trie depth first, keeping the path from the root in a fixed size stack.
+     */
+    private abstract static class TrieIterator<T> implements Iterator<T>
+    {
+        private final Node[] nodes = new Node[MAX_DEPTH];
+        private final int[] nodeCursors = new int[MAX_DEPTH];
+        private int depth;
+        private Node currentValueNode;
+        private int currentValueCursor;
+
+        protected TrieIterator(Node root)
+        {
+            this.nodes[0] = root;
+            this.currentValueNode = root;
+            this.findNextValueNode();
+        }
+
+        private void findNextValueNode()
+        {
+            while (this.currentValueCursor >= this.currentValueNode.payloadArity())
+            {
+                while (this.depth >= 0 && this.nodeCursors[this.depth] >= this.nodes[this.depth].nodeArity())
+                {
+                    this.depth--;
+                }
+                if (this.depth < 0)
+                {
+                    this.currentValueNode = null;
+                    return;
+                }
+                Node next = this.nodes[this.depth].getNode(this.nodeCursors[this.depth]++);
+                this.depth++;
+                this.nodes[this.depth] = next;
+                this.nodeCursors[this.depth] = 0;
+                this.currentValueNode = next;
+                this.currentValueCursor = 0;
+            }
+        }
+
+        protected abstract T valueAt(Node node, int index);
+
+        public boolean hasNext()
+        {
+            return this.currentValueNode != null;
+        }
+
+        public T next()
+        {
+            if (this.currentValueNode == null)
+            {
+                throw new NoSuchElementException();
+            }
+            T result = this.valueAt(this.currentValueNode, this.currentValueCursor++);
+            this.findNextValueNode();
+            return result;
+        }
+
+        public void remove()
+        {
+            throw new UnsupportedOperationException("Cannot remove from an immutable map");
+        }
+    }
+
+    private final class KeySet extends AbstractSet<K>
+    {
+        @Override
+        public Iterator<K> iterator()
+        {
+            return new TrieIterator<K>(ImmutableHashTrieMap.this.root)
+            {
+                @Override
+                protected K valueAt(Node node, int index)
+                {
+                    return (K) node.getKey(index);
+                }
+            };
+        }
+
+        @Override
+        public int size()
+        {
+            return ImmutableHashTrieMap.this.size;
+        }
+
+        @Override
+        public boolean contains(Object key)
+        {
+            return ImmutableHashTrieMap.this.containsKey(key);
+        }
+    }
+
+    private final class Values extends AbstractCollection<V>
+    {
+        @Override
+        public Iterator<V> iterator()
+        {
+            return ImmutableHashTrieMap.this.valuesIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return ImmutableHashTrieMap.this.size;
+        }
+    }
+}
@@ -510,6 +510,26 @@ public class UnmodifiableMutableMap<K, V>
         return this.getMutableMap().toSortedListBy(function);
     }
 
+    public MutableList<V> topK(int k, Comparator<? super V> comparator)
+    {
+        return this.getMutableMap().topK(k, comparator);
+    }
+
+    public MutableList<V> bottomK(int k, Comparator<? super V> comparator)
+    {
+        return this.getMutableMap().bottomK(k, comparator);
+    }
+
+    public <R extends Comparable<? super R>> MutableList<V> topKBy(int k, Function<? super V, ? extends R> function)
+    {
+        return this.getMutableMap().topKBy(k, function);
+    }
+
+    public <R extends Comparable<? super R>> MutableList<V> bottomKBy(int k, Function<? super V, ? extends R> function)
+    {
+        return this.getMutableMap().bottomKBy(k, function);
+    }
+
     public MutableSortedSet<V> toSortedSet()
     {
         return this.getMutableMap().toSortedSet();
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.map.mutable.primitive;
+
+import java.lang.ref.PhantomReference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.reflect.Field;
+import java.security.AccessController;
+import java.security.PrivilegedActionException;
+import java.security.PrivilegedExceptionAction;
+
+import com.gs.collections.api.set.MutableSet;
+import com.gs.collections.impl.set.mutable.UnifiedSet;
+import sun.misc.Unsafe;
+
+/**
+ * The native memory behind the generated OffHeap primitive maps. The maps go through this class rather than using
+ * Unsafe themselves, so that Unsafe is referenced from one class instead of from every generated map.
+ * <p>
+ * Each block of memory is tracked by a phantom reference to the map which owns it. If a map becomes unreachable without
+ * being freed, its blocks are released the next time any block is allocated.
+ */
+@SuppressWarnings("UseOfSunClasses")
+final class OffHeapMemory
+{
+    private static final Unsafe UNSAFE = OffHeapMemory.getUnsafe();
+    private static final ReferenceQueue<Object> UNREACHABLE_OWNERS = new ReferenceQueue<Object>();
+    private static final MutableSet<Block> BLOCKS = UnifiedSet.<Block>newSet().asSynchronized();
+
+    private OffHeapMemory()
+    {
+        throw new AssertionError("Suppress default constructor for noninstantiability");
+    }
+
+    private static Unsafe getUnsafe()
+    {
+        try
+        {
+            return Unsafe.getUnsafe();
+        }
+        catch (SecurityException ignored)
+        {
+            try
+            {
+                return AccessController.doPrivileged(new PrivilegedExceptionAction<Unsafe>()
+                {
+                    public Unsafe run() throws Exception
+                    {
+                        Field f = Unsafe.class.getDeclaredField("theUnsafe");
+                        f.setAccessible(true);
+                        return (Unsafe) f.get(null);
+                    }
+                });
+            }
+            catch (PrivilegedActionException e)
+            {
+                throw new RuntimeException("Could not initialize intrinsics", e.getCause());
+            }
+        }
+    }
+
+    /**
+     * Allocates a zeroed block of the given number of bytes, which is released when {@link Block#free()} is called or
+     * after owner has become unreachable.
+     */
+    static Block allocate(Object owner, long bytes)
+    {
+        OffHeapMemory.freeUnreachable();
+        long address = UNSAFE.allocateMemory(bytes);
+        UNSAFE.setMemory(address, bytes, (byte) 0);
+        Block block = new Block(owner, address, bytes);
+        BLOCKS.add(block);
+        return block;
+    }
+
+    private static void freeUnreachable()
+    {
+        Block block;
+        while ((block = (Block) UNREACHABLE_OWNERS.poll()) != null)
+        {
+            block.free();
+        }
+    }
+
+    // exposed for testing
+    static int allocatedBlocks()
+    {
+        OffHeapMemory.freeUnreachable();
+        return BLOCKS.size();
+    }
+
+    static byte getByte(long address)
+    {
+        return UNSAFE.getByte(address);
+    }
+
+    static void putByte(long address, byte value)
+    {
+        UNSAFE.putByte(address, value);
+    }
+
+    static short getShort(long address)
+    {
+        return UNSAFE.getShort(address);
+    }
+
+    static void putShort(long address, short value)
+    {
+        UNSAFE.putShort(address, value);
+    }
+
+    static char getChar(long address)
+    {
+        return UNSAFE.getChar(address);
+    }
+
+    static void putChar(long address, char value)
+    {
+        UNSAFE.putChar(address, value);
+    }
+
+    static int getInt(long address)
+    {
+        return UNSAFE.getInt(address);
+    }
+
+    static void putInt(long address, int value)
+    {
+        UNSAFE.putInt(address, value);
+    }
+
+    static long getLong(long address)
+    {
+        return UNSAFE.getLong(address);
+    }
+
+    static void putLong(long address, long value)
+    {
+        UNSAFE.putLong(address, value);
+    }
+
+    static float getFloat(long address)
+    {
+        return UNSAFE.getFloat(address);
+    }
+
+    static void putFloat(long address, float value)
+    {
+        UNSAFE.putFloat(address, value);
+    }
+
+    static double getDouble(long address)
+    {
+        return UNSAFE.getDouble(address);
+    }
+
+    static void putDouble(long address, double value)
+    {
+        UNSAFE.putDouble(address, value);
+    }
+
+    static final class Block extends PhantomReference<Object>
+    {
+        private final long address;
+        private final long bytes;
+
+        private Block(Object owner, long address, long bytes)
+        {
+            super(owner, UNREACHABLE_OWNERS);
+            this.address = address;
+            this.bytes = bytes;
+        }
+
+        long getAddress()
+        {
+            return this.address;
+        }
+
+        void zero()
+        {
+            UNSAFE.setMemory(this.address, this.bytes, (byte) 0);
+        }
+
+        /**
+         * Releases the block. Calling free more than once has no effect.
+         */
+        void free()
+        {
+            if (BLOCKS.remove(this))
+            {
+                this.clear();
+                UNSAFE.freeMemory(this.address);
+            }
+        }
+    }
+}
@@ -0,0 +1,1316 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.gs.collections.impl.map.sorted.mutable;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+
+import com.gs.collections.api.block.procedure.Procedure2;
+
+/**
+ * BTreeMap is a {@link SortedMap} stored as a B+ tree. Each leaf packs up to {@value #MAX_LEAF_SIZE} keys and values
+ * into a pair of parallel arrays and links to its neighbours, and each branch holds up to {@value #MAX_BRANCH_SIZE}
+ * children. A lookup is a handful of binary searches over contiguous arrays instead of a pointer chase through one
+ * node per entry as in {@link java.util.TreeMap}, and iteration walks the linked leaves array by array.
+ * <p>
+ * A BTreeMap created through {@link #newKeySet(Comparator)} stores no values at all, and the returned key set supports
+ * {@code add}. It is the storage behind {@link BTreeSortedMap},
+ * {@link com.gs.collections.impl.set.sorted.mutable.BTreeSortedSet} and
+ * {@link com.gs.collections.impl.bag.sorted.mutable.BTreeBag}.
+ * <p>
+ * Like TreeMap, a BTreeMap does not permit null keys unless its comparator does, and its iterators are fail-fast.
+ *
+ * @since 7.1
+ */
+public final class BTreeMap<K, V>
+        extends AbstractMap<K, V>
+        implements SortedMap<K, V>
+{
+    static final int MAX_LEAF_SIZE = 64;
+    static final int MAX_BRANCH_SIZE = 64;
+    private static final int MIN_LEAF_SIZE = MAX_LEAF_SIZE / 2;
+    private static final int MIN_BRANCH_SIZE = MAX_BRANCH_SIZE / 2;
+    private static final int INITIAL_LEAF_CAPACITY = 4;
+    private static final Object[] EMPTY_ARRAY = {};
+    private static final Object NONE = new Object();
+
+    private final Comparator<? super K> comparator;
+    private final boolean keysOnly;
+    private Node root;
+    private int size;
+    private int modCount;
+
+    // Results passed back up the recursion by insert and delete
+    private Object splitKey;
+    private Node splitNode;
+    private Object previousValue;
+
+    public BTreeMap()
+    {
+        this(null);
+    }
+
+    public BTreeMap(Comparator<? super K> comparator)
+    {
+        this(comparator, false);
+    }
+
+    private BTreeMap(Comparator<? super K> comparator, boolean keysOnly)
+    {
+        this.comparator = comparator;
+        this.keysOnly = keysOnly;
+        this.root = new Leaf(0, keysOnly);
+    }
+
+    /**
+     * Returns the key set of a new, empty BTreeMap which stores keys only. Unlike the key set of a regular map, the
+     * returned set (and its sub set views) support {@code add}.
+     */
+    public static <K> SortedSet<K> newKeySet(Comparator<? super K> comparator)
+    {
+        return new BTreeMap<K, Object>(comparator, true).keySet();
+    }
+
+    public Comparator<? super K> comparator()
+    {
+        return this.comparator;
+    }
+
+    @Override
+    public int size()
+    {
+        return this.size;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.size == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key)
+    {
+        this.checkKey(key);
+        Leaf leaf = this.findLeaf(key);
+        return this.search(leaf.keys, leaf.size, key) >= 0;
+    }
+
+    @Override
+    public V get(Object key)
+    {
+        this.checkKey(key);
+        Leaf leaf = this.findLeaf(key);
+        int index = this.search(leaf.keys, leaf.size, key);
+        return index < 0 || this.keysOnly ? null : (V) leaf.values[index];
+    }
+
+    @Override
+    public V put(K key, V value)
+    {
+        this.insertKey(key, value);
+        V result = (V) this.previousValue;
+        this.previousValue = null;
+        return result;
+    }
+
+    @Override
+    public V remove(Object key)
+    {
+        if (!this.removeKey(key))
+        {
+            return null;
+        }
+        V result = (V) this.previousValue;
+        this.previousValue = null;
+        return result;
+    }
+
+    @Override
+    public void clear()
+    {
+        this.root = new Leaf(0, this.keysOnly);
+        this.size = 0;
+        this.modCount++;
+    }
+
+    public K firstKey()
+    {
+        if (this.size == 0)
+        {
+            throw new NoSuchElementException();
+        }
+        return (K) this.firstLeaf().keys[0];
+    }
+
+    public K lastKey()
+    {
+        if (this.size == 0)
+        {
+            throw new NoSuchElementException();
+        }
+        Leaf leaf = this.lastLeaf();
+        return (K) leaf.keys[leaf.size - 1];
+    }
+
+    public SortedMap<K, V> subMap(K fromKey, K toKey)
+    {
+        return new RangeMap(false, null, false, null).subMap(fromKey, toKey);
+    }
+
+    public SortedMap<K, V> headMap(K toKey)
+    {
+        return new RangeMap(false, null, false, null).headMap(toKey);
+    }
+
+    public SortedMap<K, V> tailMap(K fromKey)
+    {
+        return new RangeMap(false, null, false, null).tailMap(fromKey);
+    }
+
+    @Override
+    public SortedSet<K> keySet()
+    {
+        return new KeySet(new RangeMap(false, null, false, null));
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet()
+    {
+        return new EntrySet(new RangeMap(false, null, false, null));
+    }
+
+    @Override
+    public Collection<V> values()
+    {
+        return new Values();
+    }
+
+    /**
+     * Visits every key and value in key order, walking the leaves directly.
+     */
+    public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+    {
+        for (Leaf leaf = this.firstLeaf(); leaf != null; leaf = leaf.next)
+        {
+            for (int i = 0; i < leaf.size; i++)
+            {
+                procedure.value((K) leaf.keys[i], this.keysOnly ? null : (V) leaf.values[i]);
+            }
+        }
+    }
+
+    private void checkKey(Object key)
+    {
+        if (key == null && this.comparator == null)
+        {
+            throw new NullPointerException();
+        }
+    }
+
+    private int compare(Object key1, Object key2)
+    {
+        if (this.comparator == null)
+        {
+            return ((Comparable<Object>) key1).compareTo(key2);
+        }
+        return ((Comparator<Object>) this.comparator).compare(key1, key2);
+    }
+
+    private int search(Object[] keys, int length, Object key)
+    {
+        int low = 0;
+        int high = length - 1;
+        while (low <= high)
+        {
+            int mid = (low + high) >>> 1;
+            int result = this.compare(keys[mid], key);
+            if (result < 0)
+            {
+                low = mid + 1;
+            }
+            else if (result > 0)
+            {
+                high = mid - 1;
+            }
+            else
+            {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private int childIndex(Branch branch, Object key)
+    {
+        int index = this.search(branch.keys, branch.size - 1, key);
+        return index >= 0 ? index + 1 : -(index + 1);
+    }
+
+    private Leaf findLeaf(Object key)
+    {
+        Node node = this.root;
+        while (node instanceof Branch)
+        {
+            Branch branch = (Branch) node;
+            node = branch.children[this.childIndex(branch, key)];
+        }
+        return (Leaf) node;
+    }
+
+    private Leaf firstLeaf()
+    {
+        Node node = this.root;
+        while (node instanceof Branch)
+        {
+            node = ((Branch) node).children[0];
+        }
+        return (Leaf) node;
+    }
+
+    private Leaf lastLeaf()
+    {
+        Node node = this.root;
+        while (node instanceof Branch)
+        {
+            Branch branch = (Branch) node;
+            node = branch.children[branch.size - 1];
+        }
+        return (Leaf) node;
+    }
+
+    /**
+     * Inserts or replaces the mapping for key, leaving the replaced value in previousValue.
+     *
+     * @return true if the key was not already present
+     */
+    private boolean insertKey(Object key, Object value)
+    {
+        this.checkKey(key);
+        if (this.size == 0)
+        {
+            // Type (and null) check, as TreeMap does for the first key
+            this.compare(key, key);
+        }
+        int oldSize = this.size;
+        this.previousValue = null;
+        this.insert(this.root, key, value);
+        if (this.splitNode != null)
+        {
+            Branch newRoot = new Branch();
+            newRoot.keys[0] = this.splitKey;
+            newRoot.children[0] = this.root;
+            newRoot.children[1] = this.splitNode;
+            newRoot.size = 2;
+            this.root = newRoot;
+            this.splitKey = null;
+            this.splitNode = null;
+        }
+        return this.size != oldSize;
+    }
+
+    private void insert(Node node, Object key, Object value)
+    {
+        if (node instanceof Leaf)
+        {
+            this.insertIntoLeaf((Leaf) node, key, value);
+            return;
+        }
+        Branch branch = (Branch) node;
+        int childIndex = this.childIndex(branch, key);
+        this.insert(branch.children[childIndex], key, value);
+        if (this.splitNode != null)
+        {
+            Object newKey = this.splitKey;
+            Node newChild = this.splitNode;
+            this.splitKey = null;
+            this.splitNode = null;
+            this.insertIntoBranch(branch, childIndex, newKey, newChild);
+        }
+    }
+
+    private void insertIntoLeaf(Leaf leaf, Object key, Object value)
+    {
+        int index = this.search(leaf.keys, leaf.size, key);
+        if (index >= 0)
+        {
+            if (!this.keysOnly)
+            {
+                this.previousValue = leaf.values[index];
+                leaf.values[index] = value;
+            }
+            return;
+        }
+        index = -(index + 1);
+        this.size++;
+        this.modCount++;
+        if (leaf.size < MAX_LEAF_SIZE)
+        {
+            leaf.insertAt(index, key, value);
+            return;
+        }
+        Leaf right = new Leaf(MAX_LEAF_SIZE, this.keysOnly);
+        if (index == MAX_LEAF_SIZE && leaf.next == null)
+        {
+            // Appending past the last key leaves the full leaf as it is, so ascending loads pack leaves densely
+            right.insertAt(0, key, value);
+        }
+        else
+        {
+            int half = MAX_LEAF_SIZE / 2;
+            leaf.moveTo(right, half);
+            if (index <= half)
+            {
+                leaf.insertAt(index, key, value);
+            }
+            else
+            {
+                right.insertAt(index - half, key, value);
+            }
+        }
+        right.next = leaf.next;
+        if (leaf.next != null)
+        {
+            leaf.next.previous = right;
+        }
+        leaf.next = right;
+        right.previous = leaf;
+        this.splitKey = right.keys[0];
+        this.splitNode = right;
+    }
+
+    private void insertIntoBranch(Branch branch, int childIndex, Object key, Node child)
+    {
+        if (branch.size < MAX_BRANCH_SIZE)
+        {
+            branch.insertChild(childIndex, key, child);
+            return;
+        }
+        int mid = MAX_BRANCH_SIZE / 2;
+        Branch right = new Branch();
+        Object promoted = branch.keys[mid - 1];
+        System.arraycopy(branch.children, mid, right.children, 0, MAX_BRANCH_SIZE - mid);
+        System.arraycopy(branch.keys, mid, right.keys, 0, MAX_BRANCH_SIZE - mid - 1);
+        right.size = MAX_BRANCH_SIZE - mid;
+        for (int i = mid; i < MAX_BRANCH_SIZE; i++)
+        {
+            branch.children[i] = null;
+            branch.keys[i - 1] = null;
+        }
+        branch.size = mid;
+        if (childIndex < mid)
+        {
+            branch.insertChild(childIndex, key, child);
+        }
+        else
+        {
+            right.insertChild(childIndex - mid, key, child);
+        }
+        this.splitKey = promoted;
+        this.splitNode = right;
+    }
+
+    /**
+     * Removes the mapping for key, leaving its value in previousValue.
+     *
+     * @return true if the key was present
+     */
+    private boolean removeKey(Object key)
+    {
+        this.checkKey(key);
+        this.previousValue = null;
+        if (!this.delete(this.root, key))
+        {
+            return false;
+        }
+        this.size--;
+        this.modCount++;
+        if (this.root instanceof Branch && this.root.size == 1)
+        {
+            this.root = ((Branch) this.root).children[0];
+        }
+        return true;
+    }
+
+    private boolean delete(Node node, Object key)
+    {
+        if (node instanceof Leaf)
+        {
+            Leaf leaf = (Leaf) node;
+            int index = this.search(leaf.keys, leaf.size, key);
+            if (index < 0)
+            {
+                return false;
+            }
+            if (!this.keysOnly)
+            {
+                this.previousValue = leaf.values[index];
+            }
+            leaf.removeAt(index);
+            return true;
+        }
+        Branch branch = (Branch) node;
+        int childIndex = this.childIndex(branch, key);
+        Node child = branch.children[childIndex];
+        if (!this.delete(child, key))
+        {
+            return false;
+        }
+        if (child.size < BTreeMap.minimumSize(child))
+        {
+            BTreeMap.rebalance(branch, childIndex);
+        }
+        return true;
+    }
+
+    private static int minimumSize(Node node)
+    {
+        return node instanceof Leaf ? MIN_LEAF_SIZE : MIN_BRANCH_SIZE;
+    }
+
+    /**
+     * Restores the minimum fill of parent.children[index] by borrowing from a sibling which has entries to spare, or
+     * else by merging with a sibling. The separators in the parent stay valid bounds even when they no longer match a
+     * key in a leaf, so only the separators between the affected children are rewritten.
+     */
+    private static void rebalance(Branch parent, int index)
+    {
+        Node child = parent.children[index];
+        if (index > 0)
+        {
+            Node left = parent.children[index - 1];
+            if (left.size > BTreeMap.minimumSize(left))
+            {
+                if (child instanceof Leaf)
+                {
+                    Leaf leftLeaf = (Leaf) left;
+                    int last = leftLeaf.size - 1;
+                    ((Leaf) child).insertAt(0, leftLeaf.keys[last], leftLeaf.valueAt(last));
+                    leftLeaf.removeAt(last);
+                    parent.keys[index - 1] = child.keys[0];
+                }
+                else
+                {
+                    Branch leftBranch = (Branch) left;
+                    Branch branch = (Branch) child;
+                    branch.insertFirstChild(parent.keys[index - 1], leftBranch.children[leftBranch.size - 1]);
+                    parent.keys[index - 1] = leftBranch.keys[leftBranch.size - 2];
+                    leftBranch.removeLastChild();
+                }
+                return;
+            }
+        }
+        if (index < parent.size - 1)
+        {
+            Node right = parent.children[index + 1];
+            if (right.size > BTreeMap.minimumSize(right))
+            {
+                if (child instanceof Leaf)
+                {
+                    Leaf rightLeaf = (Leaf) right;
+                    Leaf leaf = (Leaf) child;
+                    leaf.insertAt(leaf.size, rightLeaf.keys[0], rightLeaf.valueAt(0));
+                    rightLeaf.removeAt(0);
+                    parent.keys[index] = rightLeaf.keys[0];
+                }
+                else
+                {
+                    Branch rightBranch = (Branch) right;
+                    Branch branch = (Branch) child;
+                    branch.keys[branch.size - 1] = parent.keys[index];
+                    branch.children[branch.size] = rightBranch.children[0];
+                    branch.size++;
+                    parent.keys[index] = rightBranch.keys[0];
+                    rightBranch.removeFirstChild();
+                }
+                return;
+            }
+        }
+        BTreeMap.merge(parent, index > 0 ? index - 1 : index);
+    }
+
+    private static void merge(Branch parent, int index)
+    {
+        Node left = parent.children[index];
+        Node right = parent.children[index + 1];
+        if (left instanceof Leaf)
+        {
+            Leaf leftLeaf = (Leaf) left;
+            Leaf rightLeaf = (Leaf) right;
+            leftLeaf.ensureCapacity(leftLeaf.size + rightLeaf.size);
+            System.arraycopy(rightLeaf.keys, 0, leftLeaf.keys, leftLeaf.size, rightLeaf.size);
+            if (leftLeaf.values != null)
+            {
+                System.arraycopy(rightLeaf.values, 0, leftLeaf.values, leftLeaf.size, rightLeaf.size);
+            }
+            leftLeaf.size += rightLeaf.size;
+            leftLeaf.next = rightLeaf.next;
+            if (rightLeaf.next != null)
+            {
+                rightLeaf.next.previous = leftLeaf;
+            }
+        }
+        else
+        {
+            Branch leftBranch = (Branch) left;
+            Branch rightBranch = (Branch) right;
+            leftBranch.keys[leftBranch.size - 1] = parent.keys[index];
+            System.arraycopy(rightBranch.keys, 0, leftBranch.keys, leftBranch.size, rightBranch.size - 1);
+            System.arraycopy(rightBranch.children, 0, leftBranch.children, leftBranch.size, rightBranch.size);
+            leftBranch.size += rightBranch.size;
+        }
+        parent.removeChild(index + 1);
+    }
+
+    private abstract static class Node
+    {
+        protected Object[] keys;
+        protected int size;
+    }
+
+    private static final class Leaf extends Node
+    {
+        private Object[] values;
+        private Leaf next;
+        private Leaf previous;
+
+        private Leaf(int capacity, boolean keysOnly)
+        {
+            this.keys = capacity == 0 ? EMPTY_ARRAY : new Object[capacity];
+            this.values = keysOnly ? null : this.keys.length == 0 ? EMPTY_ARRAY : new Object[capacity];
+        }
+
+        private Object valueAt(int index)
+        {
+            return this.values == null ? null : this.values[index];
+        }
+
+        private void ensureCapacity(int capacity)
+        {
+            if (capacity > this.keys.length)
+            {
+                int newCapacity = Math.min(MAX_LEAF_SIZE, Math.max(INITIAL_LEAF_CAPACITY, this.keys.length << 1));
+                newCapacity = Math.max(newCapacity, capacity);
+                Object[] newKeys = new Object[newCapacity];
+                System.arraycopy(this.keys, 0, newKeys, 0, this.size);
+                this.keys = newKeys;
+                if (this.values != null)
+                {
+                    Object[] newValues = new Object[newCapacity];
+                    System.arraycopy(this.values, 0, newValues, 0, this.size);
+                    this.values = newValues;
+                }
+            }
+        }
+
+        private void insertAt(int index, Object key, Object value)
+        {
+            this.ensureCapacity(this.size + 1);
+            System.arraycopy(this.keys, index, this.keys, index + 1, this.size - index);
+            this.keys[index] = key;
+            if (this.values != null)
+            {
+                System.arraycopy(this.values, index, this.values, index + 1, this.size - index);
+                this.values[index] = value;
+            }
+            this.size++;
+        }
+
+        private void removeAt(int index)
+        {
+            int tail = this.size - index - 1;
+            System.arraycopy(this.keys, index + 1, this.keys, index, tail);
+            this.keys[this.size - 1] = null;
+            if (this.values != null)
+            {
+                System.arraycopy(this.values, index + 1, this.values, index, tail);
+                this.values[this.size - 1] = null;
+            }
+            this.size--;
+        }
+
+        /**
+         * Moves the entries from index onwards to the (empty) target leaf.
+         */
+        private void moveTo(Leaf target, int index)
+        {
+            int count = this.size - index;
+            System.arraycopy(this.keys, index, target.keys, 0, count);
+            for (int i = index; i < this.size; i++)
+            {
+                this.keys[i] = null;
+            }
+            if (this.values != null)
+            {
+                System.arraycopy(this.values, index, target.values, 0, count);
+                for (int i = index; i < this.size; i++)
+                {
+                    this.values[i] = null;
+                }
+            }
+            target.size = count;
+            this.size = index;
+        }
+    }
+
+    /**
+     * A branch with size children and size - 1 separator keys, where keys[i] is no greater than any key under
+     * children[i + 1] and greater than every key under children[i].
+     */
+    private static final class Branch extends Node
+    {
+        private final Node[] children = new Node[MAX_BRANCH_SIZE];
+
+        private Branch()
+        {
+            this.keys = new Object[MAX_BRANCH_SIZE - 1];
+        }
+
+        private void insertChild(int index, Object key, Node child)
+        {
+            System.arraycopy(this.keys, index, this.keys, index + 1, this.size - 1 - index);
+            this.keys[index] = key;
+            System.arraycopy(this.children, index + 1, this.children, index + 2, this.size - 1 - index);
+            this.children[index + 1] = child;
+            this.size++;
+        }
+
+        private void insertFirstChild(Object key, Node child)
+        {
+            System.arraycopy(this.keys, 0, this.keys, 1, this.size - 1);
+            this.keys[0] = key;
+            System.arraycopy(this.children, 0, this.children, 1, this.size);
+            this.children[0] = child;
+            this.size++;
+        }
+
+        private void removeChild(int index)
+        {
+            System.arraycopy(this.keys, index, this.keys, index - 1, this.size - 1 - index);
+            this.keys[this.size - 2] = null;
+            System.arraycopy(this.children, index + 1, this.children, index, this.size - 1 - index);
+            this.children[this.size - 1] = null;
+            this.size--;
+        }
+
+        private void removeFirstChild()
+        {
+            System.arraycopy(this.keys, 1, this.keys, 0, this.size - 2);
+            this.keys[this.size - 2] = null;
+            System.arraycopy(this.children, 1, this.children, 0, this.size - 1);
+            this.children[this.size - 1] = null;
+            this.size--;
+        }
+
+        private void removeLastChild()
+        {
+            this.keys[this.size - 2] = null;
+            this.children[this.size - 1] = null;
+            this.size--;
+        }
+    }
+
+    /**
+     * A view of the keys from low (inclusive) to high (exclusive), where either bound may be absent.
+     */
+    private final class RangeMap
+            extends AbstractMap<K, V>
+            implements SortedMap<K, V>
+    {
+        private final boolean hasLow;
+        private final Object low;
+        private final boolean hasHigh;
+        private final Object high;
+
+        private RangeMap(boolean hasLow, Object low, boolean hasHigh, Object high)
+        {
+            this.hasLow = hasLow;
+            this.low = low;
+            this.hasHigh = hasHigh;
+            this.high = high;
+        }
+
+        private boolean isUnbounded()
+        {
+            return !this.hasLow && !this.hasHigh;
+        }
+
+        private boolean tooLow(Object key)
+        {
+            return this.hasLow && BTreeMap.this.compare(key, this.low) < 0;
+        }
+
+        private boolean inRange(Object key)
+        {
+            return !this.tooLow(key) && (!this.hasHigh || BTreeMap.this.compare(key, this.high) < 0);
+        }
+
+        private boolean inClosedRange(Object key)
+        {
+            return !this.tooLow(key) && (!this.hasHigh || BTreeMap.this.compare(key, this.high) <= 0);
+        }
+
+        public Comparator<? super K> comparator()
+        {
+            return BTreeMap.this.comparator;
+        }
+
+        @Override
+        public int size()
+        {
+            if (this.isUnbounded())
+            {
+                return BTreeMap.this.size;
+            }
+            int count = 0;
+            for (Iterator<K> iterator = new KeyIterator(this); iterator.hasNext(); iterator.next())
+            {
+                count++;
+            }
+            return count;
+        }
+
+        @Override
+        public boolean isEmpty()
+        {
+            return this.isUnbounded() ? BTreeMap.this.size == 0 : !new KeyIterator(this).hasNext();
+        }
+
+        @Override
+        public boolean containsKey(Object key)
+        {
+            return this.inRange(key) && BTreeMap.this.containsKey(key);
+        }
+
+        @Override
+        public V get(Object key)
+        {
+            return this.inRange(key) ? BTreeMap.this.get(key) : null;
+        }
+
+        @Override
+        public V put(K key, V value)
+        {
+            if (!this.inRange(key))
+            {
+                throw new IllegalArgumentException("key out of range");
+            }
+            return BTreeMap.this.put(key, value);
+        }
+
+        @Override
+        public V remove(Object key)
+        {
+            return this.inRange(key) ? BTreeMap.this.remove(key) : null;
+        }
+
+        @Override
+        public void clear()
+        {
+            if (this.isUnbounded())
+            {
+                BTreeMap.this.clear();
+                return;
+            }
+            for (Iterator<K> iterator = new KeyIterator(this); iterator.hasNext(); )
+            {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+
+        @Override
+        public Set<Map.Entry<K, V>> entrySet()
+        {
+            return new EntrySet(this);
+        }
+
+        @Override
+        public SortedSet<K> keySet()
+        {
+            return new KeySet(this);
+        }
+
+        public K firstKey()
+        {
+            Iterator<K> iterator = new KeyIterator(this);
+            if (!iterator.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            return iterator.next();
+        }
+
+        public K lastKey()
+        {
+            Leaf leaf;
+            int index;
+            if (this.hasHigh)
+            {
+                leaf = BTreeMap.this.findLeaf(this.high);
+                int result = BTreeMap.this.search(leaf.keys, leaf.size, this.high);
+                index = (result >= 0 ? result : -(result + 1)) - 1;
+            }
+            else
+            {
+                leaf = BTreeMap.this.lastLeaf();
+                index = leaf.size - 1;
+            }
+            if (index < 0)
+            {
+                leaf = leaf.previous;
+                index = leaf == null ? -1 : leaf.size - 1;
+            }
+            if (index < 0 || this.tooLow(leaf.keys[index]))
+            {
+                throw new NoSuchElementException();
+            }
+            return (K) leaf.keys[index];
+        }
+
+        public SortedMap<K, V> subMap(K fromKey, K toKey)
+        {
+            if (BTreeMap.this.compare(fromKey, toKey) > 0)
+            {
+                throw new IllegalArgumentException("fromKey > toKey");
+            }
+            if (!this.inRange(fromKey))
+            {
+                throw new IllegalArgumentException("fromKey out of range");
+            }
+            if (!this.inClosedRange(toKey))
+            {
+                throw new IllegalArgumentException("toKey out of range");
+            }
+            return new RangeMap(true, fromKey, true, toKey);
+        }
+
+        public SortedMap<K, V> headMap(K toKey)
+        {
+            BTreeMap.this.compare(toKey, toKey);
+            if (!this.inClosedRange(toKey))
+            {
+                throw new IllegalArgumentException("toKey out of range");
+            }
+            return new RangeMap(this.hasLow, this.low, true, toKey);
+        }
+
+        public SortedMap<K, V> tailMap(K fromKey)
+        {
+            BTreeMap.this.compare(fromKey, fromKey);
+            if (!this.inRange(fromKey))
+            {
+                throw new IllegalArgumentException("fromKey out of range");
+            }
+            return new RangeMap(true, fromKey, this.hasHigh, this.high);
+        }
+    }
+
+    private final class KeySet
+            extends AbstractSet<K>
+            implements SortedSet<K>
+    {
+        private final RangeMap range;
+
+        private KeySet(RangeMap range)
+        {
+            this.range = range;
+        }
+
+        @Override
+        public Iterator<K> iterator()
+        {
+            return new KeyIterator(this.range);
+        }
+
+        @Override
+        public int size()
+        {
+            return this.range.size();
+        }
+
+        @Override
+        public boolean isEmpty()
+        {
+            return this.range.isEmpty();
+        }
+
+        @Override
+        public boolean contains(Object key)
+        {
+            return this.range.containsKey(key);
+        }
+
+        @Override
+        public boolean add(K key)
+        {
+            if (!BTreeMap.this.keysOnly)
+            {
+                throw new UnsupportedOperationException("Cannot add to the key set of a map");
+            }
+            if (!this.range.inRange(key))
+            {
+                throw new IllegalArgumentException("key out of range");
+            }
+            return BTreeMap.this.insertKey(key, null);
+        }
+
+        @Override
+        public boolean remove(Object key)
+        {
+            if (!this.range.inRange(key) || !BTreeMap.this.removeKey(key))
+            {
+                return false;
+            }
+            BTreeMap.this.previousValue = null;
+            return true;
+        }
+
+        @Override
+        public void clear()
+        {
+            this.range.clear();
+        }
+
+        public Comparator<? super K> comparator()
+        {
+            return BTreeMap.this.comparator;
+        }
+
+        public K first()
+        {
+            return this.range.firstKey();
+        }
+
+        public K last()
+        {
+            return this.range.lastKey();
+        }
+
+        public SortedSet<K> subSet(K fromElement, K toElement)
+        {
+            return new KeySet((RangeMap) this.range.subMap(fromElement, toElement));
+        }
+
+        public SortedSet<K> headSet(K toElement)
+        {
+            return new KeySet((RangeMap) this.range.headMap(toElement));
+        }
+
+        public SortedSet<K> tailSet(K fromElement)
+        {
+            return new KeySet((RangeMap) this.range.tailMap(fromElement));
+        }
+    }
+
+    private final class EntrySet
+            extends AbstractSet<Map.Entry<K, V>>
+    {
+        private final RangeMap range;
+
+        private EntrySet(RangeMap range)
+        {
+            this.range = range;
+        }
+
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator()
+        {
+            return new EntryIterator(this.range);
+        }
+
+        @Override
+        public int size()
+        {
+            return this.range.size();
+        }
+
+        @Override
+        public boolean isEmpty()
+        {
+            return this.range.isEmpty();
+        }
+
+        @Override
+        public boolean contains(Object object)
+        {
+            if (!(object instanceof Map.Entry))
+            {
+                return false;
+            }
+            Map.Entry<?, ?> entry = (Map.Entry<?, ?>) object;
+            Object key = entry.getKey();
+            if (!this.range.containsKey(key))
+            {
+                return false;
+            }
+            Object value = this.range.get(key);
+            return value == null ? entry.getValue() == null : value.equals(entry.getValue());
+        }
+
+        @Override
+        public boolean remove(Object object)
+        {
+            if (!this.contains(object))
+            {
+                return false;
+            }
+            BTreeMap.this.remove(((Map.Entry<?, ?>) object).getKey());
+            return true;
+        }
+
+        @Override
+        public void clear()
+        {
+            this.range.clear();
+        }
+    }
+
+    private final class Values
+            extends AbstractCollection<V>
+    {
+        @Override
+        public Iterator<V> iterator()
+        {
+            return new ValueIterator(new RangeMap(false, null, false, null));
+        }
+
+        @Override
+        public int size()
+        {
+            return BTreeMap.this.size;
+        }
+
+        @Override
+        public void clear()
+        {
+            BTreeMap.this.clear();
+        }
+    }
+
+    /**
+     * Walks the leaves from the first key in range, stopping at the upper bound of the range.
+     */
+    private abstract class RangeIterator<T>
+            implements Iterator<T>
+    {
+        private final RangeMap range;
+        private Leaf leaf;
+        private int index;
+        private Object lastReturned = NONE;
+        private int expectedModCount = BTreeMap.this.modCount;
+
+        private RangeIterator(RangeMap range)
+        {
+            this.range = range;
+            if (range.hasLow)
+            {
+                this.seek(range.low);
+            }
+            else
+            {
+                this.leaf = BTreeMap.this.firstLeaf();
+                this.index = 0;
+                this.skipToInRange();
+            }
+        }
+
+        private void seek(Object key)
+        {
+            this.leaf = BTreeMap.this.findLeaf(key);
+            int result = BTreeMap.this.search(this.leaf.keys, this.leaf.size, key);
+            this.index = result >= 0 ? result : -(result + 1);
+            this.skipToInRange();
+        }
+
+        private void skipToInRange()
+        {
+            if (this.index >= this.leaf.size)
+            {
+                this.leaf = this.leaf.next;
+                this.index = 0;
+            }
+            if (this.leaf != null
+                    && this.range.hasHigh
+                    && BTreeMap.this.compare(this.leaf.keys[this.index], this.range.high) >= 0)
+            {
+                this.leaf = null;
+            }
+        }
+
+        protected abstract T valueAt(Leaf current, int position);
+
+        public boolean hasNext()
+        {
+            return this.leaf != null;
+        }
+
+        public T next()
+        {
+            if (BTreeMap.this.modCount != this.expectedModCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            if (this.leaf == null)
+            {
+                throw new NoSuchElementException();
+            }
+            T result = this.valueAt(this.leaf, this.index);
+            this.lastReturned = this.leaf.keys[this.index];
+            this.index++;
+            this.skipToInRange();
+            return result;
+        }
+
+        public void remove()
+        {
+            if (this.lastReturned == NONE)
+            {
+                throw new IllegalStateException();
+            }
+            if (BTreeMap.this.modCount != this.expectedModCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            Object nextKey = this.leaf == null ? NONE : this.leaf.keys[this.index];
+            BTreeMap.this.removeKey(this.lastReturned);
+            BTreeMap.this.previousValue = null;
+            // Removal may have merged or rebalanced leaves, so find the next key again
+            if (nextKey != NONE)
+            {
+                this.seek(nextKey);
+            }
+            this.lastReturned = NONE;
+            this.expectedModCount = BTreeMap.this.modCount;
+        }
+    }
+
+    private final class KeyIterator
+            extends RangeIterator<K>
+    {
+        private KeyIterator(RangeMap range)
+        {
+            super(range);
+        }
+
+        @Override
+        protected K valueAt(Leaf current, int position)
+        {
+            return (K) current.keys[position];
+        }
+    }
+
+    private final class ValueIterator
+            extends RangeIterator<V>
+    {
+        private ValueIterator(RangeMap range)
+        {
+            super(range);
+        }
+
+        @Override
+        protected V valueAt(Leaf current, int position)
+        {
+            return (V) current.valueAt(position);
+        }
+    }
+
+    private final class EntryIterator
+            extends RangeIterator<Map.Entry<K, V>>
+    {
+        private EntryIterator(RangeMap range)
+        {
+            super(range);
+        }
+
+        @Override
+        protected Map.Entry<K, V> valueAt(Leaf current, int position)
+        {
+            return new BTreeEntry((K) current.keys[position], (V) current.valueAt(position));
+        }
+    }
+
+    private final class BTreeEntry
+            implements Map.Entry<K, V>
+    {
+        private final K key;
+        private V value;
+
+        private BTreeEntry(K key, V value)
+        {
+            this.key = key;
+            this.value = value;
+        }
+
+        public K getKey()
+        {
+            return this.key;
+        }
+
+        public V getValue()
+        {
+            return this.value;
+        }
+
+        public V setValue(V value)
+        {
+            if (BTreeMap.this.keysOnly)
+            {
+                throw new UnsupportedOperationException("Cannot call setValue() on the entries of a key set");
+            }
+            V oldValue = this.value;
+            BTreeMap.this.put(this.key, value);
+            this.value = value;
+            return oldValue;
+        }
+
+        @Override
+        public boolean equals(Object object)
+        {
+            if (!(object instanceof Map.Entry))
+            {
+                return false;
+            }
+            Map.Entry<?, ?> that = (Map.Entry<?, ?>) object;
+            return (this.key == null ? that.getKey() == null : this.key.equals(that.getKey()))
+                    && (this.value == null ? that.getValue() == null : this.value.equals(that.getValue()));
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return (this.key == null ? 0 : this.key.hashCode()) ^ (this.value == null ? 0 : this.value.hashCode());
+        }
+
+        @Override
+        public String toString()
+        {
+            return this.key + "=" + this.value;
+        }
+    }
+}
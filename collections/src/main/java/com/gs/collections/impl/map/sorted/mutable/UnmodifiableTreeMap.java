@@ -525,6 +525,26 @@ public class UnmodifiableTreeMap<K, V>
         return this.getMutableSortedMap().toSortedListBy(function);
     }
 
+    public MutableList<V> topK(int k, Comparator<? super V> comparator)
+    {
+        return this.getMutableSortedMap().topK(k, comparator);
+    }
+
+    public MutableList<V> bottomK(int k, Comparator<? super V> comparator)
+    {
+        return this.getMutableSortedMap().bottomK(k, comparator);
+    }
+
+    public <R extends Comparable<? super R>> MutableList<V> topKBy(int k, Function<? super V, ? extends R> function)
+    {
+        return this.getMutableSortedMap().topKBy(k, function);
+    }
+
+    public <R extends Comparable<? super R>> MutableList<V> bottomKBy(int k, Function<? super V, ? extends R> function)
+    {
+        return this.getMutableSortedMap().bottomKBy(k, function);
+    }
+
     public MutableSortedSet<V> toSortedSet()
     {
         return this.getMutableSortedMap().toSortedSet();
@@ -0,0 +1,245 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.gs.collections.impl.multimap;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import com.gs.collections.api.collection.MutableCollection;
+import com.gs.collections.api.map.ConcurrentMutableMap;
+import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.impl.map.mutable.ConcurrentHashMap;
+
+/**
+ * A base class for multimaps which are safe for concurrent reads and writes without locking. Keys are held in a
+ * {@link ConcurrentHashMap} and values in concurrent collections supplied by the subclass, so puts on different keys
+ * never contend and iteration never blocks writers. Iteration and size are weakly consistent.
+ * <p>
+ * When the last value for a key is removed, the value collection is removed from the map with a conditional remove.
+ * A put which races with that removal may add its value to a collection that is no longer in the map. To avoid losing
+ * such values, the put re-checks the map after adding and moves its value to the current collection, and the remover
+ * drains anything left in the detached collection back into the multimap. Each value is moved by exactly one of the
+ * two threads because removal from the concurrent value collection is atomic.
+ *
+ * @since 7.1
+ */
+public abstract class AbstractConcurrentMultimap<K, V, C extends MutableCollection<V>>
+        extends AbstractMutableMultimap<K, V, C>
+{
+    private static final int SIZE_BUCKETS = 8;
+
+    private AtomicIntegerArray partitionedSize = new AtomicIntegerArray(SIZE_BUCKETS * 16); // 64 bytes for each slot to avoid false sharing
+
+    protected AbstractConcurrentMultimap()
+    {
+    }
+
+    protected AbstractConcurrentMultimap(int keyCount)
+    {
+        super(keyCount);
+    }
+
+    @Override
+    protected MutableMap<K, C> createMap()
+    {
+        return ConcurrentHashMap.newMap();
+    }
+
+    @Override
+    protected MutableMap<K, C> createMapWithKeyCount(int keyCount)
+    {
+        return ConcurrentHashMap.newMap(keyCount);
+    }
+
+    private ConcurrentMutableMap<K, C> getConcurrentMap()
+    {
+        return (ConcurrentMutableMap<K, C>) this.map;
+    }
+
+    @Override
+    public int size()
+    {
+        int localSize = 0;
+        for (int i = 0; i < SIZE_BUCKETS; i++)
+        {
+            localSize += this.partitionedSize.get(i << 4);
+        }
+        return localSize;
+    }
+
+    @Override
+    protected void incrementTotalSize()
+    {
+        this.addToTotalSize(1);
+    }
+
+    @Override
+    protected void decrementTotalSize()
+    {
+        this.addToTotalSize(-1);
+    }
+
+    @Override
+    protected void addToTotalSize(int value)
+    {
+        int h = (int) Thread.currentThread().getId();
+        h ^= (h >>> 18) ^ (h >>> 12);
+        h = ((h ^ (h >>> 10)) & (SIZE_BUCKETS - 1)) << 4;
+        while (true)
+        {
+            int localSize = this.partitionedSize.get(h);
+            if (this.partitionedSize.compareAndSet(h, localSize, localSize + value))
+            {
+                return;
+            }
+        }
+    }
+
+    @Override
+    protected void subtractFromTotalSize(int value)
+    {
+        this.addToTotalSize(-value);
+    }
+
+    @Override
+    protected void clearTotalSize()
+    {
+        for (int i = 0; i < SIZE_BUCKETS; i++)
+        {
+            this.partitionedSize.set(i << 4, 0);
+        }
+    }
+
+    protected C getIfAbsentPutCollection(K key)
+    {
+        return this.map.getIfAbsentPutWith(key, this.createCollectionBlock(), this);
+    }
+
+    /**
+     * Returns true if the collection is still the one mapped to the key, i.e. it has not been detached by a concurrent
+     * remove, removeAll, replaceValues or clear.
+     */
+    protected boolean isAttached(K key, C collection)
+    {
+        return this.map.get(key) == collection;
+    }
+
+    @Override
+    public boolean put(K key, V value)
+    {
+        while (true)
+        {
+            C collection = this.getIfAbsentPutCollection(key);
+            if (!collection.add(value))
+            {
+                return false;
+            }
+            this.incrementTotalSize();
+            if (this.isAttached(key, collection) || !collection.remove(value))
+            {
+                return true;
+            }
+            this.decrementTotalSize();
+        }
+    }
+
+    @Override
+    public boolean putAll(K key, Iterable<? extends V> values)
+    {
+        boolean changed = false;
+        for (V value : values)
+        {
+            changed |= this.put(key, value);
+        }
+        return changed;
+    }
+
+    @Override
+    public boolean remove(Object key, Object value)
+    {
+        C collection = this.map.get(key);
+        if (collection == null || !collection.remove(value))
+        {
+            return false;
+        }
+        this.decrementTotalSize();
+        if (collection.isEmpty() && this.getConcurrentMap().remove(key, collection))
+        {
+            C leftOver = this.drain(collection);
+            this.putAll((K) key, leftOver);
+        }
+        return true;
+    }
+
+    @Override
+    public C removeAll(Object key)
+    {
+        C collection = this.map.remove(key);
+        if (collection == null)
+        {
+            return (C) this.createCollection().asUnmodifiable();
+        }
+        return (C) this.drain(collection).asUnmodifiable();
+    }
+
+    @Override
+    public C replaceValues(K key, Iterable<? extends V> values)
+    {
+        C newValues = this.createCollection();
+        for (V value : values)
+        {
+            newValues.add(value);
+        }
+        if (newValues.isEmpty())
+        {
+            return this.removeAll(key);
+        }
+        this.addToTotalSize(newValues.size());
+        C oldValues = this.map.put(key, newValues);
+        if (oldValues == null)
+        {
+            return (C) this.createCollection().asUnmodifiable();
+        }
+        return (C) this.drain(oldValues).asUnmodifiable();
+    }
+
+    @Override
+    public void clear()
+    {
+        for (K key : this.map.keySet())
+        {
+            this.removeAll(key);
+        }
+    }
+
+    /**
+     * Removes every value from a collection which has been detached from the map and returns the removed values.
+     */
+    private C drain(C detached)
+    {
+        C removed = this.createCollection();
+        for (V each : detached)
+        {
+            if (detached.remove(each))
+            {
+                this.decrementTotalSize();
+                removed.add(each);
+            }
+        }
+        return removed;
+    }
+}
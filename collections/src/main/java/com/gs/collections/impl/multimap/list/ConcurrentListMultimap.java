@@ -0,0 +1,183 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.gs.collections.impl.multimap.list;
+
+import java.io.Externalizable;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.function.Function2;
+import com.gs.collections.api.block.predicate.Predicate2;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.block.procedure.Procedure2;
+import com.gs.collections.api.list.ImmutableList;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.api.map.MutableMap;
+import com.gs.collections.api.multimap.Multimap;
+import com.gs.collections.api.multimap.bag.MutableBagMultimap;
+import com.gs.collections.api.multimap.list.ImmutableListMultimap;
+import com.gs.collections.api.multimap.list.MutableListMultimap;
+import com.gs.collections.api.tuple.Pair;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.multimap.AbstractConcurrentMultimap;
+import com.gs.collections.impl.multimap.bag.HashBagMultimap;
+import com.gs.collections.impl.utility.ArrayIterate;
+import com.gs.collections.impl.utility.Iterate;
+
+/**
+ * A ListMultimap which is safe for concurrent reads and writes without locking. Keys are held in a ConcurrentHashMap
+ * and the values for each key in a CopyOnWriteArrayList, so puts on different keys never contend, and iterating the
+ * values of a key works on a snapshot and never blocks writers. Each put copies the values of its key, which makes
+ * this multimap best suited to keys with a modest number of values.
+ *
+ * @since 7.1
+ */
+public final class ConcurrentListMultimap<K, V>
+        extends AbstractConcurrentMultimap<K, V, MutableList<V>>
+        implements MutableListMultimap<K, V>, Externalizable
+{
+    private static final long serialVersionUID = 1L;
+
+    public ConcurrentListMultimap()
+    {
+    }
+
+    public ConcurrentListMultimap(int initialCapacity)
+    {
+        super(initialCapacity);
+    }
+
+    public ConcurrentListMultimap(Multimap<? extends K, ? extends V> multimap)
+    {
+        this.putAll(multimap);
+    }
+
+    public ConcurrentListMultimap(Pair<K, V>... pairs)
+    {
+        ArrayIterate.forEach(pairs, new Procedure<Pair<K, V>>()
+        {
+            public void value(Pair<K, V> pair)
+            {
+                ConcurrentListMultimap.this.put(pair.getOne(), pair.getTwo());
+            }
+        });
+    }
+
+    public ConcurrentListMultimap(Iterable<Pair<K, V>> inputIterable)
+    {
+        Iterate.forEach(inputIterable, new Procedure<Pair<K, V>>()
+        {
+            public void value(Pair<K, V> pair)
+            {
+                ConcurrentListMultimap.this.add(pair);
+            }
+        });
+    }
+
+    public static <K, V> ConcurrentListMultimap<K, V> newMultimap()
+    {
+        return new ConcurrentListMultimap<K, V>();
+    }
+
+    public static <K, V> ConcurrentListMultimap<K, V> newMultimap(int initialCapacity)
+    {
+        return new ConcurrentListMultimap<K, V>(initialCapacity);
+    }
+
+    public static <K, V> ConcurrentListMultimap<K, V> newMultimap(Multimap<? extends K, ? extends V> multimap)
+    {
+        return new ConcurrentListMultimap<K, V>(multimap);
+    }
+
+    public static <K, V> ConcurrentListMultimap<K, V> newMultimap(Pair<K, V>... pairs)
+    {
+        return new ConcurrentListMultimap<K, V>(pairs);
+    }
+
+    public static <K, V> ConcurrentListMultimap<K, V> newMultimap(Iterable<Pair<K, V>> inputIterable)
+    {
+        return new ConcurrentListMultimap<K, V>(inputIterable);
+    }
+
+    @Override
+    protected MutableList<V> createCollection()
+    {
+        return ListAdapter.adapt(new CopyOnWriteArrayList<V>());
+    }
+
+    public ConcurrentListMultimap<K, V> newEmpty()
+    {
+        return new ConcurrentListMultimap<K, V>();
+    }
+
+    public MutableListMultimap<K, V> toMutable()
+    {
+        return new ConcurrentListMultimap<K, V>(this);
+    }
+
+    public ImmutableListMultimap<K, V> toImmutable()
+    {
+        final MutableMap<K, ImmutableList<V>> map = UnifiedMap.newMap();
+
+        this.map.forEachKeyValue(new Procedure2<K, MutableList<V>>()
+        {
+            public void value(K key, MutableList<V> list)
+            {
+                map.put(key, list.toImmutable());
+            }
+        });
+
+        return new ImmutableListMultimapImpl<K, V>(map);
+    }
+
+    public MutableBagMultimap<V, K> flip()
+    {
+        return Iterate.flip(this);
+    }
+
+    public FastListMultimap<K, V> selectKeysValues(Predicate2<? super K, ? super V> predicate)
+    {
+        return this.selectKeysValues(predicate, FastListMultimap.<K, V>newMultimap());
+    }
+
+    public FastListMultimap<K, V> rejectKeysValues(Predicate2<? super K, ? super V> predicate)
+    {
+        return this.rejectKeysValues(predicate, FastListMultimap.<K, V>newMultimap());
+    }
+
+    public FastListMultimap<K, V> selectKeysMultiValues(Predicate2<? super K, ? super Iterable<V>> predicate)
+    {
+        return this.selectKeysMultiValues(predicate, FastListMultimap.<K, V>newMultimap());
+    }
+
+    public FastListMultimap<K, V> rejectKeysMultiValues(Predicate2<? super K, ? super Iterable<V>> predicate)
+    {
+        return this.rejectKeysMultiValues(predicate, FastListMultimap.<K, V>newMultimap());
+    }
+
+    public <K2, V2> HashBagMultimap<K2, V2> collectKeysValues(Function2<? super K, ? super V, Pair<K2, V2>> function)
+    {
+        return this.collectKeysValues(function, HashBagMultimap.<K2, V2>newMultimap());
+    }
+
+    public <V2> FastListMultimap<K, V2> collectValues(Function<? super V, ? extends V2> function)
+    {
+        return this.collectValues(function, FastListMultimap.<K, V2>newMultimap());
+    }
+}
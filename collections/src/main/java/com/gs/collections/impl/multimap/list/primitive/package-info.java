@@ -0,0 +1,22 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * This package contains multimaps with primitive keys, primitive values or both, which keep the values of each key in a list.
+ * <p>
+ *     A primitive multimap is similar to a {@link com.gs.collections.api.multimap.MutableMultimap}, but does not box its primitive keys or values.
+ */
+package com.gs.collections.impl.multimap.list.primitive;
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.partition.deque;
+
+import com.gs.collections.api.deque.MutableDeque;
+import com.gs.collections.api.partition.deque.PartitionImmutableDeque;
+import com.gs.collections.api.partition.deque.PartitionMutableDeque;
+import com.gs.collections.impl.deque.mutable.ArrayDeque;
+
+public class PartitionArrayDeque<T> implements PartitionMutableDeque<T>
+{
+    private final MutableDeque<T> selected = ArrayDeque.newDeque();
+    private final MutableDeque<T> rejected = ArrayDeque.newDeque();
+
+    public MutableDeque<T> getSelected()
+    {
+        return this.selected;
+    }
+
+    public MutableDeque<T> getRejected()
+    {
+        return this.rejected;
+    }
+
+    public PartitionImmutableDeque<T> toImmutable()
+    {
+        return new PartitionImmutableDequeImpl<T>(this);
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.partition.deque;
+
+import com.gs.collections.api.deque.ImmutableDeque;
+import com.gs.collections.api.partition.deque.PartitionImmutableDeque;
+import net.jcip.annotations.Immutable;
+
+@Immutable
+public class PartitionImmutableDequeImpl<T> implements PartitionImmutableDeque<T>
+{
+    private final ImmutableDeque<T> selected;
+    private final ImmutableDeque<T> rejected;
+
+    public PartitionImmutableDequeImpl(ImmutableDeque<T> selected, ImmutableDeque<T> rejected)
+    {
+        this.selected = selected;
+        this.rejected = rejected;
+    }
+
+    public PartitionImmutableDequeImpl(PartitionArrayDeque<T> partitionArrayDeque)
+    {
+        this(partitionArrayDeque.getSelected().toImmutable(), partitionArrayDeque.getRejected().toImmutable());
+    }
+
+    public ImmutableDeque<T> getSelected()
+    {
+        return this.selected;
+    }
+
+    public ImmutableDeque<T> getRejected()
+    {
+        return this.rejected;
+    }
+}
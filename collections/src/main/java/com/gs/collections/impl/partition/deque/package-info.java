@@ -0,0 +1,31 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * This package contains implementations of the {@link com.gs.collections.api.partition.deque.PartitionMutableDeque}
+ * and {@link com.gs.collections.api.partition.deque.PartitionImmutableDeque} interfaces.
+ * <p>
+ *     This package contains 2 classes:
+ *     <ul>
+ *         <li>
+ *             {@link com.gs.collections.impl.partition.deque.PartitionImmutableDequeImpl} - Result of splitting an immutable deque into two based on a Predicate.
+ *         </li>
+ *         <li>
+ *             {@link com.gs.collections.impl.partition.deque.PartitionArrayDeque} - Result of splitting a {@link com.gs.collections.impl.deque.mutable.ArrayDeque} into two based on a Predicate.
+ *         </li>
+ *     </ul>
+ */
+package com.gs.collections.impl.partition.deque;
@@ -0,0 +1,946 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.set.immutable;
+
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.set.SetIterable;
+import com.gs.collections.impl.block.factory.Comparators;
+import net.jcip.annotations.Immutable;
+
+/**
+ * ImmutableHashTrieSet is an ImmutableSet stored as a compressed hash-array mapped prefix tree (CHAMP). Each level of
+ * the tree consumes five bits of the hash code of an element, so newWith and newWithout copy only the O(log32 n) nodes
+ * on the path to the element and share the rest of the tree with the set they were built from.
+ * <p>
+ * Because every set has a single canonical tree shape, equals, union and difference between two ImmutableHashTrieSets
+ * compare or combine the trees node by node and skip any sub-tree the two sets share, so they are cheap between
+ * versions derived from one another.
+ *
+ * @since 7.1
+ */
+@Immutable
+public final class ImmutableHashTrieSet<T>
+        extends AbstractImmutableSet<T>
+        implements Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final int BITS_PER_LEVEL = 5;
+    private static final int LEVEL_MASK = (1 << BITS_PER_LEVEL) - 1;
+    private static final int HASH_CODE_LENGTH = 32;
+    private static final int MAX_DEPTH = 8;
+
+    private static final BitmapIndexedNode EMPTY_NODE = new BitmapIndexedNode(0, 0, new Object[0]);
+    private static final ImmutableHashTrieSet<?> EMPTY = new ImmutableHashTrieSet<Object>(EMPTY_NODE, 0);
+
+    private final Node root;
+    private final int size;
+
+    private ImmutableHashTrieSet(Node root, int size)
+    {
+        this.root = root;
+        this.size = size;
+    }
+
+    public static <T> ImmutableHashTrieSet<T> empty()
+    {
+        return (ImmutableHashTrieSet<T>) EMPTY;
+    }
+
+    public static <T> ImmutableHashTrieSet<T> newSet(Iterable<? extends T> iterable)
+    {
+        if (iterable instanceof ImmutableHashTrieSet)
+        {
+            return (ImmutableHashTrieSet<T>) iterable;
+        }
+        return ImmutableHashTrieSet.<T>empty().newWithAll(iterable);
+    }
+
+    public static <T> ImmutableHashTrieSet<T> newSetWith(T... elements)
+    {
+        Change change = new Change();
+        Node root = EMPTY_NODE;
+        for (T element : elements)
+        {
+            root = root.add(element, hash(element), 0, change);
+        }
+        return ImmutableHashTrieSet.<T>empty().withRoot(root, change);
+    }
+
+    private static int hash(Object element)
+    {
+        if (element == null)
+        {
+            return 0;
+        }
+        int h = element.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private static int mask(int hash, int shift)
+    {
+        return (hash >>> shift) & LEVEL_MASK;
+    }
+
+    private static int bitpos(int mask)
+    {
+        return 1 << mask;
+    }
+
+    public int size()
+    {
+        return this.size;
+    }
+
+    @Override
+    public boolean contains(Object object)
+    {
+        return this.root.contains(object, hash(object), 0);
+    }
+
+    @Override
+    public ImmutableHashTrieSet<T> newWith(T element)
+    {
+        Change change = new Change();
+        return this.withRoot(this.root.add(element, hash(element), 0, change), change);
+    }
+
+    @Override
+    public ImmutableHashTrieSet<T> newWithout(T element)
+    {
+        Change change = new Change();
+        return this.withRoot(this.root.remove(element, hash(element), 0, change), change);
+    }
+
+    @Override
+    public ImmutableHashTrieSet<T> newWithAll(Iterable<? extends T> elements)
+    {
+        if (elements instanceof ImmutableHashTrieSet)
+        {
+            return this.union((ImmutableHashTrieSet<? extends T>) elements);
+        }
+        Change change = new Change();
+        Node newRoot = this.root;
+        for (T element : elements)
+        {
+            newRoot = newRoot.add(element, hash(element), 0, change);
+        }
+        return this.withRoot(newRoot, change);
+    }
+
+    @Override
+    public ImmutableHashTrieSet<T> newWithoutAll(Iterable<? extends T> elements)
+    {
+        if (elements instanceof ImmutableHashTrieSet)
+        {
+            return this.difference((ImmutableHashTrieSet<? extends T>) elements);
+        }
+        Change change = new Change();
+        Node newRoot = this.root;
+        for (T element : elements)
+        {
+            newRoot = newRoot.remove(element, hash(element), 0, change);
+        }
+        return this.withRoot(newRoot, change);
+    }
+
+    @Override
+    public ImmutableHashTrieSet<T> union(SetIterable<? extends T> set)
+    {
+        if (set instanceof ImmutableHashTrieSet)
+        {
+            if (this.isEmpty())
+            {
+                return (ImmutableHashTrieSet<T>) set;
+            }
+            Change change = new Change();
+            Node newRoot = this.root.union(((ImmutableHashTrieSet<?>) set).root, 0, change);
+            return this.withRoot(newRoot, change);
+        }
+        return this.newWithAll(set);
+    }
+
+    @Override
+    public ImmutableHashTrieSet<T> difference(SetIterable<? extends T> subtrahendSet)
+    {
+        if (subtrahendSet instanceof ImmutableHashTrieSet)
+        {
+            Change change = new Change();
+            Node newRoot = this.root.difference(((ImmutableHashTrieSet<?>) subtrahendSet).root, 0, change);
+            return this.withRoot(newRoot, change);
+        }
+        return this.newWithoutAll(subtrahendSet);
+    }
+
+    private ImmutableHashTrieSet<T> withRoot(Node newRoot, Change change)
+    {
+        if (newRoot == this.root)
+        {
+            return this;
+        }
+        int newSize = this.size + change.sizeDelta;
+        if (newSize == 0)
+        {
+            return ImmutableHashTrieSet.empty();
+        }
+        return new ImmutableHashTrieSet<T>(newRoot, newSize);
+    }
+
+    public void each(Procedure<? super T> procedure)
+    {
+        this.root.forEach((Procedure<Object>) procedure);
+    }
+
+    public Iterator<T> iterator()
+    {
+        return new TrieIterator<T>(this.root);
+    }
+
+    public T getFirst()
+    {
+        return this.isEmpty() ? null : this.iterator().next();
+    }
+
+    public T getLast()
+    {
+        T last = null;
+        for (T each : this)
+        {
+            last = each;
+        }
+        return last;
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (this == other)
+        {
+            return true;
+        }
+        if (other instanceof ImmutableHashTrieSet)
+        {
+            ImmutableHashTrieSet<?> that = (ImmutableHashTrieSet<?>) other;
+            return this.size == that.size && this.root.equivalent(that.root);
+        }
+        if (!(other instanceof Set))
+        {
+            return false;
+        }
+        Set<?> that = (Set<?>) other;
+        return this.size == that.size() && this.containsAll(that);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        final int[] hashCode = new int[1];
+        this.root.forEach(new Procedure<Object>()
+        {
+            public void value(Object each)
+            {
+                hashCode[0] += ImmutableHashTrieSet.this.nullSafeHashCode(each);
+            }
+        });
+        return hashCode[0];
+    }
+
+    private Object writeReplace()
+    {
+        return new ImmutableSetSerializationProxy<T>(this);
+    }
+
+    /**
+     * Records how an update changed the number of elements in the set.
+     */
+    private static final class Change
+    {
+        private int sizeDelta;
+    }
+
+    private abstract static class Node
+    {
+        abstract boolean contains(Object element, int hash, int shift);
+
+        abstract Node add(Object element, int hash, int shift, Change change);
+
+        abstract Node remove(Object element, int hash, int shift, Change change);
+
+        abstract Node union(Node that, int shift, Change change);
+
+        abstract Node difference(Node that, int shift, Change change);
+
+        abstract boolean equivalent(Node that);
+
+        abstract int payloadArity();
+
+        abstract Object getElement(int index);
+
+        abstract int nodeArity();
+
+        abstract Node getNode(int index);
+
+        abstract int size();
+
+        abstract void forEach(Procedure<Object> procedure);
+    }
+
+    /**
+     * A node which stores its elements and sub-nodes in a single array, indexed by two bitmaps over the 32 possible
+     * values of a level of the hash code. The elements are stored from the front of the array and the sub-nodes from
+     * the back.
+     */
+    private static final class BitmapIndexedNode extends Node
+    {
+        private final int dataMap;
+        private final int nodeMap;
+        private final Object[] content;
+        // The number of elements in the whole sub-tree, so that union and difference take shared sub-trees in O(1)
+        private final int size;
+
+        private BitmapIndexedNode(int dataMap, int nodeMap, Object[] content)
+        {
+            this.dataMap = dataMap;
+            this.nodeMap = nodeMap;
+            this.content = content;
+            int payloadArity = Integer.bitCount(dataMap);
+            int size = payloadArity;
+            for (int i = payloadArity; i < content.length; i++)
+            {
+                size += ((Node) content[i]).size();
+            }
+            this.size = size;
+        }
+
+        private int dataIndex(int bitpos)
+        {
+            return Integer.bitCount(this.dataMap & (bitpos - 1));
+        }
+
+        private int nodeIndex(int bitpos)
+        {
+            return Integer.bitCount(this.nodeMap & (bitpos - 1));
+        }
+
+        private Node nodeAt(int bitpos)
+        {
+            return (Node) this.content[this.content.length - 1 - this.nodeIndex(bitpos)];
+        }
+
+        @Override
+        boolean contains(Object element, int hash, int shift)
+        {
+            int bitpos = bitpos(mask(hash, shift));
+            if ((this.dataMap & bitpos) != 0)
+            {
+                return Comparators.nullSafeEquals(this.content[this.dataIndex(bitpos)], element);
+            }
+            if ((this.nodeMap & bitpos) != 0)
+            {
+                return this.nodeAt(bitpos).contains(element, hash, shift + BITS_PER_LEVEL);
+            }
+            return false;
+        }
+
+        @Override
+        BitmapIndexedNode add(Object element, int hash, int shift, Change change)
+        {
+            int bitpos = bitpos(mask(hash, shift));
+            if ((this.dataMap & bitpos) != 0)
+            {
+                Object currentElement = this.content[this.dataIndex(bitpos)];
+                if (Comparators.nullSafeEquals(currentElement, element))
+                {
+                    return this;
+                }
+                Node subNode = mergeTwoElements(
+                        currentElement, hash(currentElement),
+                        element, hash,
+                        shift + BITS_PER_LEVEL);
+                change.sizeDelta++;
+                return this.copyAndMigrateFromInlineToNode(bitpos, subNode);
+            }
+            if ((this.nodeMap & bitpos) != 0)
+            {
+                Node subNode = this.nodeAt(bitpos);
+                Node newSubNode = subNode.add(element, hash, shift + BITS_PER_LEVEL, change);
+                return newSubNode == subNode ? this : this.copyAndSetNode(bitpos, newSubNode);
+            }
+            change.sizeDelta++;
+            return this.copyAndInsertValue(bitpos, element);
+        }
+
+        @Override
+        BitmapIndexedNode remove(Object element, int hash, int shift, Change change)
+        {
+            int bitpos = bitpos(mask(hash, shift));
+            if ((this.dataMap & bitpos) != 0)
+            {
+                if (!Comparators.nullSafeEquals(this.content[this.dataIndex(bitpos)], element))
+                {
+                    return this;
+                }
+                change.sizeDelta--;
+                return this.copyAndRemoveValue(bitpos);
+            }
+            if ((this.nodeMap & bitpos) != 0)
+            {
+                Node subNode = this.nodeAt(bitpos);
+                return this.withNewSubNode(bitpos, subNode, subNode.remove(element, hash, shift + BITS_PER_LEVEL, change));
+            }
+            return this;
+        }
+
+        /**
+         * Adds the elements of the other node by walking both trees together. Sub-trees that the two nodes share are
+         * skipped, and sub-trees that exist only in the other node are reused as they are.
+         */
+        @Override
+        Node union(Node that, int shift, Change change)
+        {
+            if (that == this)
+            {
+                return this;
+            }
+            BitmapIndexedNode other = (BitmapIndexedNode) that;
+            BitmapIndexedNode result = this;
+            int payloadArity = other.payloadArity();
+            for (int i = 0; i < payloadArity; i++)
+            {
+                Object element = other.content[i];
+                result = result.add(element, hash(element), shift, change);
+            }
+            int remainingNodes = other.nodeMap;
+            while (remainingNodes != 0)
+            {
+                int bitpos = Integer.lowestOneBit(remainingNodes);
+                remainingNodes ^= bitpos;
+                result = result.unionNode(bitpos, other.nodeAt(bitpos), shift, change);
+            }
+            return result;
+        }
+
+        private BitmapIndexedNode unionNode(int bitpos, Node otherSubNode, int shift, Change change)
+        {
+            if ((this.nodeMap & bitpos) != 0)
+            {
+                Node subNode = this.nodeAt(bitpos);
+                Node newSubNode = subNode.union(otherSubNode, shift + BITS_PER_LEVEL, change);
+                return newSubNode == subNode ? this : this.copyAndSetNode(bitpos, newSubNode);
+            }
+            if ((this.dataMap & bitpos) != 0)
+            {
+                Object element = this.content[this.dataIndex(bitpos)];
+                Change subNodeChange = new Change();
+                Node newSubNode = otherSubNode.add(element, hash(element), shift + BITS_PER_LEVEL, subNodeChange);
+                change.sizeDelta += otherSubNode.size() + subNodeChange.sizeDelta - 1;
+                return this.copyAndMigrateFromInlineToNode(bitpos, newSubNode);
+            }
+            change.sizeDelta += otherSubNode.size();
+            return this.copyAndInsertNode(bitpos, otherSubNode);
+        }
+
+        /**
+         * Removes the elements of the other node by walking both trees together. A sub-tree that the two nodes share is
+         * removed as a whole.
+         */
+        @Override
+        Node difference(Node that, int shift, Change change)
+        {
+            if (that == this)
+            {
+                change.sizeDelta -= this.size();
+                return EMPTY_NODE;
+            }
+            BitmapIndexedNode other = (BitmapIndexedNode) that;
+            BitmapIndexedNode result = this;
+            int payloadArity = other.payloadArity();
+            for (int i = 0; i < payloadArity; i++)
+            {
+                Object element = other.content[i];
+                result = result.remove(element, hash(element), shift, change);
+            }
+            int remainingNodes = other.nodeMap & (result.nodeMap | result.dataMap);
+            while (remainingNodes != 0)
+            {
+                int bitpos = Integer.lowestOneBit(remainingNodes);
+                remainingNodes ^= bitpos;
+                result = result.differenceNode(bitpos, other.nodeAt(bitpos), shift, change);
+            }
+            return result;
+        }
+
+        private BitmapIndexedNode differenceNode(int bitpos, Node otherSubNode, int shift, Change change)
+        {
+            if ((this.nodeMap & bitpos) != 0)
+            {
+                Node subNode = this.nodeAt(bitpos);
+                return this.withNewSubNode(bitpos, subNode, subNode.difference(otherSubNode, shift + BITS_PER_LEVEL, change));
+            }
+            Object element = this.content[this.dataIndex(bitpos)];
+            if (otherSubNode.contains(element, hash(element), shift + BITS_PER_LEVEL))
+            {
+                change.sizeDelta--;
+                return this.copyAndRemoveValue(bitpos);
+            }
+            return this;
+        }
+
+        /**
+         * Replaces a sub-node which has had elements removed, keeping the tree canonical: an empty sub-node is dropped
+         * and a sub-node left with a single element is inlined into this node.
+         */
+        private BitmapIndexedNode withNewSubNode(int bitpos, Node subNode, Node newSubNode)
+        {
+            if (newSubNode == subNode)
+            {
+                return this;
+            }
+            if (newSubNode.nodeArity() == 0)
+            {
+                if (newSubNode.payloadArity() == 0)
+                {
+                    return this.copyAndRemoveNode(bitpos);
+                }
+                if (newSubNode.payloadArity() == 1)
+                {
+                    return this.copyAndMigrateFromNodeToInline(bitpos, newSubNode.getElement(0));
+                }
+            }
+            return this.copyAndSetNode(bitpos, newSubNode);
+        }
+
+        @Override
+        boolean equivalent(Node that)
+        {
+            if (that == this)
+            {
+                return true;
+            }
+            if (!(that instanceof BitmapIndexedNode))
+            {
+                return false;
+            }
+            BitmapIndexedNode other = (BitmapIndexedNode) that;
+            if (this.dataMap != other.dataMap || this.nodeMap != other.nodeMap)
+            {
+                return false;
+            }
+            int payloadArity = this.payloadArity();
+            for (int i = 0; i < payloadArity; i++)
+            {
+                if (!Comparators.nullSafeEquals(this.content[i], other.content[i]))
+                {
+                    return false;
+                }
+            }
+            for (int i = payloadArity; i < this.content.length; i++)
+            {
+                if (!((Node) this.content[i]).equivalent((Node) other.content[i]))
+                {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private BitmapIndexedNode copyAndSetNode(int bitpos, Node node)
+        {
+            Object[] newContent = this.content.clone();
+            newContent[this.content.length - 1 - this.nodeIndex(bitpos)] = node;
+            return new BitmapIndexedNode(this.dataMap, this.nodeMap, newContent);
+        }
+
+        private BitmapIndexedNode copyAndInsertValue(int bitpos, Object element)
+        {
+            int index = this.dataIndex(bitpos);
+            Object[] newContent = new Object[this.content.length + 1];
+            System.arraycopy(this.content, 0, newContent, 0, index);
+            newContent[index] = element;
+            System.arraycopy(this.content, index, newContent, index + 1, this.content.length - index);
+            return new BitmapIndexedNode(this.dataMap | bitpos, this.nodeMap, newContent);
+        }
+
+        private BitmapIndexedNode copyAndRemoveValue(int bitpos)
+        {
+            int index = this.dataIndex(bitpos);
+            Object[] newContent = new Object[this.content.length - 1];
+            System.arraycopy(this.content, 0, newContent, 0, index);
+            System.arraycopy(this.content, index + 1, newContent, index, this.content.length - index - 1);
+            return new BitmapIndexedNode(this.dataMap ^ bitpos, this.nodeMap, newContent);
+        }
+
+        private BitmapIndexedNode copyAndInsertNode(int bitpos, Node node)
+        {
+            int index = this.content.length - this.nodeIndex(bitpos);
+            Object[] newContent = new Object[this.content.length + 1];
+            System.arraycopy(this.content, 0, newContent, 0, index);
+            newContent[index] = node;
+            System.arraycopy(this.content, index, newContent, index + 1, this.content.length - index);
+            return new BitmapIndexedNode(this.dataMap, this.nodeMap | bitpos, newContent);
+        }
+
+        private BitmapIndexedNode copyAndRemoveNode(int bitpos)
+        {
+            int index = this.content.length - 1 - this.nodeIndex(bitpos);
+            Object[] newContent = new Object[this.content.length - 1];
+            System.arraycopy(this.content, 0, newContent, 0, index);
+            System.arraycopy(this.content, index + 1, newContent, index, this.content.length - index - 1);
+            return new BitmapIndexedNode(this.dataMap, this.nodeMap ^ bitpos, newContent);
+        }
+
+        private BitmapIndexedNode copyAndMigrateFromInlineToNode(int bitpos, Node node)
+        {
+            int oldIndex = this.dataIndex(bitpos);
+            int newIndex = this.content.length - 1 - this.nodeIndex(bitpos);
+            Object[] newContent = new Object[this.content.length];
+            System.arraycopy(this.content, 0, newContent, 0, oldIndex);
+            System.arraycopy(this.content, oldIndex + 1, newContent, oldIndex, newIndex - oldIndex);
+            newContent[newIndex] = node;
+            System.arraycopy(this.content, newIndex + 1, newContent, newIndex + 1, this.content.length - newIndex - 1);
+            return new BitmapIndexedNode(this.dataMap ^ bitpos, this.nodeMap | bitpos, newContent);
+        }
+
+        private BitmapIndexedNode copyAndMigrateFromNodeToInline(int bitpos, Object element)
+        {
+            int oldIndex = this.content.length - 1 - this.nodeIndex(bitpos);
+            int newIndex = this.dataIndex(bitpos);
+            Object[] newContent = new Object[this.content.length];
+            System.arraycopy(this.content, 0, newContent, 0, newIndex);
+            newContent[newIndex] = element;
+            System.arraycopy(this.content, newIndex, newContent, newIndex + 1, oldIndex - newIndex);
+            System.arraycopy(this.content, oldIndex + 1, newContent, oldIndex + 1, this.content.length - oldIndex - 1);
+            return new BitmapIndexedNode(this.dataMap | bitpos, this.nodeMap ^ bitpos, newContent);
+        }
+
+        @Override
+        int payloadArity()
+        {
+            return Integer.bitCount(this.dataMap);
+        }
+
+        @Override
+        Object getElement(int index)
+        {
+            return this.content[index];
+        }
+
+        @Override
+        int nodeArity()
+        {
+            return Integer.bitCount(this.nodeMap);
+        }
+
+        @Override
+        Node getNode(int index)
+        {
+            return (Node) this.content[this.content.length - 1 - index];
+        }
+
+        @Override
+        int size()
+        {
+            return this.size;
+        }
+
+        @Override
+        void forEach(Procedure<Object> procedure)
+        {
+            int payloadArity = this.payloadArity();
+            for (int i = 0; i < payloadArity; i++)
+            {
+                procedure.value(this.content[i]);
+            }
+            for (int i = payloadArity; i < this.content.length; i++)
+            {
+                ((Node) this.content[i]).forEach(procedure);
+            }
+        }
+    }
+
+    /**
+     * A node for elements whose hash codes are equal in all 32 bits, which are kept in an array and compared one by
+     * one.
+     */
+    private static final class HashCollisionNode extends Node
+    {
+        private final int hash;
+        private final Object[] elements;
+
+        private HashCollisionNode(int hash, Object[] elements)
+        {
+            this.hash = hash;
+            this.elements = elements;
+        }
+
+        @Override
+        boolean contains(Object element, int hash, int shift)
+        {
+            for (Object each : this.elements)
+            {
+                if (Comparators.nullSafeEquals(each, element))
+                {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        Node add(Object element, int hash, int shift, Change change)
+        {
+            if (this.contains(element, hash, shift))
+            {
+                return this;
+            }
+            int length = this.elements.length;
+            Object[] newElements = new Object[length + 1];
+            System.arraycopy(this.elements, 0, newElements, 0, length);
+            newElements[length] = element;
+            change.sizeDelta++;
+            return new HashCollisionNode(this.hash, newElements);
+        }
+
+        @Override
+        Node remove(Object element, int hash, int shift, Change change)
+        {
+            for (int i = 0; i < this.elements.length; i++)
+            {
+                if (Comparators.nullSafeEquals(this.elements[i], element))
+                {
+                    change.sizeDelta--;
+                    Object[] newElements = new Object[this.elements.length - 1];
+                    System.arraycopy(this.elements, 0, newElements, 0, i);
+                    System.arraycopy(this.elements, i + 1, newElements, i, this.elements.length - i - 1);
+                    return this.withElements(newElements);
+                }
+            }
+            return this;
+        }
+
+        @Override
+        Node union(Node that, int shift, Change change)
+        {
+            if (that == this)
+            {
+                return this;
+            }
+            Node result = this;
+            for (Object element : ((HashCollisionNode) that).elements)
+            {
+                result = result.add(element, this.hash, shift, change);
+            }
+            return result;
+        }
+
+        @Override
+        Node difference(Node that, int shift, Change change)
+        {
+            if (that == this)
+            {
+                change.sizeDelta -= this.elements.length;
+                return EMPTY_NODE;
+            }
+            Object[] remaining = new Object[this.elements.length];
+            int remainingCount = 0;
+            for (Object element : this.elements)
+            {
+                if (!that.contains(element, this.hash, shift))
+                {
+                    remaining[remainingCount++] = element;
+                }
+            }
+            if (remainingCount == this.elements.length)
+            {
+                return this;
+            }
+            change.sizeDelta -= this.elements.length - remainingCount;
+            Object[] newElements = new Object[remainingCount];
+            System.arraycopy(remaining, 0, newElements, 0, remainingCount);
+            return this.withElements(newElements);
+        }
+
+        /**
+         * Node with fewer than two elements are returned as bitmap nodes, so the parent can drop or inline them.
+         */
+        private Node withElements(Object[] newElements)
+        {
+            if (newElements.length == 0)
+            {
+                return EMPTY_NODE;
+            }
+            if (newElements.length == 1)
+            {
+                return new BitmapIndexedNode(bitpos(mask(this.hash, 0)), 0, newElements);
+            }
+            return new HashCollisionNode(this.hash, newElements);
+        }
+
+        @Override
+        boolean equivalent(Node that)
+        {
+            if (that == this)
+            {
+                return true;
+            }
+            if (!(that instanceof HashCollisionNode))
+            {
+                return false;
+            }
+            HashCollisionNode other = (HashCollisionNode) that;
+            if (this.elements.length != other.elements.length)
+            {
+                return false;
+            }
+            for (Object element : this.elements)
+            {
+                if (!other.contains(element, this.hash, 0))
+                {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        int payloadArity()
+        {
+            return this.elements.length;
+        }
+
+        @Override
+        Object getElement(int index)
+        {
+            return this.elements[index];
+        }
+
+        @Override
+        int nodeArity()
+        {
+            return 0;
+        }
+
+        @Override
+        Node getNode(int index)
+        {
+            throw new IndexOutOfBoundsException("Index: " + index + " Size: 0");
+        }
+
+        @Override
+        int size()
+        {
+            return this.elements.length;
+        }
+
+        @Override
+        void forEach(Procedure<Object> procedure)
+        {
+            for (Object element : this.elements)
+            {
+                procedure.value(element);
+            }
+        }
+    }
+
+    private static Node mergeTwoElements(Object element0, int hash0, Object element1, int hash1, int shift)
+    {
+        if (shift >= HASH_CODE_LENGTH)
+        {
+            return new HashCollisionNode(hash0, new Object[]{element0, element1});
+        }
+        int mask0 = mask(hash0, shift);
+        int mask1 = mask(hash1, shift);
+        if (mask0 != mask1)
+        {
+            int dataMap = bitpos(mask0) | bitpos(mask1);
+            if (mask0 < mask1)
+            {
+                return new BitmapIndexedNode(dataMap, 0, new Object[]{element0, element1});
+            }
+            return new BitmapIndexedNode(dataMap, 0, new Object[]{element1, element0});
+        }
+        Node node = mergeTwoElements(element0, hash0, element1, hash1, shift + BITS_PER_LEVEL);
+        return new BitmapIndexedNode(0, bitpos(mask0), new Object[]{node});
+    }
+
+    /**
+     * Iterates over the elements of the trie depth first, keeping the path from the root in a fixed size stack.
+     */
+    private static final class TrieIterator<T> implements Iterator<T>
+    {
+        private final Node[] nodes = new Node[MAX_DEPTH];
+        private final int[] nodeCursors = new int[MAX_DEPTH];
+        private int depth;
+        private Node currentValueNode;
+        private int currentValueCursor;
+
+        private TrieIterator(Node root)
+        {
+            this.nodes[0] = root;
+            this.currentValueNode = root;
+            this.findNextValueNode();
+        }
+
+        private void findNextValueNode()
+        {
+            while (this.currentValueCursor >= this.currentValueNode.payloadArity())
+            {
+                while (this.depth >= 0 && this.nodeCursors[this.depth] >= this.nodes[this.depth].nodeArity())
+                {
+                    this.depth--;
+                }
+                if (this.depth < 0)
+                {
+                    this.currentValueNode = null;
+                    return;
+                }
+                Node next = this.nodes[this.depth].getNode(this.nodeCursors[this.depth]++);
+                this.depth++;
+                this.nodes[this.depth] = next;
+                this.nodeCursors[this.depth] = 0;
+                this.currentValueNode = next;
+                this.currentValueCursor = 0;
+            }
+        }
+
+        public boolean hasNext()
+        {
+            return this.currentValueNode != null;
+        }
+
+        public T next()
+        {
+            if (this.currentValueNode == null)
+            {
+                throw new NoSuchElementException();
+            }
+            T result = (T) this.currentValueNode.getElement(this.currentValueCursor++);
+            this.findNextValueNode();
+            return result;
+        }
+
+        public void remove()
+        {
+            throw new UnsupportedOperationException("Cannot remove from an immutable set");
+        }
+    }
+}
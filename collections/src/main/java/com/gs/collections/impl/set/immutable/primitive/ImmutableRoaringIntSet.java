@@ -0,0 +1,233 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.set.immutable.primitive;
+
+import java.io.Serializable;
+
+import com.gs.collections.api.IntIterable;
+import com.gs.collections.api.block.function.primitive.IntToObjectFunction;
+import com.gs.collections.api.block.function.primitive.ObjectIntToObjectFunction;
+import com.gs.collections.api.block.predicate.primitive.IntPredicate;
+import com.gs.collections.api.block.procedure.primitive.IntProcedure;
+import com.gs.collections.api.iterator.IntIterator;
+import com.gs.collections.api.set.ImmutableSet;
+import com.gs.collections.api.set.primitive.ImmutableIntSet;
+import com.gs.collections.impl.iterator.UnmodifiableIntIterator;
+import com.gs.collections.impl.set.mutable.primitive.RoaringIntSet;
+import net.jcip.annotations.Immutable;
+
+/**
+ * ImmutableRoaringIntSet is an ImmutableIntSet backed by a {@link RoaringIntSet}, and like it offers {@link #and},
+ * {@link #or}, {@link #andNot} and {@link #andCardinality} between instances.
+ *
+ * @since 7.1
+ */
+@Immutable
+public final class ImmutableRoaringIntSet extends AbstractImmutableIntSet implements Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private final RoaringIntSet delegate;
+
+    private ImmutableRoaringIntSet(RoaringIntSet delegate)
+    {
+        this.delegate = delegate;
+    }
+
+    public static ImmutableRoaringIntSet newSet(IntIterable source)
+    {
+        if (source instanceof ImmutableRoaringIntSet)
+        {
+            return (ImmutableRoaringIntSet) source;
+        }
+        RoaringIntSet delegate = RoaringIntSet.newSet(source);
+        delegate.runOptimize();
+        return new ImmutableRoaringIntSet(delegate);
+    }
+
+    public static ImmutableRoaringIntSet newSetWith(int... source)
+    {
+        return ImmutableRoaringIntSet.newSet(RoaringIntSet.newSetWith(source));
+    }
+
+    public ImmutableRoaringIntSet and(ImmutableRoaringIntSet other)
+    {
+        return new ImmutableRoaringIntSet(this.delegate.and(other.delegate));
+    }
+
+    public ImmutableRoaringIntSet or(ImmutableRoaringIntSet other)
+    {
+        return new ImmutableRoaringIntSet(this.delegate.or(other.delegate));
+    }
+
+    public ImmutableRoaringIntSet andNot(ImmutableRoaringIntSet other)
+    {
+        return new ImmutableRoaringIntSet(this.delegate.andNot(other.delegate));
+    }
+
+    public int andCardinality(ImmutableRoaringIntSet other)
+    {
+        return this.delegate.andCardinality(other.delegate);
+    }
+
+    /**
+     * Same as {@link #size()}.
+     */
+    public int cardinality()
+    {
+        return this.delegate.size();
+    }
+
+    @Override
+    public ImmutableIntSet newWith(int element)
+    {
+        if (this.delegate.contains(element))
+        {
+            return this;
+        }
+        return new ImmutableRoaringIntSet(RoaringIntSet.newSet(this.delegate).with(element));
+    }
+
+    @Override
+    public ImmutableIntSet newWithout(int element)
+    {
+        if (!this.delegate.contains(element))
+        {
+            return this;
+        }
+        return new ImmutableRoaringIntSet(RoaringIntSet.newSet(this.delegate).without(element));
+    }
+
+    @Override
+    public ImmutableIntSet newWithAll(IntIterable elements)
+    {
+        return new ImmutableRoaringIntSet(RoaringIntSet.newSet(this.delegate).withAll(elements));
+    }
+
+    @Override
+    public ImmutableIntSet newWithoutAll(IntIterable elements)
+    {
+        return new ImmutableRoaringIntSet(RoaringIntSet.newSet(this.delegate).withoutAll(elements));
+    }
+
+    public int size()
+    {
+        return this.delegate.size();
+    }
+
+    public boolean contains(int value)
+    {
+        return this.delegate.contains(value);
+    }
+
+    public IntIterator intIterator()
+    {
+        return new UnmodifiableIntIterator(this.delegate.intIterator());
+    }
+
+    public int[] toArray()
+    {
+        return this.delegate.toArray();
+    }
+
+    @Override
+    public int[] toSortedArray()
+    {
+        return this.delegate.toArray();
+    }
+
+    public void forEach(IntProcedure procedure)
+    {
+        this.delegate.forEach(procedure);
+    }
+
+    public void each(IntProcedure procedure)
+    {
+        this.delegate.each(procedure);
+    }
+
+    public ImmutableIntSet select(IntPredicate predicate)
+    {
+        return new ImmutableRoaringIntSet(this.delegate.select(predicate));
+    }
+
+    public ImmutableIntSet reject(IntPredicate predicate)
+    {
+        return new ImmutableRoaringIntSet(this.delegate.reject(predicate));
+    }
+
+    public <V> ImmutableSet<V> collect(IntToObjectFunction<? extends V> function)
+    {
+        return this.delegate.collect(function).toImmutable();
+    }
+
+    public int detectIfNone(IntPredicate predicate, int ifNone)
+    {
+        return this.delegate.detectIfNone(predicate, ifNone);
+    }
+
+    public int count(IntPredicate predicate)
+    {
+        return this.delegate.count(predicate);
+    }
+
+    public boolean anySatisfy(IntPredicate predicate)
+    {
+        return this.delegate.anySatisfy(predicate);
+    }
+
+    public boolean allSatisfy(IntPredicate predicate)
+    {
+        return this.delegate.allSatisfy(predicate);
+    }
+
+    public boolean noneSatisfy(IntPredicate predicate)
+    {
+        return this.delegate.noneSatisfy(predicate);
+    }
+
+    public <T> T injectInto(T injectedValue, ObjectIntToObjectFunction<? super T, ? extends T> function)
+    {
+        return this.delegate.injectInto(injectedValue, function);
+    }
+
+    public long sum()
+    {
+        return this.delegate.sum();
+    }
+
+    public int max()
+    {
+        return this.delegate.max();
+    }
+
+    public int min()
+    {
+        return this.delegate.min();
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return this.delegate.hashCode();
+    }
+
+    public void appendString(Appendable appendable, String start, String separator, String end)
+    {
+        this.delegate.appendString(appendable, start, separator, end);
+    }
+}
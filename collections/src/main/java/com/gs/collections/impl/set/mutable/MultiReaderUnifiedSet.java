@@ -70,6 +70,7 @@ import com.gs.collections.api.set.primitive.MutableLongSet;
 import com.gs.collections.api.set.primitive.MutableShortSet;
 import com.gs.collections.api.tuple.Pair;
 import com.gs.collections.impl.collection.mutable.AbstractMultiReaderMutableCollection;
+import com.gs.collections.impl.collection.mutable.OptimisticReadWriteLock;
 import com.gs.collections.impl.factory.Sets;
 import com.gs.collections.impl.lazy.parallel.set.MultiReaderParallelUnsortedSetIterable;
 import com.gs.collections.impl.utility.LazyIterate;
@@ -136,6 +137,27 @@ public final class MultiReaderUnifiedSet<T>
         return new MultiReaderUnifiedSet<T>(UnifiedSet.newSetWith(elements));
     }
 
+    /**
+     * Creates a MultiReaderUnifiedSet guarded by an {@link OptimisticReadWriteLock}, so that size and isEmpty
+     * validate a stamp instead of taking the read lock, and only fall back to the read lock when a write raced them.
+     * The optimistic lock is not serialized; a deserialized set uses a ReentrantReadWriteLock.
+     *
+     * @since 7.1
+     */
+    public static <T> MultiReaderUnifiedSet<T> newOptimisticSet()
+    {
+        return new MultiReaderUnifiedSet<T>(UnifiedSet.<T>newSet(), new OptimisticReadWriteLock());
+    }
+
+    /**
+     * @see #newOptimisticSet()
+     * @since 7.1
+     */
+    public static <T> MultiReaderUnifiedSet<T> newOptimisticSet(Iterable<T> iterable)
+    {
+        return new MultiReaderUnifiedSet<T>(UnifiedSet.newSet(iterable), new OptimisticReadWriteLock());
+    }
+
     @Override
     protected MutableSet<T> getDelegate()
     {
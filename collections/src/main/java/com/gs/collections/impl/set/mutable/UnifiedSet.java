@@ -54,6 +54,8 @@ import com.gs.collections.impl.factory.Sets;
 import com.gs.collections.impl.lazy.AbstractLazyIterable;
 import com.gs.collections.impl.lazy.parallel.AbstractBatch;
 import com.gs.collections.impl.lazy.parallel.AbstractParallelIterable;
+import com.gs.collections.impl.lazy.parallel.AdaptiveBatchSizer;
+import com.gs.collections.impl.lazy.parallel.AdaptiveBatchSplit;
 import com.gs.collections.impl.lazy.parallel.bag.CollectUnsortedBagBatch;
 import com.gs.collections.impl.lazy.parallel.bag.FlatCollectUnsortedBagBatch;
 import com.gs.collections.impl.lazy.parallel.bag.UnsortedBagBatch;
@@ -2185,13 +2187,29 @@ public class UnifiedSet<T>
         {
             throw new IllegalArgumentException();
         }
-        return new UnifiedSetParallelUnsortedIterable(executorService, batchSize);
+        return new UnifiedSetParallelUnsortedIterable(executorService, batchSize, null);
     }
 
-    private final class UnifiedUnsortedSetBatch extends AbstractBatch<T> implements RootUnsortedSetBatch<T>
+    /**
+     * Returns a parallel iterable whose batch sizes are chosen from the observed cost of each operation, as described
+     * in {@link AdaptiveBatchSizer}. Batches are ranges of the internal table, so the sizes are in table slots.
+     *
+     * @since 7.1
+     */
+    @Beta
+    public ParallelUnsortedSetIterable<T> asParallel(ExecutorService executorService, AdaptiveBatchSizer batchSizer)
+    {
+        if (executorService == null)
+        {
+            throw new NullPointerException();
+        }
+        return new UnifiedSetParallelUnsortedIterable(executorService, batchSizer.getSampleBatchSize(), batchSizer);
+    }
+
+    private class UnifiedUnsortedSetBatch extends AbstractBatch<T> implements RootUnsortedSetBatch<T>
     {
-        private final int chunkStartIndex;
-        private final int chunkEndIndex;
+        protected final int chunkStartIndex;
+        protected final int chunkEndIndex;
 
         private UnifiedUnsortedSetBatch(int chunkStartIndex, int chunkEndIndex)
         {
@@ -2235,15 +2253,72 @@ public class UnifiedSet<T>
         }
     }
 
+    private final class AdaptiveUnifiedUnsortedSetBatch extends UnifiedUnsortedSetBatch
+    {
+        private final AdaptiveBatchSplit split;
+
+        private AdaptiveUnifiedUnsortedSetBatch(int chunkStartIndex, int chunkEndIndex, AdaptiveBatchSplit split)
+        {
+            super(chunkStartIndex, chunkEndIndex);
+            this.split = split;
+        }
+
+        @Override
+        public void forEach(Procedure<? super T> procedure)
+        {
+            long startNanos = this.split.batchStarted();
+            super.forEach(procedure);
+            this.split.batchCompleted(this.chunkEndIndex - this.chunkStartIndex, startNanos);
+        }
+
+        @Override
+        public boolean anySatisfy(Predicate<? super T> predicate)
+        {
+            long startNanos = this.split.batchStarted();
+            boolean result = super.anySatisfy(predicate);
+            if (!result)
+            {
+                this.split.batchCompleted(this.chunkEndIndex - this.chunkStartIndex, startNanos);
+            }
+            return result;
+        }
+
+        @Override
+        public boolean allSatisfy(Predicate<? super T> predicate)
+        {
+            long startNanos = this.split.batchStarted();
+            boolean result = super.allSatisfy(predicate);
+            if (result)
+            {
+                this.split.batchCompleted(this.chunkEndIndex - this.chunkStartIndex, startNanos);
+            }
+            return result;
+        }
+
+        @Override
+        public T detect(Predicate<? super T> predicate)
+        {
+            long startNanos = this.split.batchStarted();
+            T result = super.detect(predicate);
+            if (result == null)
+            {
+                this.split.batchCompleted(this.chunkEndIndex - this.chunkStartIndex, startNanos);
+            }
+            return result;
+        }
+    }
+
     private final class UnifiedSetParallelUnsortedIterable extends AbstractParallelUnsortedSetIterable<T, RootUnsortedSetBatch<T>>
     {
         private final ExecutorService executorService;
         private final int batchSize;
+        private final AdaptiveBatchSizer batchSizer;
 
-        private UnifiedSetParallelUnsortedIterable(ExecutorService executorService, int batchSize)
+        private UnifiedSetParallelUnsortedIterable(ExecutorService executorService, int batchSize, AdaptiveBatchSizer batchSizer)
         {
             this.executorService = executorService;
             this.batchSize = batchSize;
+            this.batchSizer = batchSizer;
         }
 
         @Override
@@ -2322,6 +2397,30 @@ public class UnifiedSet<T>
             }
         }
 
+        private class AdaptiveUnifiedSetParallelSplitIterator implements Iterator<RootUnsortedSetBatch<T>>
+        {
+            private final AdaptiveBatchSplit split = UnifiedSetParallelUnsortedIterable.this.batchSizer.newSplit();
+            private int chunkStartIndex;
+
+            public boolean hasNext()
+            {
+                return this.chunkStartIndex < UnifiedSet.this.table.length;
+            }
+
+            public RootUnsortedSetBatch<T> next()
+            {
+                int chunkStartIndex = this.chunkStartIndex;
+                int chunkEndIndex = chunkStartIndex + this.split.nextBatchSize(UnifiedSet.this.table.length - chunkStartIndex);
+                this.chunkStartIndex = chunkEndIndex;
+                return new AdaptiveUnifiedUnsortedSetBatch(chunkStartIndex, chunkEndIndex, this.split);
+            }
+
+            public void remove()
+            {
+                throw new UnsupportedOperationException("Cannot call remove() on " + this.getClass().getSimpleName());
+            }
+        }
+
         private class UnifiedSetParallelSplitLazyIterable
                 extends AbstractLazyIterable<RootUnsortedSetBatch<T>>
         {
@@ -2335,6 +2434,10 @@ public class UnifiedSet<T>
 
             public Iterator<RootUnsortedSetBatch<T>> iterator()
             {
+                if (UnifiedSetParallelUnsortedIterable.this.batchSizer != null)
+                {
+                    return new AdaptiveUnifiedSetParallelSplitIterator();
+                }
                 return new UnifiedSetParallelSplitIterator();
             }
         }
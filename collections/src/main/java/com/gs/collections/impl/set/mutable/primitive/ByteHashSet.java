@@ -23,9 +23,12 @@ import java.io.ObjectOutput;
 import java.io.Serializable;
 import java.util.Arrays;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
 
 import com.gs.collections.api.ByteIterable;
 import com.gs.collections.api.LazyByteIterable;
+import com.gs.collections.api.ParallelByteIterable;
+import com.gs.collections.api.annotation.Beta;
 import com.gs.collections.api.bag.primitive.MutableByteBag;
 import com.gs.collections.api.block.function.primitive.ByteToObjectFunction;
 import com.gs.collections.api.block.function.primitive.ObjectByteToObjectFunction;
@@ -41,6 +44,7 @@ import com.gs.collections.api.set.primitive.ImmutableByteSet;
 import com.gs.collections.api.set.primitive.MutableByteSet;
 import com.gs.collections.impl.bag.mutable.primitive.ByteHashBag;
 import com.gs.collections.impl.block.procedure.checked.primitive.CheckedByteProcedure;
+import com.gs.collections.impl.block.procedure.primitive.ByteTopKProcedure;
 import com.gs.collections.impl.factory.primitive.ByteSets;
 import com.gs.collections.impl.lazy.primitive.LazyByteIterableAdapter;
 import com.gs.collections.impl.list.mutable.primitive.ByteArrayList;
@@ -876,6 +880,20 @@ public final class ByteHashSet implements MutableByteSet, Externalizable
         return ByteArrayList.newList(this).sortThis();
     }
 
+    public MutableByteList topK(int k)
+    {
+        ByteTopKProcedure procedure = new ByteTopKProcedure(k);
+        this.forEach(procedure);
+        return procedure.getResult();
+    }
+
+    public MutableByteList bottomK(int k)
+    {
+        ByteTopKProcedure procedure = ByteTopKProcedure.bottomK(k);
+        this.forEach(procedure);
+        return procedure.getResult();
+    }
+
     public ByteSet freeze()
     {
         if (this.size() == 0)
@@ -891,6 +909,17 @@ public final class ByteHashSet implements MutableByteSet, Externalizable
                 this.bitGroup1, this.bitGroup2, this.size);
     }
 
+    /**
+     * A ByteHashSet holds at most 256 elements, so they are copied into a list which is split into batches by index.
+     *
+     * @since 7.1
+     */
+    @Beta
+    public ParallelByteIterable asParallel(ExecutorService executorService, int batchSize)
+    {
+        return this.toList().asParallel(executorService, batchSize);
+    }
+
     public void writeExternal(final ObjectOutput out) throws IOException
     {
         out.writeInt(this.size());
@@ -1425,6 +1454,20 @@ public final class ByteHashSet implements MutableByteSet, Externalizable
             return ByteArrayList.newList(this).sortThis();
         }
 
+        public MutableByteList topK(int k)
+        {
+            ByteTopKProcedure procedure = new ByteTopKProcedure(k);
+            this.forEach(procedure);
+            return procedure.getResult();
+        }
+
+        public MutableByteList bottomK(int k)
+        {
+            ByteTopKProcedure procedure = ByteTopKProcedure.bottomK(k);
+            this.forEach(procedure);
+            return procedure.getResult();
+        }
+
         public <T> T injectInto(T injectedValue, ObjectByteToObjectFunction<? super T, ? extends T> function)
         {
             T result = injectedValue;
@@ -1449,6 +1492,12 @@ public final class ByteHashSet implements MutableByteSet, Externalizable
             return this;
         }
 
+        @Beta
+        public ParallelByteIterable asParallel(ExecutorService executorService, int batchSize)
+        {
+            return this.toList().asParallel(executorService, batchSize);
+        }
+
         private Object writeReplace()
         {
             return new ImmutableByteSetSerializationProxy(this);
@@ -0,0 +1,1651 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.set.mutable.primitive;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import com.gs.collections.api.IntIterable;
+import com.gs.collections.api.block.function.primitive.IntToObjectFunction;
+import com.gs.collections.api.block.function.primitive.ObjectIntToObjectFunction;
+import com.gs.collections.api.block.predicate.primitive.IntPredicate;
+import com.gs.collections.api.block.procedure.primitive.IntProcedure;
+import com.gs.collections.api.iterator.MutableIntIterator;
+import com.gs.collections.api.set.MutableSet;
+import com.gs.collections.api.set.primitive.IntSet;
+import com.gs.collections.api.set.primitive.MutableIntSet;
+import com.gs.collections.impl.set.immutable.primitive.ImmutableRoaringIntSet;
+import com.gs.collections.impl.set.mutable.UnifiedSet;
+import com.gs.collections.impl.set.primitive.AbstractIntSet;
+
+/**
+ * RoaringIntSet is a MutableIntSet which stores its values as a compressed bitmap, after the Roaring format. The values
+ * are partitioned by their upper 16 bits into chunks of up to 65536 values, and each chunk keeps its lower 16 bits in
+ * whichever container suits its density: a sorted char[] for up to 4096 values, a 1024 word bitmap above that, or a
+ * list of runs after {@link #runOptimize()}. A dense set of ids therefore costs little more than a bit per value,
+ * against at least four bytes per slot in an {@link IntHashSet}.
+ * <p>
+ * {@link #and}, {@link #or} and {@link #andNot} combine two sets chunk by chunk, word by word where both chunks are
+ * bitmaps, and {@link #andCardinality} counts an intersection without building it. Values are iterated in ascending
+ * order.
+ *
+ * @since 7.1
+ */
+public final class RoaringIntSet extends AbstractIntSet implements MutableIntSet, Externalizable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final int INITIAL_CAPACITY = 4;
+    private static final int ARRAY_MAX_SIZE = 4096;
+    private static final int BITMAP_WORDS = 1024;
+    private static final long NONE = Long.MAX_VALUE;
+
+    private static final byte ARRAY = 0;
+    private static final byte BITMAP = 1;
+    private static final byte RUN = 2;
+
+    // The upper 16 bits of each chunk, with the sign bit flipped so that the chunks sort in signed order
+    private char[] keys;
+    private Container[] containers;
+    private int containerCount;
+    private int size;
+
+    public RoaringIntSet()
+    {
+        this.keys = new char[INITIAL_CAPACITY];
+        this.containers = new Container[INITIAL_CAPACITY];
+    }
+
+    public RoaringIntSet(int... elements)
+    {
+        this();
+        this.addAll(elements);
+    }
+
+    public RoaringIntSet(RoaringIntSet set)
+    {
+        this.keys = set.keys.clone();
+        this.containers = new Container[set.containers.length];
+        for (int i = 0; i < set.containerCount; i++)
+        {
+            this.containers[i] = set.containers[i].copy();
+        }
+        this.containerCount = set.containerCount;
+        this.size = set.size;
+    }
+
+    public static RoaringIntSet newSet(IntIterable source)
+    {
+        if (source instanceof RoaringIntSet)
+        {
+            return new RoaringIntSet((RoaringIntSet) source);
+        }
+        RoaringIntSet result = new RoaringIntSet();
+        result.addAll(source);
+        return result;
+    }
+
+    public static RoaringIntSet newSetWith(int... source)
+    {
+        return new RoaringIntSet(source);
+    }
+
+    private static char key(int value)
+    {
+        return (char) ((value >>> 16) ^ 0x8000);
+    }
+
+    private static int high(char key)
+    {
+        return (key ^ 0x8000) << 16;
+    }
+
+    private int indexOf(char key)
+    {
+        // Values are usually added in ascending order, so check the last chunk before searching
+        int last = this.containerCount - 1;
+        if (last >= 0 && this.keys[last] == key)
+        {
+            return last;
+        }
+        return Arrays.binarySearch(this.keys, 0, this.containerCount, key);
+    }
+
+    private void insertContainer(int index, char key, Container container)
+    {
+        if (this.containerCount == this.keys.length)
+        {
+            int newCapacity = this.keys.length << 1;
+            this.keys = Arrays.copyOf(this.keys, newCapacity);
+            this.containers = Arrays.copyOf(this.containers, newCapacity);
+        }
+        System.arraycopy(this.keys, index, this.keys, index + 1, this.containerCount - index);
+        System.arraycopy(this.containers, index, this.containers, index + 1, this.containerCount - index);
+        this.keys[index] = key;
+        this.containers[index] = container;
+        this.containerCount++;
+    }
+
+    private void removeContainer(int index)
+    {
+        System.arraycopy(this.keys, index + 1, this.keys, index, this.containerCount - index - 1);
+        System.arraycopy(this.containers, index + 1, this.containers, index, this.containerCount - index - 1);
+        this.containerCount--;
+        this.containers[this.containerCount] = null;
+    }
+
+    private void appendContainer(char key, Container container)
+    {
+        if (container != null)
+        {
+            this.insertContainer(this.containerCount, key, container);
+            this.size += container.cardinality();
+        }
+    }
+
+    public int size()
+    {
+        return this.size;
+    }
+
+    /**
+     * Same as {@link #size()}.
+     */
+    public int cardinality()
+    {
+        return this.size;
+    }
+
+    public boolean contains(int value)
+    {
+        int index = this.indexOf(key(value));
+        return index >= 0 && this.containers[index].contains((char) value);
+    }
+
+    public boolean add(int element)
+    {
+        char key = key(element);
+        int index = this.indexOf(key);
+        if (index < 0)
+        {
+            this.insertContainer(-(index + 1), key, new ArrayContainer((char) element));
+            this.size++;
+            return true;
+        }
+        Container container = this.containers[index];
+        int oldCardinality = container.cardinality();
+        Container newContainer = container.add((char) element);
+        this.containers[index] = newContainer;
+        if (newContainer.cardinality() == oldCardinality)
+        {
+            return false;
+        }
+        this.size++;
+        return true;
+    }
+
+    public boolean addAll(int... source)
+    {
+        int oldSize = this.size;
+        for (int each : source)
+        {
+            this.add(each);
+        }
+        return this.size != oldSize;
+    }
+
+    public boolean addAll(IntIterable source)
+    {
+        if (source instanceof RoaringIntSet)
+        {
+            int oldSize = this.size;
+            this.replaceWith(this.or((RoaringIntSet) source));
+            return this.size != oldSize;
+        }
+        return this.addAll(source.toArray());
+    }
+
+    public boolean remove(int value)
+    {
+        int index = this.indexOf(key(value));
+        if (index < 0)
+        {
+            return false;
+        }
+        Container container = this.containers[index];
+        int oldCardinality = container.cardinality();
+        Container newContainer = container.remove((char) value);
+        if (newContainer.cardinality() == oldCardinality)
+        {
+            return false;
+        }
+        this.size--;
+        if (newContainer.cardinality() == 0)
+        {
+            this.removeContainer(index);
+        }
+        else
+        {
+            this.containers[index] = newContainer;
+        }
+        return true;
+    }
+
+    public boolean removeAll(IntIterable source)
+    {
+        if (source instanceof RoaringIntSet)
+        {
+            int oldSize = this.size;
+            this.replaceWith(this.andNot((RoaringIntSet) source));
+            return this.size != oldSize;
+        }
+        return this.removeAll(source.toArray());
+    }
+
+    public boolean removeAll(int... source)
+    {
+        int oldSize = this.size;
+        for (int each : source)
+        {
+            this.remove(each);
+        }
+        return this.size != oldSize;
+    }
+
+    public boolean retainAll(IntIterable source)
+    {
+        int oldSize = this.size;
+        RoaringIntSet other = source instanceof RoaringIntSet ? (RoaringIntSet) source : RoaringIntSet.newSet(source);
+        this.replaceWith(this.and(other));
+        return this.size != oldSize;
+    }
+
+    public boolean retainAll(int... source)
+    {
+        return this.retainAll(RoaringIntSet.newSetWith(source));
+    }
+
+    private void replaceWith(RoaringIntSet set)
+    {
+        this.keys = set.keys;
+        this.containers = set.containers;
+        this.containerCount = set.containerCount;
+        this.size = set.size;
+    }
+
+    public void clear()
+    {
+        Arrays.fill(this.containers, 0, this.containerCount, null);
+        this.containerCount = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Returns a new set with the values in both this set and the other.
+     */
+    public RoaringIntSet and(RoaringIntSet other)
+    {
+        RoaringIntSet result = new RoaringIntSet();
+        int i = 0;
+        int j = 0;
+        while (i < this.containerCount && j < other.containerCount)
+        {
+            if (this.keys[i] < other.keys[j])
+            {
+                i++;
+            }
+            else if (this.keys[i] > other.keys[j])
+            {
+                j++;
+            }
+            else
+            {
+                result.appendContainer(this.keys[i], and(this.containers[i], other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new set with the values in either this set or the other.
+     */
+    public RoaringIntSet or(RoaringIntSet other)
+    {
+        RoaringIntSet result = new RoaringIntSet();
+        int i = 0;
+        int j = 0;
+        while (i < this.containerCount || j < other.containerCount)
+        {
+            if (j == other.containerCount || i < this.containerCount && this.keys[i] < other.keys[j])
+            {
+                result.appendContainer(this.keys[i], this.containers[i].copy());
+                i++;
+            }
+            else if (i == this.containerCount || this.keys[i] > other.keys[j])
+            {
+                result.appendContainer(other.keys[j], other.containers[j].copy());
+                j++;
+            }
+            else
+            {
+                result.appendContainer(this.keys[i], or(this.containers[i], other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new set with the values in this set which are not in the other.
+     */
+    public RoaringIntSet andNot(RoaringIntSet other)
+    {
+        RoaringIntSet result = new RoaringIntSet();
+        int j = 0;
+        for (int i = 0; i < this.containerCount; i++)
+        {
+            while (j < other.containerCount && other.keys[j] < this.keys[i])
+            {
+                j++;
+            }
+            if (j < other.containerCount && other.keys[j] == this.keys[i])
+            {
+                result.appendContainer(this.keys[i], andNot(this.containers[i], other.containers[j]));
+            }
+            else
+            {
+                result.appendContainer(this.keys[i], this.containers[i].copy());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of values in both this set and the other, without building their intersection.
+     */
+    public int andCardinality(RoaringIntSet other)
+    {
+        int result = 0;
+        int i = 0;
+        int j = 0;
+        while (i < this.containerCount && j < other.containerCount)
+        {
+            if (this.keys[i] < other.keys[j])
+            {
+                i++;
+            }
+            else if (this.keys[i] > other.keys[j])
+            {
+                j++;
+            }
+            else
+            {
+                result += andCardinality(this.containers[i], other.containers[j]);
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Converts each chunk whose values form few enough runs into a list of runs, which for long stretches of
+     * consecutive values is smaller than either a sorted array or a bitmap. Adding to or removing from such a chunk
+     * converts it back.
+     *
+     * @return true if any chunk was converted
+     */
+    public boolean runOptimize()
+    {
+        boolean changed = false;
+        for (int i = 0; i < this.containerCount; i++)
+        {
+            Container container = this.containers[i];
+            Container optimized = container.runOptimize();
+            if (optimized != container)
+            {
+                this.containers[i] = optimized;
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    public RoaringIntSet with(int element)
+    {
+        this.add(element);
+        return this;
+    }
+
+    public RoaringIntSet without(int element)
+    {
+        this.remove(element);
+        return this;
+    }
+
+    public RoaringIntSet withAll(IntIterable elements)
+    {
+        this.addAll(elements);
+        return this;
+    }
+
+    public RoaringIntSet withoutAll(IntIterable elements)
+    {
+        this.removeAll(elements);
+        return this;
+    }
+
+    public MutableIntSet asUnmodifiable()
+    {
+        return new UnmodifiableIntSet(this);
+    }
+
+    public MutableIntSet asSynchronized()
+    {
+        return new SynchronizedIntSet(this);
+    }
+
+    public ImmutableRoaringIntSet toImmutable()
+    {
+        return ImmutableRoaringIntSet.newSet(this);
+    }
+
+    public IntSet freeze()
+    {
+        return this.toImmutable();
+    }
+
+    public MutableIntIterator intIterator()
+    {
+        return new InternalIntIterator();
+    }
+
+    /**
+     * Returns the smallest value in this set which is greater than or equal to the given value, or NONE.
+     */
+    private long ceiling(int value)
+    {
+        char key = key(value);
+        int index = Arrays.binarySearch(this.keys, 0, this.containerCount, key);
+        if (index >= 0)
+        {
+            int low = this.containers[index].ceiling((char) value);
+            if (low >= 0)
+            {
+                return high(key) | low;
+            }
+            index++;
+        }
+        else
+        {
+            index = -(index + 1);
+        }
+        if (index < this.containerCount)
+        {
+            return high(this.keys[index]) | this.containers[index].first();
+        }
+        return NONE;
+    }
+
+    public int[] toArray()
+    {
+        int[] result = new int[this.size];
+        int offset = 0;
+        for (int i = 0; i < this.containerCount; i++)
+        {
+            offset = this.containers[i].toArray(result, offset, high(this.keys[i]));
+        }
+        return result;
+    }
+
+    @Override
+    public int[] toSortedArray()
+    {
+        return this.toArray();
+    }
+
+    public void forEach(IntProcedure procedure)
+    {
+        this.each(procedure);
+    }
+
+    public void each(IntProcedure procedure)
+    {
+        for (int i = 0; i < this.containerCount; i++)
+        {
+            this.containers[i].forEach(high(this.keys[i]), procedure);
+        }
+    }
+
+    public RoaringIntSet select(final IntPredicate predicate)
+    {
+        final RoaringIntSet result = new RoaringIntSet();
+        this.forEach(new IntProcedure()
+        {
+            public void value(int value)
+            {
+                if (predicate.accept(value))
+                {
+                    result.add(value);
+                }
+            }
+        });
+        return result;
+    }
+
+    public RoaringIntSet reject(final IntPredicate predicate)
+    {
+        final RoaringIntSet result = new RoaringIntSet();
+        this.forEach(new IntProcedure()
+        {
+            public void value(int value)
+            {
+                if (!predicate.accept(value))
+                {
+                    result.add(value);
+                }
+            }
+        });
+        return result;
+    }
+
+    public <V> MutableSet<V> collect(final IntToObjectFunction<? extends V> function)
+    {
+        final MutableSet<V> result = UnifiedSet.newSet(this.size);
+        this.forEach(new IntProcedure()
+        {
+            public void value(int each)
+            {
+                result.add(function.valueOf(each));
+            }
+        });
+        return result;
+    }
+
+    public int detectIfNone(IntPredicate predicate, int ifNone)
+    {
+        MutableIntIterator iterator = this.intIterator();
+        while (iterator.hasNext())
+        {
+            int value = iterator.next();
+            if (predicate.accept(value))
+            {
+                return value;
+            }
+        }
+        return ifNone;
+    }
+
+    public int count(final IntPredicate predicate)
+    {
+        final int[] count = new int[1];
+        this.forEach(new IntProcedure()
+        {
+            public void value(int value)
+            {
+                if (predicate.accept(value))
+                {
+                    count[0]++;
+                }
+            }
+        });
+        return count[0];
+    }
+
+    public boolean anySatisfy(IntPredicate predicate)
+    {
+        MutableIntIterator iterator = this.intIterator();
+        while (iterator.hasNext())
+        {
+            if (predicate.accept(iterator.next()))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean allSatisfy(IntPredicate predicate)
+    {
+        MutableIntIterator iterator = this.intIterator();
+        while (iterator.hasNext())
+        {
+            if (!predicate.accept(iterator.next()))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean noneSatisfy(IntPredicate predicate)
+    {
+        return !this.anySatisfy(predicate);
+    }
+
+    public <T> T injectInto(T injectedValue, ObjectIntToObjectFunction<? super T, ? extends T> function)
+    {
+        T result = injectedValue;
+        MutableIntIterator iterator = this.intIterator();
+        while (iterator.hasNext())
+        {
+            result = function.valueOf(result, iterator.next());
+        }
+        return result;
+    }
+
+    public long sum()
+    {
+        long result = 0L;
+        for (int i = 0; i < this.containerCount; i++)
+        {
+            Container container = this.containers[i];
+            result += (long) high(this.keys[i]) * container.cardinality() + container.lowSum();
+        }
+        return result;
+    }
+
+    public int max()
+    {
+        if (this.size == 0)
+        {
+            throw new NoSuchElementException();
+        }
+        int last = this.containerCount - 1;
+        return high(this.keys[last]) | this.containers[last].last();
+    }
+
+    public int min()
+    {
+        if (this.size == 0)
+        {
+            throw new NoSuchElementException();
+        }
+        return high(this.keys[0]) | this.containers[0].first();
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return (int) this.sum();
+    }
+
+    public void appendString(Appendable appendable, String start, String separator, String end)
+    {
+        try
+        {
+            appendable.append(start);
+            MutableIntIterator iterator = this.intIterator();
+            if (iterator.hasNext())
+            {
+                appendable.append(String.valueOf(iterator.next()));
+                while (iterator.hasNext())
+                {
+                    appendable.append(separator);
+                    appendable.append(String.valueOf(iterator.next()));
+                }
+            }
+            appendable.append(end);
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        out.writeInt(this.containerCount);
+        for (int i = 0; i < this.containerCount; i++)
+        {
+            out.writeChar(this.keys[i]);
+            this.containers[i].writeTo(out);
+        }
+    }
+
+    public void readExternal(ObjectInput in) throws IOException
+    {
+        int count = in.readInt();
+        this.keys = new char[Math.max(INITIAL_CAPACITY, count)];
+        this.containers = new Container[this.keys.length];
+        this.containerCount = 0;
+        this.size = 0;
+        for (int i = 0; i < count; i++)
+        {
+            char key = in.readChar();
+            this.appendContainer(key, readContainer(in));
+        }
+    }
+
+    private static Container readContainer(ObjectInput in) throws IOException
+    {
+        byte type = in.readByte();
+        if (type == ARRAY)
+        {
+            int cardinality = in.readInt();
+            char[] values = new char[cardinality];
+            for (int i = 0; i < cardinality; i++)
+            {
+                values[i] = in.readChar();
+            }
+            return new ArrayContainer(values, cardinality);
+        }
+        if (type == BITMAP)
+        {
+            long[] words = new long[BITMAP_WORDS];
+            for (int i = 0; i < BITMAP_WORDS; i++)
+            {
+                words[i] = in.readLong();
+            }
+            return new BitmapContainer(words);
+        }
+        if (type == RUN)
+        {
+            int runCount = in.readInt();
+            char[] runs = new char[runCount << 1];
+            for (int i = 0; i < runs.length; i++)
+            {
+                runs[i] = in.readChar();
+            }
+            return new RunContainer(runs, runCount);
+        }
+        throw new IOException("Unknown container type " + type);
+    }
+
+    private static Container and(Container left, Container right)
+    {
+        Container x = left.toArrayOrBitmap();
+        Container y = right.toArrayOrBitmap();
+        if (x instanceof ArrayContainer && y instanceof ArrayContainer)
+        {
+            ArrayContainer a = (ArrayContainer) x;
+            ArrayContainer b = (ArrayContainer) y;
+            char[] values = new char[Math.min(a.cardinality, b.cardinality)];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < a.cardinality && j < b.cardinality)
+            {
+                if (a.values[i] < b.values[j])
+                {
+                    i++;
+                }
+                else if (a.values[i] > b.values[j])
+                {
+                    j++;
+                }
+                else
+                {
+                    values[count++] = a.values[i];
+                    i++;
+                    j++;
+                }
+            }
+            return count == 0 ? null : new ArrayContainer(values, count);
+        }
+        if (x instanceof ArrayContainer || y instanceof ArrayContainer)
+        {
+            ArrayContainer a = (ArrayContainer) (x instanceof ArrayContainer ? x : y);
+            BitmapContainer b = (BitmapContainer) (x instanceof ArrayContainer ? y : x);
+            char[] values = new char[a.cardinality];
+            int count = 0;
+            for (int i = 0; i < a.cardinality; i++)
+            {
+                if (b.contains(a.values[i]))
+                {
+                    values[count++] = a.values[i];
+                }
+            }
+            return count == 0 ? null : new ArrayContainer(values, count);
+        }
+        long[] a = ((BitmapContainer) x).words;
+        long[] b = ((BitmapContainer) y).words;
+        long[] words = new long[BITMAP_WORDS];
+        for (int i = 0; i < BITMAP_WORDS; i++)
+        {
+            words[i] = a[i] & b[i];
+        }
+        return BitmapContainer.toEfficientContainer(words);
+    }
+
+    private static Container or(Container left, Container right)
+    {
+        Container x = left.toArrayOrBitmap();
+        Container y = right.toArrayOrBitmap();
+        if (x instanceof ArrayContainer && y instanceof ArrayContainer)
+        {
+            ArrayContainer a = (ArrayContainer) x;
+            ArrayContainer b = (ArrayContainer) y;
+            char[] values = new char[a.cardinality + b.cardinality];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < a.cardinality || j < b.cardinality)
+            {
+                if (j == b.cardinality || i < a.cardinality && a.values[i] < b.values[j])
+                {
+                    values[count++] = a.values[i++];
+                }
+                else if (i == a.cardinality || a.values[i] > b.values[j])
+                {
+                    values[count++] = b.values[j++];
+                }
+                else
+                {
+                    values[count++] = a.values[i];
+                    i++;
+                    j++;
+                }
+            }
+            ArrayContainer result = new ArrayContainer(values, count);
+            return count > ARRAY_MAX_SIZE ? result.toBitmap() : result;
+        }
+        if (x instanceof ArrayContainer || y instanceof ArrayContainer)
+        {
+            ArrayContainer a = (ArrayContainer) (x instanceof ArrayContainer ? x : y);
+            BitmapContainer b = (BitmapContainer) (x instanceof ArrayContainer ? y : x);
+            BitmapContainer result = b.copy();
+            for (int i = 0; i < a.cardinality; i++)
+            {
+                result.set(a.values[i]);
+            }
+            return result;
+        }
+        long[] a = ((BitmapContainer) x).words;
+        long[] b = ((BitmapContainer) y).words;
+        long[] words = new long[BITMAP_WORDS];
+        for (int i = 0; i < BITMAP_WORDS; i++)
+        {
+            words[i] = a[i] | b[i];
+        }
+        return new BitmapContainer(words);
+    }
+
+    private static Container andNot(Container left, Container right)
+    {
+        Container x = left.toArrayOrBitmap();
+        Container y = right.toArrayOrBitmap();
+        if (x instanceof ArrayContainer)
+        {
+            ArrayContainer a = (ArrayContainer) x;
+            char[] values = new char[a.cardinality];
+            int count = 0;
+            for (int i = 0; i < a.cardinality; i++)
+            {
+                if (!y.contains(a.values[i]))
+                {
+                    values[count++] = a.values[i];
+                }
+            }
+            return count == 0 ? null : new ArrayContainer(values, count);
+        }
+        long[] words = ((BitmapContainer) x).words.clone();
+        if (y instanceof ArrayContainer)
+        {
+            ArrayContainer b = (ArrayContainer) y;
+            for (int i = 0; i < b.cardinality; i++)
+            {
+                char low = b.values[i];
+                words[low >>> 6] &= ~(1L << low);
+            }
+        }
+        else
+        {
+            long[] b = ((BitmapContainer) y).words;
+            for (int i = 0; i < BITMAP_WORDS; i++)
+            {
+                words[i] &= ~b[i];
+            }
+        }
+        return BitmapContainer.toEfficientContainer(words);
+    }
+
+    private static int andCardinality(Container left, Container right)
+    {
+        Container x = left.toArrayOrBitmap();
+        Container y = right.toArrayOrBitmap();
+        if (x instanceof BitmapContainer && y instanceof BitmapContainer)
+        {
+            long[] a = ((BitmapContainer) x).words;
+            long[] b = ((BitmapContainer) y).words;
+            int count = 0;
+            for (int i = 0; i < BITMAP_WORDS; i++)
+            {
+                count += Long.bitCount(a[i] & b[i]);
+            }
+            return count;
+        }
+        ArrayContainer a = (ArrayContainer) (x instanceof ArrayContainer ? x : y);
+        Container b = x instanceof ArrayContainer ? y : x;
+        int count = 0;
+        for (int i = 0; i < a.cardinality; i++)
+        {
+            if (b.contains(a.values[i]))
+            {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * The lower 16 bits of the values in one chunk. add and remove return the container to use from then on, which may
+     * be a different kind of container.
+     */
+    private abstract static class Container
+    {
+        abstract int cardinality();
+
+        abstract boolean contains(char low);
+
+        abstract Container add(char low);
+
+        abstract Container remove(char low);
+
+        /**
+         * Returns the smallest value greater than or equal to low, or -1.
+         */
+        abstract int ceiling(char low);
+
+        abstract int first();
+
+        abstract int last();
+
+        abstract long lowSum();
+
+        abstract void forEach(int high, IntProcedure procedure);
+
+        abstract int toArray(int[] target, int offset, int high);
+
+        abstract Container copy();
+
+        abstract Container toArrayOrBitmap();
+
+        abstract int runCount();
+
+        abstract void writeTo(ObjectOutput out) throws IOException;
+
+        Container runOptimize()
+        {
+            int runCount = this.runCount();
+            int runBytes = 4 * runCount;
+            int currentBytes = this.cardinality() <= ARRAY_MAX_SIZE ? 2 * this.cardinality() : 8 * BITMAP_WORDS;
+            if (runBytes >= currentBytes)
+            {
+                return this;
+            }
+            char[] runs = new char[runCount << 1];
+            int run = -1;
+            int previous = -2;
+            for (int low = this.ceiling((char) 0); low >= 0; low = low == 0xFFFF ? -1 : this.ceiling((char) (low + 1)))
+            {
+                if (low != previous + 1)
+                {
+                    run++;
+                    runs[run << 1] = (char) low;
+                }
+                runs[(run << 1) + 1] = (char) (low - runs[run << 1]);
+                previous = low;
+            }
+            return new RunContainer(runs, runCount);
+        }
+    }
+
+    private static final class ArrayContainer extends Container
+    {
+        private char[] values;
+        private int cardinality;
+
+        private ArrayContainer(char low)
+        {
+            this.values = new char[INITIAL_CAPACITY];
+            this.values[0] = low;
+            this.cardinality = 1;
+        }
+
+        private ArrayContainer(char[] values, int cardinality)
+        {
+            this.values = values;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        int cardinality()
+        {
+            return this.cardinality;
+        }
+
+        @Override
+        boolean contains(char low)
+        {
+            return Arrays.binarySearch(this.values, 0, this.cardinality, low) >= 0;
+        }
+
+        @Override
+        Container add(char low)
+        {
+            if (this.cardinality > 0 && low > this.values[this.cardinality - 1])
+            {
+                return this.insertAt(this.cardinality, low);
+            }
+            int index = Arrays.binarySearch(this.values, 0, this.cardinality, low);
+            if (index >= 0)
+            {
+                return this;
+            }
+            return this.insertAt(-(index + 1), low);
+        }
+
+        private Container insertAt(int index, char low)
+        {
+            if (this.cardinality == ARRAY_MAX_SIZE)
+            {
+                return this.toBitmap().add(low);
+            }
+            if (this.cardinality == this.values.length)
+            {
+                this.values = Arrays.copyOf(this.values, Math.min(ARRAY_MAX_SIZE, this.values.length << 1));
+            }
+            System.arraycopy(this.values, index, this.values, index + 1, this.cardinality - index);
+            this.values[index] = low;
+            this.cardinality++;
+            return this;
+        }
+
+        @Override
+        Container remove(char low)
+        {
+            int index = Arrays.binarySearch(this.values, 0, this.cardinality, low);
+            if (index >= 0)
+            {
+                System.arraycopy(this.values, index + 1, this.values, index, this.cardinality - index - 1);
+                this.cardinality--;
+            }
+            return this;
+        }
+
+        @Override
+        int ceiling(char low)
+        {
+            int index = Arrays.binarySearch(this.values, 0, this.cardinality, low);
+            if (index >= 0)
+            {
+                return low;
+            }
+            index = -(index + 1);
+            return index < this.cardinality ? this.values[index] : -1;
+        }
+
+        @Override
+        int first()
+        {
+            return this.values[0];
+        }
+
+        @Override
+        int last()
+        {
+            return this.values[this.cardinality - 1];
+        }
+
+        @Override
+        long lowSum()
+        {
+            long result = 0L;
+            for (int i = 0; i < this.cardinality; i++)
+            {
+                result += this.values[i];
+            }
+            return result;
+        }
+
+        @Override
+        void forEach(int high, IntProcedure procedure)
+        {
+            for (int i = 0; i < this.cardinality; i++)
+            {
+                procedure.value(high | this.values[i]);
+            }
+        }
+
+        @Override
+        int toArray(int[] target, int offset, int high)
+        {
+            for (int i = 0; i < this.cardinality; i++)
+            {
+                target[offset + i] = high | this.values[i];
+            }
+            return offset + this.cardinality;
+        }
+
+        @Override
+        ArrayContainer copy()
+        {
+            return new ArrayContainer(Arrays.copyOf(this.values, Math.max(this.cardinality, 1)), this.cardinality);
+        }
+
+        @Override
+        Container toArrayOrBitmap()
+        {
+            return this;
+        }
+
+        private BitmapContainer toBitmap()
+        {
+            long[] words = new long[BITMAP_WORDS];
+            for (int i = 0; i < this.cardinality; i++)
+            {
+                char low = this.values[i];
+                words[low >>> 6] |= 1L << low;
+            }
+            return new BitmapContainer(words, this.cardinality);
+        }
+
+        @Override
+        int runCount()
+        {
+            int count = 0;
+            for (int i = 0; i < this.cardinality; i++)
+            {
+                if (i == 0 || this.values[i] != this.values[i - 1] + 1)
+                {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        @Override
+        void writeTo(ObjectOutput out) throws IOException
+        {
+            out.writeByte(ARRAY);
+            out.writeInt(this.cardinality);
+            for (int i = 0; i < this.cardinality; i++)
+            {
+                out.writeChar(this.values[i]);
+            }
+        }
+    }
+
+    private static final class BitmapContainer extends Container
+    {
+        private final long[] words;
+        private int cardinality;
+
+        private BitmapContainer(long[] words)
+        {
+            this(words, cardinality(words));
+        }
+
+        private BitmapContainer(long[] words, int cardinality)
+        {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        private static int cardinality(long[] words)
+        {
+            int result = 0;
+            for (long word : words)
+            {
+                result += Long.bitCount(word);
+            }
+            return result;
+        }
+
+        private static Container toEfficientContainer(long[] words)
+        {
+            int cardinality = cardinality(words);
+            if (cardinality == 0)
+            {
+                return null;
+            }
+            BitmapContainer bitmap = new BitmapContainer(words, cardinality);
+            return cardinality > ARRAY_MAX_SIZE ? bitmap : bitmap.toArray();
+        }
+
+        @Override
+        int cardinality()
+        {
+            return this.cardinality;
+        }
+
+        @Override
+        boolean contains(char low)
+        {
+            return (this.words[low >>> 6] & (1L << low)) != 0L;
+        }
+
+        private void set(char low)
+        {
+            int index = low >>> 6;
+            long word = this.words[index];
+            long newWord = word | (1L << low);
+            if (word != newWord)
+            {
+                this.words[index] = newWord;
+                this.cardinality++;
+            }
+        }
+
+        @Override
+        Container add(char low)
+        {
+            this.set(low);
+            return this;
+        }
+
+        @Override
+        Container remove(char low)
+        {
+            int index = low >>> 6;
+            long word = this.words[index];
+            long newWord = word & ~(1L << low);
+            if (word != newWord)
+            {
+                this.words[index] = newWord;
+                this.cardinality--;
+                if (this.cardinality <= ARRAY_MAX_SIZE)
+                {
+                    return this.toArray();
+                }
+            }
+            return this;
+        }
+
+        @Override
+        int ceiling(char low)
+        {
+            int index = low >>> 6;
+            long word = this.words[index] & (-1L << low);
+            while (true)
+            {
+                if (word != 0L)
+                {
+                    return (index << 6) + Long.numberOfTrailingZeros(word);
+                }
+                index++;
+                if (index == BITMAP_WORDS)
+                {
+                    return -1;
+                }
+                word = this.words[index];
+            }
+        }
+
+        @Override
+        int first()
+        {
+            return this.ceiling((char) 0);
+        }
+
+        @Override
+        int last()
+        {
+            for (int i = BITMAP_WORDS - 1; i >= 0; i--)
+            {
+                if (this.words[i] != 0L)
+                {
+                    return (i << 6) + 63 - Long.numberOfLeadingZeros(this.words[i]);
+                }
+            }
+            throw new NoSuchElementException();
+        }
+
+        @Override
+        long lowSum()
+        {
+            long result = 0L;
+            for (int i = 0; i < BITMAP_WORDS; i++)
+            {
+                long word = this.words[i];
+                while (word != 0L)
+                {
+                    result += (i << 6) + Long.numberOfTrailingZeros(word);
+                    word &= word - 1L;
+                }
+            }
+            return result;
+        }
+
+        @Override
+        void forEach(int high, IntProcedure procedure)
+        {
+            for (int i = 0; i < BITMAP_WORDS; i++)
+            {
+                long word = this.words[i];
+                while (word != 0L)
+                {
+                    procedure.value(high | (i << 6) + Long.numberOfTrailingZeros(word));
+                    word &= word - 1L;
+                }
+            }
+        }
+
+        @Override
+        int toArray(int[] target, int offset, int high)
+        {
+            int index = offset;
+            for (int i = 0; i < BITMAP_WORDS; i++)
+            {
+                long word = this.words[i];
+                while (word != 0L)
+                {
+                    target[index++] = high | (i << 6) + Long.numberOfTrailingZeros(word);
+                    word &= word - 1L;
+                }
+            }
+            return index;
+        }
+
+        @Override
+        BitmapContainer copy()
+        {
+            return new BitmapContainer(this.words.clone(), this.cardinality);
+        }
+
+        @Override
+        Container toArrayOrBitmap()
+        {
+            return this;
+        }
+
+        private ArrayContainer toArray()
+        {
+            char[] values = new char[this.cardinality];
+            int index = 0;
+            for (int i = 0; i < BITMAP_WORDS; i++)
+            {
+                long word = this.words[i];
+                while (word != 0L)
+                {
+                    values[index++] = (char) ((i << 6) + Long.numberOfTrailingZeros(word));
+                    word &= word - 1L;
+                }
+            }
+            return new ArrayContainer(values, this.cardinality);
+        }
+
+        @Override
+        int runCount()
+        {
+            int count = 0;
+            long carry = 0L;
+            for (int i = 0; i < BITMAP_WORDS; i++)
+            {
+                long word = this.words[i];
+                // A run starts at each set bit whose lower neighbour, possibly in the previous word, is clear
+                count += Long.bitCount(word & ~(word << 1 | carry));
+                carry = word >>> 63;
+            }
+            return count;
+        }
+
+        @Override
+        void writeTo(ObjectOutput out) throws IOException
+        {
+            out.writeByte(BITMAP);
+            for (int i = 0; i < BITMAP_WORDS; i++)
+            {
+                out.writeLong(this.words[i]);
+            }
+        }
+    }
+
+    /**
+     * Runs of consecutive values, stored as (start, length - 1) pairs in ascending order of start.
+     */
+    private static final class RunContainer extends Container
+    {
+        private final char[] runs;
+        private final int runCount;
+        private final int cardinality;
+
+        private RunContainer(char[] runs, int runCount)
+        {
+            this.runs = runs;
+            this.runCount = runCount;
+            int cardinality = 0;
+            for (int i = 0; i < runCount; i++)
+            {
+                cardinality += this.length(i) + 1;
+            }
+            this.cardinality = cardinality;
+        }
+
+        private int start(int run)
+        {
+            return this.runs[run << 1];
+        }
+
+        private int length(int run)
+        {
+            return this.runs[(run << 1) + 1];
+        }
+
+        /**
+         * Returns the index of the last run starting at or before low, or -1.
+         */
+        private int runAtOrBefore(char low)
+        {
+            int lowIndex = 0;
+            int highIndex = this.runCount - 1;
+            while (lowIndex <= highIndex)
+            {
+                int mid = (lowIndex + highIndex) >>> 1;
+                if (this.start(mid) <= low)
+                {
+                    lowIndex = mid + 1;
+                }
+                else
+                {
+                    highIndex = mid - 1;
+                }
+            }
+            return highIndex;
+        }
+
+        @Override
+        int cardinality()
+        {
+            return this.cardinality;
+        }
+
+        @Override
+        boolean contains(char low)
+        {
+            int run = this.runAtOrBefore(low);
+            return run >= 0 && low <= this.start(run) + this.length(run);
+        }
+
+        @Override
+        Container add(char low)
+        {
+            return this.contains(low) ? this : this.toArrayOrBitmap().add(low);
+        }
+
+        @Override
+        Container remove(char low)
+        {
+            return this.contains(low) ? this.toArrayOrBitmap().remove(low) : this;
+        }
+
+        @Override
+        int ceiling(char low)
+        {
+            int run = this.runAtOrBefore(low);
+            if (run >= 0 && low <= this.start(run) + this.length(run))
+            {
+                return low;
+            }
+            return run + 1 < this.runCount ? this.start(run + 1) : -1;
+        }
+
+        @Override
+        int first()
+        {
+            return this.start(0);
+        }
+
+        @Override
+        int last()
+        {
+            return this.start(this.runCount - 1) + this.length(this.runCount - 1);
+        }
+
+        @Override
+        long lowSum()
+        {
+            long result = 0L;
+            for (int i = 0; i < this.runCount; i++)
+            {
+                long start = this.start(i);
+                long end = start + this.length(i);
+                result += (start + end) * (end - start + 1L) / 2L;
+            }
+            return result;
+        }
+
+        @Override
+        void forEach(int high, IntProcedure procedure)
+        {
+            for (int i = 0; i < this.runCount; i++)
+            {
+                int end = this.start(i) + this.length(i);
+                for (int low = this.start(i); low <= end; low++)
+                {
+                    procedure.value(high | low);
+                }
+            }
+        }
+
+        @Override
+        int toArray(int[] target, int offset, int high)
+        {
+            int index = offset;
+            for (int i = 0; i < this.runCount; i++)
+            {
+                int end = this.start(i) + this.length(i);
+                for (int low = this.start(i); low <= end; low++)
+                {
+                    target[index++] = high | low;
+                }
+            }
+            return index;
+        }
+
+        @Override
+        RunContainer copy()
+        {
+            return this;
+        }
+
+        @Override
+        Container toArrayOrBitmap()
+        {
+            if (this.cardinality <= ARRAY_MAX_SIZE)
+            {
+                char[] values = new char[Math.max(this.cardinality, 1)];
+                int index = 0;
+                for (int i = 0; i < this.runCount; i++)
+                {
+                    int end = this.start(i) + this.length(i);
+                    for (int low = this.start(i); low <= end; low++)
+                    {
+                        values[index++] = (char) low;
+                    }
+                }
+                return new ArrayContainer(values, this.cardinality);
+            }
+            long[] words = new long[BITMAP_WORDS];
+            for (int i = 0; i < this.runCount; i++)
+            {
+                int end = this.start(i) + this.length(i);
+                for (int low = this.start(i); low <= end; low++)
+                {
+                    words[low >>> 6] |= 1L << low;
+                }
+            }
+            return new BitmapContainer(words, this.cardinality);
+        }
+
+        @Override
+        int runCount()
+        {
+            return this.runCount;
+        }
+
+        @Override
+        Container runOptimize()
+        {
+            return this;
+        }
+
+        @Override
+        void writeTo(ObjectOutput out) throws IOException
+        {
+            out.writeByte(RUN);
+            out.writeInt(this.runCount);
+            for (int i = 0; i < this.runCount << 1; i++)
+            {
+                out.writeChar(this.runs[i]);
+            }
+        }
+    }
+
+    private class InternalIntIterator implements MutableIntIterator
+    {
+        private long next = RoaringIntSet.this.ceiling(Integer.MIN_VALUE);
+        private int lastReturned;
+        private boolean canRemove;
+
+        public boolean hasNext()
+        {
+            return this.next != NONE;
+        }
+
+        public int next()
+        {
+            if (this.next == NONE)
+            {
+                throw new NoSuchElementException();
+            }
+            int result = (int) this.next;
+            this.next = result == Integer.MAX_VALUE ? NONE : RoaringIntSet.this.ceiling(result + 1);
+            this.lastReturned = result;
+            this.canRemove = true;
+            return result;
+        }
+
+        public void remove()
+        {
+            if (!this.canRemove)
+            {
+                throw new IllegalStateException();
+            }
+            RoaringIntSet.this.remove(this.lastReturned);
+            this.canRemove = false;
+        }
+    }
+}
@@ -789,6 +789,26 @@ public class ArrayStack<T> implements MutableStack<T>, Externalizable
         return this.delegate.asReversed().toSortedListBy(function);
     }
 
+    public MutableList<T> topK(int k, Comparator<? super T> comparator)
+    {
+        return this.delegate.topK(k, comparator);
+    }
+
+    public MutableList<T> bottomK(int k, Comparator<? super T> comparator)
+    {
+        return this.delegate.bottomK(k, comparator);
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> topKBy(int k, Function<? super T, ? extends V> function)
+    {
+        return this.delegate.topKBy(k, function);
+    }
+
+    public <V extends Comparable<? super V>> MutableList<T> bottomKBy(int k, Function<? super T, ? extends V> function)
+    {
+        return this.delegate.bottomKBy(k, function);
+    }
+
     public MutableSet<T> toSet()
     {
         return this.delegate.asReversed().toSet();
@@ -19,9 +19,12 @@ package com.gs.collections.impl.string.immutable;
 import java.io.IOException;
 import java.io.Serializable;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
 
 import com.gs.collections.api.CharIterable;
 import com.gs.collections.api.LazyCharIterable;
+import com.gs.collections.api.ParallelCharIterable;
+import com.gs.collections.api.annotation.Beta;
 import com.gs.collections.api.bag.primitive.MutableCharBag;
 import com.gs.collections.api.block.function.primitive.CharToCharFunction;
 import com.gs.collections.api.block.function.primitive.CharToObjectFunction;
@@ -37,6 +40,7 @@ import com.gs.collections.api.list.primitive.ImmutableCharList;
 import com.gs.collections.api.list.primitive.MutableCharList;
 import com.gs.collections.api.set.primitive.MutableCharSet;
 import com.gs.collections.impl.bag.mutable.primitive.CharHashBag;
+import com.gs.collections.impl.lazy.parallel.primitive.CharListParallelIterable;
 import com.gs.collections.impl.lazy.primitive.ReverseCharIterable;
 import com.gs.collections.impl.list.mutable.FastList;
 import com.gs.collections.impl.list.mutable.primitive.CharArrayList;
@@ -219,6 +223,12 @@ public class CharAdapter extends AbstractCharIterable implements CharSequence, I
         throw new UnsupportedOperationException("BinarySearch is not implemented on CharAdapter");
     }
 
+    @Beta
+    public ParallelCharIterable asParallel(ExecutorService executorService, int batchSize)
+    {
+        return new CharListParallelIterable(this, executorService, batchSize);
+    }
+
     public int lastIndexOf(char value)
     {
         for (int i = this.size() - 1; i >= 0; i--)
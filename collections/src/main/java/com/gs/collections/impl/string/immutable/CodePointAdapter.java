@@ -19,9 +19,12 @@ package com.gs.collections.impl.string.immutable;
 import java.io.IOException;
 import java.io.Serializable;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
 
 import com.gs.collections.api.IntIterable;
 import com.gs.collections.api.LazyIntIterable;
+import com.gs.collections.api.ParallelIntIterable;
+import com.gs.collections.api.annotation.Beta;
 import com.gs.collections.api.bag.primitive.MutableIntBag;
 import com.gs.collections.api.block.function.primitive.IntToIntFunction;
 import com.gs.collections.api.block.function.primitive.IntToObjectFunction;
@@ -271,6 +274,15 @@ public class CodePointAdapter extends AbstractIntIterable implements CharSequenc
         throw new UnsupportedOperationException("BinarySearch is not implemented on CodePointAdapter");
     }
 
+    /**
+     * Code points cannot be located by index in constant time, so they are copied into a list before being split.
+     */
+    @Beta
+    public ParallelIntIterable asParallel(ExecutorService executorService, int batchSize)
+    {
+        return this.toList().asParallel(executorService, batchSize);
+    }
+
     public int lastIndexOf(int value)
     {
         for (int i = this.size() - 1; i >= 0; i--)
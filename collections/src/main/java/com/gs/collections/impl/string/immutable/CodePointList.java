@@ -18,9 +18,12 @@ package com.gs.collections.impl.string.immutable;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.concurrent.ExecutorService;
 
 import com.gs.collections.api.IntIterable;
 import com.gs.collections.api.LazyIntIterable;
+import com.gs.collections.api.ParallelIntIterable;
+import com.gs.collections.api.annotation.Beta;
 import com.gs.collections.api.bag.primitive.MutableIntBag;
 import com.gs.collections.api.block.function.primitive.IntToIntFunction;
 import com.gs.collections.api.block.function.primitive.IntToObjectFunction;
@@ -227,6 +230,12 @@ public class CodePointList extends AbstractIntIterable implements CharSequence,
         return this.codePoints.binarySearch(value);
     }
 
+    @Beta
+    public ParallelIntIterable asParallel(ExecutorService executorService, int batchSize)
+    {
+        return this.codePoints.asParallel(executorService, batchSize);
+    }
+
     public int lastIndexOf(int value)
     {
         return this.codePoints.lastIndexOf(value);
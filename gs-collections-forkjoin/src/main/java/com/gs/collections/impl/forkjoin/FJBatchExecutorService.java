@@ -0,0 +1,76 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.forkjoin;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.gs.collections.api.annotation.Beta;
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.list.ListIterable;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.lazy.parallel.BatchExecutorService;
+import com.gs.collections.impl.list.mutable.FastList;
+
+/**
+ * A ForkJoinPool which can be passed to {@code asParallel()} wherever an ExecutorService is expected. Parallel
+ * iterables hand it all of their batches at once instead of submitting one task per batch and waiting on the futures
+ * in order. The batches are split recursively in halves, and idle workers may steal the outstanding halves from busy
+ * ones.
+ * <p>
+ * e.g.
+ * <pre>
+ * FJBatchExecutorService executorService = new FJBatchExecutorService();
+ * int count = list.asParallel(executorService, 1000).select(predicate).count(otherPredicate);
+ * </pre>
+ *
+ * @since 7.1
+ */
+@Beta
+public class FJBatchExecutorService extends ForkJoinPool implements BatchExecutorService
+{
+    public FJBatchExecutorService()
+    {
+    }
+
+    public FJBatchExecutorService(int parallelism)
+    {
+        super(parallelism);
+    }
+
+    public <B, V> MutableList<V> collectBatches(ListIterable<B> batches, Function<? super B, ? extends V> function)
+    {
+        Object[] results = new Object[batches.size()];
+        this.invoke(new FJCollectBatchesTask<>(batches, function, results, 0, batches.size()));
+        return FastList.newListWith(FJBatchExecutorService.<V>cast(results));
+    }
+
+    public <B, V> V detectBatch(ListIterable<B> batches, Function<? super B, ? extends V> function)
+    {
+        Object[] results = new Object[batches.size()];
+        AtomicInteger firstFoundIndex = new AtomicInteger(batches.size());
+        this.invoke(new FJDetectBatchTask<>(batches, function, results, firstFoundIndex, 0, batches.size()));
+        int index = firstFoundIndex.get();
+        return index < results.length ? FJBatchExecutorService.<V>cast(results)[index] : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> V[] cast(Object[] results)
+    {
+        return (V[]) results;
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.forkjoin;
+
+import java.util.concurrent.RecursiveAction;
+
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.list.ListIterable;
+
+/**
+ * Applies a function to the batches in the range [start, end), splitting the range in half until a single batch is
+ * left, and stores each result at the index of its batch.
+ */
+final class FJCollectBatchesTask<B, V> extends RecursiveAction
+{
+    private static final long serialVersionUID = 1L;
+
+    private final ListIterable<B> batches;
+    private final Function<? super B, ? extends V> function;
+    private final Object[] results;
+    private final int start;
+    private final int end;
+
+    FJCollectBatchesTask(ListIterable<B> batches, Function<? super B, ? extends V> function, Object[] results, int start, int end)
+    {
+        this.batches = batches;
+        this.function = function;
+        this.results = results;
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    protected void compute()
+    {
+        if (this.end - this.start <= 1)
+        {
+            if (this.start < this.end)
+            {
+                this.results[this.start] = this.function.valueOf(this.batches.get(this.start));
+            }
+            return;
+        }
+        int middle = (this.start + this.end) >>> 1;
+        RecursiveAction.invokeAll(
+                new FJCollectBatchesTask<>(this.batches, this.function, this.results, this.start, middle),
+                new FJCollectBatchesTask<>(this.batches, this.function, this.results, middle, this.end));
+    }
+}
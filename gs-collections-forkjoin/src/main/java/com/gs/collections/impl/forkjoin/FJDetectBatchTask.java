@@ -0,0 +1,94 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.forkjoin;
+
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.list.ListIterable;
+
+/**
+ * Applies a function to the batches in the range [start, end) looking for a non-null result, splitting the range in
+ * half until a single batch is left. The lowest index with a non-null result found so far is shared between all the
+ * tasks, so any range which starts after it is skipped.
+ */
+final class FJDetectBatchTask<B, V> extends RecursiveAction
+{
+    private static final long serialVersionUID = 1L;
+
+    private final ListIterable<B> batches;
+    private final Function<? super B, ? extends V> function;
+    private final Object[] results;
+    private final AtomicInteger firstFoundIndex;
+    private final int start;
+    private final int end;
+
+    FJDetectBatchTask(
+            ListIterable<B> batches,
+            Function<? super B, ? extends V> function,
+            Object[] results,
+            AtomicInteger firstFoundIndex,
+            int start,
+            int end)
+    {
+        this.batches = batches;
+        this.function = function;
+        this.results = results;
+        this.firstFoundIndex = firstFoundIndex;
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    protected void compute()
+    {
+        if (this.start >= this.firstFoundIndex.get())
+        {
+            return;
+        }
+        if (this.end - this.start <= 1)
+        {
+            if (this.start < this.end)
+            {
+                V result = this.function.valueOf(this.batches.get(this.start));
+                if (result != null)
+                {
+                    this.results[this.start] = result;
+                    this.lowerFirstFoundIndex();
+                }
+            }
+            return;
+        }
+        int middle = (this.start + this.end) >>> 1;
+        RecursiveAction.invokeAll(
+                new FJDetectBatchTask<>(this.batches, this.function, this.results, this.firstFoundIndex, this.start, middle),
+                new FJDetectBatchTask<>(this.batches, this.function, this.results, this.firstFoundIndex, middle, this.end));
+    }
+
+    private void lowerFirstFoundIndex()
+    {
+        while (true)
+        {
+            int current = this.firstFoundIndex.get();
+            if (this.start >= current || this.firstFoundIndex.compareAndSet(current, this.start))
+            {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.forkjoin;
+
+import com.gs.collections.api.ParallelIterable;
+import com.gs.collections.api.block.function.Function;
+import com.gs.collections.api.block.function.primitive.IntFunction;
+import com.gs.collections.api.block.predicate.Predicate;
+import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.api.set.MutableSet;
+import com.gs.collections.impl.bag.mutable.HashBag;
+import com.gs.collections.impl.block.factory.Functions;
+import com.gs.collections.impl.block.factory.Predicates;
+import com.gs.collections.impl.block.factory.primitive.IntPredicates;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.list.mutable.primitive.IntArrayList;
+import com.gs.collections.impl.set.mutable.UnifiedSet;
+import com.gs.collections.impl.test.Verify;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class FJBatchExecutorServiceTest
+{
+    private static final Predicate<Integer> IS_ODD = new Predicate<Integer>()
+    {
+        public boolean accept(Integer each)
+        {
+            return each % 2 != 0;
+        }
+    };
+
+    private static final IntFunction<Integer> INT_VALUE = new IntFunction<Integer>()
+    {
+        public int intValueOf(Integer each)
+        {
+            return each;
+        }
+    };
+
+    private static final IntFunction<Integer> TIMES_TWO = new IntFunction<Integer>()
+    {
+        public int intValueOf(Integer each)
+        {
+            return each * 2;
+        }
+    };
+
+    private final FJBatchExecutorService executorService = new FJBatchExecutorService(2);
+    private final MutableList<Integer> list = Interval.oneTo(1000).toList();
+
+    @After
+    public void tearDown()
+    {
+        this.executorService.shutdown();
+    }
+
+    @Test
+    public void forEach()
+    {
+        for (int batchSize = 1; batchSize <= 1001; batchSize += 100)
+        {
+            final MutableSet<Integer> actual = UnifiedSet.<Integer>newSet().asSynchronized();
+            this.list.asParallel(this.executorService, batchSize).forEach(new Procedure<Integer>()
+            {
+                public void value(Integer each)
+                {
+                    actual.add(each);
+                }
+            });
+            Assert.assertEquals(this.list.toSet(), actual);
+        }
+    }
+
+    @Test
+    public void toList_preserves_order()
+    {
+        for (int batchSize = 1; batchSize <= 1001; batchSize += 100)
+        {
+            ParallelIterable<Integer> parallel = this.list.asParallel(this.executorService, batchSize);
+            Assert.assertEquals(this.list.select(IS_ODD), parallel.select(IS_ODD).toList());
+            Assert.assertEquals(this.list.collect(Functions.getToString()), parallel.collect(Functions.getToString()).toList());
+        }
+    }
+
+    @Test
+    public void aggregations()
+    {
+        for (int batchSize = 1; batchSize <= 1001; batchSize += 100)
+        {
+            ParallelIterable<Integer> parallel = this.list.asParallel(this.executorService, batchSize);
+            Assert.assertEquals(500, parallel.count(IS_ODD));
+            Assert.assertEquals(500500L, parallel.sumOfInt(INT_VALUE));
+            Assert.assertEquals(Integer.valueOf(1), parallel.min());
+            Assert.assertEquals(Integer.valueOf(1000), parallel.max());
+            Assert.assertEquals(this.list.toBag(), parallel.toBag());
+            Assert.assertEquals(1001000L, parallel.collectInt(TIMES_TWO).sum());
+        }
+    }
+
+    @Test
+    public void short_circuit()
+    {
+        for (int batchSize = 1; batchSize <= 1001; batchSize += 100)
+        {
+            ParallelIterable<Integer> parallel = this.list.asParallel(this.executorService, batchSize);
+            Assert.assertTrue(parallel.anySatisfy(Predicates.greaterThan(999)));
+            Assert.assertFalse(parallel.anySatisfy(Predicates.greaterThan(1000)));
+            Assert.assertTrue(parallel.allSatisfy(Predicates.lessThan(1001)));
+            Assert.assertFalse(parallel.allSatisfy(Predicates.lessThan(1000)));
+            Assert.assertEquals(Integer.valueOf(501), parallel.detect(Predicates.greaterThan(500)));
+            Assert.assertNull(parallel.detect(Predicates.greaterThan(1000)));
+        }
+    }
+
+    @Test
+    public void unordered()
+    {
+        UnifiedSet<Integer> set = UnifiedSet.newSet(this.list);
+        HashBag<Integer> bag = HashBag.newBag(this.list);
+        for (int batchSize = 1; batchSize <= 1001; batchSize += 100)
+        {
+            Assert.assertEquals(set.select(IS_ODD), set.asParallel(this.executorService, batchSize).select(IS_ODD).toSet());
+            Assert.assertEquals(500500L, bag.asParallel(this.executorService, batchSize).sumOfInt(INT_VALUE));
+            Assert.assertTrue(set.asParallel(this.executorService, batchSize).anySatisfy(Predicates.equal(1000)));
+        }
+    }
+
+    @Test
+    public void primitive()
+    {
+        IntArrayList ints = IntArrayList.newList(Interval.oneTo(1000).collectInt(INT_VALUE));
+        for (int batchSize = 1; batchSize <= 1001; batchSize += 100)
+        {
+            Assert.assertEquals(500500L, ints.asParallel(this.executorService, batchSize).sum());
+            Assert.assertEquals(ints, ints.asParallel(this.executorService, batchSize).toList());
+            Assert.assertEquals(501, ints.asParallel(this.executorService, batchSize).detectIfNone(IntPredicates.greaterThan(500), -1));
+        }
+    }
+
+    @Test
+    public void empty()
+    {
+        ParallelIterable<Integer> parallel = FastList.<Integer>newList().asParallel(this.executorService, 2);
+        Verify.assertEmpty(parallel.toList());
+        Assert.assertFalse(parallel.anySatisfy(Predicates.alwaysTrue()));
+        Assert.assertTrue(parallel.allSatisfy(Predicates.alwaysFalse()));
+        Assert.assertNull(parallel.detect(Predicates.alwaysTrue()));
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void exception()
+    {
+        this.list.asParallel(this.executorService, 10).forEach(new Procedure<Integer>()
+        {
+            public void value(Integer each)
+            {
+                throw new RuntimeException("Thread death on its way!");
+            }
+        });
+    }
+}
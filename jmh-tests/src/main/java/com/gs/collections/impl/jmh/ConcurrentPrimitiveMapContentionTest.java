@@ -0,0 +1,137 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.gs.collections.impl.jmh;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.api.map.primitive.MutableIntIntMap;
+import com.gs.collections.api.map.primitive.MutableObjectLongMap;
+import com.gs.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import com.gs.collections.impl.map.mutable.primitive.ConcurrentIntIntHashMap;
+import com.gs.collections.impl.map.mutable.primitive.ConcurrentObjectLongHashMap;
+import com.gs.collections.impl.map.mutable.primitive.IntIntHashMap;
+import com.gs.collections.impl.map.mutable.primitive.ObjectLongHashMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ConcurrentPrimitiveMapContentionTest extends AbstractJMHTestRunner
+{
+    private static final int THREADS = 8;
+
+    @Param({"16", "1024", "65536"})
+    public int keyCount;
+
+    private int[] intKeys;
+    private String[] stringKeys;
+
+    private MutableIntIntMap concurrentIntIntMap;
+    private MutableIntIntMap synchronizedIntIntMap;
+    private MutableObjectLongMap<String> concurrentObjectLongMap;
+    private MutableObjectLongMap<String> synchronizedObjectLongMap;
+
+    @Setup
+    public void setUp()
+    {
+        this.intKeys = new Random(0x123456789ABCDL).ints().limit((long) this.keyCount).toArray();
+        this.stringKeys = new String[this.keyCount];
+        for (int i = 0; i < this.keyCount; i++)
+        {
+            this.stringKeys[i] = String.valueOf(this.intKeys[i]);
+        }
+
+        this.concurrentIntIntMap = new ConcurrentIntIntHashMap();
+        this.synchronizedIntIntMap = new IntIntHashMap().asSynchronized();
+        this.concurrentObjectLongMap = new ConcurrentObjectLongHashMap<>();
+        this.synchronizedObjectLongMap = new ObjectLongHashMap<String>().asSynchronized();
+        for (int i = 0; i < this.keyCount; i++)
+        {
+            this.concurrentIntIntMap.put(this.intKeys[i], i);
+            this.synchronizedIntIntMap.put(this.intKeys[i], i);
+            this.concurrentObjectLongMap.put(this.stringKeys[i], i);
+            this.synchronizedObjectLongMap.put(this.stringKeys[i], i);
+        }
+    }
+
+    @Warmup(iterations = 20)
+    @Measurement(iterations = 10)
+    @Threads(THREADS)
+    @Benchmark
+    public int concurrentIntInt_addToValue()
+    {
+        return this.concurrentIntIntMap.addToValue(this.intKeys[ThreadLocalRandom.current().nextInt(this.keyCount)], 1);
+    }
+
+    @Warmup(iterations = 20)
+    @Measurement(iterations = 10)
+    @Threads(THREADS)
+    @Benchmark
+    public int synchronizedIntInt_addToValue()
+    {
+        return this.synchronizedIntIntMap.addToValue(this.intKeys[ThreadLocalRandom.current().nextInt(this.keyCount)], 1);
+    }
+
+    @Warmup(iterations = 20)
+    @Measurement(iterations = 10)
+    @Threads(THREADS)
+    @Benchmark
+    public int concurrentIntInt_get()
+    {
+        return this.concurrentIntIntMap.get(this.intKeys[ThreadLocalRandom.current().nextInt(this.keyCount)]);
+    }
+
+    @Warmup(iterations = 20)
+    @Measurement(iterations = 10)
+    @Threads(THREADS)
+    @Benchmark
+    public int synchronizedIntInt_get()
+    {
+        return this.synchronizedIntIntMap.get(this.intKeys[ThreadLocalRandom.current().nextInt(this.keyCount)]);
+    }
+
+    @Warmup(iterations = 20)
+    @Measurement(iterations = 10)
+    @Threads(THREADS)
+    @Benchmark
+    public long concurrentObjectLong_addToValue()
+    {
+        return this.concurrentObjectLongMap.addToValue(this.stringKeys[ThreadLocalRandom.current().nextInt(this.keyCount)], 1L);
+    }
+
+    @Warmup(iterations = 20)
+    @Measurement(iterations = 10)
+    @Threads(THREADS)
+    @Benchmark
+    public long synchronizedObjectLong_addToValue()
+    {
+        return this.synchronizedObjectLongMap.addToValue(this.stringKeys[ThreadLocalRandom.current().nextInt(this.keyCount)], 1L);
+    }
+}
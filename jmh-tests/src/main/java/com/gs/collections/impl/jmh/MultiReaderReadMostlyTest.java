@@ -0,0 +1,103 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.gs.collections.impl.jmh;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.mutable.MultiReaderFastList;
+import com.gs.collections.impl.set.mutable.MultiReaderUnifiedSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Read-mostly workload against the MultiReader collections: seven threads call size, isEmpty, notEmpty and get, which
+ * the optimistic mode serves without locking, while one thread keeps writing. Compares the default read lock against
+ * the optimistic mode.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MultiReaderReadMostlyTest extends AbstractJMHTestRunner
+{
+    private static final int SIZE = 1024;
+
+    @Param({"false", "true"})
+    public boolean optimistic;
+
+    private MultiReaderFastList<Integer> list;
+    private MultiReaderUnifiedSet<Integer> set;
+
+    @Setup
+    public void setUp()
+    {
+        Interval elements = Interval.zeroTo(SIZE - 1);
+        this.list = this.optimistic
+                ? MultiReaderFastList.newOptimisticList(elements)
+                : MultiReaderFastList.newList(elements);
+        this.set = this.optimistic
+                ? MultiReaderUnifiedSet.newOptimisticSet(elements)
+                : MultiReaderUnifiedSet.newSet(elements);
+    }
+
+    @Benchmark
+    @Group("list")
+    @GroupThreads(7)
+    public int list_read()
+    {
+        int index = ThreadLocalRandom.current().nextInt(SIZE);
+        int result = this.list.size() + this.list.get(index);
+        return this.list.isEmpty() ? -result : result;
+    }
+
+    @Benchmark
+    @Group("list")
+    @GroupThreads(1)
+    public Integer list_write()
+    {
+        int index = ThreadLocalRandom.current().nextInt(SIZE);
+        return this.list.set(index, index);
+    }
+
+    @Benchmark
+    @Group("set")
+    @GroupThreads(7)
+    public boolean set_read()
+    {
+        return this.set.notEmpty() && this.set.size() == SIZE;
+    }
+
+    @Benchmark
+    @Group("set")
+    @GroupThreads(1)
+    public boolean set_write()
+    {
+        int element = ThreadLocalRandom.current().nextInt(SIZE);
+        return this.set.remove(element) && this.set.add(element);
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.impl.forkjoin.FJBatchExecutorService;
+import com.gs.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.mutable.FastList;
+import org.junit.Assert;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Compares the Future-per-batch ExecutorService path of the parallel iterables with the work-stealing
+ * FJBatchExecutorService, on a uniform workload and on a skewed one where the last tenth of the elements costs
+ * fifty times as much as the rest. The serial methods give the single threaded baseline, and the batch size is varied
+ * because fewer, larger batches leave more of the skewed tail in one batch, which neither executor can split.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ParallelBatchExecutorTest extends AbstractJMHTestRunner
+{
+    private static final int SIZE = 1_000_000;
+    private static final int SKEWED_FROM = SIZE - SIZE / 10;
+    private static final int CHEAP = 20;
+    private static final int EXPENSIVE = 1_000;
+
+    @Param({"1000", "10000", "100000"})
+    public int batchSize;
+
+    private final FastList<Integer> integersGSC = FastList.newList(Interval.oneTo(SIZE));
+    private final long expectedUniformSum = this.integersGSC.sumOfLong(each -> spin(each, CHEAP));
+    private final long expectedSkewedSum = this.integersGSC.sumOfLong(ParallelBatchExecutorTest::skewed);
+
+    private ExecutorService executorService;
+    private FJBatchExecutorService fjBatchExecutorService;
+
+    @Setup
+    public void setUp()
+    {
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        this.executorService = Executors.newFixedThreadPool(parallelism);
+        this.fjBatchExecutorService = new FJBatchExecutorService(parallelism);
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException
+    {
+        this.executorService.shutdownNow();
+        this.executorService.awaitTermination(1L, TimeUnit.SECONDS);
+        this.fjBatchExecutorService.shutdownNow();
+        this.fjBatchExecutorService.awaitTermination(1L, TimeUnit.SECONDS);
+    }
+
+    private static long skewed(int each)
+    {
+        return spin(each, each > SKEWED_FROM ? EXPENSIVE : CHEAP);
+    }
+
+    private static long spin(int each, int iterations)
+    {
+        long result = each;
+        for (int i = 0; i < iterations; i++)
+        {
+            result = result * 31L + i;
+        }
+        return result & 1L;
+    }
+
+    @Benchmark
+    public void uniform_sumOfLong_serial_gsc()
+    {
+        Assert.assertEquals(this.expectedUniformSum, this.integersGSC.sumOfLong(each -> spin(each, CHEAP)));
+    }
+
+    @Benchmark
+    public void uniform_sumOfLong_parallel_executor_gsc()
+    {
+        Assert.assertEquals(this.expectedUniformSum, this.integersGSC.asParallel(this.executorService, this.batchSize).sumOfLong(each -> spin(each, CHEAP)));
+    }
+
+    @Benchmark
+    public void uniform_sumOfLong_parallel_forkjoin_gsc()
+    {
+        Assert.assertEquals(this.expectedUniformSum, this.integersGSC.asParallel(this.fjBatchExecutorService, this.batchSize).sumOfLong(each -> spin(each, CHEAP)));
+    }
+
+    @Benchmark
+    public void skewed_sumOfLong_serial_gsc()
+    {
+        Assert.assertEquals(this.expectedSkewedSum, this.integersGSC.sumOfLong(ParallelBatchExecutorTest::skewed));
+    }
+
+    @Benchmark
+    public void skewed_sumOfLong_parallel_executor_gsc()
+    {
+        Assert.assertEquals(this.expectedSkewedSum, this.integersGSC.asParallel(this.executorService, this.batchSize).sumOfLong(ParallelBatchExecutorTest::skewed));
+    }
+
+    @Benchmark
+    public void skewed_sumOfLong_parallel_forkjoin_gsc()
+    {
+        Assert.assertEquals(this.expectedSkewedSum, this.integersGSC.asParallel(this.fjBatchExecutorService, this.batchSize).sumOfLong(ParallelBatchExecutorTest::skewed));
+    }
+
+    @Benchmark
+    public void skewed_forEach_parallel_executor_gsc()
+    {
+        this.integersGSC.asParallel(this.executorService, this.batchSize).forEach(ParallelBatchExecutorTest::skewed);
+    }
+
+    @Benchmark
+    public void skewed_forEach_parallel_forkjoin_gsc()
+    {
+        this.integersGSC.asParallel(this.fjBatchExecutorService, this.batchSize).forEach(ParallelBatchExecutorTest::skewed);
+    }
+
+    @Benchmark
+    public void short_circuit_middle_parallel_executor_gsc()
+    {
+        Assert.assertTrue(this.integersGSC.asParallel(this.executorService, this.batchSize).anySatisfy(each -> each == SIZE / 2 - 1));
+    }
+
+    @Benchmark
+    public void short_circuit_middle_parallel_forkjoin_gsc()
+    {
+        Assert.assertTrue(this.integersGSC.asParallel(this.fjBatchExecutorService, this.batchSize).anySatisfy(each -> each == SIZE / 2 - 1));
+    }
+
+    @Benchmark
+    public void process_all_parallel_executor_gsc()
+    {
+        Assert.assertFalse(this.integersGSC.asParallel(this.executorService, this.batchSize).anySatisfy(each -> each < 0));
+    }
+
+    @Benchmark
+    public void process_all_parallel_forkjoin_gsc()
+    {
+        Assert.assertFalse(this.integersGSC.asParallel(this.fjBatchExecutorService, this.batchSize).anySatisfy(each -> each < 0));
+    }
+}
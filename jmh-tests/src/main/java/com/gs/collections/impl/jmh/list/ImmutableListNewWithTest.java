@@ -0,0 +1,115 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh.list;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.api.list.ImmutableList;
+import com.gs.collections.impl.factory.Lists;
+import com.gs.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.immutable.ImmutableTrieList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares appending one element at a time by copying the array, which is what an array-based ImmutableList does on
+ * newWith, with appending to an ImmutableTrieList, and the cost of get and forEach on the two shapes. The size at
+ * which appending to the trie overtakes copying is the crossover used by ImmutableArrayList.newWith.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ImmutableListNewWithTest extends AbstractJMHTestRunner
+{
+    @Param({"8", "16", "32", "64", "128", "1024", "10000"})
+    public int size;
+
+    private ImmutableList<Integer> arrayList;
+    private ImmutableList<Integer> trieList;
+
+    @Setup
+    public void setUp()
+    {
+        this.arrayList = Lists.immutable.withAll(Interval.oneTo(this.size));
+        this.trieList = ImmutableTrieList.newList(Interval.oneTo(this.size));
+    }
+
+    @Benchmark
+    public Object[] newWith_copyArray()
+    {
+        Object[] array = {};
+        for (int i = 0; i < this.size; i++)
+        {
+            array = Arrays.copyOf(array, i + 1);
+            array[i] = i;
+        }
+        return array;
+    }
+
+    @Benchmark
+    public ImmutableList<Integer> newWith_trie()
+    {
+        ImmutableList<Integer> list = ImmutableTrieList.empty();
+        for (int i = 0; i < this.size; i++)
+        {
+            list = list.newWith(i);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public long get_array()
+    {
+        return ImmutableListNewWithTest.sumByIndex(this.arrayList);
+    }
+
+    @Benchmark
+    public long get_trie()
+    {
+        return ImmutableListNewWithTest.sumByIndex(this.trieList);
+    }
+
+    @Benchmark
+    public long forEach_array()
+    {
+        return this.arrayList.sumOfInt(Integer::intValue);
+    }
+
+    @Benchmark
+    public long forEach_trie()
+    {
+        return this.trieList.sumOfInt(Integer::intValue);
+    }
+
+    private static long sumByIndex(ImmutableList<Integer> list)
+    {
+        long sum = 0L;
+        for (int i = 0; i < list.size(); i++)
+        {
+            sum += list.get(i);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh.list.primitive;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.api.list.primitive.ImmutableLongList;
+import com.gs.collections.impl.list.immutable.primitive.ImmutableCompressedLongList;
+import com.gs.collections.impl.list.mutable.primitive.LongArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CompressedLongListTest
+{
+    private static final int SIZE = 2_000_000;
+
+    private final long[] timestamps = CompressedLongListTest.timestamps();
+    private final ImmutableLongList arrayList = LongArrayList.newListWith(this.timestamps).toImmutable();
+    private final ImmutableLongList compressedList = ImmutableCompressedLongList.newListWith(this.timestamps);
+    private final Random random = new Random(123456789L);
+
+    private static long[] timestamps()
+    {
+        Random random = new Random(987654321L);
+        long[] result = new long[SIZE];
+        long timestamp = 1_420_070_400_000L;
+        for (int i = 0; i < SIZE; i++)
+        {
+            timestamp += random.nextInt(1000);
+            result[i] = timestamp;
+        }
+        return result;
+    }
+
+    @Benchmark
+    public long sum_array_gsc()
+    {
+        return this.arrayList.sum();
+    }
+
+    @Benchmark
+    public long sum_compressed_gsc()
+    {
+        return this.compressedList.sum();
+    }
+
+    @Benchmark
+    public long get_array_gsc()
+    {
+        return this.arrayList.get(this.random.nextInt(SIZE));
+    }
+
+    @Benchmark
+    public long get_compressed_gsc()
+    {
+        return this.compressedList.get(this.random.nextInt(SIZE));
+    }
+
+    @Benchmark
+    public int binarySearch_array_gsc()
+    {
+        return this.arrayList.binarySearch(this.timestamps[this.random.nextInt(SIZE)]);
+    }
+
+    @Benchmark
+    public int binarySearch_compressed_gsc()
+    {
+        return this.compressedList.binarySearch(this.timestamps[this.random.nextInt(SIZE)]);
+    }
+
+    /**
+     * Run with -prof gc: the allocation rate per op shows the footprint of an ImmutableLongArrayList of SIZE timestamps.
+     */
+    @Benchmark
+    public ImmutableLongList build_array_gsc()
+    {
+        return LongArrayList.newListWith(this.timestamps).toImmutable();
+    }
+
+    /**
+     * Run with -prof gc: the allocation rate per op shows the footprint of an ImmutableCompressedLongList of SIZE
+     * timestamps.
+     */
+    @Benchmark
+    public ImmutableLongList build_compressed_gsc()
+    {
+        return ImmutableCompressedLongList.newListWith(this.timestamps);
+    }
+}
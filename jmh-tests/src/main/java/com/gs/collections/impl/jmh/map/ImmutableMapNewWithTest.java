@@ -0,0 +1,188 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.gs.collections.impl.jmh.map;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.api.map.ImmutableMap;
+import com.gs.collections.impl.factory.Maps;
+import com.gs.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import com.gs.collections.impl.map.immutable.ImmutableHashTrieMap;
+import com.gs.collections.impl.map.immutable.ImmutableUnifiedMap;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import org.apache.commons.lang.RandomStringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import scala.collection.immutable.HashMap$;
+import scala.collection.immutable.Map;
+
+/**
+ * Builds an immutable map one key at a time with newWithKeyValue and then takes it apart one key at a time with
+ * newWithoutKey, comparing the copy-on-write ImmutableUnifiedMap, the structurally shared ImmutableHashTrieMap and
+ * Scala's immutable HashMap.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ImmutableMapNewWithTest extends AbstractJMHTestRunner
+{
+    private static final int RANDOM_COUNT = 9;
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+    private String[] elements;
+    private ImmutableMap<String, String> gscUnifiedMap;
+    private ImmutableMap<String, String> gscHashTrieMap;
+    private Map<String, String> scalaMap;
+
+    @Setup
+    public void setUp()
+    {
+        Random random = new Random(123456789012345L);
+
+        this.elements = new String[this.size];
+        UnifiedMap<String, String> map = UnifiedMap.newMap(this.size);
+        for (int i = 0; i < this.size; i++)
+        {
+            String element = RandomStringUtils.random(RANDOM_COUNT, 0, 0, false, true, null, random);
+            this.elements[i] = element;
+            map.put(element, "dummy");
+        }
+
+        this.gscUnifiedMap = new ImmutableUnifiedMap<>(map);
+        this.gscHashTrieMap = ImmutableHashTrieMap.newMap(map);
+        Map<String, String> scala = HashMap$.MODULE$.empty();
+        for (String element : this.elements)
+        {
+            scala = scala.updated(element, "dummy");
+        }
+        this.scalaMap = scala;
+    }
+
+    @Benchmark
+    public ImmutableMap<String, String> newWithKeyValue_gscUnifiedMap()
+    {
+        ImmutableMap<String, String> map = Maps.immutable.empty();
+        for (String element : this.elements)
+        {
+            map = map.newWithKeyValue(element, "dummy");
+        }
+        return map;
+    }
+
+    @Benchmark
+    public ImmutableMap<String, String> newWithKeyValue_gscHashTrieMap()
+    {
+        ImmutableMap<String, String> map = ImmutableHashTrieMap.empty();
+        for (String element : this.elements)
+        {
+            map = map.newWithKeyValue(element, "dummy");
+        }
+        return map;
+    }
+
+    @Benchmark
+    public Map<String, String> newWithKeyValue_scala()
+    {
+        Map<String, String> map = HashMap$.MODULE$.empty();
+        for (String element : this.elements)
+        {
+            map = map.updated(element, "dummy");
+        }
+        return map;
+    }
+
+    @Benchmark
+    public ImmutableMap<String, String> newWithoutKey_gscUnifiedMap()
+    {
+        ImmutableMap<String, String> map = this.gscUnifiedMap;
+        for (String element : this.elements)
+        {
+            map = map.newWithoutKey(element);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public ImmutableMap<String, String> newWithoutKey_gscHashTrieMap()
+    {
+        ImmutableMap<String, String> map = this.gscHashTrieMap;
+        for (String element : this.elements)
+        {
+            map = map.newWithoutKey(element);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public Map<String, String> newWithoutKey_scala()
+    {
+        Map<String, String> map = this.scalaMap;
+        for (String element : this.elements)
+        {
+            map = map.$minus(element);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public void get_gscUnifiedMap()
+    {
+        ImmutableMap<String, String> map = this.gscUnifiedMap;
+        for (String element : this.elements)
+        {
+            if (map.get(element) == null)
+            {
+                throw new AssertionError(element);
+            }
+        }
+    }
+
+    @Benchmark
+    public void get_gscHashTrieMap()
+    {
+        ImmutableMap<String, String> map = this.gscHashTrieMap;
+        for (String element : this.elements)
+        {
+            if (map.get(element) == null)
+            {
+                throw new AssertionError(element);
+            }
+        }
+    }
+
+    @Benchmark
+    public void get_scala()
+    {
+        Map<String, String> map = this.scalaMap;
+        for (String element : this.elements)
+        {
+            if (!map.get(element).isDefined())
+            {
+                throw new AssertionError(element);
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.jmh.set.primitive;
+
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.api.set.primitive.MutableIntSet;
+import com.gs.collections.impl.list.primitive.IntInterval;
+import com.gs.collections.impl.set.mutable.primitive.IntHashSet;
+import com.gs.collections.impl.set.mutable.primitive.RoaringIntSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class IntSetIntersectionTest
+{
+    private static final int SIZE = 2_000_000;
+
+    private final IntHashSet hashEvens = IntHashSet.newSet(IntInterval.zeroToBy(SIZE, 2));
+    private final IntHashSet hashThirds = IntHashSet.newSet(IntInterval.zeroToBy(SIZE, 3));
+    private final RoaringIntSet roaringEvens = RoaringIntSet.newSet(IntInterval.zeroToBy(SIZE, 2));
+    private final RoaringIntSet roaringThirds = RoaringIntSet.newSet(IntInterval.zeroToBy(SIZE, 3));
+
+    @Benchmark
+    public MutableIntSet and_hash_gsc()
+    {
+        return this.hashThirds.select(this.hashEvens::contains);
+    }
+
+    @Benchmark
+    public MutableIntSet and_roaring_gsc()
+    {
+        return this.roaringEvens.and(this.roaringThirds);
+    }
+
+    @Benchmark
+    public int andCardinality_hash_gsc()
+    {
+        return this.hashThirds.count(this.hashEvens::contains);
+    }
+
+    @Benchmark
+    public int andCardinality_roaring_gsc()
+    {
+        return this.roaringEvens.andCardinality(this.roaringThirds);
+    }
+
+    @Benchmark
+    public MutableIntSet or_hash_gsc()
+    {
+        return IntHashSet.newSet(this.hashEvens).withAll(this.hashThirds);
+    }
+
+    @Benchmark
+    public MutableIntSet or_roaring_gsc()
+    {
+        return this.roaringEvens.or(this.roaringThirds);
+    }
+
+    /**
+     * Run with -prof gc: the allocation rate per op shows the footprint of an IntHashSet of SIZE / 2 values.
+     */
+    @Benchmark
+    public MutableIntSet build_hash_gsc()
+    {
+        return IntHashSet.newSet(IntInterval.zeroToBy(SIZE, 2));
+    }
+
+    /**
+     * Run with -prof gc: the allocation rate per op shows the footprint of a RoaringIntSet of SIZE / 2 values.
+     */
+    @Benchmark
+    public MutableIntSet build_roaring_gsc()
+    {
+        return RoaringIntSet.newSet(IntInterval.zeroToBy(SIZE, 2));
+    }
+}
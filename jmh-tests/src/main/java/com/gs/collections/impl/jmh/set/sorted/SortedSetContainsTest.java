@@ -38,6 +38,7 @@ public class SortedSetContainsTest
 
     private final MutableSortedSet<Integer> gscMutable = SortedSets.mutable.withAll(Interval.zeroToBy(SIZE, 2));
     private final ImmutableSortedSet<Integer> gscImmutable = SortedSets.immutable.withAll(Interval.zeroToBy(SIZE, 2));
+    private final MutableSortedSet<Integer> gscBTree = SortedSets.btree.withAll(Interval.zeroToBy(SIZE, 2));
 
     @Benchmark
     public void contains_mutable_gsc()
@@ -85,6 +86,47 @@ public class SortedSetContainsTest
         }
     }
 
+    @Benchmark
+    public void contains_btree_gsc()
+    {
+        int size = SIZE;
+        MutableSortedSet<Integer> localGscBTree = this.gscBTree;
+
+        for (int i = 0; i < size; i += 2)
+        {
+            if (!localGscBTree.contains(i))
+            {
+                throw new AssertionError(i);
+            }
+        }
+
+        for (int i = 1; i < size; i += 2)
+        {
+            if (localGscBTree.contains(i))
+            {
+                throw new AssertionError(i);
+            }
+        }
+    }
+
+    /**
+     * Run with -prof gc: the allocation rate per op shows the footprint of a TreeSortedSet of SIZE / 2 elements.
+     */
+    @Benchmark
+    public MutableSortedSet<Integer> build_mutable_gsc()
+    {
+        return SortedSets.mutable.withAll(Interval.zeroToBy(SIZE, 2));
+    }
+
+    /**
+     * Run with -prof gc: the allocation rate per op shows the footprint of a BTreeSortedSet of SIZE / 2 elements.
+     */
+    @Benchmark
+    public MutableSortedSet<Integer> build_btree_gsc()
+    {
+        return SortedSets.btree.withAll(Interval.zeroToBy(SIZE, 2));
+    }
+
     @Benchmark
     public void contains_mutable_scala()
     {
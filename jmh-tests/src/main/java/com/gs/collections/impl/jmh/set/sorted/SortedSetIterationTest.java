@@ -45,6 +45,7 @@ public class SortedSetIterationTest
 
     private final MutableSortedSet<Integer> gscMutable = SortedSets.mutable.withAll(Interval.zeroTo(SIZE));
     private final ImmutableSortedSet<Integer> gscImmutable = SortedSets.immutable.withAll(Interval.zeroTo(SIZE));
+    private final MutableSortedSet<Integer> gscBTree = SortedSets.btree.withAll(Interval.zeroTo(SIZE));
 
     private ExecutorService executorService;
 
@@ -93,6 +94,21 @@ public class SortedSetIterationTest
         }
     }
 
+    @Benchmark
+    public void serial_btree_gsc()
+    {
+        int count = this.gscBTree
+                .asLazy()
+                .select(each -> each % 10_000 != 0)
+                .collect(String::valueOf)
+                .collect(Integer::valueOf)
+                .count(each -> (each + 1) % 10_000 != 0);
+        if (count != 999_800)
+        {
+            throw new AssertionError();
+        }
+    }
+
     @Benchmark
     public void parallel_mutable_gsc()
     {
@@ -123,6 +139,21 @@ public class SortedSetIterationTest
         }
     }
 
+    @Benchmark
+    public void parallel_btree_gsc()
+    {
+        int count = this.gscBTree
+                .asParallel(this.executorService, BATCH_SIZE)
+                .select(each -> each % 10_000 != 0)
+                .collect(String::valueOf)
+                .collect(Integer::valueOf)
+                .count(each -> (each + 1) % 10_000 != 0);
+        if (count != 999_800)
+        {
+            throw new AssertionError();
+        }
+    }
+
     @Benchmark
     public void serial_mutable_scala()
     {
@@ -389,6 +389,30 @@ public class LazyIterableTestHelper<T> implements LazyIterable<T>
         return null;
     }
 
+    @Override
+    public MutableList<T> topK(int k, Comparator<? super T> comparator)
+    {
+        return null;
+    }
+
+    @Override
+    public MutableList<T> bottomK(int k, Comparator<? super T> comparator)
+    {
+        return null;
+    }
+
+    @Override
+    public <V extends Comparable<? super V>> MutableList<T> topKBy(int k, Function<? super T, ? extends V> function)
+    {
+        return null;
+    }
+
+    @Override
+    public <V extends Comparable<? super V>> MutableList<T> bottomKBy(int k, Function<? super T, ? extends V> function)
+    {
+        return null;
+    }
+
     @Override
     public MutableSet<T> toSet()
     {
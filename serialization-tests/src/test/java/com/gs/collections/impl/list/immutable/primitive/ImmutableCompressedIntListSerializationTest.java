@@ -0,0 +1,36 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.list.immutable.primitive;
+
+import com.gs.collections.impl.test.Verify;
+import org.junit.Test;
+
+public class ImmutableCompressedIntListSerializationTest
+{
+    @Test
+    public void serializedForm()
+    {
+        Verify.assertSerializedForm(
+                1L,
+                "rO0ABXNyAEtjb20uZ3MuY29sbGVjdGlvbnMuaW1wbC5saXN0LmltbXV0YWJsZS5wcmltaXRpdmUu\n"
+                        + "SW1tdXRhYmxlQ29tcHJlc3NlZEludExpc3QAAAAAAAAAAQIABUkABHNpemVbAARiaXRzdAACW0pb\n"
+                        + "AApibG9ja0ZpcnN0dAACW0lbAAtibG9ja09mZnNldHEAfgABWwAKYmxvY2tXaWR0aHQAAltCeHAA\n"
+                        + "AAADdXIAAltKeCAEtRKxdZMCAAB4cAAAAAEAAAAAAAAACnVyAAJbSU26YCZ26rKlAgAAeHAAAAAB\n"
+                        + "AAAAAXVxAH4ABQAAAAEAAAAAAAAAAHVyAAJbQqzzF/gGCFTgAgAAeHAAAAABAg==",
+                ImmutableCompressedIntList.newListWith(1, 2, 3));
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.list.immutable.primitive;
+
+import com.gs.collections.impl.test.Verify;
+import org.junit.Test;
+
+public class ImmutableCompressedLongListSerializationTest
+{
+    @Test
+    public void serializedForm()
+    {
+        Verify.assertSerializedForm(
+                1L,
+                "rO0ABXNyAExjb20uZ3MuY29sbGVjdGlvbnMuaW1wbC5saXN0LmltbXV0YWJsZS5wcmltaXRpdmUu\n"
+                        + "SW1tdXRhYmxlQ29tcHJlc3NlZExvbmdMaXN0AAAAAAAAAAECAAVJAARzaXplWwAEYml0c3QAAltK\n"
+                        + "WwAKYmxvY2tGaXJzdHEAfgABWwALYmxvY2tPZmZzZXRxAH4AAVsACmJsb2NrV2lkdGh0AAJbQnhw\n"
+                        + "AAAAA3VyAAJbSnggBLUSsXWTAgAAeHAAAAABAAAAAAAAAAp1cQB+AAQAAAABAAAAAAAAAAF1cQB+\n"
+                        + "AAQAAAABAAAAAAAAAAB1cgACW0Ks8xf4BghU4AIAAHhwAAAAAQI=",
+                ImmutableCompressedLongList.newListWith(1L, 2L, 3L));
+    }
+}
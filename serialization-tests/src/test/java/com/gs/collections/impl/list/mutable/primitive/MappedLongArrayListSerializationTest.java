@@ -0,0 +1,43 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.gs.collections.impl.list.mutable.primitive;
+
+import java.io.IOException;
+
+import com.gs.collections.impl.test.Verify;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class MappedLongArrayListSerializationTest
+{
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void serializedForm() throws IOException
+    {
+        MappedLongArrayList list = MappedLongArrayList.open(this.temporaryFolder.newFile());
+        Verify.assertSerializedForm(
+                1L,
+                "rO0ABXNyADxjb20uZ3MuY29sbGVjdGlvbnMuaW1wbC5saXN0Lm11dGFibGUucHJpbWl0aXZlLkxv\n"
+                        + "bmdBcnJheUxpc3QAAAAAAAAAAQwAAHhwdwQAAAAAeA==",
+                list);
+        list.close();
+    }
+}
@@ -1104,6 +1104,60 @@ public abstract class AbstractRichIterableTestCase
         Assert.assertEquals(FastList.newListWith(1, 2, 3, 4), list);
     }
 
+    @Test
+    public void topK()
+    {
+        RichIterable<Integer> integers = this.newWith(2, 4, 1, 3);
+        Assert.assertEquals(FastList.newListWith(4, 3), integers.topK(2, Comparators.naturalOrder()));
+        Assert.assertEquals(FastList.newListWith(4, 3, 2, 1), integers.topK(10, Comparators.naturalOrder()));
+        Verify.assertEmpty(integers.topK(0, Comparators.naturalOrder()));
+    }
+
+    @Test
+    public void bottomK()
+    {
+        RichIterable<Integer> integers = this.newWith(2, 4, 1, 3);
+        Assert.assertEquals(FastList.newListWith(1, 2), integers.bottomK(2, Comparators.naturalOrder()));
+        Assert.assertEquals(FastList.newListWith(1, 2, 3, 4), integers.bottomK(10, Comparators.naturalOrder()));
+        Verify.assertEmpty(integers.bottomK(0, Comparators.naturalOrder()));
+    }
+
+    @Test
+    public void topKBy_and_bottomKBy()
+    {
+        RichIterable<Integer> integers = this.newWith(5, 10, 1, 3);
+        Assert.assertEquals(FastList.newListWith(5, 3), integers.topKBy(2, String::valueOf));
+        Assert.assertEquals(FastList.newListWith(1, 10), integers.bottomKBy(2, String::valueOf));
+    }
+
+    @Test
+    public void topK_and_bottomK_null_comparator()
+    {
+        RichIterable<Integer> integers = this.newWith(2, 4, 1, 3);
+        Assert.assertEquals(FastList.newListWith(4, 3), integers.topK(2, null));
+        Assert.assertEquals(FastList.newListWith(1, 2), integers.bottomK(2, null));
+    }
+
+    @Test
+    public void topK_and_bottomK_ties_at_boundary()
+    {
+        RichIterable<Integer> integers = this.newWith(1, 2, 3, 4, 5, 6);
+        MutableList<Integer> top = integers.topKBy(2, each -> each / 2);
+        Verify.assertSize(2, top);
+        Assert.assertEquals(Integer.valueOf(6), top.getFirst());
+        Verify.assertContains(top.getLast(), FastList.newListWith(4, 5));
+        MutableList<Integer> bottom = integers.bottomKBy(2, each -> each / 2);
+        Verify.assertSize(2, bottom);
+        Assert.assertEquals(Integer.valueOf(1), bottom.getFirst());
+        Verify.assertContains(bottom.getLast(), FastList.newListWith(2, 3));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void topK_negative_k()
+    {
+        this.newWith(1, 2).topK(-1, Comparators.naturalOrder());
+    }
+
     @Test
     public void toSortedSet_natural_ordering()
     {
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.bag.immutable;
+
+import com.gs.collections.api.bag.ImmutableBag;
+import com.gs.collections.impl.bag.mutable.HashBag;
+import com.gs.collections.impl.factory.Maps;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ImmutableHashTrieBagTest extends ImmutableBagTestCase
+{
+    @Override
+    protected ImmutableBag<String> newBag()
+    {
+        return ImmutableHashTrieBag.newBagWith("1", "2", "2", "3", "3", "3", "4", "4", "4", "4");
+    }
+
+    @SafeVarargs
+    @Override
+    protected final <T> ImmutableBag<T> newWith(T... littleElements)
+    {
+        return ImmutableHashTrieBag.newBagWith(littleElements);
+    }
+
+    @Override
+    protected int numKeys()
+    {
+        return 4;
+    }
+
+    @Override
+    @Test
+    public void testSize()
+    {
+        Verify.assertIterableSize(10, this.newBag());
+    }
+
+    @Override
+    @Test
+    public void toStringOfItemToCount()
+    {
+        Assert.assertEquals("{}", ImmutableHashTrieBag.newBagWith().toStringOfItemToCount());
+        Assert.assertEquals("{1=3}", ImmutableHashTrieBag.newBagWith("1", "1", "1").toStringOfItemToCount());
+        String actual = ImmutableHashTrieBag.newBagWith("1", "2", "2").toStringOfItemToCount();
+        Assert.assertTrue("{1=1, 2=2}".equals(actual) || "{2=2, 1=1}".equals(actual));
+    }
+
+    @Override
+    @Test
+    public void groupByUniqueKey()
+    {
+        ImmutableBag<Integer> immutableBag = ImmutableHashTrieBag.newBagWith(1, 2, 3);
+        Assert.assertEquals(Maps.immutable.of(1, 1, 2, 2, 3, 3), immutableBag.groupByUniqueKey(id -> id));
+    }
+
+    @Override
+    @Test
+    public void groupByUniqueKey_target()
+    {
+        ImmutableBag<Integer> immutableBag = ImmutableHashTrieBag.newBagWith(1, 2, 3);
+        Assert.assertEquals(Maps.immutable.of(0, 0, 1, 1, 2, 2, 3, 3), immutableBag.groupByUniqueKey(id -> id, UnifiedMap.newWithKeysValues(0, 0)));
+    }
+
+    @Test
+    public void newWith_and_newWithout_keep_previous_versions()
+    {
+        ImmutableBag<Integer> bag = ImmutableHashTrieBag.empty();
+        HashBag<Integer> expected = HashBag.newBag();
+        for (int i = 0; i < 2000; i++)
+        {
+            bag = bag.newWith(i % 700);
+            expected.add(i % 700);
+        }
+        Assert.assertEquals(expected, bag);
+        Assert.assertEquals(bag, expected);
+        Assert.assertEquals(expected.hashCode(), bag.hashCode());
+        Assert.assertEquals(700, bag.sizeDistinct());
+        Assert.assertEquals(3, bag.occurrencesOf(5));
+
+        ImmutableBag<Integer> without = bag.newWithout(5).newWithout(699);
+        Assert.assertEquals(2, without.occurrencesOf(5));
+        Assert.assertEquals(1, without.occurrencesOf(699));
+        Assert.assertEquals(3, bag.occurrencesOf(5));
+        Verify.assertSize(1998, without);
+        Assert.assertSame(bag, bag.newWithout(-1));
+    }
+
+    @Test
+    public void newWithoutAll()
+    {
+        ImmutableBag<Integer> bag = ImmutableHashTrieBag.newBag(Interval.oneTo(100)).newWithAll(Interval.oneTo(10));
+        ImmutableBag<Integer> without = bag.newWithoutAll(Interval.oneTo(20));
+        Verify.assertSize(80, without);
+        Assert.assertEquals(HashBag.newBag(Interval.fromTo(21, 100)), without);
+        Verify.assertEmpty(bag.newWithoutAll(Interval.oneTo(100)));
+    }
+
+    @Test
+    public void equals_between_versions()
+    {
+        ImmutableHashTrieBag<Integer> bag = ImmutableHashTrieBag.newBag(Interval.oneTo(1000));
+        ImmutableBag<Integer> sameContents = bag.newWith(1001).newWithout(1001);
+        Assert.assertEquals(bag, sameContents);
+        Assert.assertNotEquals(bag, bag.newWith(1));
+        Assert.assertNotEquals(bag, bag.newWithout(1).newWith(1001));
+    }
+}
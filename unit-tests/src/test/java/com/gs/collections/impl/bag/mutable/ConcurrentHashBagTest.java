@@ -0,0 +1,138 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.gs.collections.impl.bag.mutable;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.gs.collections.api.bag.MutableBag;
+import com.gs.collections.api.tuple.primitive.ObjectIntPair;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.parallel.ParallelIterate;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ConcurrentHashBagTest extends MutableBagTestCase
+{
+    @Override
+    protected <T> MutableBag<T> newWith(T... littleElements)
+    {
+        return ConcurrentHashBag.newBagWith(littleElements);
+    }
+
+    @Override
+    protected <T> MutableBag<T> newWithOccurrences(ObjectIntPair<T>... elementsWithOccurrences)
+    {
+        MutableBag<T> bag = this.newWith();
+        for (int i = 0; i < elementsWithOccurrences.length; i++)
+        {
+            ObjectIntPair<T> itemToAdd = elementsWithOccurrences[i];
+            bag.addOccurrences(itemToAdd.getOne(), itemToAdd.getTwo());
+        }
+        return bag;
+    }
+
+    @Test
+    public void newBagFromIterable()
+    {
+        assertBagsEqual(
+                HashBag.newBagWith(1, 2, 2, 3, 3, 3),
+                ConcurrentHashBag.newBag(FastList.newListWith(1, 2, 2, 3, 3, 3)));
+        assertBagsEqual(
+                HashBag.newBagWith(1, 2, 2, 3, 3, 3),
+                ConcurrentHashBag.newBag(HashBag.newBagWith(1, 2, 2, 3, 3, 3)));
+    }
+
+    @Test
+    public void addOccurrences_concurrent()
+    {
+        ConcurrentHashBag<Integer> bag = ConcurrentHashBag.newBag();
+        ExecutorService executor = Executors.newFixedThreadPool(20);
+        try
+        {
+            ParallelIterate.forEach(Interval.oneTo(10000), each -> bag.addOccurrences(each % 10, 2), 1, executor);
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+        Verify.assertSize(20000, bag);
+        Assert.assertEquals(10, bag.sizeDistinct());
+        for (int i = 0; i < 10; i++)
+        {
+            Assert.assertEquals(2000, bag.occurrencesOf(i));
+        }
+    }
+
+    @Test
+    public void addAndRemoveOccurrences_concurrent()
+    {
+        ConcurrentHashBag<Integer> bag = ConcurrentHashBag.newBag();
+        ExecutorService executor = Executors.newFixedThreadPool(20);
+        try
+        {
+            ParallelIterate.forEach(Interval.oneTo(10000), each ->
+            {
+                bag.add(each % 5);
+                bag.add(each % 5);
+                Assert.assertTrue(bag.remove(each % 5));
+            }, 1, executor);
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+        Verify.assertSize(10000, bag);
+        Assert.assertEquals(HashBag.newBag(Interval.oneTo(10000).collect(each -> each % 5)), bag);
+    }
+
+    @Test
+    public void addAndRemoveOccurrences_concurrent_throughZero()
+    {
+        ConcurrentHashBag<Integer> bag = ConcurrentHashBag.newBag();
+        ExecutorService executor = Executors.newFixedThreadPool(20);
+        try
+        {
+            ParallelIterate.forEach(Interval.oneTo(100000), each ->
+            {
+                bag.add(each % 2);
+                Assert.assertTrue(bag.remove(each % 2));
+            }, 1, executor);
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+        Verify.assertEmpty(bag);
+        Assert.assertEquals(0, bag.sizeDistinct());
+    }
+
+    @Test
+    public void setOccurrences_toZero_thenAdd()
+    {
+        ConcurrentHashBag<String> bag = ConcurrentHashBag.newBagWith("a", "a", "b");
+        Assert.assertTrue(bag.setOccurrences("a", 0));
+        Assert.assertFalse(bag.setOccurrences("a", 0));
+        Assert.assertEquals(0, bag.occurrencesOf("a"));
+        bag.addOccurrences("a", 3);
+        Assert.assertEquals(3, bag.occurrencesOf("a"));
+        Verify.assertSize(4, bag);
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2014 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.block.procedure;
+
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.block.factory.Comparators;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TopKProcedureTest
+{
+    @Test
+    public void value()
+    {
+        TopKProcedure<Integer> procedure = new TopKProcedure<>(50, Comparators.naturalOrder());
+        MutableList<Integer> integers = Interval.oneTo(1000).toList().shuffleThis();
+        integers.forEach(procedure);
+        Assert.assertEquals(Interval.fromToBy(1000, 951, -1), procedure.getResult());
+    }
+
+    @Test
+    public void bottomK()
+    {
+        TopKProcedure<Integer> procedure = TopKProcedure.bottomK(3, Comparators.naturalOrder());
+        Interval.oneTo(100).toList().shuffleThis().forEach(procedure);
+        Assert.assertEquals(Interval.oneTo(3), procedure.getResult());
+    }
+
+    @Test
+    public void addAll()
+    {
+        TopKProcedure<Integer> first = new TopKProcedure<>(3, Comparators.naturalOrder());
+        TopKProcedure<Integer> second = new TopKProcedure<>(3, Comparators.naturalOrder());
+        Interval.oneTo(50).forEach(first);
+        Interval.fromTo(20, 60).forEach(second);
+        first.addAll(second);
+        Assert.assertEquals(Interval.fromToBy(60, 58, -1), first.getResult());
+    }
+
+    @Test
+    public void zeroK()
+    {
+        TopKProcedure<Integer> procedure = new TopKProcedure<>(0, Comparators.naturalOrder());
+        Interval.oneTo(10).forEach(procedure);
+        Verify.assertEmpty(procedure.getResult());
+    }
+
+    @Test
+    public void kGreaterThanSize()
+    {
+        TopKProcedure<Integer> procedure = new TopKProcedure<>(100, Comparators.naturalOrder());
+        Interval.oneTo(40).toList().shuffleThis().forEach(procedure);
+        Assert.assertEquals(Interval.fromToBy(40, 1, -1), procedure.getResult());
+    }
+
+    @Test
+    public void duplicatesAtBoundary()
+    {
+        TopKProcedure<Integer> top = new TopKProcedure<>(3, Comparators.naturalOrder());
+        FastList.newListWith(1, 5, 3, 5, 3, 3, 2).forEach(top);
+        Assert.assertEquals(FastList.newListWith(5, 5, 3), top.getResult());
+        TopKProcedure<Integer> bottom = TopKProcedure.bottomK(2, Comparators.naturalOrder());
+        FastList.newListWith(4, 2, 1, 2, 2, 3).forEach(bottom);
+        Assert.assertEquals(FastList.newListWith(1, 2), bottom.getResult());
+    }
+
+    @Test
+    public void nullComparator()
+    {
+        TopKProcedure<Integer> top = new TopKProcedure<>(2, null);
+        Interval.oneTo(10).toList().shuffleThis().forEach(top);
+        Assert.assertEquals(FastList.newListWith(10, 9), top.getResult());
+        TopKProcedure<Integer> bottom = TopKProcedure.bottomK(2, null);
+        Interval.oneTo(10).toList().shuffleThis().forEach(bottom);
+        Assert.assertEquals(FastList.newListWith(1, 2), bottom.getResult());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeK()
+    {
+        new TopKProcedure<Integer>(-1, Comparators.naturalOrder());
+    }
+}
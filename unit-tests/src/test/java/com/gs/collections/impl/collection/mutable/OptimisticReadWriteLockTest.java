@@ -0,0 +1,102 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.gs.collections.impl.collection.mutable;
+
+import java.util.concurrent.locks.Lock;
+
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link OptimisticReadWriteLock}.
+ */
+public class OptimisticReadWriteLockTest
+{
+    @Test
+    public void validate()
+    {
+        OptimisticReadWriteLock lock = new OptimisticReadWriteLock();
+        long stamp = lock.tryOptimisticRead();
+        Assert.assertNotEquals(0L, stamp);
+        Assert.assertTrue(lock.validate(stamp));
+        Assert.assertFalse(lock.validate(0L));
+
+        lock.readLock().lock();
+        lock.readLock().unlock();
+        Assert.assertTrue(lock.validate(stamp));
+    }
+
+    @Test
+    public void writeInvalidatesStamp()
+    {
+        OptimisticReadWriteLock lock = new OptimisticReadWriteLock();
+        long stamp = lock.tryOptimisticRead();
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try
+        {
+            Assert.assertFalse(lock.validate(stamp));
+            Assert.assertEquals(0L, lock.tryOptimisticRead());
+        }
+        finally
+        {
+            writeLock.unlock();
+        }
+        Assert.assertFalse(lock.validate(stamp));
+        long newStamp = lock.tryOptimisticRead();
+        Assert.assertNotEquals(0L, newStamp);
+        Assert.assertNotEquals(stamp, newStamp);
+        Assert.assertTrue(lock.validate(newStamp));
+    }
+
+    @Test
+    public void reentrantWrite()
+    {
+        OptimisticReadWriteLock lock = new OptimisticReadWriteLock();
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        Assert.assertTrue(writeLock.tryLock());
+        writeLock.unlock();
+        Assert.assertEquals(0L, lock.tryOptimisticRead());
+        writeLock.unlock();
+        Assert.assertNotEquals(0L, lock.tryOptimisticRead());
+    }
+
+    @Test
+    public void tryLock()
+    {
+        OptimisticReadWriteLock lock = new OptimisticReadWriteLock();
+        lock.readLock().lock();
+        try
+        {
+            Assert.assertFalse(lock.writeLock().tryLock());
+            Assert.assertNotEquals(0L, lock.tryOptimisticRead());
+        }
+        finally
+        {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Test
+    public void newCondition()
+    {
+        Verify.assertThrows(UnsupportedOperationException.class, () -> new OptimisticReadWriteLock().writeLock().newCondition());
+    }
+}
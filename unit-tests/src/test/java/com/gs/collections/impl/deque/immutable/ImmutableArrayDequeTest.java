@@ -0,0 +1,180 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.deque.immutable;
+
+import java.util.NoSuchElementException;
+
+import com.gs.collections.api.deque.ImmutableDeque;
+import com.gs.collections.impl.block.factory.PrimitiveFunctions;
+import com.gs.collections.impl.collection.immutable.AbstractImmutableCollectionTestCase;
+import com.gs.collections.impl.deque.mutable.ArrayDeque;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.list.mutable.primitive.BooleanArrayList;
+import com.gs.collections.impl.list.mutable.primitive.ByteArrayList;
+import com.gs.collections.impl.list.mutable.primitive.CharArrayList;
+import com.gs.collections.impl.list.mutable.primitive.DoubleArrayList;
+import com.gs.collections.impl.list.mutable.primitive.FloatArrayList;
+import com.gs.collections.impl.list.mutable.primitive.IntArrayList;
+import com.gs.collections.impl.list.mutable.primitive.LongArrayList;
+import com.gs.collections.impl.list.mutable.primitive.ShortArrayList;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link ImmutableArrayDeque}.
+ */
+public class ImmutableArrayDequeTest extends AbstractImmutableCollectionTestCase
+{
+    @Override
+    protected ImmutableDeque<Integer> classUnderTest()
+    {
+        return ImmutableArrayDeque.newDeque(Interval.oneTo(4));
+    }
+
+    @Override
+    protected <T> ArrayDeque<T> newMutable()
+    {
+        return ArrayDeque.newDeque();
+    }
+
+    @Override
+    @Test
+    public void collectBoolean()
+    {
+        ImmutableDeque<Integer> deque = this.classUnderTest();
+        Assert.assertEquals(BooleanArrayList.newListWith(true, true, true, true), deque.collectBoolean(PrimitiveFunctions.integerIsPositive()));
+    }
+
+    @Override
+    @Test
+    public void collectByte()
+    {
+        ImmutableDeque<Integer> deque = this.classUnderTest();
+        Assert.assertEquals(ByteArrayList.newListWith((byte) 1, (byte) 2, (byte) 3, (byte) 4), deque.collectByte(PrimitiveFunctions.unboxIntegerToByte()));
+    }
+
+    @Override
+    @Test
+    public void collectChar()
+    {
+        ImmutableDeque<Integer> deque = this.classUnderTest();
+        Assert.assertEquals(CharArrayList.newListWith((char) 1, (char) 2, (char) 3, (char) 4), deque.collectChar(PrimitiveFunctions.unboxIntegerToChar()));
+    }
+
+    @Override
+    @Test
+    public void collectDouble()
+    {
+        ImmutableDeque<Integer> deque = this.classUnderTest();
+        Assert.assertEquals(DoubleArrayList.newListWith(1.0, 2.0, 3.0, 4.0), deque.collectDouble(PrimitiveFunctions.unboxIntegerToDouble()));
+    }
+
+    @Override
+    @Test
+    public void collectFloat()
+    {
+        ImmutableDeque<Integer> deque = this.classUnderTest();
+        Assert.assertEquals(FloatArrayList.newListWith(1.0f, 2.0f, 3.0f, 4.0f), deque.collectFloat(PrimitiveFunctions.unboxIntegerToFloat()));
+    }
+
+    @Override
+    @Test
+    public void collectInt()
+    {
+        ImmutableDeque<Integer> deque = this.classUnderTest();
+        Assert.assertEquals(IntArrayList.newListWith(1, 2, 3, 4), deque.collectInt(PrimitiveFunctions.unboxIntegerToInt()));
+    }
+
+    @Override
+    @Test
+    public void collectLong()
+    {
+        ImmutableDeque<Integer> deque = this.classUnderTest();
+        Assert.assertEquals(LongArrayList.newListWith(1L, 2L, 3L, 4L), deque.collectLong(PrimitiveFunctions.unboxIntegerToLong()));
+    }
+
+    @Override
+    @Test
+    public void collectShort()
+    {
+        ImmutableDeque<Integer> deque = this.classUnderTest();
+        Assert.assertEquals(ShortArrayList.newListWith((short) 1, (short) 2, (short) 3, (short) 4), deque.collectShort(PrimitiveFunctions.unboxIntegerToShort()));
+    }
+
+    @Test
+    public void empty()
+    {
+        ImmutableDeque<Integer> empty = ImmutableArrayDeque.empty();
+        Verify.assertEmpty(empty);
+        Assert.assertSame(empty, ImmutableArrayDeque.newDequeWith());
+        Assert.assertNull(empty.peekFirst());
+        Assert.assertNull(empty.peekLast());
+        Verify.assertThrows(NoSuchElementException.class, (Runnable) empty::withoutFirst);
+        Verify.assertThrows(NoSuchElementException.class, (Runnable) empty::withoutLast);
+    }
+
+    @Test
+    public void newDeque()
+    {
+        ImmutableDeque<Integer> deque = this.classUnderTest();
+        Assert.assertSame(deque, ImmutableArrayDeque.newDeque(deque));
+        Assert.assertEquals(deque, ImmutableArrayDeque.newDequeWith(1, 2, 3, 4));
+    }
+
+    @Test
+    public void peekAndWithout()
+    {
+        ImmutableDeque<Integer> deque = this.classUnderTest();
+        Assert.assertEquals(Integer.valueOf(1), deque.peekFirst());
+        Assert.assertEquals(Integer.valueOf(4), deque.peekLast());
+        Assert.assertEquals(ImmutableArrayDeque.newDequeWith(2, 3, 4), deque.withoutFirst());
+        Assert.assertEquals(ImmutableArrayDeque.newDequeWith(1, 2, 3), deque.withoutLast());
+        Verify.assertSize(4, deque);
+    }
+
+    @Test
+    public void newWith()
+    {
+        ImmutableDeque<Integer> deque = this.classUnderTest();
+        Assert.assertEquals(ImmutableArrayDeque.newDequeWith(1, 2, 3, 4, 5), deque.newWith(5));
+        Assert.assertEquals(ImmutableArrayDeque.newDequeWith(0, 1, 2, 3, 4), deque.newWithFirst(0));
+        Assert.assertEquals(ImmutableArrayDeque.newDequeWith(1, 2, 3, 4, 5, 6), deque.newWithAll(FastList.newListWith(5, 6)));
+        Assert.assertEquals(ImmutableArrayDeque.newDequeWith(1, 3, 4), deque.newWithout(2));
+        Assert.assertSame(deque, deque.newWithout(5));
+        Assert.assertEquals(ImmutableArrayDeque.newDequeWith(1, 4), deque.newWithoutAll(FastList.newListWith(2, 3)));
+    }
+
+    @Test
+    public void reverseForEach()
+    {
+        FastList<Integer> result = FastList.newList();
+        this.classUnderTest().reverseForEach(result::add);
+        Assert.assertEquals(FastList.newListWith(4, 3, 2, 1), result);
+    }
+
+    @Test
+    public void equalsAndHashCode()
+    {
+        ImmutableDeque<Integer> deque = this.classUnderTest();
+        Verify.assertEqualsAndHashCode(deque, ArrayDeque.newDequeWith(1, 2, 3, 4));
+        Verify.assertPostSerializedEqualsAndHashCode(deque);
+        Assert.assertNotEquals(deque, FastList.newListWith(1, 2, 3, 4));
+        Assert.assertNotEquals(deque, ImmutableArrayDeque.newDequeWith(4, 3, 2, 1));
+    }
+}
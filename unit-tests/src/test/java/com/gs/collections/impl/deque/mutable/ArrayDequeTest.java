@@ -0,0 +1,240 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.deque.mutable;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import com.gs.collections.api.RichIterable;
+import com.gs.collections.api.deque.MutableDeque;
+import com.gs.collections.api.multimap.Multimap;
+import com.gs.collections.impl.block.factory.IntegerPredicates;
+import com.gs.collections.impl.block.factory.Predicates;
+import com.gs.collections.impl.collection.mutable.AbstractCollectionTestCase;
+import com.gs.collections.impl.deque.immutable.ImmutableArrayDeque;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.test.SerializeTestHelper;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link ArrayDeque}.
+ */
+public class ArrayDequeTest extends AbstractCollectionTestCase
+{
+    @Override
+    protected <T> ArrayDeque<T> newWith(T... littleElements)
+    {
+        return ArrayDeque.newDequeWith(littleElements);
+    }
+
+    /**
+     * Returns a deque of capacity 4 holding 1, 2, 3 whose head is at the end of the array, so its elements wrap around.
+     */
+    private ArrayDeque<Integer> newWrappedDeque()
+    {
+        ArrayDeque<Integer> deque = new ArrayDeque<>(4);
+        deque.addLast(3);
+        deque.addFirst(2);
+        deque.addFirst(1);
+        return deque;
+    }
+
+    @Override
+    @Test
+    public void groupBy()
+    {
+        RichIterable<Integer> deque = this.newWith(1, 2, 3, 4, 5, 6, 7);
+        Multimap<Boolean, Integer> multimap =
+                deque.groupBy(object -> IntegerPredicates.isOdd().accept(object));
+
+        Assert.assertEquals(FastList.newListWith(1, 3, 5, 7), multimap.get(Boolean.TRUE));
+        Assert.assertEquals(FastList.newListWith(2, 4, 6), multimap.get(Boolean.FALSE));
+    }
+
+    @Override
+    @Test
+    public void asSynchronized()
+    {
+        Verify.assertInstanceOf(SynchronizedDeque.class, this.newWith().asSynchronized());
+    }
+
+    @Override
+    @Test
+    public void asUnmodifiable()
+    {
+        Verify.assertInstanceOf(UnmodifiableDeque.class, this.newWith().asUnmodifiable());
+    }
+
+    @Override
+    @Test
+    public void toImmutable()
+    {
+        super.toImmutable();
+        Verify.assertInstanceOf(ImmutableArrayDeque.class, this.newWith(1, 2, 3).toImmutable());
+        Assert.assertEquals(this.newWith(1, 2, 3), this.newWrappedDeque().toImmutable());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void newDeque_throws_negativeCapacity()
+    {
+        new ArrayDeque<Integer>(-1);
+    }
+
+    @Test
+    public void addFirstAndAddLast()
+    {
+        ArrayDeque<Integer> deque = new ArrayDeque<>(0);
+        FastList<Integer> expected = FastList.newList();
+        for (int i = 0; i < 100; i++)
+        {
+            if (i % 2 == 0)
+            {
+                deque.addLast(i);
+                expected.add(i);
+            }
+            else
+            {
+                deque.addFirst(i);
+                expected.add(0, i);
+            }
+        }
+        Assert.assertEquals(expected, FastList.newList(deque));
+        Assert.assertEquals(Integer.valueOf(99), deque.getFirst());
+        Assert.assertEquals(Integer.valueOf(98), deque.getLast());
+        Assert.assertArrayEquals(expected.toArray(), deque.toArray());
+        Assert.assertEquals(expected.hashCode(), deque.hashCode());
+    }
+
+    @Test
+    public void wrappedElements()
+    {
+        ArrayDeque<Integer> deque = this.newWrappedDeque();
+        Assert.assertEquals(this.newWith(1, 2, 3), deque);
+        Assert.assertEquals("[1, 2, 3]", deque.toString());
+        Assert.assertArrayEquals(new Object[]{1, 2, 3}, deque.toArray());
+        Assert.assertEquals(FastList.newListWith(1, 2, 3), deque.select(Predicates.alwaysTrue()).toList());
+        Assert.assertEquals(Integer.valueOf(2), deque.detect(IntegerPredicates.isEven()));
+        Assert.assertTrue(deque.contains(3));
+        Assert.assertFalse(deque.contains(4));
+        FastList<Integer> reversed = FastList.newList();
+        deque.reverseForEach(reversed::add);
+        Assert.assertEquals(FastList.newListWith(3, 2, 1), reversed);
+        deque.addLast(4);
+        deque.addLast(5);
+        Assert.assertEquals(this.newWith(1, 2, 3, 4, 5), deque);
+    }
+
+    @Test
+    public void queueMethods()
+    {
+        ArrayDeque<Integer> deque = ArrayDeque.newDeque();
+        Assert.assertNull(deque.peek());
+        Assert.assertNull(deque.poll());
+        Verify.assertThrows(NoSuchElementException.class, (Runnable) deque::element);
+        Verify.assertThrows(NoSuchElementException.class, (Runnable) deque::remove);
+        Assert.assertTrue(deque.offer(1));
+        Assert.assertTrue(deque.offer(2));
+        Assert.assertEquals(Integer.valueOf(1), deque.peek());
+        Assert.assertEquals(Integer.valueOf(1), deque.element());
+        Assert.assertEquals(Integer.valueOf(1), deque.poll());
+        Assert.assertEquals(Integer.valueOf(2), deque.remove());
+        Verify.assertEmpty(deque);
+    }
+
+    @Test
+    public void dequeMethods()
+    {
+        MutableDeque<Integer> deque = this.newWrappedDeque();
+        Assert.assertTrue(deque.offerFirst(0));
+        Assert.assertTrue(deque.offerLast(4));
+        deque.push(-1);
+        Assert.assertEquals(this.newWith(-1, 0, 1, 2, 3, 4), deque);
+        Assert.assertEquals(Integer.valueOf(-1), deque.peekFirst());
+        Assert.assertEquals(Integer.valueOf(4), deque.peekLast());
+        Assert.assertEquals(Integer.valueOf(-1), deque.pop());
+        Assert.assertEquals(Integer.valueOf(0), deque.removeFirst());
+        Assert.assertEquals(Integer.valueOf(4), deque.removeLast());
+        Assert.assertEquals(Integer.valueOf(1), deque.pollFirst());
+        Assert.assertEquals(Integer.valueOf(3), deque.pollLast());
+        Assert.assertEquals(Integer.valueOf(2), deque.pollLast());
+        Assert.assertNull(deque.pollFirst());
+        Assert.assertNull(deque.pollLast());
+        Assert.assertNull(deque.peekFirst());
+        Assert.assertNull(deque.peekLast());
+        Verify.assertThrows(NoSuchElementException.class, (Runnable) deque::removeFirst);
+        Verify.assertThrows(NoSuchElementException.class, (Runnable) deque::removeLast);
+        Verify.assertThrows(NoSuchElementException.class, (Runnable) deque::pop);
+    }
+
+    @Test
+    public void removeFromMiddle()
+    {
+        ArrayDeque<Integer> deque = ArrayDeque.newDeque(Interval.oneTo(10));
+        Assert.assertTrue(deque.remove(Integer.valueOf(3)));
+        Assert.assertTrue(deque.remove(Integer.valueOf(8)));
+        Assert.assertFalse(deque.remove(Integer.valueOf(11)));
+        Assert.assertEquals(this.newWith(1, 2, 4, 5, 6, 7, 9, 10), deque);
+
+        ArrayDeque<Integer> wrapped = this.newWrappedDeque();
+        Iterator<Integer> iterator = wrapped.iterator();
+        Assert.assertEquals(Integer.valueOf(1), iterator.next());
+        Assert.assertEquals(Integer.valueOf(2), iterator.next());
+        iterator.remove();
+        Verify.assertThrows(IllegalStateException.class, iterator::remove);
+        Assert.assertEquals(Integer.valueOf(3), iterator.next());
+        Assert.assertFalse(iterator.hasNext());
+        Assert.assertEquals(this.newWith(1, 3), wrapped);
+    }
+
+    @Test
+    public void removeIfCompactsInPlace()
+    {
+        ArrayDeque<Integer> deque = this.newWrappedDeque();
+        deque.addLast(4);
+        Assert.assertTrue(deque.removeIf(IntegerPredicates.isEven()));
+        Assert.assertFalse(deque.removeIf(IntegerPredicates.isEven()));
+        Assert.assertEquals(this.newWith(1, 3), deque);
+        deque.addFirst(0);
+        deque.addLast(5);
+        Assert.assertEquals(this.newWith(0, 1, 3, 5), deque);
+    }
+
+    @Test
+    public void equalsAcrossImplementations()
+    {
+        ArrayDeque<Integer> deque = this.newWith(1, 2, 3);
+        Verify.assertEqualsAndHashCode(deque, this.newWrappedDeque());
+        Verify.assertEqualsAndHashCode(deque, deque.asUnmodifiable());
+        Verify.assertEqualsAndHashCode(deque, deque.asSynchronized());
+        Verify.assertEqualsAndHashCode(deque, ImmutableArrayDeque.newDequeWith(1, 2, 3));
+        Verify.assertNotEquals(deque, this.newWith(3, 2, 1));
+        Verify.assertNotEquals(deque, FastList.newListWith(1, 2, 3));
+    }
+
+    @Test
+    public void serialization()
+    {
+        ArrayDeque<Integer> deque = this.newWrappedDeque();
+        ArrayDeque<Integer> copy = SerializeTestHelper.serializeDeserialize(deque);
+        Assert.assertEquals(deque, copy);
+        copy.addFirst(0);
+        Assert.assertEquals(this.newWith(0, 1, 2, 3), copy);
+    }
+}
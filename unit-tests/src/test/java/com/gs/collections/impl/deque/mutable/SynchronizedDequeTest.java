@@ -0,0 +1,100 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.deque.mutable;
+
+import com.gs.collections.api.RichIterable;
+import com.gs.collections.api.deque.MutableDeque;
+import com.gs.collections.api.multimap.Multimap;
+import com.gs.collections.impl.block.factory.IntegerPredicates;
+import com.gs.collections.impl.collection.mutable.AbstractSynchronizedCollectionTestCase;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.test.SerializeTestHelper;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link SynchronizedDeque}.
+ */
+public class SynchronizedDequeTest extends AbstractSynchronizedCollectionTestCase
+{
+    @Override
+    protected <T> MutableDeque<T> newWith(T... littleElements)
+    {
+        return new SynchronizedDeque<>(ArrayDeque.newDequeWith(littleElements));
+    }
+
+    @Override
+    @Test
+    public void newEmpty()
+    {
+        super.newEmpty();
+
+        Verify.assertInstanceOf(SynchronizedDeque.class, this.newWith().newEmpty());
+    }
+
+    @Override
+    @Test
+    public void groupBy()
+    {
+        RichIterable<Integer> deque = this.newWith(1, 2, 3, 4, 5, 6, 7);
+        Multimap<Boolean, Integer> multimap =
+                deque.groupBy(object -> IntegerPredicates.isOdd().accept(object));
+
+        Assert.assertEquals(FastList.newListWith(1, 3, 5, 7), multimap.get(Boolean.TRUE));
+        Assert.assertEquals(FastList.newListWith(2, 4, 6), multimap.get(Boolean.FALSE));
+    }
+
+    @Override
+    @Test
+    public void asSynchronized()
+    {
+        MutableDeque<Integer> deque = this.newWith(1, 2, 3);
+        Assert.assertSame(deque, deque.asSynchronized());
+    }
+
+    @Override
+    @Test
+    public void asUnmodifiable()
+    {
+        Verify.assertInstanceOf(UnmodifiableDeque.class, this.newWith().asUnmodifiable());
+    }
+
+    @Test
+    public void dequeMethods()
+    {
+        MutableDeque<Integer> deque = this.newWith(2);
+        deque.addFirst(1);
+        deque.addLast(3);
+        Assert.assertEquals(ArrayDeque.newDequeWith(1, 2, 3), deque);
+        Assert.assertEquals(Integer.valueOf(1), deque.peekFirst());
+        Assert.assertEquals(Integer.valueOf(3), deque.peekLast());
+        Assert.assertEquals(Integer.valueOf(1), deque.poll());
+        Assert.assertEquals(Integer.valueOf(3), deque.removeLast());
+        Assert.assertEquals(Integer.valueOf(2), deque.pop());
+        Assert.assertNull(deque.pollLast());
+    }
+
+    @Test
+    public void equalsAndHashCode()
+    {
+        MutableDeque<Integer> deque = this.newWith(1, 2, 3);
+        Verify.assertEqualsAndHashCode(ArrayDeque.newDequeWith(1, 2, 3), deque);
+        Verify.assertPostSerializedEqualsAndHashCode(deque);
+        Verify.assertInstanceOf(SynchronizedDeque.class, SerializeTestHelper.serializeDeserialize(deque));
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.deque.mutable;
+
+import com.gs.collections.api.deque.MutableDeque;
+import com.gs.collections.impl.collection.mutable.UnmodifiableMutableCollectionTestCase;
+import com.gs.collections.impl.deque.immutable.ImmutableArrayDeque;
+import com.gs.collections.impl.test.SerializeTestHelper;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link UnmodifiableDeque}.
+ */
+public class UnmodifiableDequeTest
+        extends UnmodifiableMutableCollectionTestCase<String>
+{
+    @Override
+    protected MutableDeque<String> getCollection()
+    {
+        return ArrayDeque.newDequeWith("").asUnmodifiable();
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void addFirst()
+    {
+        this.getCollection().addFirst("");
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void addLast()
+    {
+        this.getCollection().addLast("");
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void offer()
+    {
+        this.getCollection().offer("");
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void poll()
+    {
+        this.getCollection().poll();
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void removeFirst()
+    {
+        this.getCollection().removeFirst();
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void pollLast()
+    {
+        this.getCollection().pollLast();
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void push()
+    {
+        this.getCollection().push("");
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void pop()
+    {
+        this.getCollection().pop();
+    }
+
+    @Test
+    public void peek()
+    {
+        MutableDeque<String> deque = UnmodifiableDeque.of(ArrayDeque.newDequeWith("1", "2", "3"));
+        Assert.assertEquals("1", deque.peek());
+        Assert.assertEquals("1", deque.element());
+        Assert.assertEquals("1", deque.peekFirst());
+        Assert.assertEquals("3", deque.peekLast());
+        Verify.assertSize(3, deque);
+    }
+
+    @Test
+    public void asUnmodifiable()
+    {
+        MutableDeque<String> deque = this.getCollection();
+        Assert.assertSame(deque, deque.asUnmodifiable());
+    }
+
+    @Test
+    public void asSynchronized()
+    {
+        Verify.assertInstanceOf(SynchronizedDeque.class, this.getCollection().asSynchronized());
+    }
+
+    @Test
+    public void toImmutable()
+    {
+        Verify.assertInstanceOf(ImmutableArrayDeque.class, this.getCollection().toImmutable());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void of_throws_null()
+    {
+        UnmodifiableDeque.of(null);
+    }
+
+    @Test
+    public void equalsAndHashCode()
+    {
+        Verify.assertEqualsAndHashCode(this.getCollection(), ArrayDeque.newDequeWith(""));
+        MutableDeque<Integer> numbers = UnmodifiableDeque.of(ArrayDeque.newDequeWith(1, 2, 3));
+        Verify.assertPostSerializedEqualsAndHashCode(numbers);
+        Verify.assertInstanceOf(UnmodifiableDeque.class, SerializeTestHelper.serializeDeserialize(numbers));
+    }
+}
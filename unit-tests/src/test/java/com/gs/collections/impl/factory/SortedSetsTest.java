@@ -20,9 +20,12 @@ import com.gs.collections.api.factory.set.sorted.ImmutableSortedSetFactory;
 import com.gs.collections.api.factory.set.sorted.MutableSortedSetFactory;
 import com.gs.collections.api.set.sorted.ImmutableSortedSet;
 import com.gs.collections.api.set.sorted.MutableSortedSet;
+import com.gs.collections.impl.bag.sorted.mutable.BTreeBag;
 import com.gs.collections.impl.block.factory.Comparators;
 import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.map.sorted.mutable.BTreeSortedMap;
 import com.gs.collections.impl.set.mutable.UnifiedSet;
+import com.gs.collections.impl.set.sorted.mutable.BTreeSortedSet;
 import com.gs.collections.impl.set.sorted.mutable.TreeSortedSet;
 import com.gs.collections.impl.test.Verify;
 import org.junit.Assert;
@@ -68,6 +71,20 @@ public class SortedSetsTest
         Verify.assertInstanceOf(MutableSortedSet.class, factory.ofAll(Comparators.reverseNaturalOrder(), FastList.newListWith(1, 2, 3, 4, 5, 6, 7, 8)));
     }
 
+    @Test
+    public void btree()
+    {
+        MutableSortedSetFactory factory = SortedSets.btree;
+        Verify.assertInstanceOf(BTreeSortedSet.class, factory.of());
+        Assert.assertEquals(TreeSortedSet.newSetWith(1, 2), factory.of(1, 2, 2));
+        Verify.assertInstanceOf(BTreeSortedSet.class, factory.of(1, 2));
+        Assert.assertEquals(TreeSortedSet.newSetWith(1, 2, 3, 4, 5, 6, 7, 8), factory.ofAll(FastList.newListWith(1, 2, 3, 4, 5, 6, 7, 8)));
+        Assert.assertEquals(Comparators.reverseNaturalOrder(), factory.of(Comparators.reverseNaturalOrder()).comparator());
+        Assert.assertEquals(FastList.newListWith(3, 2, 1), factory.ofAll(Comparators.reverseNaturalOrder(), FastList.newListWith(1, 2, 3)).toList());
+        Verify.assertInstanceOf(BTreeSortedMap.class, SortedMaps.btree.of(1, "1"));
+        Verify.assertInstanceOf(BTreeBag.class, SortedBags.btree.of(1, 1, 2));
+    }
+
     @Test
     public void classIsNonInstantiable()
     {
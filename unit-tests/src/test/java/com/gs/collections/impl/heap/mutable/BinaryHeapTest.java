@@ -0,0 +1,275 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.heap.mutable;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import com.gs.collections.api.RichIterable;
+import com.gs.collections.api.collection.MutableCollection;
+import com.gs.collections.api.heap.MutableHeap;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.api.multimap.Multimap;
+import com.gs.collections.api.partition.PartitionIterable;
+import com.gs.collections.impl.bag.mutable.HashBag;
+import com.gs.collections.impl.block.factory.Comparators;
+import com.gs.collections.impl.block.factory.IntegerPredicates;
+import com.gs.collections.impl.block.factory.Predicates;
+import com.gs.collections.impl.block.factory.Predicates2;
+import com.gs.collections.impl.collection.mutable.AbstractCollectionTestCase;
+import com.gs.collections.impl.collection.mutable.SynchronizedMutableCollection;
+import com.gs.collections.impl.collection.mutable.UnmodifiableMutableCollection;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.test.SerializeTestHelper;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link BinaryHeap}.
+ */
+public class BinaryHeapTest extends AbstractCollectionTestCase
+{
+    @Override
+    protected <T> BinaryHeap<T> newWith(T... littleElements)
+    {
+        return BinaryHeap.newHeapWith(littleElements);
+    }
+
+    @Override
+    @Test
+    public void asSynchronized()
+    {
+        Verify.assertInstanceOf(SynchronizedMutableCollection.class, this.newWith().asSynchronized());
+    }
+
+    @Override
+    @Test
+    public void asUnmodifiable()
+    {
+        Verify.assertInstanceOf(UnmodifiableMutableCollection.class, this.newWith().asUnmodifiable());
+    }
+
+    @Override
+    @Test
+    public void toImmutable()
+    {
+        super.toImmutable();
+        Assert.assertEquals(FastList.newListWith(1, 2, 3, 4, 5), this.newWith(4, 2, 5, 1, 3).toImmutable());
+    }
+
+    @Override
+    @Test
+    public void removeIf()
+    {
+        MutableCollection<Integer> objects1 = this.newWith(1, 2, 3);
+        Verify.assertThrows(NullPointerException.class, () -> objects1.add(null));
+        Assert.assertFalse(objects1.removeIf(Predicates.isNull()));
+        Verify.assertSize(3, objects1);
+        Verify.assertContainsAll(objects1, 1, 2, 3);
+
+        MutableCollection<Integer> objects2 = this.newWith(3, 4, 5);
+        Assert.assertTrue(objects2.removeIf(Predicates.equal(3)));
+        Assert.assertFalse(objects2.removeIf(Predicates.equal(6)));
+
+        MutableCollection<Integer> objects3 = this.newWith(1, 2, 3, 4, 5);
+        Assert.assertTrue(objects3.removeIf(Predicates.greaterThan(0)));
+        Assert.assertFalse(objects3.removeIf(Predicates.equal(5)));
+    }
+
+    @Override
+    @Test(expected = NullPointerException.class)
+    public void min_null_safe()
+    {
+        super.min_null_safe();
+    }
+
+    @Override
+    @Test(expected = NullPointerException.class)
+    public void max_null_safe()
+    {
+        super.max_null_safe();
+    }
+
+    @Override
+    @Test
+    public void selectInstancesOf()
+    {
+        BinaryHeap<Number> numbers = BinaryHeap.heapify(
+                Comparators.byFunction(Number::doubleValue),
+                FastList.<Number>newListWith(1, 2.0, 3, 4.0, 5));
+        Assert.assertEquals(HashBag.newBagWith(1, 3, 5), numbers.selectInstancesOf(Integer.class).toBag());
+        Assert.assertEquals(HashBag.newBagWith(1, 2.0, 3, 4.0, 5), numbers.selectInstancesOf(Number.class).toBag());
+    }
+
+    @Override
+    @Test
+    public void partition()
+    {
+        RichIterable<Integer> integers = this.newWith(-3, -2, -1, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        PartitionIterable<Integer> result = integers.partition(IntegerPredicates.isEven());
+        Assert.assertEquals(FastList.newListWith(-2, 0, 2, 4, 6, 8), result.getSelected());
+        Assert.assertEquals(FastList.newListWith(-3, -1, 1, 3, 5, 7, 9), result.getRejected());
+    }
+
+    @Override
+    @Test
+    public void partitionWith()
+    {
+        RichIterable<Integer> integers = this.newWith(-3, -2, -1, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        PartitionIterable<Integer> result = integers.partitionWith(Predicates2.in(), FastList.newListWith(-2, 0, 2, 4, 6, 8));
+        Assert.assertEquals(FastList.newListWith(-2, 0, 2, 4, 6, 8), result.getSelected());
+        Assert.assertEquals(FastList.newListWith(-3, -1, 1, 3, 5, 7, 9), result.getRejected());
+    }
+
+    @Override
+    @Test
+    public void groupBy()
+    {
+        RichIterable<Integer> heap = this.newWith(1, 2, 3, 4, 5, 6, 7);
+        Multimap<Boolean, Integer> multimap =
+                heap.groupBy(object -> IntegerPredicates.isOdd().accept(object));
+
+        Assert.assertEquals(FastList.newListWith(1, 3, 5, 7), multimap.get(Boolean.TRUE));
+        Assert.assertEquals(FastList.newListWith(2, 4, 6), multimap.get(Boolean.FALSE));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void newHeap_throws_negativeCapacity()
+    {
+        new BinaryHeap<Integer>(-1);
+    }
+
+    @Test
+    public void addAndPoll_inPriorityOrder()
+    {
+        BinaryHeap<Integer> heap = BinaryHeap.newHeap();
+        MutableList<Integer> shuffled = FastList.newList(Interval.oneTo(100)).shuffleThis();
+        for (Integer each : shuffled)
+        {
+            Assert.assertTrue(heap.offer(each));
+        }
+        Verify.assertSize(100, heap);
+        Assert.assertEquals(Integer.valueOf(1), heap.peek());
+        Assert.assertEquals(Integer.valueOf(1), heap.getFirst());
+        for (int i = 1; i <= 100; i++)
+        {
+            Assert.assertEquals(Integer.valueOf(i), heap.poll());
+        }
+        Verify.assertEmpty(heap);
+        Assert.assertNull(heap.peek());
+        Assert.assertNull(heap.poll());
+        Verify.assertThrows(NoSuchElementException.class, () -> heap.remove());
+        Verify.assertThrows(NoSuchElementException.class, () -> heap.element());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void add_throws_null()
+    {
+        BinaryHeap.newHeap().add(null);
+    }
+
+    @Test
+    public void comparator()
+    {
+        BinaryHeap<Integer> heap = BinaryHeap.heapify(Comparators.<Integer>reverseNaturalOrder(), Interval.oneTo(10));
+        Assert.assertEquals(Integer.valueOf(10), heap.element());
+        FastList<Integer> drained = FastList.newList();
+        Assert.assertEquals(10, heap.drainTo(drained));
+        Assert.assertEquals(Interval.fromToBy(10, 1, -1), drained);
+        Verify.assertEmpty(heap);
+        Assert.assertSame(heap.comparator(), heap.newEmpty().comparator());
+    }
+
+    @Test
+    public void heapify_drainTo_sorts()
+    {
+        MutableList<Integer> source = FastList.newList(Interval.oneTo(1000)).shuffleThis();
+        BinaryHeap<Integer> heap = BinaryHeap.heapify(source);
+        Verify.assertSize(1000, heap);
+        FastList<Integer> drained = FastList.newList();
+        heap.drainTo(drained);
+        Assert.assertEquals(Interval.oneTo(1000), drained);
+    }
+
+    @Test
+    public void removeAndRemoveIf()
+    {
+        BinaryHeap<Integer> heap = BinaryHeap.newHeapWith(5, 3, 8, 1, 9, 2, 7);
+        Assert.assertTrue(heap.remove(3));
+        Assert.assertFalse(heap.remove(4));
+        Assert.assertTrue(heap.removeIf(IntegerPredicates.isEven()));
+        Assert.assertFalse(heap.removeIf(IntegerPredicates.isEven()));
+        FastList<Integer> drained = FastList.newList();
+        heap.drainTo(drained);
+        Assert.assertEquals(FastList.newListWith(1, 5, 7, 9), drained);
+    }
+
+    @Test
+    public void iterator_remove()
+    {
+        BinaryHeap<Integer> heap = BinaryHeap.heapify(FastList.newList(Interval.oneTo(20)).shuffleThis());
+        FastList<Integer> seen = FastList.newList();
+        Iterator<Integer> iterator = heap.iterator();
+        while (iterator.hasNext())
+        {
+            Integer next = iterator.next();
+            seen.add(next);
+            if (next % 3 == 0)
+            {
+                iterator.remove();
+            }
+        }
+        Assert.assertEquals(Interval.oneTo(20), seen.sortThis());
+        FastList<Integer> drained = FastList.newList();
+        heap.drainTo(drained);
+        Assert.assertEquals(Interval.oneTo(20).reject(each -> each % 3 == 0), drained);
+    }
+
+    @Test
+    public void selectAndReject()
+    {
+        BinaryHeap<Integer> heap = BinaryHeap.heapify(Comparators.<Integer>reverseNaturalOrder(), Interval.oneTo(6));
+        MutableHeap<Integer> selected = heap.select(Predicates.greaterThan(3));
+        Assert.assertEquals(BinaryHeap.newHeapWith(4, 5, 6), selected);
+        Assert.assertEquals(Integer.valueOf(6), selected.peek());
+        Assert.assertEquals(BinaryHeap.newHeapWith(1, 2, 3), heap.reject(Predicates.greaterThan(3)));
+        Assert.assertEquals(FastList.newListWith(6, 5, 4, 3, 2, 1), heap.toImmutable());
+    }
+
+    @Override
+    @Test
+    public void equalsAndHashCode()
+    {
+        super.equalsAndHashCode();
+        BinaryHeap<Integer> heap = BinaryHeap.newHeapWith(1, 2, 2, 3);
+        Verify.assertEqualsAndHashCode(heap, BinaryHeap.heapify(Comparators.<Integer>reverseNaturalOrder(), FastList.newListWith(3, 2, 1, 2)));
+        Assert.assertNotEquals(heap, BinaryHeap.newHeapWith(1, 2, 3));
+        Assert.assertNotEquals(heap, FastList.newListWith(1, 2, 2, 3));
+    }
+
+    @Test
+    public void serialization()
+    {
+        BinaryHeap<Integer> heap = BinaryHeap.heapify(Comparators.<Integer>reverseNaturalOrder(), Interval.oneTo(5));
+        BinaryHeap<Integer> copy = SerializeTestHelper.serializeDeserialize(heap);
+        Assert.assertEquals(heap, copy);
+        copy.add(6);
+        Assert.assertEquals(Integer.valueOf(6), copy.peek());
+    }
+}
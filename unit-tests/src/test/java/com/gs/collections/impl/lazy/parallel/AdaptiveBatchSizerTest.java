@@ -0,0 +1,75 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy.parallel;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AdaptiveBatchSizerTest
+{
+    @Test
+    public void batchSizeFor()
+    {
+        AdaptiveBatchSizer batchSizer = new AdaptiveBatchSizer(1L, TimeUnit.MILLISECONDS, 10, 2, 5000);
+        Assert.assertEquals(10, batchSizer.batchSizeFor(0L, 0L));
+        Assert.assertEquals(5000, batchSizer.batchSizeFor(100L, 0L));
+        Assert.assertEquals(1000, batchSizer.batchSizeFor(100L, 100000L));
+        Assert.assertEquals(5000, batchSizer.batchSizeFor(100L, 1L));
+        Assert.assertEquals(1, batchSizer.batchSizeFor(1L, 1000000000L));
+    }
+
+    @Test
+    public void nextBatchSize_samples_then_estimates()
+    {
+        AdaptiveBatchSizer batchSizer = new AdaptiveBatchSizer(1L, TimeUnit.MILLISECONDS, 10, 2, 5000);
+        AdaptiveBatchSplit split = batchSizer.newSplit();
+        Assert.assertEquals(10, split.nextBatchSize(1000));
+        Assert.assertEquals(10, split.nextBatchSize(990));
+        Assert.assertEquals(10, split.nextBatchSize(980));
+        split.batchCompleted(10, System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(10L));
+        int estimated = split.nextBatchSize(970);
+        Assert.assertTrue(String.valueOf(estimated), estimated >= 1 && estimated <= 2);
+        split.nextBatchSize(970 - estimated);
+        Assert.assertTrue(batchSizer.getLastBatchSizes().isEmpty());
+    }
+
+    @Test
+    public void lastBatchSizes_published_when_split_completes()
+    {
+        AdaptiveBatchSizer batchSizer = new AdaptiveBatchSizer(1L, TimeUnit.MILLISECONDS, 10, 2, 5000);
+        AdaptiveBatchSplit split = batchSizer.newSplit();
+        Assert.assertEquals(10, split.nextBatchSize(25));
+        Assert.assertEquals(10, split.nextBatchSize(15));
+        Assert.assertEquals(5, split.nextBatchSize(5));
+        Assert.assertEquals(25L, batchSizer.getLastBatchSizes().sum());
+        Assert.assertEquals(3, batchSizer.getLastBatchSizes().size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void max_smaller_than_sample()
+    {
+        new AdaptiveBatchSizer(1L, TimeUnit.MILLISECONDS, 10, 2, 5);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void non_positive_target()
+    {
+        new AdaptiveBatchSizer(0L, TimeUnit.MILLISECONDS);
+    }
+}
@@ -24,7 +24,13 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 
+import com.gs.collections.api.DoubleIterable;
+import com.gs.collections.api.IntIterable;
+import com.gs.collections.api.LongIterable;
+import com.gs.collections.api.ParallelDoubleIterable;
+import com.gs.collections.api.ParallelIntIterable;
 import com.gs.collections.api.ParallelIterable;
+import com.gs.collections.api.ParallelLongIterable;
 import com.gs.collections.api.RichIterable;
 import com.gs.collections.api.block.function.Function;
 import com.gs.collections.api.block.function.Function0;
@@ -582,6 +588,36 @@ public abstract class ParallelIterableTestCase
                 this.classUnderTest().toSortedListBy(String::valueOf));
     }
 
+    @Test
+    public void topK()
+    {
+        Assert.assertEquals(
+                this.getExpected().topK(3, Comparators.naturalOrder()),
+                this.classUnderTest().topK(3, Comparators.naturalOrder()));
+        Assert.assertEquals(
+                this.getExpected().topK(100, Comparators.naturalOrder()),
+                this.classUnderTest().topK(100, Comparators.naturalOrder()));
+    }
+
+    @Test
+    public void bottomK()
+    {
+        Assert.assertEquals(
+                this.getExpected().bottomK(3, Comparators.naturalOrder()),
+                this.classUnderTest().bottomK(3, Comparators.naturalOrder()));
+    }
+
+    @Test
+    public void topKBy_and_bottomKBy()
+    {
+        Assert.assertEquals(
+                this.getExpected().topKBy(3, String::valueOf),
+                this.classUnderTest().topKBy(3, String::valueOf));
+        Assert.assertEquals(
+                this.getExpected().bottomKBy(3, String::valueOf),
+                this.classUnderTest().bottomKBy(3, String::valueOf));
+    }
+
     @Test
     public void toSet()
     {
@@ -928,6 +964,168 @@ public abstract class ParallelIterableTestCase
         }
     }
 
+    @Test
+    public void collectInt()
+    {
+        ParallelIntIterable actual = this.classUnderTest().collectInt(Integer::intValue);
+        IntIterable expected = this.getExpected().collectInt(Integer::intValue);
+        Assert.assertEquals(expected.sum(), actual.sum());
+        Assert.assertEquals(expected.min(), actual.min());
+        Assert.assertEquals(expected.max(), actual.max());
+        Assert.assertEquals(expected.average(), actual.average(), 0.0);
+        Assert.assertEquals(expected.count(each -> each > 2), actual.count(each -> each > 2));
+        Assert.assertEquals(expected.toBag(), actual.toBag());
+        Assert.assertEquals(expected.toSet(), actual.toSet());
+        Assert.assertArrayEquals(expected.toSortedArray(), actual.toSortedArray());
+        Assert.assertEquals(expected.topK(3), actual.topK(3));
+        Assert.assertEquals(expected.bottomK(3), actual.bottomK(3));
+        Assert.assertEquals(expected.topK(100), actual.topK(100));
+        if (this.isOrdered())
+        {
+            Assert.assertEquals(expected.toList(), actual.toList());
+            Assert.assertArrayEquals(expected.toArray(), actual.toArray());
+        }
+        else
+        {
+            Assert.assertEquals(expected.toBag(), actual.toList().toBag());
+        }
+    }
+
+    @Test
+    public void collectInt_select_reject()
+    {
+        IntIterable expected = this.getExpected().collectInt(Integer::intValue);
+        Assert.assertEquals(
+                expected.select(each -> each % 2 == 0).toBag(),
+                this.classUnderTest().collectInt(Integer::intValue).select(each -> each % 2 == 0).toBag());
+        Assert.assertEquals(
+                expected.reject(each -> each % 2 == 0).toBag(),
+                this.classUnderTest().collectInt(Integer::intValue).reject(each -> each % 2 == 0).toBag());
+        Assert.assertEquals(
+                expected.select(each -> each < 4).sum(),
+                this.classUnderTest().collectInt(Integer::intValue).select(each -> each < 4).sum());
+        Assert.assertEquals(3, this.classUnderTest().collectInt(Integer::intValue).select(each -> each < 4).max());
+        Assert.assertEquals(3, this.classUnderTest().collectInt(Integer::intValue).reject(each -> each > 3).select(each -> each > 2).min());
+    }
+
+    @Test
+    public void collectInt_short_circuit()
+    {
+        ParallelIntIterable actual = this.classUnderTest().collectInt(Integer::intValue);
+        Assert.assertTrue(actual.anySatisfy(each -> each == 3));
+        Assert.assertFalse(actual.anySatisfy(each -> each == 8));
+        Assert.assertTrue(actual.allSatisfy(each -> each > 0));
+        Assert.assertFalse(actual.allSatisfy(each -> each > 1));
+        Assert.assertTrue(actual.noneSatisfy(each -> each > 4));
+        Assert.assertFalse(actual.noneSatisfy(each -> each > 3));
+        Assert.assertEquals(3, actual.detectIfNone(each -> each == 3, 8));
+        Assert.assertEquals(8, actual.detectIfNone(each -> each == 6, 8));
+        Assert.assertTrue(actual.select(each -> each > 2).allSatisfy(each -> each > 2));
+        Assert.assertFalse(actual.select(each -> each > 2).anySatisfy(each -> each == 1));
+        Assert.assertEquals(8, actual.select(each -> each > 2).detectIfNone(each -> each == 1, 8));
+    }
+
+    @Test
+    public void collectInt_detectIfNone_null_element()
+    {
+        ParallelIntIterable actual = this.classUnderTest()
+                .collect(each -> each == 3 ? null : each)
+                .collectInt(each -> each == null ? 0 : each);
+        Assert.assertEquals(0, actual.detectIfNone(each -> each == 0, 8));
+        Assert.assertEquals(8, actual.detectIfNone(each -> each == 3, 8));
+    }
+
+    @Test
+    public void collectInt_empty()
+    {
+        ParallelIntIterable empty = this.classUnderTest().collectInt(Integer::intValue).select(each -> false);
+        Assert.assertEquals(0L, empty.sum());
+        Assert.assertEquals(0, empty.count(each -> true));
+        Assert.assertEquals(-1, empty.minIfEmpty(-1));
+        Assert.assertEquals(-1, empty.maxIfEmpty(-1));
+        Verify.assertEmpty(empty.toList());
+        Assert.assertEquals(1, this.classUnderTest().collectInt(Integer::intValue).select(each -> each < 4).minIfEmpty(-1));
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void collectInt_min_empty_throws()
+    {
+        this.classUnderTest().collectInt(Integer::intValue).select(each -> false).min();
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void collectInt_max_empty_throws()
+    {
+        this.classUnderTest().collectInt(Integer::intValue).select(each -> false).max();
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void collectInt_average_empty_throws()
+    {
+        this.classUnderTest().collectInt(Integer::intValue).select(each -> false).average();
+    }
+
+    @Test
+    public void collectLong()
+    {
+        LongIterable expected = this.getExpected().collectLong(each -> each * 1_000_000_000L);
+        ParallelLongIterable actual = this.classUnderTest().collectLong(each -> each * 1_000_000_000L);
+        Assert.assertEquals(expected.sum(), actual.sum());
+        Assert.assertEquals(expected.min(), actual.min());
+        Assert.assertEquals(expected.max(), actual.max());
+        Assert.assertEquals(expected.toBag(), actual.toBag());
+    }
+
+    @Test
+    public void collectDouble()
+    {
+        DoubleIterable expected = this.getExpected().collectDouble(each -> each / 2.0);
+        ParallelDoubleIterable actual = this.classUnderTest().collectDouble(each -> each / 2.0);
+        Assert.assertEquals(expected.sum(), actual.sum(), 0.0);
+        Assert.assertEquals(expected.min(), actual.min(), 0.0);
+        Assert.assertEquals(expected.max(), actual.max(), 0.0);
+        Assert.assertEquals(expected.average(), actual.average(), 0.0);
+        Assert.assertEquals(expected.toBag(), actual.toBag());
+    }
+
+    @Test
+    public void collectDoubleConsistentRounding()
+    {
+        DoubleFunction<Integer> roundingSensitiveElementFunction = i -> (i <= 99995) ? 1.0e-18d : 1.0d;
+
+        MutableList<Integer> list = Interval.oneTo(100_000).toList().shuffleThis();
+        double baseline = this.getExpectedWith(list.toArray(new Integer[]{}))
+                .sumOfDouble(roundingSensitiveElementFunction);
+
+        for (Integer batchSize : BATCH_SIZES)
+        {
+            this.batchSize = batchSize;
+
+            ParallelIterable<Integer> testCollection = this.newWith(list.toArray(new Integer[]{}));
+            Assert.assertEquals("Batch size: " + this.batchSize,
+                    baseline,
+                    testCollection.collectDouble(roundingSensitiveElementFunction).sum(),
+                    1.0e-15d);
+        }
+    }
+
+    @Test
+    public void collectOtherPrimitives()
+    {
+        RichIterable<Integer> expected = this.getExpected();
+        ParallelIterable<Integer> actual = this.classUnderTest();
+        Assert.assertEquals(expected.collectByte(Integer::byteValue).toBag(), actual.collectByte(Integer::byteValue).toBag());
+        Assert.assertEquals(expected.collectChar(each -> (char) (each + 'a')).toBag(), actual.collectChar(each -> (char) (each + 'a')).toBag());
+        Assert.assertEquals(expected.collectShort(Integer::shortValue).toBag(), actual.collectShort(Integer::shortValue).toBag());
+        Assert.assertEquals(expected.collectFloat(Integer::floatValue).toBag(), actual.collectFloat(Integer::floatValue).toBag());
+        Assert.assertEquals(expected.collectShort(Integer::shortValue).sum(), actual.collectShort(Integer::shortValue).sum());
+        Assert.assertEquals(expected.collectFloat(Integer::floatValue).sum(), actual.collectFloat(Integer::floatValue).sum(), 0.0);
+        Assert.assertEquals(expected.collectBoolean(each -> each % 2 == 0).toBag(), actual.collectBoolean(each -> each % 2 == 0).toBag());
+        Assert.assertEquals(
+                expected.count(each -> each % 2 == 0),
+                actual.collectBoolean(each -> each % 2 == 0).count(each -> each));
+    }
+
     @Test
     public void asUnique()
     {
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.lazy.parallel.set;
+
+import java.util.concurrent.TimeUnit;
+
+import com.gs.collections.api.set.ParallelUnsortedSetIterable;
+import com.gs.collections.impl.block.factory.Predicates;
+import com.gs.collections.impl.lazy.parallel.AdaptiveBatchSizer;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.set.mutable.UnifiedSet;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AdaptiveParallelUnsortedSetIterableTest extends ParallelUnsortedSetIterableTestCase
+{
+    @Override
+    protected ParallelUnsortedSetIterable<Integer> classUnderTest()
+    {
+        return this.newWith(1, 2, 3, 4);
+    }
+
+    @Override
+    protected ParallelUnsortedSetIterable<Integer> newWith(Integer... littleElements)
+    {
+        return UnifiedSet.newSetWith(littleElements).asParallel(this.executorService, new AdaptiveBatchSizer(10L, TimeUnit.MICROSECONDS, this.batchSize, 2, this.batchSize * 3));
+    }
+
+    @Test
+    public void lastBatchSizes()
+    {
+        AdaptiveBatchSizer batchSizer = new AdaptiveBatchSizer(1L, TimeUnit.MILLISECONDS, 10, 3, 1000);
+        UnifiedSet<Integer> set = UnifiedSet.newSet(Interval.oneTo(10000));
+        Assert.assertEquals(10000, set.asParallel(this.executorService, batchSizer).count(Predicates.alwaysTrue()));
+        Assert.assertEquals(10, batchSizer.getLastBatchSizes().get(0));
+        Assert.assertTrue(batchSizer.getLastBatchSizes().sum() >= 10000L);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void asParallel_null_executorService()
+    {
+        UnifiedSet.newSetWith(1, 2, 3, 4).asParallel(null, new AdaptiveBatchSizer());
+    }
+}
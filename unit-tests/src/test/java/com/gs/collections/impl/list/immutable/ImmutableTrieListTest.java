@@ -0,0 +1,176 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.list.immutable;
+
+import java.util.Iterator;
+
+import com.gs.collections.api.list.ImmutableList;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.factory.Lists;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.test.SerializeTestHelper;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link ImmutableTrieList}.
+ */
+public class ImmutableTrieListTest extends AbstractImmutableListTestCase
+{
+    private static final int THREE_LEVELS = 32 * 32 * 32 + 33;
+
+    @Override
+    protected ImmutableList<Integer> classUnderTest()
+    {
+        return ImmutableTrieList.newListWith(1, 2, 3);
+    }
+
+    @Test
+    public void newWith_appends_across_levels()
+    {
+        ImmutableList<Integer> list = ImmutableTrieList.empty();
+        MutableList<Integer> expected = FastList.newList();
+        for (int i = 0; i < THREE_LEVELS; i++)
+        {
+            list = list.newWith(i);
+            expected.add(i);
+        }
+        Verify.assertSize(THREE_LEVELS, list);
+        Assert.assertEquals(expected, list);
+        for (int i = 0; i < THREE_LEVELS; i++)
+        {
+            Assert.assertEquals(Integer.valueOf(i), list.get(i));
+        }
+    }
+
+    @Test
+    public void newWith_shares_structure_without_changing_original()
+    {
+        ImmutableTrieList<Integer> original = ImmutableTrieList.newList(Interval.oneTo(64));
+        ImmutableList<Integer> first = original.newWith(65);
+        ImmutableList<Integer> second = original.newWith(-65);
+        Assert.assertEquals(Interval.oneTo(64), original);
+        Assert.assertEquals(Interval.oneTo(65), first);
+        Assert.assertEquals(Integer.valueOf(-65), second.getLast());
+        Verify.assertSize(65, second);
+    }
+
+    @Test
+    public void newWithItemAt()
+    {
+        ImmutableTrieList<Integer> list = ImmutableTrieList.newList(Interval.zeroTo(1100));
+        ImmutableTrieList<Integer> updated = list.newWithItemAt(0, -1).newWithItemAt(500, -2).newWithItemAt(1100, -3);
+        Assert.assertEquals(Integer.valueOf(0), list.get(0));
+        Assert.assertEquals(Integer.valueOf(500), list.get(500));
+        Assert.assertEquals(Integer.valueOf(1100), list.get(1100));
+        Assert.assertEquals(Integer.valueOf(-1), updated.get(0));
+        Assert.assertEquals(Integer.valueOf(-2), updated.get(500));
+        Assert.assertEquals(Integer.valueOf(-3), updated.get(1100));
+        Assert.assertEquals(Integer.valueOf(501), updated.get(501));
+        Verify.assertThrows(IndexOutOfBoundsException.class, () -> list.newWithItemAt(1101, 0));
+        Verify.assertThrows(IndexOutOfBoundsException.class, () -> list.newWithItemAt(-1, 0));
+    }
+
+    @Test
+    public void newWithAll()
+    {
+        ImmutableTrieList<Integer> list = ImmutableTrieList.newList(Interval.oneTo(1000));
+        ImmutableList<Integer> withAll = list.newWithAll(Interval.fromTo(1001, 2000));
+        Assert.assertEquals(Interval.oneTo(1000), list);
+        Assert.assertEquals(Interval.oneTo(2000), withAll);
+        Verify.assertInstanceOf(ImmutableTrieList.class, withAll);
+    }
+
+    @Test
+    public void newWithout_last_pops_across_levels()
+    {
+        ImmutableList<Integer> list = ImmutableTrieList.newList(Interval.zeroTo(THREE_LEVELS - 1));
+        for (int i = THREE_LEVELS - 1; i >= 0; i--)
+        {
+            ImmutableList<Integer> without = list.newWithout(i);
+            Verify.assertSize(i, without);
+            if (i > 0)
+            {
+                Assert.assertEquals(Integer.valueOf(i - 1), without.getLast());
+            }
+            list = without;
+        }
+        Verify.assertEmpty(list);
+    }
+
+    @Test
+    public void newWithout_middle()
+    {
+        ImmutableList<Integer> list = ImmutableTrieList.newList(Interval.oneTo(100));
+        ImmutableList<Integer> without = list.newWithout(50);
+        Assert.assertEquals(Interval.oneTo(49).toList().withAll(Interval.fromTo(51, 100)), without);
+        Assert.assertSame(list, list.newWithout(101));
+    }
+
+    @Test
+    public void iterator_and_forEachWithIndex()
+    {
+        ImmutableList<Integer> list = ImmutableTrieList.newList(Interval.zeroTo(2000));
+        Iterator<Integer> iterator = list.iterator();
+        for (int i = 0; i <= 2000; i++)
+        {
+            Assert.assertTrue(iterator.hasNext());
+            Assert.assertEquals(Integer.valueOf(i), iterator.next());
+        }
+        Assert.assertFalse(iterator.hasNext());
+        list.forEachWithIndex((each, index) -> Assert.assertEquals(index, each.intValue()));
+        Assert.assertArrayEquals(Interval.zeroTo(2000).toArray(), list.toArray());
+    }
+
+    @Test
+    public void newWith_uses_trie_above_threshold()
+    {
+        int threshold = ImmutableArrayList.TRIE_LIST_THRESHOLD;
+        Verify.assertInstanceOf(ImmutableArrayList.class, Lists.immutable.ofAll(Interval.oneTo(threshold)));
+        Verify.assertInstanceOf(ImmutableArrayList.class, Lists.immutable.ofAll(Interval.oneTo(threshold + 1)));
+        Verify.assertInstanceOf(ImmutableArrayList.class, Lists.immutable.ofAll(Interval.oneTo(threshold - 1)).newWith(0));
+        Verify.assertInstanceOf(ImmutableTrieList.class, Lists.immutable.ofAll(Interval.oneTo(threshold)).newWith(0));
+    }
+
+    @Test
+    public void batchForEach()
+    {
+        ImmutableTrieList<Integer> list = ImmutableTrieList.newList(Interval.oneTo(1000));
+        for (int sectionCount = 1; sectionCount <= 40; sectionCount += 13)
+        {
+            MutableList<Integer> result = FastList.newList();
+            for (int sectionIndex = 0; sectionIndex < sectionCount; sectionIndex++)
+            {
+                list.batchForEach(result::add, sectionIndex, sectionCount);
+            }
+            Assert.assertEquals(Interval.oneTo(1000), result);
+        }
+        Assert.assertEquals(10, list.getBatchCount(100));
+        Assert.assertEquals(1, ImmutableTrieList.newListWith(1, 2).getBatchCount(100));
+    }
+
+    @Test
+    public void serialization()
+    {
+        ImmutableList<Integer> list = ImmutableTrieList.newList(Interval.oneTo(1000));
+        ImmutableList<Integer> deserialized = SerializeTestHelper.serializeDeserialize(list);
+        Verify.assertInstanceOf(ImmutableArrayList.class, deserialized);
+        Assert.assertEquals(list, deserialized);
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.list.immutable.primitive;
+
+import com.gs.collections.api.list.primitive.ImmutableIntList;
+import com.gs.collections.impl.list.mutable.primitive.IntArrayList;
+import com.gs.collections.impl.test.SerializeTestHelper;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link ImmutableCompressedIntList}.
+ */
+public class ImmutableCompressedIntListTest extends AbstractImmutableIntListTestCase
+{
+    @Override
+    protected ImmutableCompressedIntList classUnderTest()
+    {
+        return ImmutableCompressedIntList.newListWith(1, 2, 3);
+    }
+
+    @Override
+    protected ImmutableCompressedIntList newWith(int... elements)
+    {
+        return ImmutableCompressedIntList.newListWith(elements);
+    }
+
+    @Override
+    @Test
+    public void subList()
+    {
+        ImmutableIntList list = this.newWith(1, 2, 3, 4);
+        Assert.assertEquals(IntArrayList.newListWith(2, 3), list.subList(1, 3));
+        Verify.assertInstanceOf(ImmutableCompressedIntList.class, list.subList(1, 3));
+        Verify.assertEmpty(list.subList(2, 2));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void subList_throws()
+    {
+        this.classUnderTest().subList(2, 4);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void get_throws_negative_index()
+    {
+        this.classUnderTest().get(-1);
+    }
+
+    @Test
+    public void acrossBlocks()
+    {
+        int[] elements = new int[1000];
+        int timestamp = 1_420_070_400;
+        for (int i = 0; i < elements.length; i++)
+        {
+            timestamp += i % 7 == 0 ? 1000 : 15;
+            elements[i] = timestamp;
+        }
+        ImmutableCompressedIntList list = this.newWith(elements);
+        IntArrayList expected = IntArrayList.newListWith(elements);
+        Assert.assertEquals(expected, list);
+        Assert.assertEquals(list, expected);
+        Assert.assertEquals(expected.hashCode(), list.hashCode());
+        Assert.assertEquals(expected.sum(), list.sum());
+        Assert.assertEquals(expected.max(), list.max());
+        Assert.assertEquals(expected.min(), list.min());
+        Assert.assertEquals(expected.makeString(), list.makeString());
+        for (int i = 0; i < elements.length; i++)
+        {
+            Assert.assertEquals(elements[i], list.get(i));
+            Assert.assertEquals(i, list.binarySearch(elements[i]));
+            Assert.assertEquals(expected.binarySearch(elements[i] + 1), list.binarySearch(elements[i] + 1));
+        }
+        Assert.assertEquals(-1, list.binarySearch(elements[0] - 1));
+        Assert.assertEquals(-1001, list.binarySearch(Integer.MAX_VALUE));
+        Assert.assertEquals(expected.toReversed(), list.toReversed());
+        Assert.assertEquals(expected.select(each -> each % 2 == 0), list.select(each -> each % 2 == 0));
+    }
+
+    @Test
+    public void extremeDifferences()
+    {
+        int[] elements = {Integer.MIN_VALUE, Integer.MAX_VALUE, 0, -1, Integer.MAX_VALUE, Integer.MIN_VALUE, 1};
+        ImmutableCompressedIntList list = this.newWith(elements);
+        Assert.assertEquals(IntArrayList.newListWith(elements), list);
+        Assert.assertEquals(IntArrayList.newListWith(elements).sum(), list.sum());
+    }
+
+    @Test
+    public void newWith_stays_compressed()
+    {
+        Verify.assertInstanceOf(ImmutableCompressedIntList.class, this.classUnderTest().newWith(4));
+        Verify.assertInstanceOf(ImmutableCompressedIntList.class, this.classUnderTest().newWithout(2));
+        Verify.assertInstanceOf(ImmutableCompressedIntList.class, this.classUnderTest().select(each -> each > 1));
+        Assert.assertEquals(IntArrayList.newListWith(1, 3), this.classUnderTest().newWithout(2));
+    }
+
+    @Test
+    public void serialization()
+    {
+        ImmutableCompressedIntList list = this.newWith(5, 6, 8, 11, 15);
+        Verify.assertPostSerializedEqualsAndHashCode(list);
+        Verify.assertInstanceOf(ImmutableCompressedIntList.class, SerializeTestHelper.serializeDeserialize(list));
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.list.immutable.primitive;
+
+import com.gs.collections.api.list.primitive.ImmutableLongList;
+import com.gs.collections.impl.list.mutable.primitive.LongArrayList;
+import com.gs.collections.impl.test.SerializeTestHelper;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link ImmutableCompressedLongList}.
+ */
+public class ImmutableCompressedLongListTest extends AbstractImmutableLongListTestCase
+{
+    @Override
+    protected ImmutableCompressedLongList classUnderTest()
+    {
+        return ImmutableCompressedLongList.newListWith(1L, 2L, 3L);
+    }
+
+    @Override
+    protected ImmutableCompressedLongList newWith(long... elements)
+    {
+        return ImmutableCompressedLongList.newListWith(elements);
+    }
+
+    @Override
+    @Test
+    public void subList()
+    {
+        ImmutableLongList list = this.newWith(1L, 2L, 3L, 4L);
+        Assert.assertEquals(LongArrayList.newListWith(2L, 3L), list.subList(1, 3));
+        Verify.assertInstanceOf(ImmutableCompressedLongList.class, list.subList(1, 3));
+        Verify.assertEmpty(list.subList(2, 2));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void subList_throws()
+    {
+        this.classUnderTest().subList(2, 4);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void get_throws_negative_index()
+    {
+        this.classUnderTest().get(-1);
+    }
+
+    @Test
+    public void acrossBlocks()
+    {
+        long[] elements = new long[1000];
+        long timestamp = 1_420_070_400_000L;
+        for (int i = 0; i < elements.length; i++)
+        {
+            timestamp += i % 7 == 0 ? 1000L : 15L;
+            elements[i] = timestamp;
+        }
+        ImmutableCompressedLongList list = this.newWith(elements);
+        LongArrayList expected = LongArrayList.newListWith(elements);
+        Assert.assertEquals(expected, list);
+        Assert.assertEquals(list, expected);
+        Assert.assertEquals(expected.hashCode(), list.hashCode());
+        Assert.assertEquals(expected.sum(), list.sum());
+        Assert.assertEquals(expected.max(), list.max());
+        Assert.assertEquals(expected.min(), list.min());
+        Assert.assertEquals(expected.makeString(), list.makeString());
+        for (int i = 0; i < elements.length; i++)
+        {
+            Assert.assertEquals(elements[i], list.get(i));
+            Assert.assertEquals(i, list.binarySearch(elements[i]));
+            Assert.assertEquals(expected.binarySearch(elements[i] + 1L), list.binarySearch(elements[i] + 1L));
+        }
+        Assert.assertEquals(-1, list.binarySearch(elements[0] - 1L));
+        Assert.assertEquals(-1001, list.binarySearch(Long.MAX_VALUE));
+        Assert.assertEquals(expected.toReversed(), list.toReversed());
+        Assert.assertEquals(expected.select(each -> each % 2L == 0L), list.select(each -> each % 2L == 0L));
+    }
+
+    @Test
+    public void extremeDifferences()
+    {
+        long[] elements = {Long.MIN_VALUE, Long.MAX_VALUE, 0L, -1L, Long.MAX_VALUE, Long.MIN_VALUE, 1L};
+        ImmutableCompressedLongList list = this.newWith(elements);
+        Assert.assertEquals(LongArrayList.newListWith(elements), list);
+        Assert.assertEquals(LongArrayList.newListWith(elements).sum(), list.sum());
+    }
+
+    @Test
+    public void newWith_stays_compressed()
+    {
+        Verify.assertInstanceOf(ImmutableCompressedLongList.class, this.classUnderTest().newWith(4L));
+        Verify.assertInstanceOf(ImmutableCompressedLongList.class, this.classUnderTest().newWithout(2L));
+        Verify.assertInstanceOf(ImmutableCompressedLongList.class, this.classUnderTest().select(each -> each > 1L));
+        Assert.assertEquals(LongArrayList.newListWith(1L, 3L), this.classUnderTest().newWithout(2L));
+    }
+
+    @Test
+    public void serialization()
+    {
+        ImmutableCompressedLongList list = this.newWith(5L, 6L, 8L, 11L, 15L);
+        Verify.assertPostSerializedEqualsAndHashCode(list);
+        Verify.assertInstanceOf(ImmutableCompressedLongList.class, SerializeTestHelper.serializeDeserialize(list));
+    }
+}
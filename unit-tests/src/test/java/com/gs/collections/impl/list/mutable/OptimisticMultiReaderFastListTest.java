@@ -0,0 +1,62 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.gs.collections.impl.list.mutable;
+
+import com.gs.collections.impl.list.fixed.ArrayAdapter;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link MultiReaderFastList} created with {@link MultiReaderFastList#newOptimisticList()}.
+ */
+public class OptimisticMultiReaderFastListTest extends MultiReaderFastListTest
+{
+    @Override
+    protected <T> MultiReaderFastList<T> newWith(T... littleElements)
+    {
+        return MultiReaderFastList.newOptimisticList(ArrayAdapter.adapt(littleElements));
+    }
+
+    @Test
+    public void optimisticReadsDuringWrites() throws InterruptedException
+    {
+        MultiReaderFastList<Integer> list = MultiReaderFastList.newOptimisticList();
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < 10000; i++)
+            {
+                list.add(i);
+            }
+        });
+        writer.start();
+        int lastSize = 0;
+        while (writer.isAlive() || lastSize < 10000)
+        {
+            int size = list.size();
+            Assert.assertTrue(size >= lastSize);
+            if (size > 0)
+            {
+                Assert.assertEquals(Integer.valueOf(size - 1), list.get(size - 1));
+                Assert.assertTrue(list.contains(size - 1));
+                Assert.assertEquals(size - 1, list.indexOf(size - 1));
+            }
+            lastSize = size;
+        }
+        writer.join();
+        Assert.assertEquals(10000, list.size());
+    }
+}
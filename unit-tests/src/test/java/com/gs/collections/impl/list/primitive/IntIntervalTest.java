@@ -17,8 +17,11 @@
 package com.gs.collections.impl.list.primitive;
 
 import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import com.gs.collections.api.LazyIntIterable;
+import com.gs.collections.api.ParallelIntIterable;
 import com.gs.collections.api.iterator.IntIterator;
 import com.gs.collections.impl.bag.mutable.primitive.IntHashBag;
 import com.gs.collections.impl.block.factory.primitive.IntPredicates;
@@ -260,6 +263,33 @@ public class IntIntervalTest
         Assert.assertEquals(DoubleLists.immutable.of(2.0, 3.0, 4.0), IntInterval.oneTo(3).asLazy().collectDouble(e -> (double) (e + 1)).toList());
     }
 
+    @Test
+    public void asParallel()
+    {
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try
+        {
+            IntInterval interval = IntInterval.fromTo(-5, 1000).by(7);
+            for (int batchSize : new int[]{1, 2, 7, 100, 1000})
+            {
+                ParallelIntIterable parallel = interval.asParallel(executorService, batchSize);
+                Assert.assertEquals(interval.toList(), parallel.toList());
+                Assert.assertEquals(interval.sum(), parallel.sum());
+                Assert.assertEquals(interval.min(), parallel.min());
+                Assert.assertEquals(interval.max(), parallel.max());
+                Assert.assertEquals(interval.count(each -> each % 2 == 0), parallel.count(each -> each % 2 == 0));
+                Assert.assertEquals(interval.select(each -> each > 500).toList(), parallel.select(each -> each > 500).toList());
+                Assert.assertTrue(parallel.anySatisfy(each -> each == 996));
+                Assert.assertFalse(parallel.allSatisfy(each -> each > 0));
+                Assert.assertEquals(2, parallel.detectIfNone(each -> each > 0, -1));
+            }
+        }
+        finally
+        {
+            executorService.shutdownNow();
+        }
+    }
+
     @Test
     public void binarySearch()
     {
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.gs.collections.impl.map.immutable;
+
+import com.gs.collections.api.map.ImmutableMap;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.set.mutable.UnifiedSet;
+import com.gs.collections.impl.test.Verify;
+import com.gs.collections.impl.tuple.Tuples;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ImmutableHashTrieMapTest extends ImmutableMapTestCase
+{
+    @Override
+    protected ImmutableMap<Integer, String> classUnderTest()
+    {
+        return ImmutableHashTrieMap.newMapWith(Tuples.pair(1, "1"), Tuples.pair(2, "2"), Tuples.pair(3, "3"), Tuples.pair(4, "4"));
+    }
+
+    @Override
+    protected int size()
+    {
+        return 4;
+    }
+
+    @Test
+    @Override
+    public void testToString()
+    {
+        Assert.assertEquals("{1=1, 2=2, 3=3, 4=4}", this.classUnderTest().toString());
+    }
+
+    @Test
+    public void newWithKeyValue_leaves_previous_version_unchanged()
+    {
+        ImmutableHashTrieMap<Integer, String> map = ImmutableHashTrieMap.empty();
+        ImmutableHashTrieMap<Integer, String> map1 = map.newWithKeyValue(1, "1");
+        ImmutableHashTrieMap<Integer, String> map2 = map1.newWithKeyValue(2, "2");
+        ImmutableHashTrieMap<Integer, String> map3 = map2.newWithKeyValue(1, "one");
+        Verify.assertEmpty((ImmutableMap<Integer, String>) map);
+        Assert.assertEquals(UnifiedMap.newWithKeysValues(1, "1"), map1);
+        Assert.assertEquals(UnifiedMap.newWithKeysValues(1, "1", 2, "2"), map2);
+        Assert.assertEquals(UnifiedMap.newWithKeysValues(1, "one", 2, "2"), map3);
+        Assert.assertSame(map3, map3.newWithKeyValue(1, map3.get(1)));
+        Assert.assertSame(map3, map3.newWithoutKey(5));
+        Assert.assertSame(ImmutableHashTrieMap.empty(), map1.newWithoutKey(1));
+    }
+
+    @Test
+    public void buildAndRemoveLargeMap()
+    {
+        UnifiedMap<Integer, Integer> expected = UnifiedMap.newMap();
+        ImmutableHashTrieMap<Integer, Integer> map = ImmutableHashTrieMap.empty();
+        for (int i = 0; i < 100000; i++)
+        {
+            int key = i * 7919;
+            map = map.newWithKeyValue(key, i);
+            expected.put(key, i);
+        }
+        Assert.assertEquals(expected, map);
+        Assert.assertEquals(map, expected);
+        Assert.assertEquals(expected.hashCode(), map.hashCode());
+        Assert.assertEquals(expected.keySet(), map.keySet());
+        Assert.assertEquals(expected.keySet(), UnifiedSet.newSet(map.keysView()));
+        Verify.assertSize(100000, map.keyValuesView().toList());
+
+        for (int i = 0; i < 100000; i += 2)
+        {
+            int key = i * 7919;
+            map = map.newWithoutKey(key);
+            expected.remove(key);
+        }
+        Assert.assertEquals(expected, map);
+        Verify.assertSize(50000, (ImmutableMap<Integer, Integer>) map);
+        Assert.assertEquals(expected, map.newWithoutAllKeys(Interval.zeroTo(10)));
+        Assert.assertEquals(expected.withoutAllKeys(Interval.fromToBy(0, 79190, 7919)), map.newWithoutAllKeys(Interval.fromToBy(0, 79190, 7919)));
+    }
+
+    @Test
+    public void equals_between_versions()
+    {
+        ImmutableHashTrieMap<Integer, String> map = ImmutableHashTrieMap.empty();
+        for (int i = 0; i < 5000; i++)
+        {
+            map = map.newWithKeyValue(i, String.valueOf(i));
+        }
+        ImmutableHashTrieMap<Integer, String> sameContents = map.newWithoutKey(42).newWithKeyValue(42, "42");
+        Assert.assertNotSame(map, sameContents);
+        Verify.assertEqualsAndHashCode(map, sameContents);
+        Assert.assertNotEquals(map, map.newWithKeyValue(42, "forty-two"));
+        Assert.assertNotEquals(map, map.newWithoutKey(42).newWithKeyValue(5000, "42"));
+    }
+
+    @Test
+    public void hashCollisions()
+    {
+        ImmutableHashTrieMap<CollidingKey, String> map = ImmutableHashTrieMap.empty();
+        for (int i = 0; i < 10; i++)
+        {
+            map = map.newWithKeyValue(new CollidingKey(i), String.valueOf(i));
+        }
+        map = map.newWithKeyValue(new CollidingKey(3), "three");
+        Verify.assertSize(10, (ImmutableMap<CollidingKey, String>) map);
+        Assert.assertEquals("three", map.get(new CollidingKey(3)));
+        Assert.assertEquals("9", map.get(new CollidingKey(9)));
+        Assert.assertNull(map.get(new CollidingKey(10)));
+        Verify.assertSize(10, map.keysView().toSet());
+
+        for (int i = 0; i < 9; i++)
+        {
+            map = map.newWithoutKey(new CollidingKey(i));
+        }
+        Assert.assertEquals(UnifiedMap.newWithKeysValues(new CollidingKey(9), "9"), map);
+        Assert.assertNull(map.get(new CollidingKey(8)));
+    }
+
+    @Test
+    public void nullKeysAndValues()
+    {
+        ImmutableHashTrieMap<Integer, String> map = ImmutableHashTrieMap.<Integer, String>empty()
+                .newWithKeyValue(null, "null")
+                .newWithKeyValue(32, null);
+        Assert.assertEquals("null", map.get(null));
+        Assert.assertTrue(map.containsKey(32));
+        Assert.assertNull(map.get(32));
+        Assert.assertTrue(map.containsValue(null));
+        Assert.assertFalse(map.containsKey(64));
+        Assert.assertEquals(UnifiedMap.newWithKeysValues(null, "null", 32, null), map);
+        Assert.assertEquals(UnifiedMap.newWithKeysValues(32, null), map.newWithoutKey(null));
+    }
+
+    @Test
+    public void newMap()
+    {
+        UnifiedMap<Integer, String> map = UnifiedMap.newWithKeysValues(1, "1", 2, "2", 3, "3");
+        ImmutableHashTrieMap<Integer, String> trieMap = ImmutableHashTrieMap.newMap(map);
+        Assert.assertEquals(map, trieMap);
+        Assert.assertSame(trieMap, ImmutableHashTrieMap.newMap(trieMap));
+    }
+
+    private static final class CollidingKey
+    {
+        private final int id;
+
+        private CollidingKey(int id)
+        {
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            return o instanceof CollidingKey && ((CollidingKey) o).id == this.id;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return 42;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.gs.collections.impl.map.sorted.mutable;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.SortedSet;
+import java.util.TreeMap;
+
+import com.gs.collections.impl.block.factory.Comparators;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BTreeMapTest
+{
+    @Test
+    public void splitAndMerge()
+    {
+        BTreeMap<Integer, Integer> map = new BTreeMap<>();
+        TreeMap<Integer, Integer> expected = new TreeMap<>();
+        Interval.fromTo(1, 100000).each(each -> {
+            int key = each * 7919 % 100003;
+            Assert.assertEquals(expected.put(key, each), map.put(key, each));
+        });
+        Assert.assertEquals(expected, map);
+        Interval.fromTo(1, 100000).each(each -> {
+            if (each % 10 != 0)
+            {
+                Assert.assertEquals(expected.remove(each), map.remove(each));
+            }
+        });
+        Assert.assertEquals(expected, map);
+        Assert.assertEquals(FastList.newList(expected.keySet()), FastList.newList(map.keySet()));
+        Assert.assertEquals(expected.firstKey(), map.firstKey());
+        Assert.assertEquals(expected.lastKey(), map.lastKey());
+    }
+
+    @Test
+    public void iteratorRemove()
+    {
+        BTreeMap<Integer, String> map = new BTreeMap<>(Comparators.<Integer>reverseNaturalOrder());
+        Interval.fromTo(1, 1000).each(each -> map.put(each, String.valueOf(each)));
+        Iterator<Map.Entry<Integer, String>> iterator = map.entrySet().iterator();
+        while (iterator.hasNext())
+        {
+            if (iterator.next().getKey() % 4 != 0)
+            {
+                iterator.remove();
+            }
+        }
+        Verify.assertSize(250, map);
+        Assert.assertEquals(Integer.valueOf(1000), map.firstKey());
+        Assert.assertEquals(Integer.valueOf(4), map.lastKey());
+        Verify.assertThrows(IllegalStateException.class, iterator::remove);
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public void concurrentModification()
+    {
+        BTreeMap<Integer, String> map = new BTreeMap<>();
+        map.put(1, "1");
+        map.put(2, "2");
+        Iterator<Integer> iterator = map.keySet().iterator();
+        iterator.next();
+        map.put(3, "3");
+        iterator.next();
+    }
+
+    @Test
+    public void entrySetValue()
+    {
+        BTreeMap<Integer, String> map = new BTreeMap<>();
+        map.put(1, "1");
+        Map.Entry<Integer, String> entry = map.entrySet().iterator().next();
+        Assert.assertEquals("1", entry.setValue("one"));
+        Assert.assertEquals("one", map.get(1));
+    }
+
+    @Test
+    public void keySet()
+    {
+        SortedSet<String> keysOnly = BTreeMap.newKeySet(null);
+        Assert.assertTrue(keysOnly.add("b"));
+        Assert.assertTrue(keysOnly.add("a"));
+        Assert.assertFalse(keysOnly.add("a"));
+        Assert.assertEquals(FastList.newListWith("a", "b"), FastList.newList(keysOnly));
+        Assert.assertEquals("b", keysOnly.last());
+
+        Verify.assertThrows(UnsupportedOperationException.class, () -> new BTreeMap<String, String>().keySet().add("a"));
+    }
+
+    @Test
+    public void emptyRange()
+    {
+        BTreeMap<Integer, String> map = new BTreeMap<>();
+        Interval.fromTo(1, 100).each(each -> map.put(each * 2, String.valueOf(each)));
+        Assert.assertTrue(map.subMap(51, 52).isEmpty());
+        Verify.assertThrows(NoSuchElementException.class, () -> map.subMap(51, 52).lastKey());
+        Verify.assertThrows(IllegalArgumentException.class, () -> map.subMap(52, 51));
+        Verify.assertThrows(IllegalArgumentException.class, () -> map.headMap(50).tailMap(60));
+        Verify.assertThrows(NullPointerException.class, () -> map.get(null));
+    }
+}
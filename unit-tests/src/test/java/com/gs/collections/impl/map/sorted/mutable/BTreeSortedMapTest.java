@@ -0,0 +1,206 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.map.sorted.mutable;
+
+import java.util.Comparator;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import com.gs.collections.api.map.sorted.MutableSortedMap;
+import com.gs.collections.impl.block.factory.Comparators;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.collections.impl.test.Verify;
+import com.gs.collections.impl.tuple.Tuples;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BTreeSortedMapTest extends MutableSortedMapTestCase
+{
+    @Override
+    public <K, V> BTreeSortedMap<K, V> newMap()
+    {
+        return BTreeSortedMap.newMap();
+    }
+
+    @Override
+    public <K, V> BTreeSortedMap<K, V> newMapWithKeyValue(K key, V value)
+    {
+        return BTreeSortedMap.newMapWith(key, value);
+    }
+
+    @Override
+    public <K, V> BTreeSortedMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2)
+    {
+        return BTreeSortedMap.newMapWith(key1, value1, key2, value2);
+    }
+
+    @Override
+    public <K, V> BTreeSortedMap<K, V> newMapWithKeysValues(
+            K key1, V value1, K key2, V value2, K key3,
+            V value3)
+    {
+        return BTreeSortedMap.newMapWith(key1, value1, key2, value2, key3, value3);
+    }
+
+    @Override
+    public <K, V> BTreeSortedMap<K, V> newMapWithKeysValues(
+            K key1, V value1, K key2, V value2, K key3,
+            V value3, K key4, V value4)
+    {
+        return BTreeSortedMap.newMapWith(key1, value1, key2, value2, key3, value3, key4, value4);
+    }
+
+    @Override
+    public <K, V> BTreeSortedMap<K, V> newMap(Comparator<? super K> comparator)
+    {
+        return BTreeSortedMap.newMap(comparator);
+    }
+
+    @Override
+    public <K, V> BTreeSortedMap<K, V> newMapWithKeyValue(Comparator<? super K> comparator, K key, V value)
+    {
+        return BTreeSortedMap.<K, V>newMap(comparator).with(key, value);
+    }
+
+    @Override
+    public <K, V> BTreeSortedMap<K, V> newMapWithKeysValues(Comparator<? super K> comparator, K key1, V value1, K key2, V value2)
+    {
+        return BTreeSortedMap.<K, V>newMap(comparator).with(key1, value1, key2, value2);
+    }
+
+    @Override
+    public <K, V> BTreeSortedMap<K, V> newMapWithKeysValues(Comparator<? super K> comparator,
+            K key1, V value1, K key2, V value2, K key3,
+            V value3)
+    {
+        return BTreeSortedMap.<K, V>newMap(comparator).with(key1, value1, key2, value2, key3, value3);
+    }
+
+    @Override
+    public <K, V> BTreeSortedMap<K, V> newMapWithKeysValues(Comparator<? super K> comparator,
+            K key1, V value1, K key2, V value2, K key3,
+            V value3, K key4, V value4)
+    {
+        return BTreeSortedMap.<K, V>newMap(comparator).with(key1, value1, key2, value2, key3, value3, key4, value4);
+    }
+
+    @Test
+    public void testConstructors()
+    {
+        UnifiedMap<Integer, String> unifiedMap = UnifiedMap.newWithKeysValues(1, "One", 2, "Two", 3, "Three");
+        BTreeSortedMap<Integer, String> sortedMap = BTreeSortedMap.newMap(unifiedMap);
+        BTreeSortedMap<Integer, String> revSortedMap = BTreeSortedMap.newMap(Comparators.<Integer>reverseNaturalOrder(),
+                unifiedMap);
+
+        Verify.assertMapsEqual(unifiedMap, sortedMap);
+        Verify.assertMapsEqual(unifiedMap, revSortedMap);
+        Verify.assertListsEqual(FastList.newListWith(1, 2, 3), sortedMap.keySet().toList());
+        Verify.assertListsEqual(FastList.newListWith(3, 2, 1), revSortedMap.keySet().toList());
+
+        BTreeSortedMap<Integer, String> sortedMap2 = BTreeSortedMap.newMap(revSortedMap);
+        Assert.assertEquals(revSortedMap.comparator(), sortedMap2.comparator());
+        Verify.assertMapsEqual(revSortedMap, sortedMap2);
+    }
+
+    @Test
+    public void newMapWithPairs()
+    {
+        BTreeSortedMap<Integer, Integer> revSortedMap = BTreeSortedMap.newMapWith(Comparators.<Integer>reverseNaturalOrder(),
+                Tuples.pair(1, 4), Tuples.pair(2, 3), Tuples.pair(3, 2), Tuples.pair(4, 1));
+
+        Verify.assertSize(4, revSortedMap);
+
+        Verify.assertMapsEqual(UnifiedMap.newMapWith(Tuples.pair(1, 4), Tuples.pair(2, 3), Tuples.pair(3, 2), Tuples.pair(4, 1)),
+                revSortedMap);
+        Verify.assertListsEqual(FastList.newListWith(4, 3, 2, 1), revSortedMap.keySet().toList());
+        Verify.assertListsEqual(FastList.newListWith(1, 2, 3, 4), revSortedMap.valuesView().toList());
+    }
+
+    @Override
+    @Test
+    public void testClone()
+    {
+        super.testClone();
+        BTreeSortedMap<Integer, Integer> sortedMap = BTreeSortedMap.<Integer, Integer>newMapWith(Tuples.pair(1, 4), Tuples.pair(2, 3), Tuples.pair(3, 2), Tuples.pair(4, 1));
+        MutableSortedMap<Integer, Integer> clone = sortedMap.clone();
+        Assert.assertNotSame(sortedMap, clone);
+        Assert.assertEquals(sortedMap, clone);
+        sortedMap.removeKey(1);
+        Assert.assertTrue(clone.containsKey(1));
+    }
+
+    @Test
+    public void manyKeys()
+    {
+        BTreeSortedMap<Integer, String> map = BTreeSortedMap.newMap(Comparators.<Integer>reverseNaturalOrder());
+        TreeMap<Integer, String> expected = new TreeMap<>(Comparators.<Integer>reverseNaturalOrder());
+        Interval.fromTo(1, 10000).each(each -> {
+            int key = each * 7919 % 10007;
+            map.put(key, String.valueOf(each));
+            expected.put(key, String.valueOf(each));
+        });
+        Assert.assertEquals(expected, map);
+        Assert.assertEquals(FastList.newList(expected.keySet()), map.keySet().toList());
+        Assert.assertEquals(expected.firstKey(), map.firstKey());
+        Assert.assertEquals(expected.lastKey(), map.lastKey());
+
+        Interval.fromTo(1, 10000).each(each -> {
+            if (each % 3 != 0)
+            {
+                Assert.assertEquals(expected.remove(each), map.remove(each));
+            }
+        });
+        Assert.assertEquals(expected, map);
+        Assert.assertEquals(FastList.newList(expected.values()), map.valuesView().toList());
+    }
+
+    @Test
+    public void subMapViews()
+    {
+        BTreeSortedMap<Integer, Integer> map = BTreeSortedMap.newMap();
+        Interval.fromTo(0, 998).by(2).each(each -> map.put(each, -each));
+
+        MutableSortedMap<Integer, Integer> subMap = map.subMap(101, 201);
+        Verify.assertSize(50, subMap);
+        Assert.assertEquals(Integer.valueOf(102), subMap.firstKey());
+        Assert.assertEquals(Integer.valueOf(200), subMap.lastKey());
+        Assert.assertEquals(Integer.valueOf(-200), subMap.get(200));
+        Assert.assertNull(subMap.get(202));
+
+        subMap.put(103, -103);
+        Assert.assertEquals(Integer.valueOf(-103), map.get(103));
+        Verify.assertThrows(IllegalArgumentException.class, () -> subMap.put(201, -201));
+
+        SortedMap<Integer, Integer> headMap = map.headMap(10);
+        Assert.assertEquals(FastList.newListWith(0, 2, 4, 6, 8), FastList.newList(headMap.keySet()));
+        Assert.assertEquals(FastList.newListWith(996, 998), FastList.newList(map.tailMap(995).keySet()));
+
+        subMap.clear();
+        Verify.assertSize(450, map);
+        Assert.assertFalse(map.containsKey(150));
+        Assert.assertTrue(map.containsKey(100));
+        Assert.assertTrue(map.containsKey(202));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void nullKey()
+    {
+        BTreeSortedMap.newMap().put(null, 1);
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.multimap.set;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.gs.collections.api.multimap.MutableMultimap;
+import com.gs.collections.api.tuple.Pair;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.parallel.ParallelIterate;
+import com.gs.collections.impl.set.mutable.UnifiedSet;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test of {@link ConcurrentSetMultimap}.
+ */
+public class ConcurrentSetMultimapTest extends AbstractMutableSetMultimapTestCase
+{
+    @Override
+    protected <K, V> ConcurrentSetMultimap<K, V> newMultimap()
+    {
+        return ConcurrentSetMultimap.newMultimap();
+    }
+
+    @Override
+    protected <K, V> ConcurrentSetMultimap<K, V> newMultimapWithKeyValue(K key, V value)
+    {
+        ConcurrentSetMultimap<K, V> mutableMultimap = this.newMultimap();
+        mutableMultimap.put(key, value);
+        return mutableMultimap;
+    }
+
+    @Override
+    protected <K, V> ConcurrentSetMultimap<K, V> newMultimapWithKeysValues(K key1, V value1, K key2, V value2)
+    {
+        ConcurrentSetMultimap<K, V> mutableMultimap = this.newMultimap();
+        mutableMultimap.put(key1, value1);
+        mutableMultimap.put(key2, value2);
+        return mutableMultimap;
+    }
+
+    @Override
+    protected <K, V> ConcurrentSetMultimap<K, V> newMultimapWithKeysValues(
+            K key1, V value1,
+            K key2, V value2,
+            K key3, V value3)
+    {
+        ConcurrentSetMultimap<K, V> mutableMultimap = this.newMultimap();
+        mutableMultimap.put(key1, value1);
+        mutableMultimap.put(key2, value2);
+        mutableMultimap.put(key3, value3);
+        return mutableMultimap;
+    }
+
+    @Override
+    protected <K, V> ConcurrentSetMultimap<K, V> newMultimapWithKeysValues(
+            K key1, V value1,
+            K key2, V value2,
+            K key3, V value3,
+            K key4, V value4)
+    {
+        ConcurrentSetMultimap<K, V> mutableMultimap = this.newMultimap();
+        mutableMultimap.put(key1, value1);
+        mutableMultimap.put(key2, value2);
+        mutableMultimap.put(key3, value3);
+        mutableMultimap.put(key4, value4);
+        return mutableMultimap;
+    }
+
+    @SafeVarargs
+    @Override
+    protected final <K, V> ConcurrentSetMultimap<K, V> newMultimap(Pair<K, V>... pairs)
+    {
+        return ConcurrentSetMultimap.newMultimap(pairs);
+    }
+
+    @Override
+    protected <K, V> ConcurrentSetMultimap<K, V> newMultimapFromPairs(Iterable<Pair<K, V>> inputIterable)
+    {
+        return ConcurrentSetMultimap.newMultimap(inputIterable);
+    }
+
+    @SafeVarargs
+    @Override
+    protected final <V> UnifiedSet<V> createCollection(V... args)
+    {
+        return UnifiedSet.newSetWith(args);
+    }
+
+    @Test
+    @Override
+    public void testToString()
+    {
+        super.testToString();
+
+        MutableMultimap<String, Integer> multimap =
+                this.newMultimapWithKeysValues("One", 1, "One", 2);
+        String toString = multimap.toString();
+        Assert.assertTrue("{One=[1, 2]}".equals(toString) || "{One=[2, 1]}".equals(toString));
+    }
+
+    @Test
+    public void put_concurrent()
+    {
+        ConcurrentSetMultimap<Integer, Integer> multimap = ConcurrentSetMultimap.newMultimap();
+        ExecutorService executor = Executors.newFixedThreadPool(20);
+        try
+        {
+            ParallelIterate.forEach(Interval.oneTo(1000), each -> multimap.put(each % 10, each), 1, executor);
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+        Assert.assertEquals(1000, multimap.size());
+        Assert.assertEquals(10, multimap.sizeDistinct());
+        Assert.assertEquals(Interval.oneTo(1000).toBag(), multimap.valuesView().toBag());
+    }
+
+    @Test
+    public void putAndRemove_concurrent()
+    {
+        ConcurrentSetMultimap<Integer, Integer> multimap = ConcurrentSetMultimap.newMultimap();
+        ExecutorService executor = Executors.newFixedThreadPool(20);
+        try
+        {
+            ParallelIterate.forEach(Interval.oneTo(1000), each ->
+            {
+                multimap.put(each % 3, each);
+                multimap.put(each % 3, -each);
+                Assert.assertTrue(multimap.remove(each % 3, -each));
+            }, 1, executor);
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+        Assert.assertEquals(1000, multimap.size());
+        Assert.assertEquals(Interval.oneTo(1000).toBag(), multimap.valuesView().toBag());
+    }
+}
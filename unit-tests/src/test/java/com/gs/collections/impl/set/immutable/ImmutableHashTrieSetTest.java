@@ -0,0 +1,181 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.set.immutable;
+
+import java.util.Random;
+
+import com.gs.collections.api.set.ImmutableSet;
+import com.gs.collections.api.set.MutableSet;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.set.mutable.UnifiedSet;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link ImmutableHashTrieSet}.
+ */
+public class ImmutableHashTrieSetTest extends AbstractImmutableUnifiedSetTestCase
+{
+    @Override
+    public ImmutableSet<Integer> newSet(Integer... elements)
+    {
+        return ImmutableHashTrieSet.newSetWith(elements);
+    }
+
+    @Override
+    public ImmutableSet<Integer> newSetWith(int one, int two)
+    {
+        return ImmutableHashTrieSet.newSetWith(one, two);
+    }
+
+    @Override
+    public ImmutableSet<Integer> newSetWith(int one, int two, int three)
+    {
+        return ImmutableHashTrieSet.newSetWith(one, two, three);
+    }
+
+    @Override
+    public ImmutableSet<Integer> newSetWith(int... littleElements)
+    {
+        Integer[] bigElements = new Integer[littleElements.length];
+        for (int i = 0; i < littleElements.length; i++)
+        {
+            bigElements[i] = littleElements[i];
+        }
+        return ImmutableHashTrieSet.newSetWith(bigElements);
+    }
+
+    @Test
+    public void newWith_and_newWithout_keep_previous_versions()
+    {
+        ImmutableHashTrieSet<Integer> set = ImmutableHashTrieSet.empty();
+        for (int i = 0; i < 10000; i++)
+        {
+            set = set.newWith(i);
+        }
+        Assert.assertEquals(Interval.zeroTo(9999).toSet(), set);
+        ImmutableHashTrieSet<Integer> smaller = set;
+        for (int i = 0; i < 10000; i += 2)
+        {
+            smaller = smaller.newWithout(i);
+        }
+        Verify.assertSize(10000, set);
+        Verify.assertSize(5000, smaller);
+        Assert.assertEquals(Interval.fromToBy(1, 9999, 2).toSet(), smaller);
+        Assert.assertSame(smaller, smaller.newWithout(0));
+        Assert.assertSame(smaller, smaller.newWith(1));
+    }
+
+    @Test
+    public void hashCollisions()
+    {
+        CollidingKey a = new CollidingKey(1);
+        CollidingKey b = new CollidingKey(2);
+        CollidingKey c = new CollidingKey(3);
+        ImmutableHashTrieSet<CollidingKey> set = ImmutableHashTrieSet.newSetWith(a, b, c);
+        Verify.assertSize(3, set);
+        Assert.assertTrue(set.contains(new CollidingKey(2)));
+        Assert.assertFalse(set.contains(new CollidingKey(4)));
+        ImmutableHashTrieSet<CollidingKey> withoutB = set.newWithout(b);
+        Assert.assertEquals(UnifiedSet.newSetWith(a, c), withoutB);
+        Assert.assertEquals(UnifiedSet.newSetWith(a), withoutB.newWithout(c));
+        Assert.assertEquals(set, withoutB.newWith(b));
+        Assert.assertEquals(UnifiedSet.newSetWith(b), set.difference(ImmutableHashTrieSet.newSetWith(a, c)));
+        Assert.assertEquals(set, ImmutableHashTrieSet.newSetWith(a).union(ImmutableHashTrieSet.newSetWith(b, c)));
+        Assert.assertEquals(set, ImmutableHashTrieSet.newSetWith(c, b, a));
+    }
+
+    @Test
+    public void equals_between_versions()
+    {
+        ImmutableHashTrieSet<Integer> set = ImmutableHashTrieSet.newSet(Interval.oneTo(5000));
+        ImmutableHashTrieSet<Integer> sameContents = set.newWithout(1).newWith(1);
+        Assert.assertNotSame(set, sameContents);
+        Verify.assertEqualsAndHashCode(set, sameContents);
+        Verify.assertEqualsAndHashCode(set, Interval.oneTo(5000).toSet());
+        Assert.assertNotEquals(set, set.newWithout(2500).newWith(5001));
+    }
+
+    @Test
+    public void union_and_difference_match_UnifiedSet()
+    {
+        Random random = new Random(42L);
+        ImmutableHashTrieSet<Integer> base = ImmutableHashTrieSet.empty();
+        MutableSet<Integer> expectedBase = UnifiedSet.newSet();
+        for (int i = 0; i < 3000; i++)
+        {
+            int element = random.nextInt(100000);
+            base = base.newWith(element);
+            expectedBase.add(element);
+        }
+        ImmutableHashTrieSet<Integer> left = base;
+        ImmutableHashTrieSet<Integer> right = base;
+        MutableSet<Integer> expectedLeft = UnifiedSet.newSet(expectedBase);
+        MutableSet<Integer> expectedRight = UnifiedSet.newSet(expectedBase);
+        for (int i = 0; i < 500; i++)
+        {
+            int added = random.nextInt(100000);
+            int removed = random.nextInt(100000);
+            if (random.nextBoolean())
+            {
+                left = left.newWith(added).newWithout(removed);
+                expectedLeft.add(added);
+                expectedLeft.remove(removed);
+            }
+            else
+            {
+                right = right.newWith(added).newWithout(removed);
+                expectedRight.add(added);
+                expectedRight.remove(removed);
+            }
+        }
+        Assert.assertEquals(expectedLeft.union(expectedRight), left.union(right));
+        Assert.assertEquals(expectedRight.union(expectedLeft), right.union(left));
+        Assert.assertEquals(expectedLeft.difference(expectedRight), left.difference(right));
+        Assert.assertEquals(expectedRight.difference(expectedLeft), right.difference(left));
+        Assert.assertEquals(left.union(right), right.union(left));
+        Assert.assertEquals(left.union(right).size(), left.union(right).toSet().size());
+        Assert.assertEquals(left.difference(right).size(), left.difference(right).toSet().size());
+        Verify.assertEmpty(left.difference(left));
+        Assert.assertSame(left, left.union(left));
+        Assert.assertEquals(left, left.union(UnifiedSet.newSet(expectedLeft)));
+        Assert.assertEquals(expectedLeft.difference(expectedRight), left.difference(UnifiedSet.newSet(expectedRight)));
+    }
+
+    private static final class CollidingKey
+    {
+        private final int id;
+
+        private CollidingKey(int id)
+        {
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            return o instanceof CollidingKey && ((CollidingKey) o).id == this.id;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return 42;
+        }
+    }
+}
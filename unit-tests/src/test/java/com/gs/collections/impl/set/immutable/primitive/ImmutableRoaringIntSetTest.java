@@ -0,0 +1,82 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.set.immutable.primitive;
+
+import com.gs.collections.api.set.MutableSet;
+import com.gs.collections.api.set.primitive.ImmutableIntSet;
+import com.gs.collections.api.set.primitive.MutableIntSet;
+import com.gs.collections.impl.list.primitive.IntInterval;
+import com.gs.collections.impl.set.mutable.UnifiedSet;
+import com.gs.collections.impl.set.mutable.primitive.AbstractImmutableIntHashSetTestCase;
+import com.gs.collections.impl.set.mutable.primitive.IntHashSet;
+import com.gs.collections.impl.set.mutable.primitive.RoaringIntSet;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link ImmutableRoaringIntSet}.
+ */
+public class ImmutableRoaringIntSetTest extends AbstractImmutableIntHashSetTestCase
+{
+    @Override
+    protected ImmutableIntSet classUnderTest()
+    {
+        return ImmutableRoaringIntSet.newSetWith(1, 2, 3);
+    }
+
+    @Override
+    protected ImmutableIntSet newWith(int... elements)
+    {
+        return ImmutableRoaringIntSet.newSetWith(elements);
+    }
+
+    @Override
+    protected MutableIntSet newMutableCollectionWith(int... elements)
+    {
+        return IntHashSet.newSetWith(elements);
+    }
+
+    @Override
+    protected MutableSet<Integer> newObjectCollectionWith(Integer... elements)
+    {
+        return UnifiedSet.newSetWith(elements);
+    }
+
+    @Test
+    public void andOrAndNot()
+    {
+        ImmutableRoaringIntSet evens = ImmutableRoaringIntSet.newSet(IntInterval.evensFromTo(0, 100000));
+        ImmutableRoaringIntSet range = ImmutableRoaringIntSet.newSet(IntInterval.fromTo(50000, 150000));
+        Assert.assertEquals(IntHashSet.newSet(IntInterval.evensFromTo(50000, 100000)), evens.and(range));
+        Assert.assertEquals(25001, evens.andCardinality(range));
+        Verify.assertSize(50001 + 50000 + 25000, evens.or(range));
+        Assert.assertEquals(IntHashSet.newSet(IntInterval.evensFromTo(0, 49998)), evens.andNot(range));
+        Assert.assertEquals(50001, evens.cardinality());
+    }
+
+    @Test
+    public void toImmutable()
+    {
+        RoaringIntSet mutable = RoaringIntSet.newSetWith(1, 2, 3);
+        ImmutableIntSet immutable = mutable.toImmutable();
+        mutable.add(4);
+        Assert.assertEquals(IntHashSet.newSetWith(1, 2, 3), immutable);
+        Assert.assertSame(immutable, ImmutableRoaringIntSet.newSet(immutable));
+        Verify.assertInstanceOf(ImmutableRoaringIntSet.class, immutable.newWith(5));
+    }
+}
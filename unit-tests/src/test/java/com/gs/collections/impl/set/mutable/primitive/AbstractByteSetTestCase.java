@@ -17,8 +17,11 @@
 package com.gs.collections.impl.set.mutable.primitive;
 
 import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import com.gs.collections.api.LazyByteIterable;
+import com.gs.collections.api.ParallelByteIterable;
 import com.gs.collections.api.iterator.ByteIterator;
 import com.gs.collections.api.set.MutableSet;
 import com.gs.collections.api.set.primitive.MutableByteSet;
@@ -394,4 +397,31 @@ public abstract class AbstractByteSetTestCase extends AbstractMutableByteCollect
     {
         Verify.assertClassNonInstantiable(ByteSets.class);
     }
+
+    @Test
+    public void asParallel()
+    {
+        MutableByteSet set = this.newWith((byte) 0, (byte) 1, (byte) 31, (byte) 63, (byte) 100, (byte) 127, (byte) -1, (byte) -35, (byte) -128);
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try
+        {
+            for (int batchSize = 1; batchSize <= 10; batchSize++)
+            {
+                ParallelByteIterable parallel = set.asParallel(executorService, batchSize);
+                Assert.assertEquals(set.toBag(), parallel.toBag());
+                Assert.assertEquals(set, parallel.toSet());
+                Assert.assertEquals(set.sum(), parallel.sum());
+                Assert.assertEquals(set.max(), parallel.max());
+                Assert.assertEquals(set.min(), parallel.min());
+                Assert.assertEquals(set.count(each -> each > 0), parallel.count(each -> each > 0));
+                Assert.assertTrue(parallel.anySatisfy(each -> each == (byte) -35));
+                Assert.assertFalse(parallel.allSatisfy(each -> each > 0));
+                Assert.assertEquals((byte) 127, parallel.detectIfNone(each -> each > 100, (byte) 0));
+            }
+        }
+        finally
+        {
+            executorService.shutdownNow();
+        }
+    }
 }
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.set.mutable.primitive;
+
+import java.util.Random;
+
+import com.gs.collections.api.iterator.MutableIntIterator;
+import com.gs.collections.impl.list.primitive.IntInterval;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link RoaringIntSet}.
+ */
+public class RoaringIntSetTest extends AbstractIntSetTestCase
+{
+    @Override
+    protected final RoaringIntSet classUnderTest()
+    {
+        return RoaringIntSet.newSetWith(1, 2, 3);
+    }
+
+    @Override
+    protected RoaringIntSet newWith(int... elements)
+    {
+        return RoaringIntSet.newSetWith(elements);
+    }
+
+    private static RoaringIntSet randomSet(Random random, int size, int bound)
+    {
+        RoaringIntSet set = new RoaringIntSet();
+        for (int i = 0; i < size; i++)
+        {
+            set.add(random.nextInt(bound) - bound / 2);
+        }
+        return set;
+    }
+
+    @Test
+    public void denseChunksMatchIntHashSet()
+    {
+        RoaringIntSet set = new RoaringIntSet();
+        IntHashSet expected = new IntHashSet();
+        for (int i = -100000; i < 100000; i += 3)
+        {
+            Assert.assertEquals(expected.add(i), set.add(i));
+        }
+        Assert.assertEquals(expected, set);
+        Assert.assertEquals(set, expected);
+        Assert.assertEquals(expected.hashCode(), set.hashCode());
+        Assert.assertEquals(expected.sum(), set.sum());
+        Assert.assertArrayEquals(expected.toSortedArray(), set.toArray());
+        Assert.assertEquals(-100000, set.min());
+        Assert.assertEquals(99998, set.max());
+
+        for (int i = -100000; i < 100000; i += 2)
+        {
+            Assert.assertEquals(expected.remove(i), set.remove(i));
+        }
+        Assert.assertEquals(expected, set);
+        Assert.assertArrayEquals(expected.toSortedArray(), set.toArray());
+    }
+
+    @Test
+    public void extremeValues()
+    {
+        RoaringIntSet set = RoaringIntSet.newSetWith(Integer.MAX_VALUE, Integer.MIN_VALUE, 0, -1, 65535, 65536);
+        Assert.assertArrayEquals(new int[]{Integer.MIN_VALUE, -1, 0, 65535, 65536, Integer.MAX_VALUE}, set.toArray());
+        Assert.assertEquals(Integer.MIN_VALUE, set.min());
+        Assert.assertEquals(Integer.MAX_VALUE, set.max());
+        Assert.assertEquals((long) Integer.MAX_VALUE + Integer.MIN_VALUE - 1 + 65535 + 65536, set.sum());
+        MutableIntIterator iterator = set.intIterator();
+        int count = 0;
+        while (iterator.hasNext())
+        {
+            iterator.next();
+            count++;
+        }
+        Assert.assertEquals(6, count);
+    }
+
+    @Test
+    public void andOrAndNot()
+    {
+        Random random = new Random(42L);
+        for (int bound : new int[]{1000, 100000, 10000000})
+        {
+            RoaringIntSet left = randomSet(random, 20000, bound);
+            RoaringIntSet right = randomSet(random, 20000, bound);
+            IntHashSet expectedAnd = IntHashSet.newSet(left);
+            expectedAnd.retainAll(IntHashSet.newSet(right));
+            IntHashSet expectedOr = IntHashSet.newSet(left).withAll(right);
+            IntHashSet expectedAndNot = IntHashSet.newSet(left).withoutAll(right);
+
+            Assert.assertEquals(expectedAnd, left.and(right));
+            Assert.assertEquals(expectedOr, left.or(right));
+            Assert.assertEquals(expectedAndNot, left.andNot(right));
+            Assert.assertEquals(expectedAnd.size(), left.andCardinality(right));
+
+            left.runOptimize();
+            Assert.assertEquals(expectedAnd, left.and(right));
+            Assert.assertEquals(expectedOr, right.or(left));
+            Assert.assertEquals(expectedAndNot, left.andNot(right));
+            Assert.assertEquals(expectedAnd.size(), right.andCardinality(left));
+        }
+    }
+
+    @Test
+    public void runOptimize()
+    {
+        RoaringIntSet set = new RoaringIntSet();
+        IntInterval.fromTo(-70000, 70000).forEach(set::add);
+        Assert.assertTrue(set.runOptimize());
+        Assert.assertFalse(set.runOptimize());
+        Verify.assertSize(140001, set);
+        Assert.assertTrue(set.contains(-70000));
+        Assert.assertTrue(set.contains(70000));
+        Assert.assertFalse(set.contains(70001));
+        Assert.assertEquals(0L, set.sum());
+        Assert.assertEquals(-70000, set.min());
+        Assert.assertEquals(70000, set.max());
+
+        Assert.assertTrue(set.remove(0));
+        Assert.assertFalse(set.remove(0));
+        Assert.assertTrue(set.add(0));
+        Assert.assertFalse(set.add(0));
+        Verify.assertSize(140001, set);
+        Assert.assertEquals(RoaringIntSet.newSet(IntInterval.fromTo(-70000, 70000)), set);
+    }
+
+    @Test
+    public void iteratorRemoveAcrossChunks()
+    {
+        RoaringIntSet set = new RoaringIntSet();
+        IntInterval.fromTo(0, 200000).forEach(set::add);
+        MutableIntIterator iterator = set.intIterator();
+        int count = 0;
+        while (iterator.hasNext())
+        {
+            int value = iterator.next();
+            Assert.assertEquals(count, value);
+            if (value % 2 == 0)
+            {
+                iterator.remove();
+            }
+            count++;
+        }
+        Assert.assertEquals(200001, count);
+        Verify.assertSize(100000, set);
+        Assert.assertFalse(set.contains(0));
+        Assert.assertTrue(set.contains(199999));
+    }
+
+    @Test
+    public void retainAllAndRemoveAll()
+    {
+        RoaringIntSet set = RoaringIntSet.newSet(IntInterval.oneTo(10000));
+        Assert.assertTrue(set.removeAll(RoaringIntSet.newSet(IntInterval.oneTo(5000))));
+        Assert.assertTrue(set.retainAll(IntHashSet.newSetWith(5000, 5001, 9999, 10001)));
+        Assert.assertEquals(IntHashSet.newSetWith(5001, 9999), set);
+        Assert.assertTrue(set.addAll(RoaringIntSet.newSetWith(1, 5001)));
+        Assert.assertEquals(IntHashSet.newSetWith(1, 5001, 9999), set);
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2015 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.gs.collections.impl.set.sorted.mutable;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import com.gs.collections.api.LazyIterable;
+import com.gs.collections.api.set.sorted.MutableSortedSet;
+import com.gs.collections.impl.list.Interval;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BTreeSortedSetTest extends AbstractSortedSetTestCase
+{
+    @Override
+    protected <T> BTreeSortedSet<T> newWith(T... elements)
+    {
+        return BTreeSortedSet.newSetWith(elements);
+    }
+
+    @Override
+    protected <T> BTreeSortedSet<T> newWith(Comparator<? super T> comparator, T... elements)
+    {
+        return BTreeSortedSet.newSetWith(comparator, elements);
+    }
+
+    @Override
+    @Test
+    public void asSynchronized()
+    {
+        Verify.assertInstanceOf(SynchronizedSortedSet.class, this.newWith().asSynchronized());
+    }
+
+    @Override
+    @Test
+    public void asUnmodifiable()
+    {
+        Verify.assertInstanceOf(UnmodifiableSortedSet.class, this.newWith().asUnmodifiable());
+    }
+
+    @Test
+    public void sortedSetIterableConstructor()
+    {
+        BTreeSortedSet<Integer> sortedSetA = BTreeSortedSet.newSet(Collections.<Integer>reverseOrder());
+        BTreeSortedSet<Integer> sortedSetB = BTreeSortedSet.newSet(sortedSetA.with(1).with(2, 3).with(4, 5, 6));
+        Verify.assertSortedSetsEqual(sortedSetA, sortedSetB);
+        Assert.assertTrue(sortedSetA.first().equals(sortedSetB.first()) && sortedSetB.first() == 6);
+        Verify.assertSortedSetsEqual(sortedSetB, new BTreeSortedSet<>(sortedSetB));
+    }
+
+    @Test
+    public void sortedSetConstructor()
+    {
+        SortedSet<String> setA = new TreeSet<>(FastList.newListWith("a", "c", "b", "d"));
+        Verify.assertSortedSetsEqual(setA, BTreeSortedSet.newSet(setA));
+        Verify.assertSortedSetsEqual(setA, new BTreeSortedSet<>(setA));
+    }
+
+    @Test
+    public void iterableConstructor()
+    {
+        LazyIterable<Integer> integerLazyIterable = FastList.newListWith(2, 4, 1, 3).asLazy();
+        BTreeSortedSet<Integer> sortedSet = BTreeSortedSet.newSet(integerLazyIterable);
+        Verify.assertSortedSetsEqual(BTreeSortedSet.newSetWith(1, 2, 3, 4), sortedSet);
+    }
+
+    @Test
+    public void serialization()
+    {
+        MutableSortedSet<Integer> set = this.newWith(1, 2, 3, 4, 5);
+        Verify.assertPostSerializedEqualsAndHashCode(set);
+    }
+
+    @Test
+    public void manyElements()
+    {
+        BTreeSortedSet<Integer> set = BTreeSortedSet.newSet();
+        TreeSet<Integer> expected = new TreeSet<>();
+        Interval.fromTo(1, 10000).each(each -> {
+            int element = each * 7919 % 10007;
+            Assert.assertEquals(expected.add(element), set.add(element));
+        });
+        Verify.assertSortedSetsEqual(expected, set);
+
+        Iterator<Integer> iterator = set.iterator();
+        while (iterator.hasNext())
+        {
+            if (iterator.next() % 5 != 0)
+            {
+                iterator.remove();
+            }
+        }
+        expected.removeIf(each -> each % 5 != 0);
+        Verify.assertSortedSetsEqual(expected, set);
+        Assert.assertEquals(expected.first(), set.first());
+        Assert.assertEquals(expected.last(), set.last());
+        Assert.assertEquals(expected.headSet(5000).size(), set.indexOf(5000));
+    }
+
+    @Test
+    public void subSetViews()
+    {
+        BTreeSortedSet<Integer> set = BTreeSortedSet.newSet(Interval.fromTo(1, 1000));
+        MutableSortedSet<Integer> subSet = set.subSet(100, 200);
+        Verify.assertSize(100, subSet);
+        Assert.assertEquals(Integer.valueOf(100), subSet.first());
+        Assert.assertEquals(Integer.valueOf(199), subSet.last());
+        Assert.assertFalse(subSet.contains(200));
+
+        set.remove(150);
+        Assert.assertFalse(subSet.contains(150));
+        Assert.assertTrue(subSet.add(150));
+        Assert.assertTrue(set.contains(150));
+        Verify.assertThrows(IllegalArgumentException.class, () -> subSet.add(200));
+
+        subSet.clear();
+        Verify.assertSize(900, set);
+        Assert.assertEquals(FastList.newListWith(98, 99, 200, 201), FastList.newList(set.subSet(98, 202)));
+    }
+}